@@ -0,0 +1,54 @@
+package com.example.information.config;
+
+import com.example.information.model.apifootball.ApiFootballResponse;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.cache.support.NullValue;
+
+import java.time.Duration;
+
+/**
+ * Caducidad por entrada de las cachés generales según el contenido de la respuesta.
+ *
+ * - Con resultados: la caducidad normal
+ * - Vacía (o null): poco tiempo, por si los datos aún no estaban publicados
+ *
+ * Las respuestas con errores no llegan a la caché: {@link com.example.information.service.ApiFootballService}
+ * las lanza como excepción.
+ */
+public class ApiResponseExpiry implements Expiry<Object, Object> {
+
+    private final Duration successTtl;
+    private final Duration emptyTtl;
+
+    public ApiResponseExpiry(Duration successTtl, Duration emptyTtl) {
+        this.successTtl = successTtl;
+        this.emptyTtl = emptyTtl;
+    }
+
+    @Override
+    public long expireAfterCreate(Object key, Object value, long currentTime) {
+        return expiryFor(value).toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+        return expiryFor(value).toNanos();
+    }
+
+    @Override
+    public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+
+    private Duration expiryFor(Object value) {
+        return isEmpty(value) ? emptyTtl : successTtl;
+    }
+
+    /**
+     * Verifica si un valor cacheado es una respuesta sin resultados (o null, que Spring guarda como NullValue)
+     */
+    static boolean isEmpty(Object value) {
+        return value == null || value instanceof NullValue
+            || ApiFootballResponse.classify(value) != ApiFootballResponse.Kind.SUCCESS;
+    }
+}
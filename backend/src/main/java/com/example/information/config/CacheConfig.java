@@ -1,13 +1,16 @@
 package com.example.information.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
 
 /**
  * Configuración de caché para optimizar las peticiones a la API de Football
@@ -17,18 +20,56 @@ import java.util.concurrent.TimeUnit;
 @EnableCaching
 public class CacheConfig {
 
+    @Value("${football.cache.ttl:24h}")
+    private Duration ttl;
+
+    @Value("${football.cache.empty-ttl:5m}")
+    private Duration emptyTtl;
+
+    @Value("${football.cache.fixture.finished-ttl:7d}")
+    private Duration finishedTtl;
+
+    @Value("${football.cache.fixture.live-ttl:30s}")
+    private Duration liveTtl;
+
+    @Value("${football.cache.fixture.scheduled-min-ttl:60s}")
+    private Duration scheduledMinTtl;
+
+    @Value("${football.cache.fixture.scheduled-max-ttl:6h}")
+    private Duration scheduledMaxTtl;
+
     @Bean
-    public CacheManager cacheManager() {
+    public CacheManager cacheManager(MeterRegistry meterRegistry) {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager(
             "leagues", "teams", "players", "fixtures", "standings", "teamStats",
-            "fixture", "fixtureEvents", "fixtureStatistics", "teamLeagues", "squads"
+            "teamLeagues", "squads", "finishedFixtureEvents", "finishedFixtureStatistics"
         );
         
         cacheManager.setCaffeine(Caffeine.newBuilder()
             .maximumSize(1000)
-            .expireAfterWrite(24, TimeUnit.HOURS) // Cache válido por 24 horas
+            .expireAfter(new ApiResponseExpiry(ttl, emptyTtl)) // 24 horas; las respuestas vacías, minutos
             .recordStats()); // Habilitar estadísticas de caché
         
+        // Partido, eventos y estadísticas: caducidad según el estado del partido.
+        // Eventos y estadísticas toman el estado del partido cacheado con la misma clave.
+        FixtureCacheExpiry.Durations durations =
+            new FixtureCacheExpiry.Durations(finishedTtl, liveTtl, scheduledMinTtl, scheduledMaxTtl, emptyTtl);
+        Cache<Object, Object> fixture = byFixtureStatus(
+            new FixtureCacheExpiry("fixture", null, false, durations, meterRegistry), 1000);
+        cacheManager.registerCustomCache("fixture", fixture);
+        cacheManager.registerCustomCache("fixtureEvents", byFixtureStatus(
+            new FixtureCacheExpiry("fixtureEvents", fixture::getIfPresent, true, durations, meterRegistry), 500));
+        cacheManager.registerCustomCache("fixtureStatistics", byFixtureStatus(
+            new FixtureCacheExpiry("fixtureStatistics", fixture::getIfPresent, true, durations, meterRegistry), 500));
+        
         return cacheManager;
     }
+
+    private static Cache<Object, Object> byFixtureStatus(FixtureCacheExpiry expiry, int maximumSize) {
+        return Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(expiry)
+            .recordStats()
+            .build();
+    }
 }
@@ -0,0 +1,49 @@
+package com.example.information.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+
+/**
+ * Completa los datos que {@code ddl-auto=update} no rellena en tablas existentes.
+ *
+ * Los scripts ({@code db/cache/*-backfill.sql}) se aplican al crear el bean: depende del
+ * EntityManagerFactory (el esquema ya está actualizado) y se ejecutan antes de que arranquen
+ * el servidor web y las tareas programadas, así ninguna lectura ve una versión o clave nula.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheSchemaBackfill {
+
+    private static final List<String> SCRIPTS = List.of(
+        "db/cache/version-backfill.sql",
+        "db/cache/natural-key-backfill.sql"
+    );
+
+    private final DataSource dataSource;
+
+    /** Solo para el orden de arranque: el esquema debe existir antes del relleno */
+    @SuppressWarnings("unused")
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void backfill() {
+        for (String script : SCRIPTS) {
+            try (Connection connection = dataSource.getConnection()) {
+                new ResourceDatabasePopulator(new ClassPathResource(script)).populate(connection);
+                log.info("🧹 {} aplicado a la caché de BD", script);
+            } catch (Exception e) {
+                log.warn("⚠️ No se pudo aplicar {}: {}", script, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.information.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pools de hilos propios para trabajo en paralelo (fuera del pool de Tomcat)
+ */
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * Pool para la búsqueda federada: una tarea por fuente (ligas, equipos, jugadores)
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService searchExecutor() {
+        return Executors.newFixedThreadPool(6, namedThreads("search-"));
+    }
+
+    /**
+     * Pool para el detalle de partido: partido, eventos y estadísticas en paralelo
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService detailExecutor() {
+        return Executors.newFixedThreadPool(8, namedThreads("detail-"));
+    }
+
+    /**
+     * Pool para pedir en paralelo las páginas de una lista paginada de la API
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService pagingExecutor() {
+        return Executors.newFixedThreadPool(3, namedThreads("paging-"));
+    }
+
+    /**
+     * Pool para las peticiones de la carga de temporadas (límite absoluto de paralelismo)
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService bootstrapExecutor() {
+        return Executors.newFixedThreadPool(4, namedThreads("bootstrap-"));
+    }
+
+    /**
+     * Hilo que coordina la carga de temporadas: un trabajo cada vez
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService bootstrapJobExecutor() {
+        return Executors.newSingleThreadExecutor(namedThreads("bootstrap-job-"));
+    }
+
+    /**
+     * Temporizador de los lotes de partidos por ID (solo programa; el envío va en batchSendExecutor)
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService batchScheduler() {
+        return Executors.newScheduledThreadPool(1, namedThreads("batch-"));
+    }
+
+    /**
+     * Envío de los lotes de partidos por ID: una petición lenta no retrasa el temporizador de los demás lotes
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService batchSendExecutor() {
+        return Executors.newFixedThreadPool(4, namedThreads("batch-send-"));
+    }
+
+    /**
+     * Envío a los clientes del stream en vivo: un cliente lento solo ocupa uno de estos hilos
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService liveStreamExecutor() {
+        return Executors.newFixedThreadPool(4, namedThreads("live-stream-"));
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
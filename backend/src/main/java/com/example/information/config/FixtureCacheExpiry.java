@@ -0,0 +1,132 @@
+package com.example.information.config;
+
+import com.example.information.model.apifootball.FixtureResponse;
+import com.example.information.model.apifootball.FixtureStatus;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Caducidad por entrada de las cachés de partido según su estado.
+ *
+ * - Finalizado: no va a cambiar, se conserva {@code football.cache.fixture.finished-ttl}
+ *   (7 días por defecto) o hasta que lo desaloje el tamaño máximo; después se sirve de la BD
+ * - En juego: segundos
+ * - Sin empezar: hasta cerca del inicio (el partido, a mitad de camino; eventos y
+ *   estadísticas, hasta el inicio), entre un mínimo y un máximo
+ * - Desconocido (aplazado, interrumpido...): el mínimo
+ * - Respuesta vacía (la API aún no ha publicado los datos): poco tiempo, sea cual sea el estado
+ *
+ * Las entradas de eventos y estadísticas no traen estado: se toma del partido de la
+ * caché "fixture" con la misma clave, si está.
+ *
+ * Cada entrada escrita es una llamada a la API; se cuentan por caché y fase
+ * ({@code football.cache.expiry}) junto con la caducidad asignada
+ * ({@code football.cache.expiry.ttl}, en segundos).
+ */
+public class FixtureCacheExpiry implements Expiry<Object, Object> {
+
+    public enum Phase { FINISHED, LIVE, SCHEDULED, UNKNOWN, EMPTY }
+
+    private final Function<Object, Object> fixtureLookup;
+    private final boolean untilKickoff;
+    private final Durations durations;
+    private final Map<Phase, Counter> writes = new EnumMap<>(Phase.class);
+    private final Map<Phase, DistributionSummary> ttls = new EnumMap<>(Phase.class);
+
+    /**
+     * Caducidades configuradas
+     */
+    public record Durations(Duration finished, Duration live, Duration scheduledMin, Duration scheduledMax, Duration empty) {}
+
+    /**
+     * @param cacheName     nombre de la caché (etiqueta de las métricas)
+     * @param fixtureLookup partido cacheado por clave, para entradas sin estado propio (null si el valor es el partido)
+     * @param untilKickoff  si las entradas de un partido sin empezar caducan al inicio (eventos, estadísticas)
+     */
+    public FixtureCacheExpiry(String cacheName, Function<Object, Object> fixtureLookup, boolean untilKickoff,
+                              Durations durations, MeterRegistry meterRegistry) {
+        this.fixtureLookup = fixtureLookup;
+        this.untilKickoff = untilKickoff;
+        this.durations = durations;
+        for (Phase phase : Phase.values()) {
+            String tag = phase.name().toLowerCase(Locale.ROOT);
+            writes.put(phase, Counter.builder("football.cache.expiry")
+                .description("Entradas escritas (llamadas a la API) por fase del partido")
+                .tag("cache", cacheName)
+                .tag("phase", tag)
+                .register(meterRegistry));
+            ttls.put(phase, DistributionSummary.builder("football.cache.expiry.ttl")
+                .description("Caducidad asignada a las entradas")
+                .baseUnit("seconds")
+                .tag("cache", cacheName)
+                .tag("phase", tag)
+                .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public long expireAfterCreate(Object key, Object value, long currentTime) {
+        return expiryFor(key, value).toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+        return expiryFor(key, value).toNanos();
+    }
+
+    @Override
+    public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+
+    private Duration expiryFor(Object key, Object value) {
+        FixtureResponse.FixtureData fixture = fixtureOf(value instanceof FixtureResponse ? value : lookup(key));
+        Phase phase = ApiResponseExpiry.isEmpty(value) ? Phase.EMPTY : phaseOf(fixture);
+        Duration ttl = switch (phase) {
+            case FINISHED -> durations.finished();
+            case LIVE -> durations.live();
+            case SCHEDULED -> scheduledTtl(fixture.getFixture().getTimestamp());
+            case UNKNOWN -> durations.scheduledMin();
+            case EMPTY -> durations.empty();
+        };
+        writes.get(phase).increment();
+        ttls.get(phase).record(ttl.toSeconds());
+        return ttl;
+    }
+
+    private Duration scheduledTtl(long kickoff) {
+        Duration toKickoff = Duration.between(Instant.now(), Instant.ofEpochSecond(kickoff));
+        Duration ttl = untilKickoff ? toKickoff : toKickoff.dividedBy(2);
+        if (ttl.compareTo(durations.scheduledMin()) < 0) return durations.scheduledMin();
+        if (ttl.compareTo(durations.scheduledMax()) > 0) return durations.scheduledMax();
+        return ttl;
+    }
+
+    private Object lookup(Object key) {
+        return fixtureLookup != null ? fixtureLookup.apply(key) : null;
+    }
+
+    private static FixtureResponse.FixtureData fixtureOf(Object value) {
+        if (!(value instanceof FixtureResponse response)) return null;
+        if (response.getResponse() == null || response.getResponse().isEmpty()) return null;
+        FixtureResponse.FixtureData data = response.getResponse().get(0);
+        return data.getFixture() != null ? data : null;
+    }
+
+    private static Phase phaseOf(FixtureResponse.FixtureData fixture) {
+        String status = FixtureStatus.of(fixture);
+        if (FixtureStatus.isFinished(status)) return Phase.FINISHED;
+        if (FixtureStatus.isLive(status)) return Phase.LIVE;
+        if (status != null && FixtureStatus.SCHEDULED.contains(status)) return Phase.SCHEDULED;
+        return Phase.UNKNOWN;
+    }
+}
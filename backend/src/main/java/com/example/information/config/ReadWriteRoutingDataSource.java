@@ -0,0 +1,84 @@
+package com.example.information.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * DataSource que enruta las transacciones de solo lectura a la réplica
+ * y el resto a la base de datos principal.
+ * Si la réplica no está disponible, se usa la principal como respaldo.
+ *
+ * Las lecturas que deben ver lo que se acaba de escribir (comprobaciones bajo el cerrojo
+ * de relleno, verificaciones tras guardar) se fijan a la principal con {@link #onPrimary}:
+ * con retraso de replicación, la réplica daría falsos negativos y llamadas repetidas a la API.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    /** Profundidad de {@link #onPrimary} en el hilo actual */
+    private static final ThreadLocal<Integer> PRIMARY_PINS = ThreadLocal.withInitial(() -> 0);
+
+    private final DataSource primary;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+        this.primary = primary;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * Ejecuta la acción con todas sus lecturas en la principal (también las de solo lectura).
+     * Sin réplica configurada no cambia nada.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        PRIMARY_PINS.set(PRIMARY_PINS.get() + 1);
+        try {
+            return action.get();
+        } finally {
+            int depth = PRIMARY_PINS.get() - 1;
+            if (depth == 0) {
+                PRIMARY_PINS.remove();
+            } else {
+                PRIMARY_PINS.set(depth);
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (PRIMARY_PINS.get() > 0) return PRIMARY;
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? REPLICA : PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        try {
+            return super.getConnection();
+        } catch (SQLException e) {
+            if (!REPLICA.equals(determineCurrentLookupKey())) throw e;
+            log.warn("Réplica de lectura no disponible, usando la principal: {}", e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        try {
+            return super.getConnection(username, password);
+        } catch (SQLException e) {
+            if (!REPLICA.equals(determineCurrentLookupKey())) throw e;
+            log.warn("Réplica de lectura no disponible, usando la principal: {}", e.getMessage());
+            return primary.getConnection(username, password);
+        }
+    }
+}
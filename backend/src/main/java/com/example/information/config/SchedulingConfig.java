@@ -0,0 +1,12 @@
+package com.example.information.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas periódicas (@Scheduled), como el sondeo de partidos en vivo
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,13 +1,20 @@
 package com.example.information.config;
 
+import com.example.information.repositories.UsuarioRepository;
+import com.example.information.security.JwtAuthenticationFilter;
+import com.example.information.security.JwtUtil;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -17,8 +24,12 @@ import java.util.List;
 
 @Configuration
 @EnableWebSecurity
+@RequiredArgsConstructor
 public class SecurityConfig {
 
+    private final JwtUtil jwtUtil;
+    private final UsuarioRepository usuarioRepository;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -36,11 +47,18 @@ public class SecurityConfig {
                 .requestMatchers("/h2-console/**").permitAll()
                 // Permitir acceso público a endpoints de autenticación
                 .requestMatchers("/api/auth/**").permitAll()
+                // Carga de temporadas y deduplicación de la caché: gastan la cuota de la API o
+                // recorren toda la BD, solo administradores
+                .requestMatchers("/api/football/cache/bootstrap", "/api/football/cache/bootstrap/**",
+                    "/api/football/cache/deduplicate").hasRole("ADMIN")
                 // Por ahora permitir todos los endpoints de la API
                 .requestMatchers("/api/**").permitAll()
                 // Requerir autenticación para todo lo demás
                 .anyRequest().authenticated()
             )
+            .addFilterBefore(new JwtAuthenticationFilter(jwtUtil, usuarioRepository), UsernamePasswordAuthenticationFilter.class)
+            // Sin token: 401 (con token sin el rol: 403)
+            .exceptionHandling(ex -> ex.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
             // Permitir frames para H2 Console (solo desarrollo)
             .headers(headers -> headers.frameOptions(frame -> frame.sameOrigin()));
 
@@ -66,7 +84,9 @@ public class SecurityConfig {
             "Content-Type", 
             "X-Requested-With",
             "Access-Control-Allow-Origin",
-            "Access-Control-Allow-Credentials"
+            "Access-Control-Allow-Credentials",
+            "Age",
+            "X-Snapshot-Version"
         ));
         
         // Permitir credenciales (cookies, headers de autenticación)
@@ -0,0 +1,55 @@
+package com.example.information.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+/**
+ * Crea los índices trigram (pg_trgm) de las búsquedas por nombre de la caché.
+ *
+ * Hibernate ({@code ddl-auto=update}) no sabe crear índices GIN ni extensiones,
+ * así que el DDL vive en {@code db/search/postgresql-trgm.sql} y se aplica aquí
+ * al arrancar. En H2 (o si la extensión no se puede crear) no se hace nada y
+ * las búsquedas siguen usando las consultas LIKE.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TrigramSearchInitializer {
+
+    private static final String SCRIPT = "db/search/postgresql-trgm.sql";
+
+    private final DataSource dataSource;
+
+    private volatile boolean available;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        try (Connection connection = dataSource.getConnection()) {
+            String product = connection.getMetaData().getDatabaseProductName();
+            if (!"PostgreSQL".equalsIgnoreCase(product)) {
+                log.info("🔎 Base de datos {}: búsqueda trigram desactivada, se usa LIKE", product);
+                return;
+            }
+            new ResourceDatabasePopulator(new ClassPathResource(SCRIPT)).populate(connection);
+            available = true;
+            log.info("🔎 Índices trigram de búsqueda listos");
+        } catch (Exception e) {
+            log.warn("⚠️ No se pudieron crear los índices trigram, se usa LIKE: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Indica si se pueden usar las consultas fuzzy (pg_trgm) de los repositorios
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.information.entities.cache;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entidad para cachear partidos de la API-Football en la base de datos.
+ * Una fila por partido; los campos indexados permiten consultar por liga/temporada,
+ * jornada, fecha, equipo y estado sin deserializar el JSON.
+ * Los partidos finalizados se congelan: no se vuelven a pedir ni a escribir.
+ */
+@Entity
+@Table(name = "cached_fixtures", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_cached_fixture_api_id", columnNames = {"apiId"})
+}, indexes = {
+    @Index(name = "idx_cached_fixture_league_season", columnList = "leagueId, season, kickoffAt"),
+    @Index(name = "idx_cached_fixture_round", columnList = "leagueId, season, round"),
+    @Index(name = "idx_cached_fixture_date", columnList = "matchDate"),
+    @Index(name = "idx_cached_fixture_home_team", columnList = "homeTeamId, season"),
+    @Index(name = "idx_cached_fixture_away_team", columnList = "awayTeamId, season"),
+    @Index(name = "idx_cached_fixture_status", columnList = "statusShort"),
+    @Index(name = "idx_cached_fixture_change_seq", columnList = "changeSeq"),
+    @Index(name = "idx_cached_fixture_kickoff", columnList = "kickoffAt")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CachedFixture {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    /** ID del partido en API-Football */
+    @Column(nullable = false)
+    private Integer apiId;
+    
+    /** ID de la liga en API-Football */
+    @Column(nullable = false)
+    private Integer leagueId;
+    
+    /** Temporada */
+    @Column(nullable = false)
+    private Integer season;
+    
+    /** Jornada (ej: "Regular Season - 12") */
+    private String round;
+    
+    /** Hora de inicio (epoch en segundos, UTC) */
+    @Column(nullable = false)
+    private Long kickoffAt;
+    
+    /** Día del partido (UTC) */
+    @Column(nullable = false)
+    private LocalDate matchDate;
+    
+    private Integer homeTeamId;
+    
+    private Integer awayTeamId;
+    
+    /** Estado corto (NS, 1H, HT, FT...) */
+    @Column(length = 8)
+    private String statusShort;
+    
+    private Integer goalsHome;
+    
+    private Integer goalsAway;
+    
+    /** true si el partido está en un estado final (ver FixtureStatus.FINISHED) */
+    @Column(nullable = false)
+    private boolean finished;
+    
+    /** JSON completo del partido */
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String rawJson;
+    
+    /** Hash SHA-256 del JSON (para omitir escrituras sin cambios) */
+    @Column(length = 64)
+    private String contentHash;
+    
+    /**
+     * Versión de cambio, creciente en toda la tabla: cada escritura del partido
+     * recibe una mayor que cualquier otra anterior (sincronización delta de clientes)
+     */
+    private Long changeSeq;
+    
+    /** Versión para bloqueo optimista */
+    @Version
+    private Long version;
+    
+    /** Fecha de creación del registro */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    /** Fecha de última actualización */
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
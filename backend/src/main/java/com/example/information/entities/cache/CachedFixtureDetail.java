@@ -0,0 +1,60 @@
+package com.example.information.entities.cache;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Eventos y estadísticas de un partido finalizado.
+ * Una vez terminado el partido no cambian, así que se guardan para siempre y
+ * no se vuelven a pedir a la API. Cada parte se escribe una sola vez.
+ */
+@Entity
+@Table(name = "cached_fixture_details", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_cached_fixture_detail_api_id", columnNames = {"apiId"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CachedFixtureDetail {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    /** ID del partido en API-Football */
+    @Column(nullable = false)
+    private Integer apiId;
+    
+    /** JSON de la lista de eventos (null si aún no se ha pedido) */
+    @Column(columnDefinition = "TEXT")
+    private String eventsJson;
+    
+    /** JSON de la lista de estadísticas por equipo (null si aún no se ha pedido) */
+    @Column(columnDefinition = "TEXT")
+    private String statisticsJson;
+    
+    /** Versión para bloqueo optimista */
+    @Version
+    private Long version;
+    
+    /** Fecha de creación del registro */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    /** Fecha de última actualización */
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.information.entities.cache;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Marca de competición/temporada descargada completa en cached_fixtures.
+ * Los partidos de una liga también llegan sueltos (por fecha, por equipo, en vivo),
+ * así que tener filas no basta para saber que están todos.
+ */
+@Entity
+@Table(name = "cached_fixture_seasons", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_cached_fixture_season", columnNames = {"leagueId", "season"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CachedFixtureSeason {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    /** ID de la liga en API-Football */
+    @Column(nullable = false)
+    private Integer leagueId;
+    
+    /** Temporada */
+    @Column(nullable = false)
+    private Integer season;
+    
+    /** Partidos recibidos en la descarga completa */
+    private Integer fixtureCount;
+    
+    /** Fecha de la descarga completa */
+    @Column(nullable = false)
+    private LocalDateTime ingestedAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        if (ingestedAt == null) ingestedAt = LocalDateTime.now();
+    }
+}
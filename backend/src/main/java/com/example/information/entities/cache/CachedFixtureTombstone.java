@@ -0,0 +1,56 @@
+package com.example.information.entities.cache;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Marca de borrado de un partido para la sincronización delta.
+ * Se guarda cuando un partido sale de un ámbito que los clientes pueden tener
+ * copiado (p. ej. un aplazamiento lo saca del día en que estaba), con los
+ * valores de ese ámbito anterior. Se purgan pasado el periodo de retención.
+ */
+@Entity
+@Table(name = "cached_fixture_tombstones", indexes = {
+    @Index(name = "idx_fixture_tombstone_change_seq", columnList = "changeSeq"),
+    @Index(name = "idx_fixture_tombstone_date", columnList = "matchDate, changeSeq")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CachedFixtureTombstone {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    /** ID del partido en API-Football */
+    @Column(nullable = false)
+    private Integer apiId;
+    
+    private Integer leagueId;
+    
+    private Integer season;
+    
+    /** Día del que desaparece el partido (UTC) */
+    private LocalDate matchDate;
+    
+    private Integer homeTeamId;
+    
+    private Integer awayTeamId;
+    
+    /** Versión de cambio en la que se produjo el borrado */
+    @Column(nullable = false)
+    private Long changeSeq;
+    
+    /** Fecha de creación del registro */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
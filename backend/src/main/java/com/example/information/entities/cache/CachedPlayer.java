@@ -7,10 +7,18 @@ import java.time.LocalDateTime;
 /**
  * Entidad para cachear jugadores de la API-Football en la base de datos.
  * Almacena los datos del jugador para evitar consultas repetidas a la API.
+ * 
+ * Clave natural: (apiId, season, teamId). Un mismo jugador tiene una fila
+ * por temporada y equipo, de modo que las búsquedas por temporada aciertan.
+ * Temporada y equipo pueden ser nulos (búsquedas, consultas por ID) y PostgreSQL no
+ * considera iguales dos NULL, así que la restricción única va sobre {@link #naturalKey}.
  */
 @Entity
-@Table(name = "cached_players", indexes = {
+@Table(name = "cached_players", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_cached_player_natural_key", columnNames = {"naturalKey"})
+}, indexes = {
     @Index(name = "idx_cached_player_api_id", columnList = "apiId"),
+    @Index(name = "idx_cached_player_api_season", columnList = "apiId, season"),
     @Index(name = "idx_cached_player_name", columnList = "name"),
     @Index(name = "idx_cached_player_team", columnList = "teamId, season"),
     @Index(name = "idx_cached_player_search", columnList = "searchKey")
@@ -87,6 +95,14 @@ public class CachedPlayer {
     /** Clave de búsqueda (para búsquedas por nombre) */
     private String searchKey;
     
+    /** true si la fila viene de la lista de jugadores del equipo (no de búsquedas ni consultas por ID) */
+    @Column(nullable = false, columnDefinition = "boolean default false")
+    private boolean teamListed;
+    
+    /** Clave natural sin nulos (apiId:season:teamId, "-" si falta), calculada al guardar */
+    @Column(length = 40)
+    private String naturalKey;
+    
     /** JSON completo de la respuesta (incluye estadísticas) */
     @Column(columnDefinition = "TEXT")
     private String rawJson;
@@ -103,10 +119,19 @@ public class CachedPlayer {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        naturalKey = keyOf(apiId, season, teamId);
     }
     
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        naturalKey = keyOf(apiId, season, teamId);
+    }
+    
+    /**
+     * Clave natural de un jugador en una temporada y equipo (cualquiera de los dos puede faltar)
+     */
+    public static String keyOf(Integer apiId, Integer season, Integer teamId) {
+        return apiId + ":" + (season != null ? season : "-") + ":" + (teamId != null ? teamId : "-");
     }
 }
@@ -0,0 +1,105 @@
+package com.example.information.entities.cache;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Estadísticas normalizadas de un jugador por competición y temporada.
+ * Se rellena al ingerir jugadores (una fila por cada elemento de "statistics")
+ * y permite resolver clasificaciones de goleadores, asistentes y tarjetas en local.
+ */
+@Entity
+@Table(name = "cached_player_statistics", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_cached_player_stats", columnNames = {"playerApiId", "teamId", "leagueId", "season"})
+}, indexes = {
+    @Index(name = "idx_cached_player_stats_player", columnList = "playerApiId, season"),
+    @Index(name = "idx_cached_player_stats_goals", columnList = "leagueId, season, goals"),
+    @Index(name = "idx_cached_player_stats_assists", columnList = "leagueId, season, assists"),
+    @Index(name = "idx_cached_player_stats_cards", columnList = "leagueId, season, yellowCards, redCards")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CachedPlayerStatistics {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    /** ID del jugador en API-Football */
+    @Column(nullable = false)
+    private Integer playerApiId;
+    
+    /** Nombre del jugador */
+    private String playerName;
+    
+    /** URL de la foto */
+    @Column(length = 500)
+    private String playerPhoto;
+    
+    // Datos del equipo
+    @Column(nullable = false)
+    private Integer teamId;
+    private String teamName;
+    
+    @Column(length = 500)
+    private String teamLogo;
+    
+    // Datos de la competición
+    @Column(nullable = false)
+    private Integer leagueId;
+    private String leagueName;
+    
+    /** Temporada */
+    @Column(nullable = false)
+    private Integer season;
+    
+    /** Posición */
+    private String position;
+    
+    /** Valoración media (texto tal como la devuelve la API) */
+    private String rating;
+    
+    // Partidos
+    private Integer appearances;
+    private Integer lineups;
+    private Integer minutes;
+    
+    // Goles y pases
+    @Column(nullable = false)
+    private Integer goals;
+    
+    @Column(nullable = false)
+    private Integer assists;
+    
+    // Tarjetas
+    @Column(nullable = false)
+    private Integer yellowCards;
+    
+    @Column(nullable = false)
+    private Integer yellowRedCards;
+    
+    @Column(nullable = false)
+    private Integer redCards;
+    
+    /** Fecha de creación del registro */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    /** Fecha de última actualización */
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -29,6 +29,19 @@ public class CachedSquad {
     @Column(columnDefinition = "TEXT", nullable = false)
     private String rawJson;
     
+    /** Hash SHA-256 del JSON (para omitir escrituras sin cambios) */
+    @Column(length = 64)
+    private String contentHash;
+    
+    /**
+     * Versión para bloqueo optimista (reemplazo atómico del contenido).
+     * Primitiva con valor por defecto: las filas anteriores a la columna se rellenan
+     * con 0 (ver CacheSchemaBackfill) y nunca se toman por nuevas.
+     */
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+    
     /** Fecha de creación del registro */
     @Column(nullable = false)
     private LocalDateTime createdAt;
@@ -8,8 +8,8 @@ import java.time.LocalDateTime;
  * Entidad para cachear clasificaciones de la API-Football en la base de datos.
  */
 @Entity
-@Table(name = "cached_standings", indexes = {
-    @Index(name = "idx_cached_standings_league_season", columnList = "leagueId, season")
+@Table(name = "cached_standings", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_cached_standings_league_season", columnNames = {"leagueId", "season"})
 })
 @Data
 @NoArgsConstructor
@@ -33,6 +33,19 @@ public class CachedStandings {
     @Column(columnDefinition = "TEXT", nullable = false)
     private String rawJson;
     
+    /** Hash SHA-256 del JSON (para omitir escrituras sin cambios) */
+    @Column(length = 64)
+    private String contentHash;
+    
+    /**
+     * Versión para bloqueo optimista (reemplazo atómico del contenido).
+     * Primitiva con valor por defecto: las filas anteriores a la columna se rellenan
+     * con 0 (ver CacheSchemaBackfill) y nunca se toman por nuevas.
+     */
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+    
     /** Fecha de creación del registro */
     @Column(nullable = false)
     private LocalDateTime createdAt;
@@ -7,9 +7,15 @@ import java.time.LocalDateTime;
 /**
  * Entidad para cachear equipos de la API-Football en la base de datos.
  * Almacena los datos del equipo para evitar consultas repetidas a la API.
+ * 
+ * Clave natural: (apiId, leagueId, season). Los equipos obtenidos por búsqueda
+ * o por ID no tienen liga ni temporada; como PostgreSQL no considera iguales dos NULL,
+ * la restricción única va sobre {@link #naturalKey}.
  */
 @Entity
-@Table(name = "cached_teams", indexes = {
+@Table(name = "cached_teams", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_cached_team_natural_key", columnNames = {"naturalKey"})
+}, indexes = {
     @Index(name = "idx_cached_team_api_id", columnList = "apiId"),
     @Index(name = "idx_cached_team_name", columnList = "name"),
     @Index(name = "idx_cached_team_country", columnList = "country"),
@@ -66,6 +72,10 @@ public class CachedTeam {
     /** Temporada (para equipos obtenidos por liga) */
     private Integer season;
     
+    /** Clave natural sin nulos (apiId:leagueId:season, "-" si falta), calculada al guardar */
+    @Column(length = 40)
+    private String naturalKey;
+    
     /** JSON completo de la respuesta */
     @Column(columnDefinition = "TEXT")
     private String rawJson;
@@ -82,10 +92,19 @@ public class CachedTeam {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        naturalKey = keyOf(apiId, leagueId, season);
     }
     
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        naturalKey = keyOf(apiId, leagueId, season);
+    }
+    
+    /**
+     * Clave natural de un equipo en una liga y temporada (sin ellas si viene de búsqueda o por ID)
+     */
+    public static String keyOf(Integer apiId, Integer leagueId, Integer season) {
+        return apiId + ":" + (leagueId != null ? leagueId : "-") + ":" + (season != null ? season : "-");
     }
 }
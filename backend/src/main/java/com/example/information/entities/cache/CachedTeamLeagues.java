@@ -0,0 +1,63 @@
+package com.example.information.entities.cache;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Entidad para cachear las competiciones de un equipo en una temporada (/leagues?team=).
+ * Permite saber qué partidos de un equipo se pueden servir desde cached_fixtures.
+ */
+@Entity
+@Table(name = "cached_team_leagues", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_cached_team_leagues", columnNames = {"teamId", "season"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CachedTeamLeagues {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    /** ID del equipo en API-Football */
+    @Column(nullable = false)
+    private Integer teamId;
+    
+    /** Temporada */
+    @Column(nullable = false)
+    private Integer season;
+    
+    /** JSON completo de la respuesta de ligas */
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String rawJson;
+    
+    /** Última vez que se pidió a la API (se actualiza aunque no cambie el contenido) */
+    @Column(nullable = false)
+    private LocalDateTime fetchedAt;
+    
+    /** Versión para bloqueo optimista */
+    @Version
+    private Long version;
+    
+    /** Fecha de creación del registro */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    /** Fecha de última actualización */
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.information.entities.cache;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Contador de versiones de cambio de los partidos (una sola fila), compartido por
+ * todas las instancias. Se avanza con un UPDATE, que bloquea la fila mientras tanto.
+ */
+@Entity
+@Table(name = "fixture_change_counter")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FixtureChangeCounter {
+    
+    @Id
+    private Integer id;
+    
+    /** Última versión reservada (milisegundos mientras el reloj avance) */
+    @Column(nullable = false)
+    private Long lastSeq;
+}
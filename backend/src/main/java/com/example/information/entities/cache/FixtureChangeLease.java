@@ -0,0 +1,38 @@
+package com.example.information.entities.cache;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Versión de cambio reservada por una transacción que aún no ha terminado.
+ * Se confirma al reservarla, aparte de la transacción que escribe los partidos, y se
+ * borra cuando ésta termina: mientras exista, no se anuncia a los clientes ninguna
+ * versión igual o posterior.
+ */
+@Entity
+@Table(name = "fixture_change_leases", indexes = {
+    @Index(name = "idx_fixture_change_lease_seq", columnList = "seq")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FixtureChangeLease {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false)
+    private Long seq;
+    
+    /** Fecha de la reserva (las de una instancia caída se ignoran pasado un plazo) */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.information.entities.cache;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Trabajo de carga completa de una liga/temporada (equipos, plantillas, jugadores,
+ * partidos y clasificación). Sus tareas quedan en season_bootstrap_tasks como
+ * punto de control para reanudar tras un reinicio.
+ */
+@Entity
+@Table(name = "season_bootstrap_jobs", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_season_bootstrap_job_active", columnNames = {"activeKey"})
+}, indexes = {
+    @Index(name = "idx_season_bootstrap_job_league", columnList = "leagueId, season"),
+    @Index(name = "idx_season_bootstrap_job_status", columnList = "status")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeasonBootstrapJob {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    /** ID de la liga en API-Football */
+    @Column(nullable = false)
+    private Integer leagueId;
+    
+    /** Temporada */
+    @Column(nullable = false)
+    private Integer season;
+    
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private Status status;
+    
+    /** Peticiones a la API en paralelo */
+    @Column(nullable = false)
+    private Integer concurrency;
+    
+    /** Máximo de peticiones a la API que puede gastar el trabajo */
+    @Column(nullable = false)
+    private Integer maxRequests;
+    
+    /** Peticiones a la API gastadas */
+    @Column(nullable = false)
+    private Integer requestsUsed;
+    
+    /**
+     * "liga:temporada" mientras el trabajo no está completado (null después): la restricción
+     * única impide dos trabajos activos de la misma liga aunque lleguen dos peticiones a la vez
+     */
+    @Column(length = 30)
+    private String activeKey;
+    
+    /** Motivo de la pausa o del fallo */
+    @Column(length = 500)
+    private String message;
+    
+    private LocalDateTime startedAt;
+    
+    private LocalDateTime finishedAt;
+    
+    /** Fecha de creación del registro */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    /** Fecha de última actualización */
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+    
+    public enum Status {
+        /** En cola o en marcha */
+        RUNNING,
+        /** Sin presupuesto de peticiones; se reanuda al volver a lanzarlo */
+        PAUSED,
+        /** Todas las tareas hechas */
+        COMPLETED,
+        /** Terminado con tareas fallidas tras agotar los reintentos */
+        FAILED
+    }
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
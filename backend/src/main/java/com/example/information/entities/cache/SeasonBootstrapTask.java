@@ -0,0 +1,91 @@
+package com.example.information.entities.cache;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Tarea de un trabajo de carga de temporada: una petición a la API.
+ * Las tareas que dependen de otra se crean al completarse ésta, en la misma transacción.
+ */
+@Entity
+@Table(name = "season_bootstrap_tasks", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_season_bootstrap_task", columnNames = {"jobId", "type", "teamId", "page"})
+}, indexes = {
+    @Index(name = "idx_season_bootstrap_task_job_status", columnList = "jobId, status")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeasonBootstrapTask {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false)
+    private Long jobId;
+    
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private Type type;
+    
+    /** Equipo de la tarea (0 si es de toda la liga) */
+    @Column(nullable = false)
+    private Integer teamId;
+    
+    /** Página de resultados (1 si no está paginada) */
+    @Column(nullable = false)
+    private Integer page;
+    
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private Status status;
+    
+    /** Intentos realizados */
+    @Column(nullable = false)
+    private Integer attempts;
+    
+    /** Último error */
+    @Column(length = 500)
+    private String error;
+    
+    /**
+     * Tareas PLAYERS: jugadores guardados por la página (ids separados por comas). La plantilla
+     * del equipo se marca completa con los de todas sus páginas cuando han terminado todas.
+     */
+    @Column(columnDefinition = "TEXT")
+    private String playerIds;
+    
+    /**
+     * Instancia que está ejecutando la tarea (null si nadie). Varias instancias pueden llevar
+     * el mismo trabajo: solo ejecuta una tarea quien la reclama en BD.
+     */
+    @Column(length = 64)
+    private String claimedBy;
+    
+    /** Fin del plazo del reclamo: pasado este instante otra instancia puede reclamarla */
+    private LocalDateTime claimedUntil;
+    
+    /** Tras un fallo, no se reintenta antes de este instante */
+    private LocalDateTime nextAttemptAt;
+    
+    /** Fecha de última actualización */
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+    
+    /**
+     * Tipos de tarea. Dependencias: TEAMS → SQUAD y PLAYERS página 1 de cada equipo →
+     * resto de páginas de PLAYERS; FIXTURES → STANDINGS.
+     */
+    public enum Type { TEAMS, SQUAD, PLAYERS, FIXTURES, STANDINGS }
+    
+    public enum Status { PENDING, DONE, FAILED }
+    
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
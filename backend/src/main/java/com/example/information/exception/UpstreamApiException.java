@@ -0,0 +1,16 @@
+package com.example.information.exception;
+
+/**
+ * Error devuelto por API-Football (aunque venga con HTTP 200): límite de peticiones,
+ * clave no válida, parámetros incorrectos...
+ */
+public class UpstreamApiException extends RuntimeException {
+
+    public UpstreamApiException(String message) {
+        super(message);
+    }
+
+    public UpstreamApiException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.information.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Progreso de un trabajo de carga de temporada
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BootstrapProgress {
+
+    private Long jobId;
+    private Integer leagueId;
+    private Integer season;
+
+    /** RUNNING, PAUSED, COMPLETED o FAILED */
+    private String status;
+
+    /** Motivo de la pausa o del fallo */
+    private String message;
+
+    private Integer concurrency;
+    private Integer maxRequests;
+    private Integer requestsUsed;
+
+    private long totalTasks;
+    private long doneTasks;
+    private long pendingTasks;
+    private long failedTasks;
+
+    /** Recuento por tipo de tarea y estado */
+    private Map<String, Map<String, Long>> tasks;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
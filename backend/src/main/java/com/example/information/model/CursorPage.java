@@ -0,0 +1,78 @@
+package com.example.information.model;
+
+import com.example.information.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de resultados con paginación por cursor (keyset).
+ *
+ * Las consultas ordenan por id y filtran {@code id > cursor}, así que cada página
+ * cuesta lo mismo aunque se pida la página 1000 (sin OFFSET). El cursor es opaco
+ * para el cliente: basta con reenviar {@code nextCursor} hasta que sea null.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 200;
+
+    private List<T> items;
+
+    /** Cursor de la siguiente página; null si no hay más resultados */
+    private String nextCursor;
+
+    private int size;
+
+    /**
+     * Construye la página a partir de filas leídas con {@link #pageable(int)} (tamaño + 1).
+     * La fila extra solo indica que hay más resultados y no se devuelve.
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size, Function<E, Long> id, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String next = hasNext ? encode(id.apply(page.get(page.size() - 1))) : null;
+        return new CursorPage<>(page.stream().map(mapper).toList(), next, page.size());
+    }
+
+    /**
+     * Limita el tamaño de página pedido por el cliente a [1, MAX_SIZE]
+     */
+    public static int clampSize(Integer size) {
+        if (size == null) return DEFAULT_SIZE;
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * Primera página de tamaño + 1 (sin consulta COUNT) para saber si hay siguiente
+     */
+    public static Pageable pageable(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+
+    /**
+     * Último id visto según el cursor; 0 para la primera página
+     */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return 0L;
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Cursor de paginación no válido: " + cursor);
+        }
+    }
+
+    private static String encode(Long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.information.model;
+
+import com.example.information.model.apifootball.FixtureResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Cambios de partidos desde una versión (sincronización delta).
+ *
+ * El cliente guarda {@code version} y la envía como {@code since} en la siguiente
+ * petición. Con {@code fullResync} la lista {@code changed} es el ámbito completo
+ * y el cliente debe sustituir su copia en lugar de aplicar los cambios.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FixtureChanges {
+
+    private long since;
+
+    /** Versión hasta la que está incluido todo lo devuelto */
+    private long version;
+
+    /** true si la versión del cliente es demasiado antigua (o 0) y se devuelve todo */
+    private boolean fullResync;
+
+    /** Partidos nuevos o modificados */
+    private List<FixtureResponse.FixtureData> changed;
+
+    /** IDs de partidos que ya no pertenecen al ámbito consultado */
+    private List<Integer> removed;
+}
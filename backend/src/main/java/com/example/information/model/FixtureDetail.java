@@ -0,0 +1,42 @@
+package com.example.information.model;
+
+import com.example.information.model.apifootball.FixtureEventsResponse;
+import com.example.information.model.apifootball.FixtureResponse;
+import com.example.information.model.apifootball.FixtureStatisticsResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Detalle completo de un partido: datos, eventos y estadísticas en una sola respuesta
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FixtureDetail {
+
+    /** Datos del partido; null si no se encontró o no llegó a tiempo */
+    private FixtureResponse.FixtureData fixture;
+
+    private List<FixtureEventsResponse.Event> events;
+
+    private List<FixtureStatisticsResponse.TeamStatistics> statistics;
+
+    /** true si alguna parte no llegó dentro del tiempo máximo o falló */
+    private boolean partial;
+
+    /** Partes que no llegaron a tiempo (fixture, events, statistics) */
+    private List<String> timedOut;
+
+    /** Partes que fallaron (error de la API o de la BD) */
+    private List<String> failed;
+
+    /** true si eventos y estadísticas llegaron con el propio partido (una sola petición) */
+    private boolean combined;
+
+    private long tookMs;
+}
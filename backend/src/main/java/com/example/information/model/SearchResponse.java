@@ -0,0 +1,37 @@
+package com.example.information.model;
+
+import com.example.information.service.NameSearchIndex;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Resultado de la búsqueda federada de ligas, equipos y jugadores
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResponse {
+
+    private String query;
+
+    /** Resultados de todas las fuentes, ordenados por relevancia */
+    private List<NameSearchIndex.Hit> results;
+
+    private int total;
+
+    /** true si alguna fuente no respondió dentro del tiempo máximo */
+    private boolean partial;
+
+    /** Fuentes que no respondieron a tiempo (LEAGUE, TEAM, PLAYER) */
+    private List<String> timedOut;
+
+    /** true si se consultó la API externa por falta de resultados locales */
+    private boolean upstream;
+
+    private long tookMs;
+}
@@ -0,0 +1,55 @@
+package com.example.information.model.apifootball;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Envoltorio común de las respuestas de API-Football.
+ *
+ * La API suele responder HTTP 200 con {@code errors} no vacío (límite de peticiones,
+ * clave no válida, parámetros incorrectos) y {@code response} vacío; sin errores,
+ * {@code errors} llega como lista vacía.
+ */
+public interface ApiFootballResponse {
+
+    /** Clasificación de una respuesta */
+    enum Kind {
+        /** Con resultados */
+        SUCCESS,
+        /** Sin errores y sin resultados: se cachea poco tiempo */
+        EMPTY,
+        /** Con errores: no se cachea ni se guarda nunca */
+        ERROR
+    }
+
+    Object getErrors();
+
+    List<?> getResponse();
+
+    /**
+     * Clasifica una respuesta (o un valor cacheado cualquiera; null cuenta como vacío)
+     */
+    static Kind classify(Object value) {
+        if (!(value instanceof ApiFootballResponse response)) {
+            return value == null ? Kind.EMPTY : Kind.SUCCESS;
+        }
+        if (hasErrors(response.getErrors())) return Kind.ERROR;
+        if (response.getResponse() == null || response.getResponse().isEmpty()) return Kind.EMPTY;
+        return Kind.SUCCESS;
+    }
+
+    /**
+     * Indica si la respuesta trae resultados y ningún error (lo único que se guarda en BD)
+     */
+    static boolean isSuccess(Object value) {
+        return value != null && classify(value) == Kind.SUCCESS;
+    }
+
+    private static boolean hasErrors(Object errors) {
+        if (errors == null) return false;
+        if (errors instanceof Map<?, ?> map) return !map.isEmpty();
+        if (errors instanceof Collection<?> collection) return !collection.isEmpty();
+        return !errors.toString().isBlank();
+    }
+}
@@ -10,7 +10,7 @@ import java.util.List;
  */
 @Data
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class FixtureResponse {
+public class FixtureResponse implements ApiFootballResponse {
     
     @JsonProperty("get")
     private String get;
@@ -45,6 +45,10 @@ public class FixtureResponse {
         private Teams teams;
         private Goals goals;
         private Score score;
+        /** Solo en partidos en vivo (live=all) y en la consulta por id */
+        private List<FixtureEventsResponse.Event> events;
+        /** Solo en la consulta por id */
+        private List<FixtureStatisticsResponse.TeamStatistics> statistics;
     }
 
     @Data
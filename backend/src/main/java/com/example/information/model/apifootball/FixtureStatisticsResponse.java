@@ -11,7 +11,7 @@ import java.util.List;
  */
 @Data
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class FixtureStatisticsResponse {
+public class FixtureStatisticsResponse implements ApiFootballResponse {
     
     @JsonProperty("get")
     private String get;
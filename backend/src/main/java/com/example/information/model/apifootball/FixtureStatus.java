@@ -0,0 +1,71 @@
+package com.example.information.model.apifootball;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Códigos cortos de estado de partido de API-Football (fixture.status.short)
+ * agrupados por fase.
+ */
+public final class FixtureStatus {
+
+    /** Sin empezar: hora por definir o no iniciado */
+    public static final Set<String> SCHEDULED = Set.of("TBD", "NS");
+
+    /** En juego (incluye descanso, prórroga, penaltis e interrupciones) */
+    public static final Set<String> LIVE = Set.of("1H", "HT", "2H", "ET", "BT", "P", "SUSP", "INT", "LIVE");
+
+    /**
+     * Estados finales: el partido ya no va a cambiar.
+     * Finalizado, tras prórroga, tras penaltis, cancelado, abandonado y resoluciones administrativas.
+     */
+    public static final Set<String> FINISHED = Set.of("FT", "AET", "PEN", "CANC", "ABD", "AWD", "WO");
+
+    /** Finalizados con resultado jugado en el campo (cuentan para jornadas y clasificaciones) */
+    public static final Set<String> PLAYED = Set.of("FT", "AET", "PEN");
+
+    private FixtureStatus() {
+    }
+
+    public static boolean isFinished(String shortStatus) {
+        return shortStatus != null && FINISHED.contains(shortStatus);
+    }
+
+    public static boolean isPlayed(String shortStatus) {
+        return shortStatus != null && PLAYED.contains(shortStatus);
+    }
+
+    public static boolean isLive(String shortStatus) {
+        return shortStatus != null && LIVE.contains(shortStatus);
+    }
+
+    /**
+     * Expande nombres de grupo (LIVE, SCHEDULED, FINISHED, PLAYED) a sus estados cortos;
+     * el resto se toma como estado corto. Sin mayúsculas/minúsculas.
+     */
+    public static Set<String> expand(Collection<String> statuses) {
+        if (statuses == null || statuses.isEmpty()) return Set.of();
+        Set<String> result = new HashSet<>();
+        for (String status : statuses) {
+            String code = status.trim().toUpperCase(Locale.ROOT);
+            switch (code) {
+                case "SCHEDULED" -> result.addAll(SCHEDULED);
+                case "FINISHED" -> result.addAll(FINISHED);
+                case "PLAYED" -> result.addAll(PLAYED);
+                case "LIVE" -> result.addAll(LIVE);
+                default -> result.add(code);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Estado corto de un partido de la respuesta de la API (null si no viene)
+     */
+    public static String of(FixtureResponse.FixtureData data) {
+        if (data == null || data.getFixture() == null || data.getFixture().getStatus() == null) return null;
+        return data.getFixture().getStatus().getShortStatus();
+    }
+}
@@ -10,7 +10,7 @@ import java.util.List;
  */
 @Data
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class LeagueResponse {
+public class LeagueResponse implements ApiFootballResponse {
     
     @JsonProperty("get")
     private String get;
@@ -1,5 +1,6 @@
 package com.example.information.model.apifootball;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
@@ -10,7 +11,7 @@ import java.util.List;
  */
 @Data
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class PlayerResponse {
+public class PlayerResponse implements ApiFootballResponse {
     
     @JsonProperty("get")
     private String get;
@@ -29,6 +30,10 @@ public class PlayerResponse {
     
     @JsonProperty("response")
     private List<PlayerData> response;
+    
+    /** true si la lista se cortó en el máximo de páginas: no es completa y no se guarda en caché */
+    @JsonIgnore
+    private boolean partial;
 
     @Data
     @JsonIgnoreProperties(ignoreUnknown = true)
@@ -11,7 +11,7 @@ import java.util.List;
  */
 @Data
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class SquadResponse {
+public class SquadResponse implements ApiFootballResponse {
     
     @JsonProperty("get")
     private String get;
@@ -10,7 +10,7 @@ import java.util.List;
  */
 @Data
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class StandingsResponse {
+public class StandingsResponse implements ApiFootballResponse {
     
     @JsonProperty("get")
     private String get;
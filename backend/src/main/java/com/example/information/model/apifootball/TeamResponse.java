@@ -10,7 +10,7 @@ import java.util.List;
  */
 @Data
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class TeamResponse {
+public class TeamResponse implements ApiFootballResponse {
     
     @JsonProperty("get")
     private String get;
@@ -1,6 +1,7 @@
 package com.example.information.repositories;
 
 import com.example.information.entities.Entrenador;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,25 +15,31 @@ public interface EntrenadorRepository extends JpaRepository<Entrenador, Long> {
 
     Optional<Entrenador> findByNombre(String nombre);
 
-    List<Entrenador> findByNacionalidad(String nacionalidad);
+    // Paginación por cursor: id > afterId ORDER BY id, con Pageable de tamaño + 1
 
-    @Query("SELECT e FROM Entrenador e WHERE LOWER(e.nombre) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<Entrenador> searchByNombre(@Param("keyword") String keyword);
+    @Query("SELECT e FROM Entrenador e WHERE e.id > :afterId ORDER BY e.id")
+    List<Entrenador> findPage(@Param("afterId") Long afterId, Pageable pageable);
 
-    @Query("SELECT e FROM Entrenador e WHERE e.aniosExperiencia >= :minAnios")
-    List<Entrenador> findByMinExperiencia(@Param("minAnios") int minAnios);
+    @Query("SELECT e FROM Entrenador e WHERE e.nacionalidad = :nacionalidad AND e.id > :afterId ORDER BY e.id")
+    List<Entrenador> findByNacionalidad(@Param("nacionalidad") String nacionalidad, @Param("afterId") Long afterId, Pageable pageable);
 
-    @Query("SELECT e FROM Entrenador e ORDER BY e.titulosGanados DESC")
-    List<Entrenador> findTopByTitulos();
+    @Query("SELECT e FROM Entrenador e WHERE LOWER(e.nombre) LIKE LOWER(CONCAT('%', :keyword, '%')) AND e.id > :afterId ORDER BY e.id")
+    List<Entrenador> searchByNombre(@Param("keyword") String keyword, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT e FROM Entrenador e WHERE e.aniosExperiencia >= :minAnios AND e.id > :afterId ORDER BY e.id")
+    List<Entrenador> findByMinExperiencia(@Param("minAnios") int minAnios, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT e FROM Entrenador e ORDER BY e.titulosGanados DESC, e.id")
+    List<Entrenador> findTopByTitulos(Pageable pageable);
 
     @Query("SELECT e FROM Entrenador e WHERE e.titulosGanados >= :minTitulos")
     List<Entrenador> findByMinTitulos(@Param("minTitulos") int minTitulos);
 
-    @Query("SELECT e FROM Entrenador e WHERE e.equipo IS NULL")
-    List<Entrenador> findEntrenadoresSinEquipo();
+    @Query("SELECT e FROM Entrenador e WHERE e.equipo IS NULL AND e.id > :afterId ORDER BY e.id")
+    List<Entrenador> findEntrenadoresSinEquipo(@Param("afterId") Long afterId, Pageable pageable);
 
-    @Query("SELECT e FROM Entrenador e WHERE e.equipo IS NOT NULL")
-    List<Entrenador> findEntrenadoresConEquipo();
+    @Query("SELECT e FROM Entrenador e WHERE e.equipo IS NOT NULL AND e.id > :afterId ORDER BY e.id")
+    List<Entrenador> findEntrenadoresConEquipo(@Param("afterId") Long afterId, Pageable pageable);
 
     @Query("SELECT e FROM Entrenador e LEFT JOIN FETCH e.equipo WHERE e.id = :id")
     Optional<Entrenador> findByIdWithEquipo(@Param("id") Long id);
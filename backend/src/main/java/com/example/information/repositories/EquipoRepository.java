@@ -1,6 +1,7 @@
 package com.example.information.repositories;
 
 import com.example.information.entities.Equipo;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,14 +15,20 @@ public interface EquipoRepository extends JpaRepository<Equipo, Long> {
 
     Optional<Equipo> findByNombre(String nombre);
 
-    List<Equipo> findByLigaId(Long ligaId);
+    // Paginación por cursor: id > afterId ORDER BY id, con Pageable de tamaño + 1
+
+    @Query("SELECT e FROM Equipo e WHERE e.id > :afterId ORDER BY e.id")
+    List<Equipo> findPage(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT e FROM Equipo e WHERE e.liga.id = :ligaId AND e.id > :afterId ORDER BY e.id")
+    List<Equipo> findByLigaId(@Param("ligaId") Long ligaId, @Param("afterId") Long afterId, Pageable pageable);
 
     List<Equipo> findByLigaNombre(String ligaNombre);
 
     boolean existsByNombre(String nombre);
 
-    @Query("SELECT e FROM Equipo e WHERE LOWER(e.nombre) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<Equipo> searchByNombre(@Param("keyword") String keyword);
+    @Query("SELECT e FROM Equipo e WHERE LOWER(e.nombre) LIKE LOWER(CONCAT('%', :keyword, '%')) AND e.id > :afterId ORDER BY e.id")
+    List<Equipo> searchByNombre(@Param("keyword") String keyword, @Param("afterId") Long afterId, Pageable pageable);
 
     @Query("SELECT e FROM Equipo e LEFT JOIN FETCH e.jugadores WHERE e.id = :id")
     Optional<Equipo> findByIdWithJugadores(@Param("id") Long id);
@@ -29,8 +36,8 @@ public interface EquipoRepository extends JpaRepository<Equipo, Long> {
     @Query("SELECT e FROM Equipo e LEFT JOIN FETCH e.entrenador WHERE e.id = :id")
     Optional<Equipo> findByIdWithEntrenador(@Param("id") Long id);
 
-    @Query("SELECT e FROM Equipo e WHERE e.liga.pais = :pais")
-    List<Equipo> findByPais(@Param("pais") String pais);
+    @Query("SELECT e FROM Equipo e WHERE e.liga.pais = :pais AND e.id > :afterId ORDER BY e.id")
+    List<Equipo> findByPais(@Param("pais") String pais, @Param("afterId") Long afterId, Pageable pageable);
 
     @Query("SELECT COUNT(j) FROM Jugador j WHERE j.equipo.id = :equipoId")
     int countJugadoresByEquipoId(@Param("equipoId") Long equipoId);
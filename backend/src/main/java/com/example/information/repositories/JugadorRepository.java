@@ -1,6 +1,7 @@
 package com.example.information.repositories;
 
 import com.example.information.entities.Jugador;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,27 +13,35 @@ import java.util.Optional;
 @Repository
 public interface JugadorRepository extends JpaRepository<Jugador, Long> {
 
-    List<Jugador> findByEquipoId(Long equipoId);
+    // Paginación por cursor: id > afterId ORDER BY id, con Pageable de tamaño + 1
+
+    @Query("SELECT j FROM Jugador j WHERE j.id > :afterId ORDER BY j.id")
+    List<Jugador> findPage(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT j FROM Jugador j WHERE j.equipo.id = :equipoId AND j.id > :afterId ORDER BY j.id")
+    List<Jugador> findByEquipoId(@Param("equipoId") Long equipoId, @Param("afterId") Long afterId, Pageable pageable);
 
     List<Jugador> findByEquipoNombre(String equipoNombre);
 
-    List<Jugador> findByPosicion(String posicion);
+    @Query("SELECT j FROM Jugador j WHERE j.posicion = :posicion AND j.id > :afterId ORDER BY j.id")
+    List<Jugador> findByPosicion(@Param("posicion") String posicion, @Param("afterId") Long afterId, Pageable pageable);
 
-    List<Jugador> findByNacionalidad(String nacionalidad);
+    @Query("SELECT j FROM Jugador j WHERE j.nacionalidad = :nacionalidad AND j.id > :afterId ORDER BY j.id")
+    List<Jugador> findByNacionalidad(@Param("nacionalidad") String nacionalidad, @Param("afterId") Long afterId, Pageable pageable);
 
     Optional<Jugador> findByNumeroCamisetaAndEquipoId(int numeroCamiseta, Long equipoId);
 
-    @Query("SELECT j FROM Jugador j WHERE LOWER(j.nombre) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<Jugador> searchByNombre(@Param("keyword") String keyword);
+    @Query("SELECT j FROM Jugador j WHERE LOWER(j.nombre) LIKE LOWER(CONCAT('%', :keyword, '%')) AND j.id > :afterId ORDER BY j.id")
+    List<Jugador> searchByNombre(@Param("keyword") String keyword, @Param("afterId") Long afterId, Pageable pageable);
 
-    @Query("SELECT j FROM Jugador j WHERE j.equipo.liga.id = :ligaId")
-    List<Jugador> findByLigaId(@Param("ligaId") Long ligaId);
+    @Query("SELECT j FROM Jugador j WHERE j.equipo.liga.id = :ligaId AND j.id > :afterId ORDER BY j.id")
+    List<Jugador> findByLigaId(@Param("ligaId") Long ligaId, @Param("afterId") Long afterId, Pageable pageable);
 
-    @Query("SELECT j FROM Jugador j ORDER BY j.golesMarcados DESC")
-    List<Jugador> findTopGoleadores();
+    @Query("SELECT j FROM Jugador j ORDER BY j.golesMarcados DESC, j.id")
+    List<Jugador> findTopGoleadores(Pageable pageable);
 
-    @Query("SELECT j FROM Jugador j WHERE j.equipo.liga.id = :ligaId ORDER BY j.golesMarcados DESC")
-    List<Jugador> findTopGoleadoresByLiga(@Param("ligaId") Long ligaId);
+    @Query("SELECT j FROM Jugador j WHERE j.equipo.liga.id = :ligaId ORDER BY j.golesMarcados DESC, j.id")
+    List<Jugador> findTopGoleadoresByLiga(@Param("ligaId") Long ligaId, Pageable pageable);
 
     @Query("SELECT j FROM Jugador j WHERE j.golesMarcados >= :minGoles")
     List<Jugador> findByMinGoles(@Param("minGoles") int minGoles);
@@ -1,6 +1,7 @@
 package com.example.information.repositories;
 
 import com.example.information.entities.Liga;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,14 +15,20 @@ public interface LigaRepository extends JpaRepository<Liga, Long> {
 
     Optional<Liga> findByNombre(String nombre);
 
-    List<Liga> findByPais(String pais);
+    // Paginación por cursor: id > afterId ORDER BY id, con Pageable de tamaño + 1
+
+    @Query("SELECT l FROM Liga l WHERE l.id > :afterId ORDER BY l.id")
+    List<Liga> findPage(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT l FROM Liga l WHERE l.pais = :pais AND l.id > :afterId ORDER BY l.id")
+    List<Liga> findByPais(@Param("pais") String pais, @Param("afterId") Long afterId, Pageable pageable);
 
     List<Liga> findByTemporadaActual(String temporadaActual);
 
     boolean existsByNombre(String nombre);
 
-    @Query("SELECT l FROM Liga l WHERE LOWER(l.nombre) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<Liga> searchByNombre(@Param("keyword") String keyword);
+    @Query("SELECT l FROM Liga l WHERE LOWER(l.nombre) LIKE LOWER(CONCAT('%', :keyword, '%')) AND l.id > :afterId ORDER BY l.id")
+    List<Liga> searchByNombre(@Param("keyword") String keyword, @Param("afterId") Long afterId, Pageable pageable);
 
     @Query("SELECT l FROM Liga l LEFT JOIN FETCH l.equipos WHERE l.id = :id")
     Optional<Liga> findByIdWithEquipos(@Param("id") Long id);
@@ -1,6 +1,7 @@
 package com.example.information.repositories;
 
 import com.example.information.entities.Miembro;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,16 +15,23 @@ public interface MiembroRepository extends JpaRepository<Miembro, Long> {
 
     Optional<Miembro> findByNombre(String nombre);
 
-    List<Miembro> findByNacionalidad(String nacionalidad);
+    // Paginación por cursor: id > afterId ORDER BY id, con Pageable de tamaño + 1
 
-    @Query("SELECT m FROM Miembro m WHERE LOWER(m.nombre) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<Miembro> searchByNombre(@Param("keyword") String keyword);
+    @Query("SELECT m FROM Miembro m WHERE m.id > :afterId ORDER BY m.id")
+    List<Miembro> findPage(@Param("afterId") Long afterId, Pageable pageable);
 
-    @Query("SELECT m FROM Miembro m WHERE YEAR(CAST(m.fechaNacimiento AS date)) BETWEEN :anioInicio AND :anioFin")
-    List<Miembro> findByRangoFechaNacimiento(@Param("anioInicio") int anioInicio, @Param("anioFin") int anioFin);
+    @Query("SELECT m FROM Miembro m WHERE m.nacionalidad = :nacionalidad AND m.id > :afterId ORDER BY m.id")
+    List<Miembro> findByNacionalidad(@Param("nacionalidad") String nacionalidad, @Param("afterId") Long afterId, Pageable pageable);
 
-    @Query("SELECT m FROM Miembro m WHERE TYPE(m) = :tipo")
-    List<Miembro> findByTipo(@Param("tipo") Class<? extends Miembro> tipo);
+    @Query("SELECT m FROM Miembro m WHERE LOWER(m.nombre) LIKE LOWER(CONCAT('%', :keyword, '%')) AND m.id > :afterId ORDER BY m.id")
+    List<Miembro> searchByNombre(@Param("keyword") String keyword, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT m FROM Miembro m WHERE YEAR(CAST(m.fechaNacimiento AS date)) BETWEEN :anioInicio AND :anioFin AND m.id > :afterId ORDER BY m.id")
+    List<Miembro> findByRangoFechaNacimiento(@Param("anioInicio") int anioInicio, @Param("anioFin") int anioFin,
+                                             @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT m FROM Miembro m WHERE TYPE(m) = :tipo AND m.id > :afterId ORDER BY m.id")
+    List<Miembro> findByTipo(@Param("tipo") Class<? extends Miembro> tipo, @Param("afterId") Long afterId, Pageable pageable);
 
     @Query("SELECT COUNT(m) FROM Miembro m WHERE m.nacionalidad = :nacionalidad")
     long countByNacionalidad(@Param("nacionalidad") String nacionalidad);
@@ -0,0 +1,19 @@
+package com.example.information.repositories.cache;
+
+import com.example.information.entities.cache.CachedFixtureDetail;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repositorio de eventos y estadísticas de partidos finalizados.
+ */
+@Repository
+public interface CachedFixtureDetailRepository extends JpaRepository<CachedFixtureDetail, Long> {
+    
+    /**
+     * Busca el detalle por ID del partido en la API
+     */
+    Optional<CachedFixtureDetail> findByApiId(Integer apiId);
+}
@@ -0,0 +1,121 @@
+package com.example.information.repositories.cache;
+
+import com.example.information.entities.cache.CachedFixture;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositorio para acceder a los partidos cacheados en base de datos.
+ */
+@Repository
+public interface CachedFixtureRepository extends JpaRepository<CachedFixture, Long> {
+    
+    /**
+     * Busca partido por ID de la API
+     */
+    Optional<CachedFixture> findByApiId(Integer apiId);
+    
+    /**
+     * Busca varios partidos por ID de la API (guardado por lotes)
+     */
+    List<CachedFixture> findByApiIdIn(Collection<Integer> apiIds);
+    
+    /**
+     * Partidos de una liga y temporada en orden cronológico
+     */
+    List<CachedFixture> findByLeagueIdAndSeasonOrderByKickoffAtAsc(Integer leagueId, Integer season);
+    
+    /**
+     * Partidos de una jornada
+     */
+    List<CachedFixture> findByLeagueIdAndSeasonAndRoundOrderByKickoffAtAsc(Integer leagueId, Integer season, String round);
+    
+    /**
+     * Partidos de una liga y temporada con uno de los estados indicados
+     */
+    List<CachedFixture> findByLeagueIdAndSeasonAndStatusShortIn(Integer leagueId, Integer season, Collection<String> statuses);
+    
+    /**
+     * Partidos de un día
+     */
+    List<CachedFixture> findByMatchDateOrderByKickoffAtAsc(LocalDate matchDate);
+    
+    /**
+     * Partidos de todas las ligas que empiezan en un intervalo (epoch en segundos)
+     */
+    List<CachedFixture> findByKickoffAtBetweenOrderByKickoffAtAsc(Long from, Long to);
+    
+    /**
+     * Verifica si una jornada tiene partidos sin finalizar
+     */
+    boolean existsByLeagueIdAndSeasonAndRoundAndFinishedFalse(Integer leagueId, Integer season, String round);
+    
+    /**
+     * Partidos de un equipo (local o visitante) en una temporada
+     */
+    @Query("SELECT f FROM CachedFixture f WHERE (f.homeTeamId = :teamId OR f.awayTeamId = :teamId) AND f.season = :season ORDER BY f.kickoffAt")
+    List<CachedFixture> findByTeamAndSeason(@Param("teamId") Integer teamId, @Param("season") Integer season);
+    
+    /**
+     * Partidos de una liga y temporada modificados después de una versión (sincronización delta)
+     */
+    List<CachedFixture> findByLeagueIdAndSeasonAndChangeSeqGreaterThanOrderByKickoffAtAsc(Integer leagueId, Integer season, Long since);
+    
+    /**
+     * Partidos de un día modificados después de una versión
+     */
+    List<CachedFixture> findByMatchDateAndChangeSeqGreaterThanOrderByKickoffAtAsc(LocalDate matchDate, Long since);
+    
+    /**
+     * Partidos de un equipo en una temporada modificados después de una versión
+     */
+    @Query("SELECT f FROM CachedFixture f WHERE (f.homeTeamId = :teamId OR f.awayTeamId = :teamId) AND f.season = :season AND f.changeSeq > :since ORDER BY f.kickoffAt")
+    List<CachedFixture> findByTeamAndSeasonChangedSince(@Param("teamId") Integer teamId, @Param("season") Integer season, @Param("since") Long since);
+    
+    /**
+     * Última versión de cambio asignada
+     */
+    @Query("SELECT MAX(f.changeSeq) FROM CachedFixture f")
+    Long findMaxChangeSeq();
+    
+    /**
+     * Último partido con uno de los estados indicados (para la última jornada jugada)
+     */
+    Optional<CachedFixture> findFirstByLeagueIdAndSeasonAndStatusShortInOrderByKickoffAtDesc(
+            Integer leagueId, Integer season, Collection<String> statuses);
+    
+    /**
+     * Partido sin finalizar más antiguo que ya debería haber empezado.
+     * Marca el inicio de la ventana de sincronización incremental.
+     */
+    Optional<CachedFixture> findFirstByLeagueIdAndSeasonAndFinishedFalseAndKickoffAtLessThanEqualOrderByKickoffAtAsc(
+            Integer leagueId, Integer season, Long kickoffAt);
+    
+    /**
+     * IDs de los partidos sin finalizar que empezaban antes de un instante (aplazados,
+     * suspendidos o sin fecha), que se quedan fuera de la ventana de sincronización
+     */
+    @Query("SELECT f.apiId FROM CachedFixture f WHERE f.leagueId = :leagueId AND f.season = :season AND f.finished = false AND f.kickoffAt < :before ORDER BY f.kickoffAt")
+    List<Integer> findPendingApiIdsBefore(@Param("leagueId") Integer leagueId, @Param("season") Integer season,
+                                          @Param("before") Long before);
+    
+    /**
+     * Verifica si hay partidos de una liga y temporada
+     */
+    boolean existsByLeagueIdAndSeason(Integer leagueId, Integer season);
+    
+    /**
+     * Elimina duplicados de la clave natural conservando la fila más reciente
+     */
+    @Modifying
+    @Query("DELETE FROM CachedFixture f WHERE f.id NOT IN (SELECT MAX(f2.id) FROM CachedFixture f2 GROUP BY f2.apiId)")
+    int deleteDuplicates();
+}
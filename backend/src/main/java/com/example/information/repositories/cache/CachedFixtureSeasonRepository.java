@@ -0,0 +1,25 @@
+package com.example.information.repositories.cache;
+
+import com.example.information.entities.cache.CachedFixtureSeason;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositorio de competiciones/temporadas con todos sus partidos en caché.
+ */
+@Repository
+public interface CachedFixtureSeasonRepository extends JpaRepository<CachedFixtureSeason, Long> {
+    
+    /**
+     * Verifica si una liga/temporada está descargada completa
+     */
+    boolean existsByLeagueIdAndSeason(Integer leagueId, Integer season);
+    
+    /**
+     * Ligas descargadas completas de entre las indicadas
+     */
+    List<CachedFixtureSeason> findBySeasonAndLeagueIdIn(Integer season, Collection<Integer> leagueIds);
+}
@@ -0,0 +1,35 @@
+package com.example.information.repositories.cache;
+
+import com.example.information.entities.cache.CachedFixtureTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repositorio de marcas de borrado de partidos (sincronización delta).
+ */
+@Repository
+public interface CachedFixtureTombstoneRepository extends JpaRepository<CachedFixtureTombstone, Long> {
+    
+    List<CachedFixtureTombstone> findByLeagueIdAndSeasonAndChangeSeqGreaterThan(Integer leagueId, Integer season, Long since);
+    
+    List<CachedFixtureTombstone> findByMatchDateAndChangeSeqGreaterThan(LocalDate matchDate, Long since);
+    
+    @Query("SELECT t FROM CachedFixtureTombstone t WHERE (t.homeTeamId = :teamId OR t.awayTeamId = :teamId) AND t.season = :season AND t.changeSeq > :since")
+    List<CachedFixtureTombstone> findByTeamAndSeasonChangedSince(@Param("teamId") Integer teamId, @Param("season") Integer season, @Param("since") Long since);
+    
+    @Query("SELECT MAX(t.changeSeq) FROM CachedFixtureTombstone t")
+    Long findMaxChangeSeq();
+    
+    /**
+     * Purga las marcas anteriores a una versión
+     */
+    @Modifying
+    @Query("DELETE FROM CachedFixtureTombstone t WHERE t.changeSeq < :changeSeq")
+    int deleteOlderThan(@Param("changeSeq") Long changeSeq);
+}
@@ -1,7 +1,10 @@
 package com.example.information.repositories.cache;
 
 import com.example.information.entities.cache.CachedLeague;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -11,6 +14,8 @@ import java.util.Optional;
 
 /**
  * Repositorio para acceder a las ligas cacheadas en base de datos.
+ * Las búsquedas LIKE reciben el patrón ya preparado ({@code pattern}): en minúsculas,
+ * entre % y con los comodines del usuario escapados con !.
  */
 @Repository
 public interface CachedLeagueRepository extends JpaRepository<CachedLeague, Long> {
@@ -33,14 +38,27 @@ public interface CachedLeagueRepository extends JpaRepository<CachedLeague, Long
     /**
      * Busca ligas cuyo nombre contiene el texto (case insensitive)
      */
-    @Query("SELECT l FROM CachedLeague l WHERE LOWER(l.name) LIKE LOWER(CONCAT('%', :search, '%'))")
-    List<CachedLeague> searchByName(@Param("search") String search);
+    @Query("SELECT l FROM CachedLeague l WHERE LOWER(l.name) LIKE :pattern ESCAPE '!'")
+    List<CachedLeague> searchByName(@Param("pattern") String pattern, Pageable pageable);
     
     /**
      * Busca ligas por nombre o país
      */
-    @Query("SELECT l FROM CachedLeague l WHERE LOWER(l.name) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(l.countryName) LIKE LOWER(CONCAT('%', :search, '%'))")
-    List<CachedLeague> searchByNameOrCountry(@Param("search") String search);
+    @Query("SELECT l FROM CachedLeague l WHERE LOWER(l.name) LIKE :pattern ESCAPE '!' OR LOWER(l.countryName) LIKE :pattern ESCAPE '!'")
+    List<CachedLeague> searchByNameOrCountry(@Param("pattern") String pattern, Pageable pageable);
+    
+    /**
+     * Búsqueda fuzzy por nombre o país con pg_trgm, ordenada por similitud del nombre.
+     * Solo PostgreSQL: usar si TrigramSearchInitializer.isAvailable()
+     */
+    @Query(value = "SELECT l.* FROM cached_leagues l WHERE (lower(l.name) LIKE :pattern ESCAPE '!' OR lower(:search) <% lower(l.name)) OR (lower(l.country_name) LIKE :pattern ESCAPE '!' OR lower(:search) <% lower(l.country_name)) ORDER BY word_similarity(lower(:search), lower(l.name)) DESC, similarity(lower(l.name), lower(:search)) DESC LIMIT :limit", nativeQuery = true)
+    List<CachedLeague> fuzzySearchByNameOrCountry(@Param("search") String search, @Param("pattern") String pattern, @Param("limit") int limit);
+    
+    /**
+     * Nombres de ligas para el índice en memoria
+     */
+    @Query("SELECT l.apiId AS apiId, l.name AS name, l.countryName AS detail, l.logo AS image FROM CachedLeague l")
+    Page<NameEntry> findNameEntries(Pageable pageable);
     
     /**
      * Obtiene todas las ligas ordenadas por nombre
@@ -51,4 +69,11 @@ public interface CachedLeagueRepository extends JpaRepository<CachedLeague, Long
      * Cuenta el número de ligas cacheadas
      */
     long count();
+    
+    /**
+     * Elimina duplicados de la clave natural conservando la fila más reciente
+     */
+    @Modifying
+    @Query("DELETE FROM CachedLeague l WHERE l.id NOT IN (SELECT MAX(l2.id) FROM CachedLeague l2 GROUP BY l2.apiId)")
+    int deleteDuplicates();
 }
@@ -1,29 +1,35 @@
 package com.example.information.repositories.cache;
 
 import com.example.information.entities.cache.CachedPlayer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Repositorio para acceder a los jugadores cacheados en base de datos.
+ * Las búsquedas LIKE reciben el patrón ya preparado ({@code pattern}): en minúsculas,
+ * entre % y con los comodines del usuario escapados con !.
  */
 @Repository
 public interface CachedPlayerRepository extends JpaRepository<CachedPlayer, Long> {
     
     /**
-     * Busca un jugador por su ID de API-Football
+     * Busca un jugador por ID y temporada (cualquier equipo de esa temporada)
      */
-    Optional<CachedPlayer> findFirstByApiId(Integer apiId);
+    Optional<CachedPlayer> findFirstByApiIdAndSeasonOrderByUpdatedAtDesc(Integer apiId, Integer season);
     
     /**
-     * Busca un jugador por ID y temporada
+     * Busca un jugador por su clave natural (ver {@link CachedPlayer#keyOf})
      */
-    Optional<CachedPlayer> findByApiIdAndSeason(Integer apiId, Integer season);
+    Optional<CachedPlayer> findByNaturalKey(String naturalKey);
     
     /**
      * Verifica si existe un jugador por su ID de API
@@ -31,9 +37,17 @@ public interface CachedPlayerRepository extends JpaRepository<CachedPlayer, Long
     boolean existsByApiId(Integer apiId);
     
     /**
-     * Busca jugadores por equipo y temporada
+     * Plantilla de un equipo en una temporada: solo filas guardadas desde la lista del equipo
+     * (las de búsquedas o consultas por ID dejarían una plantilla parcial)
      */
-    List<CachedPlayer> findByTeamIdAndSeason(Integer teamId, Integer season);
+    List<CachedPlayer> findByTeamIdAndSeasonAndTeamListedTrue(Integer teamId, Integer season);
+    
+    /**
+     * Marca como plantilla del equipo las filas de una lista de jugadores ya completa
+     */
+    @Modifying
+    @Query("UPDATE CachedPlayer p SET p.teamListed = true WHERE p.teamId = :teamId AND p.season = :season AND p.apiId IN :apiIds")
+    int markTeamListed(@Param("teamId") Integer teamId, @Param("season") Integer season, @Param("apiIds") Collection<Integer> apiIds);
     
     /**
      * Verifica si existen jugadores para un equipo y temporada
@@ -43,14 +57,38 @@ public interface CachedPlayerRepository extends JpaRepository<CachedPlayer, Long
     /**
      * Busca jugadores cuyo nombre contiene el texto (case insensitive)
      */
-    @Query("SELECT p FROM CachedPlayer p WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :search, '%'))")
-    List<CachedPlayer> searchByName(@Param("search") String search);
+    @Query("SELECT p FROM CachedPlayer p WHERE LOWER(p.name) LIKE :pattern ESCAPE '!'")
+    List<CachedPlayer> searchByName(@Param("pattern") String pattern, Pageable pageable);
     
     /**
      * Busca jugadores por nombre en una liga específica
      */
-    @Query("SELECT p FROM CachedPlayer p WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :search, '%')) AND p.leagueId = :leagueId AND p.season = :season")
-    List<CachedPlayer> searchByNameAndLeague(@Param("search") String search, @Param("leagueId") Integer leagueId, @Param("season") Integer season);
+    @Query("SELECT p FROM CachedPlayer p WHERE LOWER(p.name) LIKE :pattern ESCAPE '!' AND p.leagueId = :leagueId AND p.season = :season")
+    List<CachedPlayer> searchByNameAndLeague(@Param("pattern") String pattern, @Param("leagueId") Integer leagueId, @Param("season") Integer season, Pageable pageable);
+    
+    /**
+     * Búsqueda fuzzy por nombre con pg_trgm (tolera erratas), ordenada por similitud.
+     * Solo PostgreSQL: usar si TrigramSearchInitializer.isAvailable()
+     */
+    @Query(value = "SELECT p.* FROM cached_players p WHERE (lower(p.name) LIKE :pattern ESCAPE '!' OR lower(:search) <% lower(p.name)) ORDER BY word_similarity(lower(:search), lower(p.name)) DESC, similarity(lower(p.name), lower(:search)) DESC LIMIT :limit", nativeQuery = true)
+    List<CachedPlayer> fuzzySearchByName(@Param("search") String search, @Param("pattern") String pattern, @Param("limit") int limit);
+    
+    /**
+     * Búsqueda fuzzy por nombre en una liga específica (pg_trgm)
+     */
+    @Query(value = "SELECT p.* FROM cached_players p WHERE (lower(p.name) LIKE :pattern ESCAPE '!' OR lower(:search) <% lower(p.name)) AND p.league_id = :leagueId AND p.season = :season ORDER BY word_similarity(lower(:search), lower(p.name)) DESC, similarity(lower(p.name), lower(:search)) DESC LIMIT :limit", nativeQuery = true)
+    List<CachedPlayer> fuzzySearchByNameAndLeague(@Param("search") String search, @Param("pattern") String pattern, @Param("leagueId") Integer leagueId, @Param("season") Integer season, @Param("limit") int limit);
+    
+    /**
+     * Busca jugadores por varios IDs de API (resultados del índice de nombres)
+     */
+    List<CachedPlayer> findByApiIdIn(Collection<Integer> apiIds);
+    
+    /**
+     * Nombres de jugadores para el índice en memoria
+     */
+    @Query("SELECT p.apiId AS apiId, p.name AS name, p.teamName AS detail, p.photo AS image FROM CachedPlayer p")
+    Page<NameEntry> findNameEntries(Pageable pageable);
     
     /**
      * Busca jugadores por clave de búsqueda
@@ -61,4 +99,11 @@ public interface CachedPlayerRepository extends JpaRepository<CachedPlayer, Long
      * Busca jugadores por nacionalidad
      */
     List<CachedPlayer> findByNationalityIgnoreCase(String nationality);
+    
+    /**
+     * Elimina duplicados de la clave natural conservando la fila más reciente
+     */
+    @Modifying
+    @Query("DELETE FROM CachedPlayer p WHERE p.id NOT IN (SELECT MAX(p2.id) FROM CachedPlayer p2 GROUP BY p2.apiId, p2.season, p2.teamId)")
+    int deleteDuplicates();
 }
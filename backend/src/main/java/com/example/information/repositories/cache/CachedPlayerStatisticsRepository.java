@@ -0,0 +1,74 @@
+package com.example.information.repositories.cache;
+
+import com.example.information.entities.cache.CachedPlayerStatistics;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositorio para las estadísticas normalizadas de jugadores.
+ */
+@Repository
+public interface CachedPlayerStatisticsRepository extends JpaRepository<CachedPlayerStatistics, Long> {
+    
+    /**
+     * Busca estadísticas por su clave natural (jugador, equipo, competición, temporada)
+     */
+    Optional<CachedPlayerStatistics> findByPlayerApiIdAndTeamIdAndLeagueIdAndSeason(
+            Integer playerApiId, Integer teamId, Integer leagueId, Integer season);
+    
+    /**
+     * Obtiene todas las estadísticas de un jugador en una temporada
+     */
+    List<CachedPlayerStatistics> findByPlayerApiIdAndSeason(Integer playerApiId, Integer season);
+    
+    /**
+     * Máximos goleadores de una competición y temporada
+     */
+    @Query("SELECT s FROM CachedPlayerStatistics s WHERE s.leagueId = :leagueId AND s.season = :season AND s.goals > 0 " +
+           "ORDER BY s.goals DESC, s.assists DESC, s.minutes ASC")
+    List<CachedPlayerStatistics> findTopScorers(@Param("leagueId") Integer leagueId, @Param("season") Integer season, Pageable pageable);
+    
+    /**
+     * Máximos asistentes de una competición y temporada
+     */
+    @Query("SELECT s FROM CachedPlayerStatistics s WHERE s.leagueId = :leagueId AND s.season = :season AND s.assists > 0 " +
+           "ORDER BY s.assists DESC, s.goals DESC, s.minutes ASC")
+    List<CachedPlayerStatistics> findTopAssists(@Param("leagueId") Integer leagueId, @Param("season") Integer season, Pageable pageable);
+    
+    /**
+     * Jugadores con más tarjetas amarillas (mismo criterio que /players/topyellowcards;
+     * a igualdad, más rojas)
+     */
+    @Query("SELECT s FROM CachedPlayerStatistics s WHERE s.leagueId = :leagueId AND s.season = :season " +
+           "AND s.yellowCards > 0 " +
+           "ORDER BY s.yellowCards DESC, (s.redCards + s.yellowRedCards) DESC")
+    List<CachedPlayerStatistics> findTopCards(@Param("leagueId") Integer leagueId, @Param("season") Integer season, Pageable pageable);
+    
+    /**
+     * Jugadores con más tarjetas rojas (directas o por doble amarilla)
+     */
+    @Query("SELECT s FROM CachedPlayerStatistics s WHERE s.leagueId = :leagueId AND s.season = :season " +
+           "AND (s.redCards > 0 OR s.yellowRedCards > 0) " +
+           "ORDER BY (s.redCards + s.yellowRedCards) DESC, s.yellowCards DESC")
+    List<CachedPlayerStatistics> findTopRedCards(@Param("leagueId") Integer leagueId, @Param("season") Integer season, Pageable pageable);
+    
+    /**
+     * Número de equipos distintos con estadísticas en una competición y temporada
+     */
+    @Query("SELECT COUNT(DISTINCT s.teamId) FROM CachedPlayerStatistics s WHERE s.leagueId = :leagueId AND s.season = :season")
+    long countTeamsWithStatistics(@Param("leagueId") Integer leagueId, @Param("season") Integer season);
+    
+    /**
+     * Elimina duplicados de la clave natural conservando la fila más reciente
+     */
+    @Modifying
+    @Query("DELETE FROM CachedPlayerStatistics s WHERE s.id NOT IN (SELECT MAX(s2.id) FROM CachedPlayerStatistics s2 GROUP BY s2.playerApiId, s2.teamId, s2.leagueId, s2.season)")
+    int deleteDuplicates();
+}
@@ -2,6 +2,8 @@ package com.example.information.repositories.cache;
 
 import com.example.information.entities.cache.CachedSquad;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -23,7 +25,9 @@ public interface CachedSquadRepository extends JpaRepository<CachedSquad, Long>
     boolean existsByTeamId(Integer teamId);
     
     /**
-     * Elimina plantilla por ID de equipo (para actualizar)
+     * Elimina duplicados de la clave natural conservando la fila más reciente
      */
-    void deleteByTeamId(Integer teamId);
+    @Modifying
+    @Query("DELETE FROM CachedSquad q WHERE q.id NOT IN (SELECT MAX(q2.id) FROM CachedSquad q2 GROUP BY q2.teamId)")
+    int deleteDuplicates();
 }
@@ -2,6 +2,8 @@ package com.example.information.repositories.cache;
 
 import com.example.information.entities.cache.CachedStandings;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -23,7 +25,9 @@ public interface CachedStandingsRepository extends JpaRepository<CachedStandings
     boolean existsByLeagueIdAndSeason(Integer leagueId, Integer season);
     
     /**
-     * Elimina clasificación por liga y temporada (para actualizar)
+     * Elimina duplicados de la clave natural conservando la fila más reciente
      */
-    void deleteByLeagueIdAndSeason(Integer leagueId, Integer season);
+    @Modifying
+    @Query("DELETE FROM CachedStandings s WHERE s.id NOT IN (SELECT MAX(s2.id) FROM CachedStandings s2 GROUP BY s2.leagueId, s2.season)")
+    int deleteDuplicates();
 }
@@ -0,0 +1,19 @@
+package com.example.information.repositories.cache;
+
+import com.example.information.entities.cache.CachedTeamLeagues;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repositorio de competiciones de equipos cacheadas en base de datos.
+ */
+@Repository
+public interface CachedTeamLeaguesRepository extends JpaRepository<CachedTeamLeagues, Long> {
+    
+    /**
+     * Competiciones de un equipo en una temporada
+     */
+    Optional<CachedTeamLeagues> findByTeamIdAndSeason(Integer teamId, Integer season);
+}
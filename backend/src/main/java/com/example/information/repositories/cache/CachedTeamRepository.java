@@ -1,16 +1,22 @@
 package com.example.information.repositories.cache;
 
 import com.example.information.entities.cache.CachedTeam;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Repositorio para acceder a los equipos cacheados en base de datos.
+ * Las búsquedas LIKE reciben el patrón ya preparado ({@code pattern}): en minúsculas,
+ * entre % y con los comodines del usuario escapados con !.
  */
 @Repository
 public interface CachedTeamRepository extends JpaRepository<CachedTeam, Long> {
@@ -20,6 +26,11 @@ public interface CachedTeamRepository extends JpaRepository<CachedTeam, Long> {
      */
     Optional<CachedTeam> findFirstByApiId(Integer apiId);
     
+    /**
+     * Busca un equipo por su clave natural (ver {@link CachedTeam#keyOf})
+     */
+    Optional<CachedTeam> findByNaturalKey(String naturalKey);
+    
     /**
      * Verifica si existe un equipo por su ID de API
      */
@@ -35,11 +46,34 @@ public interface CachedTeamRepository extends JpaRepository<CachedTeam, Long> {
      */
     boolean existsByLeagueIdAndSeason(Integer leagueId, Integer season);
     
+    /**
+     * Cuenta los equipos cacheados de una liga y temporada
+     */
+    long countByLeagueIdAndSeason(Integer leagueId, Integer season);
+    
     /**
      * Busca equipos cuyo nombre contiene el texto (case insensitive)
      */
-    @Query("SELECT t FROM CachedTeam t WHERE LOWER(t.name) LIKE LOWER(CONCAT('%', :search, '%'))")
-    List<CachedTeam> searchByName(@Param("search") String search);
+    @Query("SELECT t FROM CachedTeam t WHERE LOWER(t.name) LIKE :pattern ESCAPE '!'")
+    List<CachedTeam> searchByName(@Param("pattern") String pattern, Pageable pageable);
+    
+    /**
+     * Búsqueda fuzzy por nombre con pg_trgm (tolera erratas), ordenada por similitud.
+     * Solo PostgreSQL: usar si TrigramSearchInitializer.isAvailable()
+     */
+    @Query(value = "SELECT t.* FROM cached_teams t WHERE (lower(t.name) LIKE :pattern ESCAPE '!' OR lower(:search) <% lower(t.name)) ORDER BY word_similarity(lower(:search), lower(t.name)) DESC, similarity(lower(t.name), lower(:search)) DESC LIMIT :limit", nativeQuery = true)
+    List<CachedTeam> fuzzySearchByName(@Param("search") String search, @Param("pattern") String pattern, @Param("limit") int limit);
+    
+    /**
+     * Busca equipos por varios IDs de API (resultados del índice de nombres)
+     */
+    List<CachedTeam> findByApiIdIn(Collection<Integer> apiIds);
+    
+    /**
+     * Nombres de equipos para el índice en memoria
+     */
+    @Query("SELECT t.apiId AS apiId, t.name AS name, t.country AS detail, t.logo AS image FROM CachedTeam t")
+    Page<NameEntry> findNameEntries(Pageable pageable);
     
     /**
      * Busca equipos por país
@@ -50,4 +84,11 @@ public interface CachedTeamRepository extends JpaRepository<CachedTeam, Long> {
      * Obtiene todos los equipos ordenados por nombre
      */
     List<CachedTeam> findAllByOrderByNameAsc();
+    
+    /**
+     * Elimina duplicados de la clave natural conservando la fila más reciente
+     */
+    @Modifying
+    @Query("DELETE FROM CachedTeam t WHERE t.id NOT IN (SELECT MAX(t2.id) FROM CachedTeam t2 GROUP BY t2.apiId, t2.leagueId, t2.season)")
+    int deleteDuplicates();
 }
@@ -0,0 +1,36 @@
+package com.example.information.repositories.cache;
+
+import com.example.information.entities.cache.FixtureChangeCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositorio del contador de versiones de cambio de los partidos.
+ */
+@Repository
+public interface FixtureChangeCounterRepository extends JpaRepository<FixtureChangeCounter, Integer> {
+    
+    /**
+     * Crea el contador (falla con una violación de clave si ya existe: nunca lo sobrescribe)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO fixture_change_counter (id, last_seq) VALUES (:id, :lastSeq)", nativeQuery = true)
+    int insert(@Param("id") Integer id, @Param("lastSeq") Long lastSeq);
+    
+    /**
+     * Avanza el contador a la siguiente versión: la anterior + 1, o el instante actual si es mayor.
+     * Devuelve 0 si el contador aún no existe.
+     */
+    @Modifying
+    @Query("UPDATE FixtureChangeCounter c SET c.lastSeq = CASE WHEN c.lastSeq + 1 > :now THEN c.lastSeq + 1 ELSE :now END WHERE c.id = :id")
+    int advance(@Param("id") Integer id, @Param("now") Long now);
+    
+    /**
+     * Última versión reservada (leída de la BD, no de la sesión)
+     */
+    @Query("SELECT c.lastSeq FROM FixtureChangeCounter c WHERE c.id = :id")
+    Long findLastSeq(@Param("id") Integer id);
+}
@@ -0,0 +1,30 @@
+package com.example.information.repositories.cache;
+
+import com.example.information.entities.cache.FixtureChangeLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repositorio de versiones de cambio reservadas por transacciones en curso.
+ */
+@Repository
+public interface FixtureChangeLeaseRepository extends JpaRepository<FixtureChangeLease, Long> {
+    
+    /**
+     * Versión más baja aún en curso (reservada después del instante indicado), o null si no hay
+     */
+    @Query("SELECT MIN(l.seq) FROM FixtureChangeLease l WHERE l.createdAt > :after")
+    Long findMinSeqReservedAfter(@Param("after") LocalDateTime after);
+    
+    /**
+     * Elimina reservas abandonadas (instancias caídas)
+     */
+    @Modifying
+    @Query("DELETE FROM FixtureChangeLease l WHERE l.createdAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,17 @@
+package com.example.information.repositories.cache;
+
+/**
+ * Proyección ligera (sin rawJson) para cargar el índice de nombres en memoria.
+ */
+public interface NameEntry {
+    
+    Integer getApiId();
+    
+    String getName();
+    
+    /** País, equipo u otro dato secundario para mostrar */
+    String getDetail();
+    
+    /** URL del logo o foto */
+    String getImage();
+}
@@ -0,0 +1,48 @@
+package com.example.information.repositories.cache;
+
+import com.example.information.entities.cache.SeasonBootstrapJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositorio de trabajos de carga de temporada.
+ */
+@Repository
+public interface SeasonBootstrapJobRepository extends JpaRepository<SeasonBootstrapJob, Long> {
+    
+    /**
+     * Último trabajo de una liga/temporada
+     */
+    Optional<SeasonBootstrapJob> findFirstByLeagueIdAndSeasonOrderByIdDesc(Integer leagueId, Integer season);
+    
+    /**
+     * Trabajos en un estado (los RUNNING se reanudan al arrancar)
+     */
+    List<SeasonBootstrapJob> findByStatus(SeasonBootstrapJob.Status status);
+    
+    /**
+     * Trabajos más recientes
+     */
+    List<SeasonBootstrapJob> findTop20ByOrderByIdDesc();
+    
+    /**
+     * Reserva una petición del presupuesto si queda alguna (1 si la ha reservado, 0 si no).
+     * En BD para que varias instancias con el mismo trabajo no se pasen del presupuesto.
+     */
+    @Modifying
+    @Query("UPDATE SeasonBootstrapJob j SET j.requestsUsed = j.requestsUsed + 1 WHERE j.id = :id AND j.requestsUsed < j.maxRequests")
+    int reserveRequest(@Param("id") Long id);
+    
+    /**
+     * Ajusta las peticiones gastadas (la diferencia con lo reservado)
+     */
+    @Modifying
+    @Query("UPDATE SeasonBootstrapJob j SET j.requestsUsed = j.requestsUsed + :delta WHERE j.id = :id")
+    int addRequests(@Param("id") Long id, @Param("delta") int delta);
+}
@@ -0,0 +1,56 @@
+package com.example.information.repositories.cache;
+
+import com.example.information.entities.cache.SeasonBootstrapTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repositorio de tareas de carga de temporada (puntos de control).
+ */
+@Repository
+public interface SeasonBootstrapTaskRepository extends JpaRepository<SeasonBootstrapTask, Long> {
+    
+    /**
+     * Tareas de un trabajo en un estado, en orden de creación (respeta las dependencias)
+     */
+    List<SeasonBootstrapTask> findByJobIdAndStatusOrderByIdAsc(Long jobId, SeasonBootstrapTask.Status status);
+    
+    /**
+     * Verifica si ya existe una tarea (las tareas hijas se crean una sola vez)
+     */
+    boolean existsByJobIdAndTypeAndTeamIdAndPage(Long jobId, SeasonBootstrapTask.Type type, Integer teamId, Integer page);
+    
+    /**
+     * Tareas de un tipo para un equipo (todas las páginas)
+     */
+    List<SeasonBootstrapTask> findByJobIdAndTypeAndTeamId(Long jobId, SeasonBootstrapTask.Type type, Integer teamId);
+    
+    /**
+     * Reclama una tarea pendiente que nadie tiene (o cuyo reclamo ha caducado).
+     * Devuelve 1 si la ha reclamado esta instancia, 0 si la tiene otra.
+     */
+    @Modifying
+    @Query("UPDATE SeasonBootstrapTask t SET t.claimedBy = :owner, t.claimedUntil = :until " +
+           "WHERE t.id = :id AND t.status = :pending AND (t.claimedUntil IS NULL OR t.claimedUntil < :now)")
+    int claim(@Param("id") Long id, @Param("owner") String owner, @Param("until") LocalDateTime until,
+              @Param("now") LocalDateTime now, @Param("pending") SeasonBootstrapTask.Status pending);
+    
+    /**
+     * Suelta el reclamo de una tarea sin ejecutarla
+     */
+    @Modifying
+    @Query("UPDATE SeasonBootstrapTask t SET t.claimedBy = NULL, t.claimedUntil = NULL WHERE t.id = :id AND t.claimedBy = :owner")
+    int release(@Param("id") Long id, @Param("owner") String owner);
+    
+    /**
+     * Recuento de tareas por tipo y estado de un trabajo
+     */
+    @Query("SELECT t.type, t.status, COUNT(t) FROM SeasonBootstrapTask t WHERE t.jobId = :jobId GROUP BY t.type, t.status")
+    List<Object[]> countByTypeAndStatus(@Param("jobId") Long jobId);
+}
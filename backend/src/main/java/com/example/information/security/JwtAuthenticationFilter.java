@@ -0,0 +1,59 @@
+package com.example.information.security;
+
+import com.example.information.entities.Usuario;
+import com.example.information.repositories.UsuarioRepository;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Autentica las peticiones con el token de AuthController ("Authorization: Bearer ...").
+ * Los roles se leen del usuario en BD, así que retirar ROLE_ADMIN tiene efecto inmediato.
+ * Sin token (o con uno no válido) la petición sigue como anónima y decide SecurityConfig.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+    private final UsuarioRepository usuarioRepository;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader("Authorization");
+        if (header != null && header.startsWith(BEARER) && SecurityContextHolder.getContext().getAuthentication() == null) {
+            authenticate(header.substring(BEARER.length()), request);
+        }
+        chain.doFilter(request, response);
+    }
+
+    private void authenticate(String token, HttpServletRequest request) {
+        try {
+            String username = jwtUtil.extractUsername(token);
+            Usuario usuario = usuarioRepository.findByUsername(username).orElse(null);
+            if (usuario == null || !usuario.isEnabled() || !jwtUtil.validateToken(token, username)) return;
+
+            List<SimpleGrantedAuthority> authorities = usuario.getRoles().stream()
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+            SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, authorities));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Token no válido en {}: {}", request.getRequestURI(), e.getMessage());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.information.service;
 
+import com.example.information.exception.UpstreamApiException;
 import com.example.information.model.apifootball.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,8 +14,20 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 
 /**
@@ -27,6 +40,16 @@ import java.util.stream.Collectors;
 public class ApiFootballService {
 
     private final RestTemplate restTemplate;
+    private final ExecutorService pagingExecutor;
+
+    /** Máximo de páginas de una lista paginada (cada una es una petición) */
+    private static final int MAX_PAGES = 10;
+
+    /** Máximo de IDs de partido por petición que admite la API (/fixtures?ids=) */
+    public static final int FIXTURE_IDS_LIMIT = 20;
+
+    /** Peticiones enviadas por cada hilo (para saber lo que gasta de verdad una tarea) */
+    private static final ThreadLocal<int[]> THREAD_REQUESTS = ThreadLocal.withInitial(() -> new int[1]);
 
     @Value("${api.football.key:}")
     private String apiKey;
@@ -45,6 +68,15 @@ public class ApiFootballService {
         return headers;
     }
 
+    /**
+     * Peticiones enviadas hasta ahora por el hilo actual. La diferencia entre dos lecturas
+     * es lo que ha gastado lo ejecutado entre ellas en este hilo (las páginas que
+     * fetchAllPages pide en pagingExecutor no cuentan).
+     */
+    public int requestsSentByCurrentThread() {
+        return THREAD_REQUESTS.get()[0];
+    }
+
     /**
      * Método genérico para hacer peticiones con manejo de errores
      */
@@ -63,6 +95,7 @@ public class ApiFootballService {
             HttpEntity<String> entity = new HttpEntity<>(createHeaders());
             
             log.info("Realizando petición HTTP GET...");
+            THREAD_REQUESTS.get()[0]++;
             ResponseEntity<T> response = restTemplate.exchange(
                 url, HttpMethod.GET, entity, responseType
             );
@@ -70,13 +103,23 @@ public class ApiFootballService {
             log.info("Respuesta recibida - Status: {}", response.getStatusCode());
             
             if (response.getStatusCode() == HttpStatus.OK) {
+                T body = response.getBody();
+                // La API responde 200 también con errores (límite de peticiones, clave...):
+                // se lanzan para que no se cacheen ni se guarden
+                if (body == null || ApiFootballResponse.classify(body) == ApiFootballResponse.Kind.ERROR) {
+                    Object errors = body instanceof ApiFootballResponse r ? r.getErrors() : "respuesta vacía";
+                    log.error("❌ API-Football devolvió errores para {}: {}", url, errors);
+                    throw new UpstreamApiException("API-Football devolvió errores: " + errors);
+                }
                 log.info("Petición exitosa a: {}", url);
-                return response.getBody();
+                return body;
             } else {
                 log.error("Error en la petición. Status: {}", response.getStatusCode());
                 throw new RuntimeException("Error en la respuesta de la API: " + response.getStatusCode());
             }
             
+        } catch (UpstreamApiException e) {
+            throw e;
         } catch (RestClientException e) {
             log.error("Error de conexión con API-Football: {}", e.getMessage());
             log.error("Causa: {}", e.getCause() != null ? e.getCause().getMessage() : "Sin causa");
@@ -179,13 +222,21 @@ public class ApiFootballService {
     }
 
     /**
-     * Obtiene jugadores de un equipo
+     * Obtiene todos los jugadores de un equipo (todas las páginas)
      */
-    @Cacheable(value = "players", key = "'team_' + #teamId + '_season_' + #season")
+    @Cacheable(value = "players", key = "'team_' + #teamId + '_season_' + #season", unless = "#result == null || #result.partial")
     public PlayerResponse getPlayersByTeam(int teamId, int season) {
+        return fetchAllPages(page -> getPlayersByTeam(teamId, season, page));
+    }
+
+    /**
+     * Obtiene una página de jugadores de un equipo (la API devuelve 20 por página)
+     */
+    public PlayerResponse getPlayersByTeam(int teamId, int season, int page) {
         String url = UriComponentsBuilder.fromHttpUrl(baseUrl + "/players")
             .queryParam("team", teamId)
             .queryParam("season", season)
+            .queryParam("page", page)
             .toUriString();
         return executeRequest(url, PlayerResponse.class);
     }
@@ -202,17 +253,108 @@ public class ApiFootballService {
     }
 
     /**
-     * Busca jugadores por nombre
+     * Busca jugadores por nombre (todas las páginas)
      */
     public PlayerResponse searchPlayers(String name, int leagueId, int season) {
+        return fetchAllPages(page -> searchPlayers(name, leagueId, season, page));
+    }
+
+    /**
+     * Obtiene una página de la búsqueda de jugadores por nombre
+     */
+    public PlayerResponse searchPlayers(String name, int leagueId, int season, int page) {
         String url = UriComponentsBuilder.fromHttpUrl(baseUrl + "/players")
             .queryParam("search", name)
             .queryParam("league", leagueId)
             .queryParam("season", season)
+            .queryParam("page", page)
             .toUriString();
         return executeRequest(url, PlayerResponse.class);
     }
 
+    /**
+     * Lee la primera página y, con el total de {@code paging}, pide el resto en paralelo
+     * (como mucho el tamaño de pagingExecutor a la vez y MAX_PAGES en total).
+     * Cada página se añade a la lista, sin repetir jugadores, en cuanto llega; para mantener
+     * el orden solo se retienen las que llegan antes que alguna anterior. Si falla una página,
+     * falla todo (con el error de esa página) para no guardar una lista incompleta como si
+     * fuera completa.
+     * Si hay más de MAX_PAGES páginas, el resultado lleva {@code partial = true} y
+     * {@code paging.current < paging.total}: se devuelve, pero no debe guardarse en caché.
+     */
+    private PlayerResponse fetchAllPages(IntFunction<PlayerResponse> pageFetcher) {
+        PlayerResponse first = pageFetcher.apply(1);
+        int total = first != null && first.getPaging() != null ? first.getPaging().getTotal() : 1;
+        if (total <= 1 || first.getResponse() == null) {
+            return first;
+        }
+        int available = total;
+        if (total > MAX_PAGES) {
+            log.warn("⚠️ {} páginas de jugadores; solo se piden las {} primeras (resultado parcial)", total, MAX_PAGES);
+            total = MAX_PAGES;
+        }
+
+        CompletionService<Map.Entry<Integer, List<PlayerResponse.PlayerData>>> completion =
+            new ExecutorCompletionService<>(pagingExecutor);
+        List<Future<Map.Entry<Integer, List<PlayerResponse.PlayerData>>>> futures = new ArrayList<>();
+        for (int page = 2; page <= total; page++) {
+            int current = page;
+            futures.add(completion.submit(() -> {
+                PlayerResponse response = pageFetcher.apply(current);
+                return Map.entry(current, response != null && response.getResponse() != null
+                    ? response.getResponse()
+                    : List.of());
+            }));
+        }
+
+        Set<Integer> seen = new HashSet<>();
+        List<PlayerResponse.PlayerData> merged = new ArrayList<>();
+        appendPage(first.getResponse(), merged, seen);
+        // Páginas llegadas antes que alguna anterior, hasta que llegue ésta
+        Map<Integer, List<PlayerResponse.PlayerData>> ahead = new HashMap<>();
+        int next = 2;
+        try {
+            for (int i = 2; i <= total; i++) {
+                Map.Entry<Integer, List<PlayerResponse.PlayerData>> page = completion.take().get();
+                ahead.put(page.getKey(), page.getValue());
+                while (ahead.containsKey(next)) {
+                    appendPage(ahead.remove(next), merged, seen);
+                    next++;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(f -> f.cancel(true));
+            throw new RuntimeException("Petición de páginas de jugadores interrumpida", e);
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            // UpstreamApiException y demás se propagan tal cual (502 en GlobalExceptionHandler)
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new RuntimeException("Error obteniendo una página de jugadores: " + e.getCause().getMessage(), e.getCause());
+        }
+        log.info("Jugadores: {} páginas, {} resultados", total, merged.size());
+
+        first.setResponse(merged);
+        first.setResults(merged.size());
+        PlayerResponse.Paging paging = new PlayerResponse.Paging();
+        paging.setCurrent(total);
+        paging.setTotal(available);
+        first.setPaging(paging);
+        first.setPartial(available > total);
+        return first;
+    }
+
+    /**
+     * Añade una página a la lista unida, sin repetir jugadores
+     */
+    private static void appendPage(List<PlayerResponse.PlayerData> page, List<PlayerResponse.PlayerData> merged, Set<Integer> seen) {
+        for (PlayerResponse.PlayerData data : page) {
+            if (data.getPlayer() == null || seen.add(data.getPlayer().getId())) {
+                merged.add(data);
+            }
+        }
+    }
+
     /**
      * Obtiene partidos de una liga y temporada
      */
@@ -225,6 +367,20 @@ public class ApiFootballService {
         return executeRequest(url, FixtureResponse.class);
     }
 
+    /**
+     * Obtiene partidos de una liga y temporada entre dos fechas (incluidas, yyyy-MM-dd).
+     * Sin caché: se usa para la sincronización incremental de partidos.
+     */
+    public FixtureResponse getFixturesByLeagueAndDateRange(int leagueId, int season, String from, String to) {
+        String url = UriComponentsBuilder.fromHttpUrl(baseUrl + "/fixtures")
+            .queryParam("league", leagueId)
+            .queryParam("season", season)
+            .queryParam("from", from)
+            .queryParam("to", to)
+            .toUriString();
+        return executeRequest(url, FixtureResponse.class);
+    }
+
     /**
      * Obtiene partidos en vivo
      */
@@ -256,6 +412,18 @@ public class ApiFootballService {
         return executeRequest(url, FixtureResponse.class);
     }
 
+    /**
+     * Obtiene los partidos de un equipo en una competición
+     */
+    public FixtureResponse getFixturesByTeamAndLeague(int teamId, int leagueId, int season) {
+        String url = UriComponentsBuilder.fromHttpUrl(baseUrl + "/fixtures")
+            .queryParam("team", teamId)
+            .queryParam("league", leagueId)
+            .queryParam("season", season)
+            .toUriString();
+        return executeRequest(url, FixtureResponse.class);
+    }
+
     /**
      * Obtiene la clasificación de una liga
      */
@@ -279,6 +447,39 @@ public class ApiFootballService {
         return executeRequest(url, PlayerResponse.class);
     }
 
+    /**
+     * Obtiene los máximos asistentes de una liga
+     */
+    public PlayerResponse getTopAssists(int leagueId, int season) {
+        String url = UriComponentsBuilder.fromHttpUrl(baseUrl + "/players/topassists")
+            .queryParam("league", leagueId)
+            .queryParam("season", season)
+            .toUriString();
+        return executeRequest(url, PlayerResponse.class);
+    }
+
+    /**
+     * Obtiene los jugadores con más tarjetas amarillas de una liga
+     */
+    public PlayerResponse getTopYellowCards(int leagueId, int season) {
+        String url = UriComponentsBuilder.fromHttpUrl(baseUrl + "/players/topyellowcards")
+            .queryParam("league", leagueId)
+            .queryParam("season", season)
+            .toUriString();
+        return executeRequest(url, PlayerResponse.class);
+    }
+
+    /**
+     * Obtiene los jugadores con más tarjetas rojas de una liga
+     */
+    public PlayerResponse getTopRedCards(int leagueId, int season) {
+        String url = UriComponentsBuilder.fromHttpUrl(baseUrl + "/players/topredcards")
+            .queryParam("league", leagueId)
+            .queryParam("season", season)
+            .toUriString();
+        return executeRequest(url, PlayerResponse.class);
+    }
+
     /**
      * Obtiene la última jornada completada de una liga
      * Busca los partidos más recientes que estén finalizados
@@ -336,6 +537,9 @@ public class ApiFootballService {
             log.info("Se encontraron {} partidos en la última jornada: {}", latestRoundFixtures.size(), latestRound);
             return response;
             
+        } catch (UpstreamApiException e) {
+            // Se propaga tal cual para que llegue como 502
+            throw e;
         } catch (Exception e) {
             log.error("Error al obtener la última jornada de la liga {}: {}", leagueId, e.getMessage(), e);
             throw new RuntimeException("Error al obtener la última jornada: " + e.getMessage(), e);
@@ -344,34 +548,31 @@ public class ApiFootballService {
     
     /**
      * Obtiene partidos de una jornada específica
-     * Si la petición directa falla, intenta obtener todos y filtrar
+     * Si la petición directa no devuelve partidos (nombre de jornada distinto), obtiene
+     * todos y filtra. Si la petición directa falla, el error se propaga sin gastar otra.
      */
     public FixtureResponse getFixturesByRound(int leagueId, int season, String round) {
         log.info("=== getFixturesByRound ===");
         log.info("Liga: {}, Temporada: {}, Jornada: '{}'", leagueId, season, round);
         
         // Método 1: Petición directa por round
-        try {
-            String url = UriComponentsBuilder.fromHttpUrl(baseUrl + "/fixtures")
-                .queryParam("league", leagueId)
-                .queryParam("season", season)
-                .queryParam("round", round)
-                .toUriString();
-            
-            log.info("Método 1 - URL construida: {}", url);
-            
-            FixtureResponse response = executeRequest(url, FixtureResponse.class);
-            
-            if (response != null && response.getResults() > 0) {
-                log.info("Método 1 exitoso - Resultados: {}", response.getResults());
-                return response;
-            }
-            
-            log.warn("Método 1 sin resultados, intentando Método 2...");
-        } catch (Exception e) {
-            log.warn("Método 1 falló: {}, intentando Método 2...", e.getMessage());
+        String url = UriComponentsBuilder.fromHttpUrl(baseUrl + "/fixtures")
+            .queryParam("league", leagueId)
+            .queryParam("season", season)
+            .queryParam("round", round)
+            .toUriString();
+        
+        log.info("Método 1 - URL construida: {}", url);
+        
+        FixtureResponse direct = executeRequest(url, FixtureResponse.class);
+        
+        if (direct != null && direct.getResults() > 0) {
+            log.info("Método 1 exitoso - Resultados: {}", direct.getResults());
+            return direct;
         }
         
+        log.warn("Método 1 sin resultados, intentando Método 2...");
+        
         // Método 2: Obtener todos los partidos y filtrar por jornada
         try {
             log.info("Método 2 - Obteniendo todos los partidos de la liga {} temporada {}", leagueId, season);
@@ -399,6 +600,8 @@ public class ApiFootballService {
             
             return response;
             
+        } catch (UpstreamApiException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Método 2 falló: {}", e.getMessage(), e);
             throw new RuntimeException("Error al obtener partidos de la jornada: " + e.getMessage(), e);
@@ -433,6 +636,9 @@ public class ApiFootballService {
                         log.info("Última fecha con datos: {}", dateStr);
                         return dateStr;
                     }
+                } catch (UpstreamApiException e) {
+                    // Límite de peticiones o clave no válida: seguir solo gastaría más peticiones
+                    throw e;
                 } catch (Exception e) {
                     log.debug("No hay datos para la fecha {}: {}", dateStr, e.getMessage());
                 }
@@ -441,6 +647,8 @@ public class ApiFootballService {
             log.warn("No se encontraron datos en los últimos 30 días para la liga {}", leagueId);
             return today.format(formatter);
             
+        } catch (UpstreamApiException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error al buscar última fecha disponible: {}", e.getMessage(), e);
             throw new RuntimeException("Error al buscar última fecha disponible: " + e.getMessage(), e);
@@ -453,19 +661,10 @@ public class ApiFootballService {
     @Cacheable(value = "fixtureEvents", key = "#fixtureId")
     public FixtureEventsResponse getFixtureEvents(int fixtureId) {
         log.info("Obteniendo eventos del partido {}", fixtureId);
-        try {
-            String url = UriComponentsBuilder.fromHttpUrl(baseUrl + "/fixtures/events")
-                .queryParam("fixture", fixtureId)
-                .toUriString();
-            return executeRequest(url, FixtureEventsResponse.class);
-        } catch (Exception e) {
-            log.warn("No se pudieron obtener eventos del partido {}: {}", fixtureId, e.getMessage());
-            // Devolver respuesta vacía en lugar de error
-            FixtureEventsResponse emptyResponse = new FixtureEventsResponse();
-            emptyResponse.setResults(0);
-            emptyResponse.setResponse(java.util.Collections.emptyList());
-            return emptyResponse;
-        }
+        String url = UriComponentsBuilder.fromHttpUrl(baseUrl + "/fixtures/events")
+            .queryParam("fixture", fixtureId)
+            .toUriString();
+        return executeRequest(url, FixtureEventsResponse.class);
     }
 
     /**
@@ -474,19 +673,10 @@ public class ApiFootballService {
     @Cacheable(value = "fixtureStatistics", key = "#fixtureId")
     public FixtureStatisticsResponse getFixtureStatistics(int fixtureId) {
         log.info("Obteniendo estadísticas del partido {}", fixtureId);
-        try {
-            String url = UriComponentsBuilder.fromHttpUrl(baseUrl + "/fixtures/statistics")
-                .queryParam("fixture", fixtureId)
-                .toUriString();
-            return executeRequest(url, FixtureStatisticsResponse.class);
-        } catch (Exception e) {
-            log.warn("No se pudieron obtener estadísticas del partido {}: {}", fixtureId, e.getMessage());
-            // Devolver respuesta vacía en lugar de error
-            FixtureStatisticsResponse emptyResponse = new FixtureStatisticsResponse();
-            emptyResponse.setResults(0);
-            emptyResponse.setResponse(java.util.Collections.emptyList());
-            return emptyResponse;
-        }
+        String url = UriComponentsBuilder.fromHttpUrl(baseUrl + "/fixtures/statistics")
+            .queryParam("fixture", fixtureId)
+            .toUriString();
+        return executeRequest(url, FixtureStatisticsResponse.class);
     }
 
     /**
@@ -501,6 +691,21 @@ public class ApiFootballService {
         return executeRequest(url, FixtureResponse.class);
     }
 
+    /**
+     * Obtiene varios partidos por ID en una sola petición (como mucho FIXTURE_IDS_LIMIT).
+     * Trae lo mismo que la consulta por un ID: eventos, alineaciones y estadísticas.
+     */
+    public FixtureResponse getFixturesByIds(Collection<Integer> fixtureIds) {
+        if (fixtureIds.size() > FIXTURE_IDS_LIMIT) {
+            throw new IllegalArgumentException("Máximo " + FIXTURE_IDS_LIMIT + " partidos por petición: " + fixtureIds.size());
+        }
+        log.info("Obteniendo {} partidos por ID", fixtureIds.size());
+        String url = UriComponentsBuilder.fromHttpUrl(baseUrl + "/fixtures")
+            .queryParam("ids", fixtureIds.stream().map(String::valueOf).collect(Collectors.joining("-")))
+            .toUriString();
+        return executeRequest(url, FixtureResponse.class);
+    }
+
     /**
      * Verifica si la API key está configurada
      */
@@ -0,0 +1,82 @@
+package com.example.information.service;
+
+import com.example.information.config.ReadWriteRoutingDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Relleno de la caché de una sola vez por clave (single-flight).
+ * Cuando varias peticiones fallan a la vez sobre la misma clave, solo una
+ * llama a la API y guarda; el resto espera a que termine y repite su
+ * comprobación, que lee lo que se acaba de guardar.
+ *
+ * - Una entrada por clave en curso (se quita al terminar): claves distintas nunca se esperan
+ * - La espera está acotada (MAX_WAIT_MS): después se rellena sin esperar
+ * - Un relleno no espera nunca a otro: si el hilo ya está rellenando una clave, las
+ *   llamadas anidadas se ejecutan directamente (no hay orden de cerrojos que pueda cruzarse)
+ * - Las lecturas dentro del relleno van a la BD principal: la comprobación tras la espera
+ *   y las verificaciones tras guardar deben ver lo recién escrito, no una réplica con retraso
+ */
+@Component
+@Slf4j
+public class CacheFillLocks {
+
+    /** Espera máxima al relleno de otra petición */
+    private static final long MAX_WAIT_MS = 30_000L;
+
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    /** Claves que está rellenando el hilo actual */
+    private final ThreadLocal<Set<String>> held = ThreadLocal.withInitial(HashSet::new);
+
+    /**
+     * Ejecuta la acción como único relleno en curso de la clave
+     */
+    public <T> T withLock(String key, Supplier<T> action) {
+        Supplier<T> pinned = () -> ReadWriteRoutingDataSource.onPrimary(action);
+        Set<String> mine = held.get();
+        if (!mine.isEmpty()) {
+            log.debug("Relleno de '{}' dentro de {}: se ejecuta sin esperar", key, mine);
+            return pinned.get();
+        }
+
+        long deadline = System.currentTimeMillis() + MAX_WAIT_MS;
+        while (true) {
+            CompletableFuture<Void> fill = new CompletableFuture<>();
+            CompletableFuture<Void> running = inFlight.putIfAbsent(key, fill);
+            if (running == null) {
+                mine.add(key);
+                try {
+                    return pinned.get();
+                } finally {
+                    mine.remove(key);
+                    inFlight.remove(key, fill);
+                    fill.complete(null);
+                }
+            }
+
+            long left = deadline - System.currentTimeMillis();
+            try {
+                if (left <= 0) throw new TimeoutException();
+                running.get(left, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                log.warn("⚠️ El relleno de '{}' tarda más de {} ms, se rellena sin esperar", key, MAX_WAIT_MS);
+                return pinned.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrumpido esperando el relleno de " + key, e);
+            } catch (ExecutionException e) {
+                // Los rellenos siempre se completan sin error; se vuelve a intentar
+            }
+        }
+    }
+}
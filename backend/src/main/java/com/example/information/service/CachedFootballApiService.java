@@ -1,10 +1,25 @@
 package com.example.information.service;
 
+import com.example.information.model.FixtureChanges;
 import com.example.information.model.apifootball.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
 /**
  * Servicio fachada que gestiona la caché persistente de la API de fútbol.
  * 
@@ -25,6 +40,34 @@ public class CachedFootballApiService {
 
     private final ApiFootballService apiService;
     private final FootballCacheService cacheService;
+    private final CacheFillLocks fillLocks;
+    private final FixtureCacheService fixtureCache;
+    private final LiveFixturesPoller livePoller;
+    private final StandingsEngine standingsEngine;
+    private final LeaderboardService leaderboards;
+    private final FixtureCalendar calendar;
+    private final FixtureBatchLoader fixtureBatchLoader;
+
+    /** Última sincronización de partidos por "liga:temporada" (epoch en ms) */
+    private final Map<String, Long> fixtureSyncs = new ConcurrentHashMap<>();
+
+    /** Número de jugadores en las clasificaciones (igual que la API) */
+    private static final int TOP_PLAYERS_LIMIT = 20;
+
+    /** Intervalo mínimo entre sincronizaciones incrementales de una liga */
+    private static final long FIXTURE_SYNC_INTERVAL_MS = 10 * 60 * 1000L;
+
+    /** Días por delante que se incluyen en la sincronización (cambios de horario) */
+    private static final int FIXTURE_LOOKAHEAD_DAYS = 7;
+
+    /** Días hacia atrás como máximo de la sincronización: los pendientes más antiguos se comprueban por ID */
+    private static final int FIXTURE_LOOKBEHIND_DAYS = 3;
+
+    /** Intervalo mínimo entre comprobaciones por ID de los pendientes fuera de la ventana de una liga */
+    private static final long STALE_FIXTURE_CHECK_INTERVAL_MS = 6 * 60 * 60 * 1000L;
+
+    /** Última comprobación por ID de los pendientes fuera de la ventana por "liga:temporada" (epoch en ms) */
+    private final Map<String, Long> staleFixtureChecks = new ConcurrentHashMap<>();
 
     // ==================== LIGAS ====================
 
@@ -42,27 +85,36 @@ public class CachedFootballApiService {
             return cached;
         }
         
-        // 2. No hay en caché, llamar a la API
-        log.info("📡 Ligas no encontradas en caché, llamando a API...");
-        try {
-            LeagueResponse apiResponse = apiService.getLeagues();
-            
-            // 3. Guardar en caché de BD
-            if (apiResponse != null && apiResponse.getResponse() != null) {
-                cacheService.saveLeagues(apiResponse);
-                log.info("✅ {} ligas obtenidas de API y guardadas en caché", apiResponse.getResponse().size());
+        // Rellenar bajo el cerrojo de la clave: si otra petición acaba de rellenarla, se reutiliza
+        return fillLocks.withLock("leagues", () -> {
+            LeagueResponse recheck = cacheService.getLeaguesFromCache();
+            if (recheck != null && recheck.getResponse() != null && !recheck.getResponse().isEmpty()) {
+                log.info("✅ Rellenado por otra petición concurrente, se reutiliza la caché");
+                return recheck;
             }
             
-            return apiResponse;
-        } catch (Exception e) {
-            log.error("❌ Error llamando a API: {}", e.getMessage());
-            // Si falla la API pero hay algo en caché (aunque sea parcial), devolverlo
-            if (cached != null) {
-                log.warn("⚠️ Devolviendo datos parciales de caché");
-                return cached;
+            // 2. No hay en caché, llamar a la API
+            log.info("📡 Ligas no encontradas en caché, llamando a API...");
+            try {
+                LeagueResponse apiResponse = apiService.getLeagues();
+            
+                // 3. Guardar en caché de BD
+                if (apiResponse != null && apiResponse.getResponse() != null) {
+                    saveQuietly(() -> cacheService.saveLeagues(apiResponse));
+                    log.info("✅ {} ligas obtenidas de API y guardadas en caché", apiResponse.getResponse().size());
+                }
+            
+                return apiResponse;
+            } catch (Exception e) {
+                log.error("❌ Error llamando a API: {}", e.getMessage());
+                // Si falla la API pero hay algo en caché (aunque sea parcial), devolverlo
+                if (cached != null) {
+                    log.warn("⚠️ Devolviendo datos parciales de caché");
+                    return cached;
+                }
+                throw e;
             }
-            throw e;
-        }
+        });
     }
 
     /**
@@ -78,21 +130,30 @@ public class CachedFootballApiService {
             return cached;
         }
         
-        // 2. Llamar a la API
-        log.info("📡 Liga {} no encontrada en caché, llamando a API...", leagueId);
-        try {
-            LeagueResponse apiResponse = apiService.getLeagueById(leagueId);
-            
-            // 3. Guardar en caché
-            if (apiResponse != null && apiResponse.getResponse() != null) {
-                cacheService.saveLeagues(apiResponse);
+        // Rellenar bajo el cerrojo de la clave: si otra petición acaba de rellenarla, se reutiliza
+        return fillLocks.withLock("league:" + leagueId, () -> {
+            LeagueResponse recheck = cacheService.getLeagueByIdFromCache(leagueId);
+            if (recheck != null && recheck.getResponse() != null && !recheck.getResponse().isEmpty()) {
+                log.info("✅ Rellenado por otra petición concurrente, se reutiliza la caché");
+                return recheck;
             }
             
-            return apiResponse;
-        } catch (Exception e) {
-            log.error("❌ Error llamando a API para liga {}: {}", leagueId, e.getMessage());
-            throw e;
-        }
+            // 2. Llamar a la API
+            log.info("📡 Liga {} no encontrada en caché, llamando a API...", leagueId);
+            try {
+                LeagueResponse apiResponse = apiService.getLeagueById(leagueId);
+            
+                // 3. Guardar en caché
+                if (apiResponse != null && apiResponse.getResponse() != null) {
+                    saveQuietly(() -> cacheService.saveLeagues(apiResponse));
+                }
+            
+                return apiResponse;
+            } catch (Exception e) {
+                log.error("❌ Error llamando a API para liga {}: {}", leagueId, e.getMessage());
+                throw e;
+            }
+        });
     }
 
     /**
@@ -108,21 +169,30 @@ public class CachedFootballApiService {
             return cached;
         }
         
-        // 2. Llamar a la API
-        log.info("📡 Ligas de {} no encontradas en caché, llamando a API...", country);
-        try {
-            LeagueResponse apiResponse = apiService.getLeaguesByCountry(country);
-            
-            // 3. Guardar en caché
-            if (apiResponse != null && apiResponse.getResponse() != null) {
-                cacheService.saveLeagues(apiResponse);
+        // Rellenar bajo el cerrojo de la clave: si otra petición acaba de rellenarla, se reutiliza
+        return fillLocks.withLock("leagues:country:" + country.toLowerCase(), () -> {
+            LeagueResponse recheck = cacheService.getLeaguesByCountryFromCache(country);
+            if (recheck != null && recheck.getResponse() != null && !recheck.getResponse().isEmpty()) {
+                log.info("✅ Rellenado por otra petición concurrente, se reutiliza la caché");
+                return recheck;
             }
             
-            return apiResponse;
-        } catch (Exception e) {
-            log.error("❌ Error llamando a API para ligas de {}: {}", country, e.getMessage());
-            throw e;
-        }
+            // 2. Llamar a la API
+            log.info("📡 Ligas de {} no encontradas en caché, llamando a API...", country);
+            try {
+                LeagueResponse apiResponse = apiService.getLeaguesByCountry(country);
+            
+                // 3. Guardar en caché
+                if (apiResponse != null && apiResponse.getResponse() != null) {
+                    saveQuietly(() -> cacheService.saveLeagues(apiResponse));
+                }
+            
+                return apiResponse;
+            } catch (Exception e) {
+                log.error("❌ Error llamando a API para ligas de {}: {}", country, e.getMessage());
+                throw e;
+            }
+        });
     }
 
     // ==================== EQUIPOS ====================
@@ -140,22 +210,31 @@ public class CachedFootballApiService {
             return cached;
         }
         
-        // 2. Llamar a la API
-        log.info("📡 Equipos no encontrados en caché, llamando a API...");
-        try {
-            TeamResponse apiResponse = apiService.getTeamsByLeague(leagueId, season);
-            
-            // 3. Guardar en caché
-            if (apiResponse != null && apiResponse.getResponse() != null) {
-                cacheService.saveTeams(apiResponse, leagueId, season);
+        // Rellenar bajo el cerrojo de la clave: si otra petición acaba de rellenarla, se reutiliza
+        return fillLocks.withLock("teams:" + leagueId + ":" + season, () -> {
+            TeamResponse recheck = cacheService.getTeamsByLeagueFromCache(leagueId, season);
+            if (recheck != null && recheck.getResponse() != null && !recheck.getResponse().isEmpty()) {
+                log.info("✅ Rellenado por otra petición concurrente, se reutiliza la caché");
+                return recheck;
             }
             
-            return apiResponse;
-        } catch (Exception e) {
-            log.error("❌ Error llamando a API para equipos: {}", e.getMessage());
-            if (cached != null) return cached;
-            throw e;
-        }
+            // 2. Llamar a la API
+            log.info("📡 Equipos no encontrados en caché, llamando a API...");
+            try {
+                TeamResponse apiResponse = apiService.getTeamsByLeague(leagueId, season);
+            
+                // 3. Guardar en caché
+                if (apiResponse != null && apiResponse.getResponse() != null) {
+                    saveQuietly(() -> cacheService.saveTeams(apiResponse, leagueId, season));
+                }
+            
+                return apiResponse;
+            } catch (Exception e) {
+                log.error("❌ Error llamando a API para equipos: {}", e.getMessage());
+                if (cached != null) return cached;
+                throw e;
+            }
+        });
     }
 
     /**
@@ -171,23 +250,32 @@ public class CachedFootballApiService {
             return cached;
         }
         
-        // 2. Llamar a la API
-        log.info("📡 Equipo {} no encontrado en caché, llamando a API...", teamId);
-        try {
-            TeamResponse apiResponse = apiService.getTeamById(teamId);
+        // Rellenar bajo el cerrojo de la clave: si otra petición acaba de rellenarla, se reutiliza
+        return fillLocks.withLock("team:" + teamId, () -> {
+            TeamResponse recheck = cacheService.getTeamByIdFromCache(teamId);
+            if (recheck != null && recheck.getResponse() != null && !recheck.getResponse().isEmpty()) {
+                log.info("✅ Rellenado por otra petición concurrente, se reutiliza la caché");
+                return recheck;
+            }
+            
+            // 2. Llamar a la API
+            log.info("📡 Equipo {} no encontrado en caché, llamando a API...", teamId);
+            try {
+                TeamResponse apiResponse = apiService.getTeamById(teamId);
             
-            // 3. Guardar en caché
-            if (apiResponse != null && apiResponse.getResponse() != null) {
-                for (TeamResponse.TeamData data : apiResponse.getResponse()) {
-                    cacheService.saveTeam(data);
+                // 3. Guardar en caché
+                if (apiResponse != null && apiResponse.getResponse() != null) {
+                    for (TeamResponse.TeamData data : apiResponse.getResponse()) {
+                        saveQuietly(() -> cacheService.saveTeam(data));
+                    }
                 }
-            }
             
-            return apiResponse;
-        } catch (Exception e) {
-            log.error("❌ Error llamando a API para equipo {}: {}", teamId, e.getMessage());
-            throw e;
-        }
+                return apiResponse;
+            } catch (Exception e) {
+                log.error("❌ Error llamando a API para equipo {}: {}", teamId, e.getMessage());
+                throw e;
+            }
+        });
     }
 
     /**
@@ -207,29 +295,38 @@ public class CachedFootballApiService {
             }
         }
         
-        // 2. Llamar a la API para obtener más resultados
-        log.info("📡 Buscando más equipos en API...");
-        try {
-            TeamResponse apiResponse = apiService.searchTeams(name);
+        // Rellenar bajo el cerrojo de la clave: si otra petición acaba de rellenarla, se reutiliza
+        return fillLocks.withLock("teams:search:" + name.toLowerCase(), () -> {
+            TeamResponse recheck = cacheService.searchTeamsFromCache(name);
+            if (recheck != null && recheck.getResponse() != null && recheck.getResponse().size() >= 5) {
+                log.info("✅ Rellenado por otra petición concurrente, se reutiliza la caché");
+                return recheck;
+            }
             
-            // 3. Guardar nuevos equipos en caché
-            if (apiResponse != null && apiResponse.getResponse() != null) {
-                for (TeamResponse.TeamData data : apiResponse.getResponse()) {
-                    cacheService.saveTeam(data);
+            // 2. Llamar a la API para obtener más resultados
+            log.info("📡 Buscando más equipos en API...");
+            try {
+                TeamResponse apiResponse = apiService.searchTeams(name);
+            
+                // 3. Guardar nuevos equipos en caché
+                if (apiResponse != null && apiResponse.getResponse() != null) {
+                    for (TeamResponse.TeamData data : apiResponse.getResponse()) {
+                        saveQuietly(() -> cacheService.saveTeam(data));
+                    }
+                    log.info("✅ {} equipos obtenidos de API y guardados en caché", apiResponse.getResponse().size());
                 }
-                log.info("✅ {} equipos obtenidos de API y guardados en caché", apiResponse.getResponse().size());
-            }
             
-            return apiResponse;
-        } catch (Exception e) {
-            log.error("❌ Error llamando a API para búsqueda de equipos: {}", e.getMessage());
-            // Si falla la API pero hay algo en caché, devolverlo
-            if (cached != null && cached.getResponse() != null && !cached.getResponse().isEmpty()) {
-                log.warn("⚠️ Devolviendo {} resultados de caché", cached.getResponse().size());
-                return cached;
+                return apiResponse;
+            } catch (Exception e) {
+                log.error("❌ Error llamando a API para búsqueda de equipos: {}", e.getMessage());
+                // Si falla la API pero hay algo en caché, devolverlo
+                if (cached != null && cached.getResponse() != null && !cached.getResponse().isEmpty()) {
+                    log.warn("⚠️ Devolviendo {} resultados de caché", cached.getResponse().size());
+                    return cached;
+                }
+                throw e;
             }
-            throw e;
-        }
+        });
     }
 
     // ==================== JUGADORES ====================
@@ -247,22 +344,31 @@ public class CachedFootballApiService {
             return cached;
         }
         
-        // 2. Llamar a la API
-        log.info("📡 Jugadores no encontrados en caché, llamando a API...");
-        try {
-            PlayerResponse apiResponse = apiService.getPlayersByTeam(teamId, season);
-            
-            // 3. Guardar en caché
-            if (apiResponse != null && apiResponse.getResponse() != null) {
-                cacheService.savePlayers(apiResponse, teamId, null, season, null);
+        // Rellenar bajo el cerrojo de la clave: si otra petición acaba de rellenarla, se reutiliza
+        return fillLocks.withLock("players:" + teamId + ":" + season, () -> {
+            PlayerResponse recheck = cacheService.getPlayersByTeamFromCache(teamId, season);
+            if (recheck != null && recheck.getResponse() != null && !recheck.getResponse().isEmpty()) {
+                log.info("✅ Rellenado por otra petición concurrente, se reutiliza la caché");
+                return recheck;
             }
             
-            return apiResponse;
-        } catch (Exception e) {
-            log.error("❌ Error llamando a API para jugadores: {}", e.getMessage());
-            if (cached != null) return cached;
-            throw e;
-        }
+            // 2. Llamar a la API
+            log.info("📡 Jugadores no encontrados en caché, llamando a API...");
+            try {
+                PlayerResponse apiResponse = apiService.getPlayersByTeam(teamId, season);
+            
+                // 3. Guardar en caché (una lista cortada no se guarda: se serviría como completa)
+                if (apiResponse != null && apiResponse.getResponse() != null && !apiResponse.isPartial()) {
+                    saveQuietly(() -> cacheService.savePlayers(apiResponse, teamId, null, season, null));
+                }
+            
+                return apiResponse;
+            } catch (Exception e) {
+                log.error("❌ Error llamando a API para jugadores: {}", e.getMessage());
+                if (cached != null) return cached;
+                throw e;
+            }
+        });
     }
 
     /**
@@ -278,23 +384,32 @@ public class CachedFootballApiService {
             return cached;
         }
         
-        // 2. Llamar a la API
-        log.info("📡 Jugador {} no encontrado en caché, llamando a API...", playerId);
-        try {
-            PlayerResponse apiResponse = apiService.getPlayerById(playerId, season);
+        // Rellenar bajo el cerrojo de la clave: si otra petición acaba de rellenarla, se reutiliza
+        return fillLocks.withLock("player:" + playerId + ":" + season, () -> {
+            PlayerResponse recheck = cacheService.getPlayerByIdFromCache(playerId, season);
+            if (recheck != null && recheck.getResponse() != null && !recheck.getResponse().isEmpty()) {
+                log.info("✅ Rellenado por otra petición concurrente, se reutiliza la caché");
+                return recheck;
+            }
+            
+            // 2. Llamar a la API
+            log.info("📡 Jugador {} no encontrado en caché, llamando a API...", playerId);
+            try {
+                PlayerResponse apiResponse = apiService.getPlayerById(playerId, season);
             
-            // 3. Guardar en caché
-            if (apiResponse != null && apiResponse.getResponse() != null) {
-                for (PlayerResponse.PlayerData data : apiResponse.getResponse()) {
-                    cacheService.savePlayer(data, null, null, season, null);
+                // 3. Guardar en caché
+                if (apiResponse != null && apiResponse.getResponse() != null) {
+                    for (PlayerResponse.PlayerData data : apiResponse.getResponse()) {
+                        saveQuietly(() -> cacheService.savePlayer(data, null, null, season, null));
+                    }
                 }
-            }
             
-            return apiResponse;
-        } catch (Exception e) {
-            log.error("❌ Error llamando a API para jugador {}: {}", playerId, e.getMessage());
-            throw e;
-        }
+                return apiResponse;
+            } catch (Exception e) {
+                log.error("❌ Error llamando a API para jugador {}: {}", playerId, e.getMessage());
+                throw e;
+            }
+        });
     }
 
     /**
@@ -312,57 +427,188 @@ public class CachedFootballApiService {
             }
         }
         
-        // 2. Llamar a la API
-        log.info("📡 Buscando más jugadores en API...");
-        try {
-            PlayerResponse apiResponse = apiService.searchPlayers(name, leagueId, season);
-            
-            // 3. Guardar en caché
-            if (apiResponse != null && apiResponse.getResponse() != null) {
-                cacheService.savePlayers(apiResponse, null, leagueId, season, name.toLowerCase());
-                log.info("✅ {} jugadores obtenidos de API y guardados en caché", apiResponse.getResponse().size());
+        // Rellenar bajo el cerrojo de la clave: si otra petición acaba de rellenarla, se reutiliza
+        return fillLocks.withLock("players:search:" + name.toLowerCase() + ":" + leagueId + ":" + season, () -> {
+            PlayerResponse recheck = cacheService.searchPlayersFromCache(name, leagueId, season);
+            if (recheck != null && recheck.getResponse() != null && recheck.getResponse().size() >= 3) {
+                log.info("✅ Rellenado por otra petición concurrente, se reutiliza la caché");
+                return recheck;
             }
             
-            return apiResponse;
-        } catch (Exception e) {
-            log.error("❌ Error llamando a API para búsqueda de jugadores: {}", e.getMessage());
-            if (cached != null && cached.getResponse() != null && !cached.getResponse().isEmpty()) {
-                return cached;
+            // 2. Llamar a la API
+            log.info("📡 Buscando más jugadores en API...");
+            try {
+                PlayerResponse apiResponse = apiService.searchPlayers(name, leagueId, season);
+            
+                // 3. Guardar en caché (una lista cortada no se guarda: se serviría como completa)
+                if (apiResponse != null && apiResponse.getResponse() != null && !apiResponse.isPartial()) {
+                    saveQuietly(() -> cacheService.savePlayers(apiResponse, null, leagueId, season, name.toLowerCase()));
+                    log.info("✅ {} jugadores obtenidos de API y guardados en caché", apiResponse.getResponse().size());
+                }
+            
+                return apiResponse;
+            } catch (Exception e) {
+                log.error("❌ Error llamando a API para búsqueda de jugadores: {}", e.getMessage());
+                if (cached != null && cached.getResponse() != null && !cached.getResponse().isEmpty()) {
+                    return cached;
+                }
+                throw e;
             }
-            throw e;
+        });
+    }
+
+    // ==================== CLASIFICACIONES DE JUGADORES ====================
+
+    /**
+     * Obtiene máximos goleadores.
+     * Se sirve de la clasificación en memoria, que parte de la de la API y se
+     * actualiza con los eventos de cada partido.
+     */
+    public PlayerResponse getTopScorers(int leagueId, int season) {
+        return getPlayerRanking(FootballCacheService.PlayerRanking.GOALS, leagueId, season);
+    }
+
+    /**
+     * Obtiene máximos asistentes
+     */
+    public PlayerResponse getTopAssists(int leagueId, int season) {
+        return getPlayerRanking(FootballCacheService.PlayerRanking.ASSISTS, leagueId, season);
+    }
+
+    /**
+     * Obtiene jugadores con más tarjetas
+     */
+    public PlayerResponse getTopCards(int leagueId, int season) {
+        return getPlayerRanking(FootballCacheService.PlayerRanking.CARDS, leagueId, season);
+    }
+
+    /**
+     * Obtiene jugadores con más tarjetas rojas
+     */
+    public PlayerResponse getTopRedCards(int leagueId, int season) {
+        return getPlayerRanking(FootballCacheService.PlayerRanking.RED_CARDS, leagueId, season);
+    }
+
+    private PlayerResponse getPlayerRanking(FootballCacheService.PlayerRanking ranking, int leagueId, int season) {
+        log.info("🔍 Buscando clasificación {} liga {} temporada {}...", ranking, leagueId, season);
+        
+        // 1. Clasificación en memoria (al día con los eventos)
+        PlayerResponse live = leaderboards.getTop(ranking, leagueId, season, TOP_PLAYERS_LIMIT);
+        if (live != null) {
+            log.info("✅ Clasificación {} servida desde memoria", ranking);
+            return live;
         }
+        
+        return fillLocks.withLock("ranking:" + ranking + ":" + leagueId + ":" + season, () -> {
+            PlayerResponse recheck = leaderboards.getTop(ranking, leagueId, season, TOP_PLAYERS_LIMIT);
+            if (recheck != null) {
+                log.info("✅ Rellenado por otra petición concurrente, se reutiliza la clasificación");
+                return recheck;
+            }
+            
+            // 2. Montarla con la de la API como base
+            log.info("📡 Clasificación {} no montada, llamando a API...", ranking);
+            try {
+                PlayerResponse apiResponse = leaderboards.load(ranking, leagueId, season);
+                
+                // 3. Guardar solo las estadísticas normalizadas (no son plantillas completas)
+                if (apiResponse != null && apiResponse.getResponse() != null) {
+                    saveQuietly(() -> cacheService.saveRankingStatistics(apiResponse, season));
+                }
+                
+                PlayerResponse top = leaderboards.getTop(ranking, leagueId, season, TOP_PLAYERS_LIMIT);
+                return top != null ? top : apiResponse;
+            } catch (Exception e) {
+                // Sin API: las estadísticas normalizadas de BD, si están completas
+                log.error("❌ Error llamando a API para clasificación {}: {}", ranking, e.getMessage());
+                PlayerResponse cached = cacheService.getPlayerRankingFromCache(ranking, leagueId, season, TOP_PLAYERS_LIMIT);
+                if (cached != null && cached.getResponse() != null && !cached.getResponse().isEmpty()) {
+                    log.info("✅ Clasificación {} encontrada en caché de BD", ranking);
+                    return cached;
+                }
+                throw e;
+            }
+        });
     }
 
     // ==================== CLASIFICACIONES ====================
 
     /**
      * Obtiene la clasificación de una liga.
+     * Si los partidos de la temporada están en BD se calcula a partir de ellos y se
+     * mantiene al día en memoria; la de la API solo se usa para conciliar.
      */
     public StandingsResponse getStandings(int leagueId, int season) {
         log.info("🔍 Buscando clasificación liga {} temporada {}...", leagueId, season);
         
-        // 1. Buscar en caché de BD
+        // 1. Clasificación calculada en memoria (al día con cada partido finalizado)
+        StandingsResponse computed = standingsEngine.getStandings(leagueId, season);
+        if (computed != null) {
+            log.info("✅ Clasificación calculada desde los partidos finalizados");
+            return computed;
+        }
+        
+        // 2. Clasificación de la API (BD o llamada); sirve para montar y conciliar la calculada
+        StandingsResponse upstream = getUpstreamStandings(leagueId, season);
+        if (upstream != null && fixtureCache.isSeasonIngested(leagueId, season)) {
+            computed = standingsEngine.load(leagueId, season, upstream);
+            if (computed != null) {
+                return computed;
+            }
+        }
+        return upstream;
+    }
+    
+    /**
+     * Vuelve a pedir la clasificación a la API (p. ej. al terminar una jornada) y
+     * concilia con ella la calculada, si la hay
+     */
+    public void refreshStandings(int leagueId, int season) {
+        fillLocks.withLock("standings:" + leagueId + ":" + season, () -> {
+            log.info("🔄 Actualizando clasificación liga {} temporada {} desde la API...", leagueId, season);
+            StandingsResponse apiResponse = apiService.getStandings(leagueId, season);
+            if (apiResponse == null) return null;
+            
+            saveQuietly(() -> cacheService.saveStandings(apiResponse, leagueId, season));
+            if (fixtureCache.isSeasonIngested(leagueId, season)) {
+                standingsEngine.load(leagueId, season, apiResponse);
+            }
+            return null;
+        });
+    }
+    
+    private StandingsResponse getUpstreamStandings(int leagueId, int season) {
+        // Buscar en caché de BD
         StandingsResponse cached = cacheService.getStandingsFromCache(leagueId, season);
         if (cached != null) {
             log.info("✅ Clasificación encontrada en caché de BD");
             return cached;
         }
         
-        // 2. Llamar a la API
-        log.info("📡 Clasificación no encontrada en caché, llamando a API...");
-        try {
-            StandingsResponse apiResponse = apiService.getStandings(leagueId, season);
-            
-            // 3. Guardar en caché
-            if (apiResponse != null) {
-                cacheService.saveStandings(apiResponse, leagueId, season);
+        // Rellenar bajo el cerrojo de la clave: si otra petición acaba de rellenarla, se reutiliza
+        return fillLocks.withLock("standings:" + leagueId + ":" + season, () -> {
+            StandingsResponse recheck = cacheService.getStandingsFromCache(leagueId, season);
+            if (recheck != null) {
+                log.info("✅ Rellenado por otra petición concurrente, se reutiliza la caché");
+                return recheck;
             }
             
-            return apiResponse;
-        } catch (Exception e) {
-            log.error("❌ Error llamando a API para clasificación: {}", e.getMessage());
-            throw e;
-        }
+            // Llamar a la API
+            log.info("📡 Clasificación no encontrada en caché, llamando a API...");
+            try {
+                StandingsResponse apiResponse = apiService.getStandings(leagueId, season);
+            
+                // Guardar en caché
+                if (apiResponse != null) {
+                    saveQuietly(() -> cacheService.saveStandings(apiResponse, leagueId, season));
+                }
+            
+                return apiResponse;
+            } catch (Exception e) {
+                log.error("❌ Error llamando a API para clasificación: {}", e.getMessage());
+                throw e;
+            }
+        });
     }
 
     // ==================== PLANTILLAS ====================
@@ -380,108 +626,391 @@ public class CachedFootballApiService {
             return cached;
         }
         
-        // 2. Llamar a la API
-        log.info("📡 Plantilla no encontrada en caché, llamando a API...");
-        try {
-            SquadResponse apiResponse = apiService.getTeamSquad(teamId);
-            
-            // 3. Guardar en caché
-            if (apiResponse != null) {
-                cacheService.saveSquad(apiResponse, teamId);
+        // Rellenar bajo el cerrojo de la clave: si otra petición acaba de rellenarla, se reutiliza
+        return fillLocks.withLock("squad:" + teamId, () -> {
+            SquadResponse recheck = cacheService.getSquadFromCache(teamId);
+            if (recheck != null) {
+                log.info("✅ Rellenado por otra petición concurrente, se reutiliza la caché");
+                return recheck;
             }
             
-            return apiResponse;
-        } catch (Exception e) {
-            log.error("❌ Error llamando a API para plantilla: {}", e.getMessage());
-            throw e;
+            // 2. Llamar a la API
+            log.info("📡 Plantilla no encontrada en caché, llamando a API...");
+            try {
+                SquadResponse apiResponse = apiService.getTeamSquad(teamId);
+            
+                // 3. Guardar en caché
+                if (apiResponse != null) {
+                    saveQuietly(() -> cacheService.saveSquad(apiResponse, teamId));
+                }
+            
+                return apiResponse;
+            } catch (Exception e) {
+                log.error("❌ Error llamando a API para plantilla: {}", e.getMessage());
+                throw e;
+            }
+        });
+    }
+
+    // ==================== PARTIDOS ====================
+
+    /**
+     * Obtiene partidos de una liga.
+     * Se sirven desde la BD; la primera vez se descarga la temporada completa y
+     * después solo se sincroniza el tramo que puede haber cambiado.
+     */
+    public FixtureResponse getFixturesByLeague(int leagueId, int season) {
+        log.info("🔍 Buscando partidos de liga {} temporada {}...", leagueId, season);
+        
+        if (ensureFixtures(leagueId, season)) {
+            FixtureResponse cached = fixtureCache.getFixturesByLeagueFromCache(leagueId, season);
+            if (cached != null) {
+                log.info("✅ Partidos encontrados en caché de BD ({} resultados)", cached.getResults());
+                return cached;
+            }
         }
+        return apiService.getFixturesByLeague(leagueId, season);
     }
 
-    // ==================== MÉTODOS SIN CACHÉ (datos en tiempo real) ====================
-    // Estos métodos no se cachean porque los datos cambian frecuentemente
+    /**
+     * Obtiene la última jornada (desde la BD si la temporada está cargada)
+     */
+    public FixtureResponse getLatestRound(int leagueId, int season) {
+        if (ensureFixtures(leagueId, season)) {
+            return fixtureCache.getLatestRoundFromCache(leagueId, season);
+        }
+        return apiService.getLatestRound(leagueId, season);
+    }
 
     /**
-     * Obtiene partidos en vivo (no se cachea)
+     * Obtiene partidos de una jornada específica (desde la BD si la temporada está cargada)
      */
-    public FixtureResponse getLiveFixtures() {
-        return apiService.getLiveFixtures();
+    public FixtureResponse getFixturesByRound(int leagueId, int season, String round) {
+        if (ensureFixtures(leagueId, season)) {
+            FixtureResponse cached = fixtureCache.getFixturesByRoundFromCache(leagueId, season, round);
+            if (cached.getResults() > 0) {
+                return cached;
+            }
+        }
+        return apiService.getFixturesByRound(leagueId, season, round);
     }
 
     /**
-     * Obtiene partidos por fecha (no se cachea)
+     * Obtiene un partido por ID.
+     * Los finalizados se sirven de la BD; el resto se pide a la API agrupado con otras
+     * consultas por ID que lleguen a la vez (el lote se guarda en BD).
      */
-    public FixtureResponse getFixturesByDate(String date) {
-        return apiService.getFixturesByDate(date);
+    public FixtureResponse getFixtureById(int fixtureId) {
+        FixtureResponse cached = fixtureCache.getFinishedFixtureFromCache(fixtureId);
+        if (cached != null) {
+            log.info("✅ Partido {} finalizado encontrado en caché de BD", fixtureId);
+            return cached;
+        }
+        return fixtureBatchLoader.getFixture(fixtureId);
     }
 
     /**
-     * Obtiene partidos de una liga (se usa caché de memoria, no BD)
+     * Obtiene eventos de un partido.
+     * Los de partidos finalizados se guardan en BD para siempre; el resto solo
+     * pasa por la caché en memoria de vida corta. Los errores de la API se propagan
+     * (502) para no confundirlos con un partido sin eventos.
      */
-    public FixtureResponse getFixturesByLeague(int leagueId, int season) {
-        return apiService.getFixturesByLeague(leagueId, season);
+    public FixtureEventsResponse getFixtureEvents(int fixtureId) {
+        FixtureEventsResponse stored = fixtureCache.getFinishedEventsFromCache(fixtureId);
+        if (stored != null) {
+            return stored;
+        }
+        FixtureEventsResponse response = apiService.getFixtureEvents(fixtureId);
+        if (ApiFootballResponse.isSuccess(response)) {
+            saveQuietly(() -> fixtureCache.saveFinishedEvents(fixtureId, response.getResponse()));
+        }
+        return response;
+    }
+
+    /**
+     * Obtiene estadísticas de un partido (mismo criterio que los eventos)
+     */
+    public FixtureStatisticsResponse getFixtureStatistics(int fixtureId) {
+        FixtureStatisticsResponse stored = fixtureCache.getFinishedStatisticsFromCache(fixtureId);
+        if (stored != null) {
+            return stored;
+        }
+        FixtureStatisticsResponse response = apiService.getFixtureStatistics(fixtureId);
+        if (ApiFootballResponse.isSuccess(response)) {
+            saveQuietly(() -> fixtureCache.saveFinishedStatistics(fixtureId, response.getResponse()));
+        }
+        return response;
+    }
+
+    /**
+     * Obtiene la instantánea de partidos en vivo del sondeo centralizado
+     * (sin llamar a la API en cada petición)
+     */
+    public LiveFixturesPoller.LiveSnapshot getLiveFixtures() {
+        return livePoller.getSnapshot();
+    }
+
+    /**
+     * Obtiene partidos de todas las ligas de un día en la zona indicada.
+     * Se sirven del calendario en memoria; el día completo se pide a la API como
+     * mucho una vez al día (lo demás llega de las sincronizaciones de ligas y del sondeo en vivo).
+     *
+     * @param leagues  ligas a incluir (vacío = todas)
+     * @param statuses estados cortos o grupos (LIVE, SCHEDULED, FINISHED, PLAYED) a incluir (vacío = todos)
+     */
+    public FixtureResponse getFixturesByDate(LocalDate date, ZoneId zone, Set<Integer> leagues, Set<String> statuses) {
+        log.info("🔍 Buscando partidos del {} ({})...", date, zone);
+        calendar.utcDays(date, zone).forEach(this::ensureCalendarDay);
+        return calendar.getFixtures(date, zone, leagues, FixtureStatus.expand(statuses));
     }
 
     /**
-     * Obtiene partidos de un equipo (no se cachea en BD)
+     * Obtiene partidos de un equipo en todas sus competiciones.
+     * Se sirven del índice por equipo de la BD; solo se llama a la API por las
+     * competiciones del equipo que no están descargadas completas.
      */
     public FixtureResponse getFixturesByTeam(int teamId, int season) {
-        return apiService.getFixturesByTeam(teamId, season);
+        log.info("🔍 Buscando partidos del equipo {} temporada {}...", teamId, season);
+        ensureTeamFixtures(teamId, season);
+        
+        // Sin segunda llamada a la API: ensureTeamFixtures ya ha pedido lo que faltaba
+        FixtureResponse cached = fixtureCache.getFixturesByTeamFromCache(teamId, season);
+        log.info("✅ Partidos del equipo {} servidos de caché de BD ({} resultados)", teamId, cached.getResults());
+        return cached;
     }
 
     /**
-     * Obtiene la última jornada
+     * Cambios de los partidos de una liga desde una versión (sincronización delta)
      */
-    public FixtureResponse getLatestRound(int leagueId, int season) {
-        return apiService.getLatestRound(leagueId, season);
+    public FixtureChanges getFixtureChangesByLeague(int leagueId, int season, long since) {
+        ensureFixtures(leagueId, season);
+        return fixtureCache.getChangesByLeague(leagueId, season, since);
     }
 
     /**
-     * Obtiene partidos de una jornada específica
+     * Cambios de los partidos de un día desde una versión (el día se descarga igual que en getFixturesByDate)
      */
-    public FixtureResponse getFixturesByRound(int leagueId, int season, String round) {
-        return apiService.getFixturesByRound(leagueId, season, round);
+    public FixtureChanges getFixtureChangesByDate(LocalDate date, long since) {
+        ensureCalendarDay(date);
+        return fixtureCache.getChangesByDate(date, since);
     }
 
     /**
-     * Obtiene la última fecha disponible con datos
+     * Cambios de los partidos de un equipo desde una versión (mismo origen que getFixturesByTeam)
      */
-    public String getLatestAvailableDate(int leagueId, int season) {
-        return apiService.getLatestAvailableDate(leagueId, season);
+    public FixtureChanges getFixtureChangesByTeam(int teamId, int season, long since) {
+        ensureTeamFixtures(teamId, season);
+        return fixtureCache.getChangesByTeam(teamId, season, since);
     }
 
     /**
-     * Obtiene máximos goleadores
+     * Garantiza que los partidos de la liga/temporada están en BD y al día.
+     *
+     * @return false si no se pudieron cargar (sin datos en caché ni en la API)
      */
-    public PlayerResponse getTopScorers(int leagueId, int season) {
-        return apiService.getTopScorers(leagueId, season);
+    private boolean ensureFixtures(int leagueId, int season) {
+        if (fixtureCache.isSeasonIngested(leagueId, season)) {
+            syncFixturesIfStale(leagueId, season);
+            return true;
+        }
+        
+        String key = leagueId + ":" + season;
+        return fillLocks.withLock("fixtures:" + key, () -> {
+            if (fixtureCache.isSeasonIngested(leagueId, season)) {
+                log.info("✅ Rellenado por otra petición concurrente, se reutiliza la caché");
+                return true;
+            }
+            
+            log.info("📡 Temporada no descargada completa, descargando de la API...");
+            FixtureResponse apiResponse = apiService.getFixturesByLeague(leagueId, season);
+            if (apiResponse == null || apiResponse.getResponse() == null || apiResponse.getResponse().isEmpty()) {
+                return false;
+            }
+            saveQuietly(() -> fixtureCache.saveFixtures(apiResponse));
+            fixtureSyncs.put(key, System.currentTimeMillis());
+            if (!fixtureCache.hasFixturesInCache(leagueId, season)) {
+                return false;
+            }
+            saveQuietly(() -> fixtureCache.markSeasonIngested(leagueId, season, apiResponse.getResponse().size()));
+            return true;
+        });
     }
 
     /**
-     * Obtiene un partido por ID
+     * Garantiza que los partidos de un equipo están en BD.
+     * Los de competiciones descargadas completas ya están (y se sincronizan con su liga);
+     * de las que faltan se piden a la API solo los partidos del equipo en esa competición,
+     * como mucho cada FIXTURE_SYNC_INTERVAL_MS. Si no se conocen sus competiciones, todos
+     * los del equipo con el mismo límite.
      */
-    public FixtureResponse getFixtureById(int fixtureId) {
-        return apiService.getFixtureById(fixtureId);
+    private void ensureTeamFixtures(int teamId, int season) {
+        Set<Integer> competitions = getTeamLeagueIds(teamId, season);
+        if (competitions.isEmpty()) {
+            refreshFixturesIfStale("team:" + teamId + ":" + season, () -> apiService.getFixturesByTeam(teamId, season));
+            return;
+        }
+        Set<Integer> ingested = fixtureCache.getIngestedLeagues(competitions, season);
+        ingested.forEach(leagueId -> syncFixturesIfStale(leagueId, season));
+        for (int leagueId : competitions) {
+            if (ingested.contains(leagueId)) continue;
+            refreshFixturesIfStale("team:" + teamId + ":" + leagueId + ":" + season,
+                    () -> apiService.getFixturesByTeamAndLeague(teamId, leagueId, season));
+        }
+    }
+
+    private Set<Integer> getTeamLeagueIds(int teamId, int season) {
+        try {
+            LeagueResponse leagues = getLeaguesByTeam(teamId, season);
+            if (leagues == null || leagues.getResponse() == null) return Set.of();
+            return leagues.getResponse().stream()
+                .filter(l -> l.getLeague() != null)
+                .map(l -> l.getLeague().getId())
+                .collect(Collectors.toSet());
+        } catch (Exception e) {
+            log.warn("⚠️ No se pudieron obtener las competiciones del equipo {}: {}", teamId, e.getMessage());
+            return Set.of();
+        }
     }
 
     /**
-     * Obtiene eventos de un partido
+     * Sincronización incremental: solo se vuelve a pedir el tramo de la temporada que
+     * puede haber cambiado, desde el partido sin finalizar más antiguo que ya debería
+     * haber empezado (como mucho FIXTURE_LOOKBEHIND_DAYS días atrás) hasta dentro de
+     * FIXTURE_LOOKAHEAD_DAYS días. Los finalizados están congelados en BD y nunca se
+     * vuelven a pedir.
+     *
+     * Un pendiente anterior a ese límite (aplazado, suspendido, sin fecha) no fija el
+     * inicio de la ventana: se comprueba por ID cada STALE_FIXTURE_CHECK_INTERVAL_MS,
+     * y si se le ha dado nueva fecha o ya ha terminado se guarda con ella.
      */
-    public FixtureEventsResponse getFixtureEvents(int fixtureId) {
-        return apiService.getFixtureEvents(fixtureId);
+    private void syncFixturesIfStale(int leagueId, int season) {
+        String key = leagueId + ":" + season;
+        Long lastSync = fixtureSyncs.get(key);
+        if (lastSync != null && System.currentTimeMillis() - lastSync < FIXTURE_SYNC_INTERVAL_MS) return;
+        
+        Long oldestPending = fixtureCache.getOldestPendingKickoff(leagueId, season, Instant.now().getEpochSecond());
+        if (oldestPending == null) {
+            // Nada en juego ni pendiente de resultado
+            fixtureSyncs.put(key, System.currentTimeMillis());
+            return;
+        }
+        
+        fillLocks.withLock("fixtures:sync:" + key, () -> {
+            Long recheck = fixtureSyncs.get(key);
+            if (recheck != null && System.currentTimeMillis() - recheck < FIXTURE_SYNC_INTERVAL_MS) return null;
+            
+            long windowStart = Instant.now().minus(Duration.ofDays(FIXTURE_LOOKBEHIND_DAYS)).getEpochSecond();
+            LocalDate from = LocalDate.ofInstant(Instant.ofEpochSecond(Math.max(oldestPending, windowStart)), ZoneOffset.UTC);
+            LocalDate to = LocalDate.now(ZoneOffset.UTC).plusDays(FIXTURE_LOOKAHEAD_DAYS);
+            log.info("🔄 Sincronizando partidos de liga {} season {} ({} a {})...", leagueId, season, from, to);
+            try {
+                FixtureResponse changed = apiService.getFixturesByLeagueAndDateRange(leagueId, season, from.toString(), to.toString());
+                saveQuietly(() -> fixtureCache.saveFixtures(changed));
+            } catch (Exception e) {
+                log.warn("⚠️ No se pudieron sincronizar partidos de liga {}: {}. Se sirven los de BD", leagueId, e.getMessage());
+            }
+            if (oldestPending < windowStart) {
+                recheckStalePending(key, leagueId, season, windowStart);
+            }
+            fixtureSyncs.put(key, System.currentTimeMillis());
+            return null;
+        });
     }
 
     /**
-     * Obtiene estadísticas de un partido
+     * Vuelve a pedir por ID (en bloques de FIXTURE_IDS_LIMIT) los partidos pendientes que
+     * empezaban antes de la ventana de sincronización
      */
-    public FixtureStatisticsResponse getFixtureStatistics(int fixtureId) {
-        return apiService.getFixtureStatistics(fixtureId);
+    private void recheckStalePending(String key, int leagueId, int season, long before) {
+        Long lastCheck = staleFixtureChecks.get(key);
+        if (lastCheck != null && System.currentTimeMillis() - lastCheck < STALE_FIXTURE_CHECK_INTERVAL_MS) return;
+        
+        List<Integer> ids = fixtureCache.getPendingFixtureIdsBefore(leagueId, season, before);
+        log.info("🔎 Comprobando por ID {} partidos pendientes de liga {} season {} anteriores a la ventana...",
+                ids.size(), leagueId, season);
+        for (int i = 0; i < ids.size(); i += ApiFootballService.FIXTURE_IDS_LIMIT) {
+            List<Integer> chunk = ids.subList(i, Math.min(i + ApiFootballService.FIXTURE_IDS_LIMIT, ids.size()));
+            try {
+                saveFixtures(apiService.getFixturesByIds(chunk));
+            } catch (Exception e) {
+                log.warn("⚠️ No se pudieron comprobar partidos pendientes de liga {}: {}", leagueId, e.getMessage());
+                return;
+            }
+        }
+        staleFixtureChecks.put(key, System.currentTimeMillis());
+    }
+
+    /**
+     * Pide a la API el día UTC completo si el calendario lo necesita (como mucho una vez al día)
+     */
+    private void ensureCalendarDay(LocalDate utcDay) {
+        if (!calendar.needsFetch(utcDay)) return;
+
+        fillLocks.withLock("fixtures:date:" + utcDay, () -> {
+            if (!calendar.needsFetch(utcDay)) return null;
+
+            log.info("📡 Descargando partidos del día {} de la API...", utcDay);
+            try {
+                saveFixtures(apiService.getFixturesByDate(utcDay.toString()));
+                calendar.markFetched(utcDay);
+            } catch (Exception e) {
+                log.warn("⚠️ No se pudieron descargar los partidos del {}: {}. Se sirven los de BD", utcDay, e.getMessage());
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Vuelve a pedir un ámbito de partidos a la API si no se ha hecho en el último intervalo
+     */
+    private void refreshFixturesIfStale(String key, Supplier<FixtureResponse> fetch) {
+        Long lastSync = fixtureSyncs.get(key);
+        if (lastSync != null && System.currentTimeMillis() - lastSync < FIXTURE_SYNC_INTERVAL_MS) return;
+
+        fillLocks.withLock("fixtures:sync:" + key, () -> {
+            Long recheck = fixtureSyncs.get(key);
+            if (recheck != null && System.currentTimeMillis() - recheck < FIXTURE_SYNC_INTERVAL_MS) return null;
+
+            log.info("🔄 Sincronizando partidos ({})...", key);
+            try {
+                saveFixtures(fetch.get());
+            } catch (Exception e) {
+                log.warn("⚠️ No se pudieron sincronizar partidos ({}): {}. Se sirven los de BD", key, e.getMessage());
+            }
+            fixtureSyncs.put(key, System.currentTimeMillis());
+            return null;
+        });
+    }
+
+    private FixtureResponse saveFixtures(FixtureResponse response) {
+        if (response != null) {
+            saveQuietly(() -> fixtureCache.saveFixtures(response));
+        }
+        return response;
+    }
+
+    // ==================== MÉTODOS SIN CACHÉ ====================
+
+    /**
+     * Obtiene la última fecha disponible con datos
+     */
+    public String getLatestAvailableDate(int leagueId, int season) {
+        return apiService.getLatestAvailableDate(leagueId, season);
     }
 
     /**
-     * Obtiene ligas de un equipo
+     * Obtiene ligas de un equipo (de BD; de la API si no están o son antiguas)
      */
     public LeagueResponse getLeaguesByTeam(int teamId, int season) {
-        return apiService.getLeaguesByTeam(teamId, season);
+        LeagueResponse cached = cacheService.getTeamLeaguesFromCache(teamId, season);
+        if (cached != null) {
+            return cached;
+        }
+        LeagueResponse apiResponse = apiService.getLeaguesByTeam(teamId, season);
+        if (apiResponse != null) {
+            saveQuietly(() -> cacheService.saveTeamLeagues(apiResponse, teamId, season));
+        }
+        return apiResponse;
     }
 
     /**
@@ -491,6 +1020,20 @@ public class CachedFootballApiService {
         return apiService.isConfigured();
     }
 
+    // ==================== GUARDADO TOLERANTE A CONFLICTOS ====================
+
+    /**
+     * Guarda en caché tolerando conflictos de clave única: si otra instancia
+     * insertó la misma clave a la vez, se conserva la fila ya existente.
+     */
+    private void saveQuietly(Runnable save) {
+        try {
+            save.run();
+        } catch (DataIntegrityViolationException | OptimisticLockingFailureException e) {
+            log.warn("⚠️ Conflicto guardando en caché (ya guardado por otra petición): {}", e.getMessage());
+        }
+    }
+
     // ==================== ESTADÍSTICAS ====================
 
     /**
@@ -500,6 +1043,21 @@ public class CachedFootballApiService {
         return cacheService.getCacheStats();
     }
 
+    /**
+     * Elimina duplicados de la caché persistente (tarea puntual)
+     */
+    public Map<String, Integer> deduplicateCache() {
+        return cacheService.deduplicate();
+    }
+
+    /**
+     * Autocompletado de nombres de ligas, equipos y jugadores.
+     * Solo consulta el índice local: nunca gasta peticiones de la API.
+     */
+    public List<NameSearchIndex.Hit> autocomplete(String prefix, int limit) {
+        return cacheService.autocomplete(prefix, limit);
+    }
+
     /**
      * Fuerza actualización de ligas desde la API (ignora caché)
      */
@@ -507,7 +1065,7 @@ public class CachedFootballApiService {
         log.info("🔄 Forzando actualización de ligas desde API...");
         LeagueResponse apiResponse = apiService.getLeagues();
         if (apiResponse != null && apiResponse.getResponse() != null) {
-            cacheService.saveLeagues(apiResponse);
+            saveQuietly(() -> cacheService.saveLeagues(apiResponse));
             log.info("✅ {} ligas actualizadas desde API", apiResponse.getResponse().size());
         }
     }
@@ -23,6 +23,7 @@ public class ComentarioService {
 
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
 
+    @Transactional(readOnly = true)
     public List<ComentarioDTO> findByMatchId(Long matchId, Long currentUserId) {
         List<Comentario> comentarios = comentarioRepository.findByMatchIdOrderByFechaCreacionAsc(matchId);
         return comentarios.stream()
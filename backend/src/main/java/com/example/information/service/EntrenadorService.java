@@ -4,10 +4,12 @@ import com.example.information.entities.Entrenador;
 import com.example.information.entities.Equipo;
 import com.example.information.exception.InvalidOperationException;
 import com.example.information.exception.ResourceNotFoundException;
+import com.example.information.model.CursorPage;
 import com.example.information.model.EntrenadorDTO;
 import com.example.information.repositories.EntrenadorRepository;
 import com.example.information.repositories.EquipoRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,58 +24,61 @@ public class EntrenadorService {
     private final EntrenadorRepository entrenadorRepository;
     private final EquipoRepository equipoRepository;
 
-    public List<EntrenadorDTO> findAll() {
-        return entrenadorRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<EntrenadorDTO> findAll(String cursor, int size) {
+        return CursorPage.of(entrenadorRepository.findPage(CursorPage.decode(cursor), CursorPage.pageable(size)),
+                size, Entrenador::getId, this::convertToDTO);
     }
 
+    @Transactional(readOnly = true)
     public EntrenadorDTO findById(Long id) {
         Entrenador entrenador = entrenadorRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Entrenador", "id", id));
         return convertToDTO(entrenador);
     }
 
+    @Transactional(readOnly = true)
     public EntrenadorDTO findByNombre(String nombre) {
         Entrenador entrenador = entrenadorRepository.findByNombre(nombre)
                 .orElseThrow(() -> new ResourceNotFoundException("Entrenador", "nombre", nombre));
         return convertToDTO(entrenador);
     }
 
-    public List<EntrenadorDTO> findByNacionalidad(String nacionalidad) {
-        return entrenadorRepository.findByNacionalidad(nacionalidad).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<EntrenadorDTO> findByNacionalidad(String nacionalidad, String cursor, int size) {
+        return CursorPage.of(entrenadorRepository.findByNacionalidad(nacionalidad, CursorPage.decode(cursor), CursorPage.pageable(size)),
+                size, Entrenador::getId, this::convertToDTO);
     }
 
-    public List<EntrenadorDTO> searchByNombre(String keyword) {
-        return entrenadorRepository.searchByNombre(keyword).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<EntrenadorDTO> searchByNombre(String keyword, String cursor, int size) {
+        return CursorPage.of(entrenadorRepository.searchByNombre(keyword, CursorPage.decode(cursor), CursorPage.pageable(size)),
+                size, Entrenador::getId, this::convertToDTO);
     }
 
-    public List<EntrenadorDTO> findByMinExperiencia(int minAnios) {
-        return entrenadorRepository.findByMinExperiencia(minAnios).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<EntrenadorDTO> findByMinExperiencia(int minAnios, String cursor, int size) {
+        return CursorPage.of(entrenadorRepository.findByMinExperiencia(minAnios, CursorPage.decode(cursor), CursorPage.pageable(size)),
+                size, Entrenador::getId, this::convertToDTO);
     }
 
-    public List<EntrenadorDTO> findTopByTitulos() {
-        return entrenadorRepository.findTopByTitulos().stream()
+    @Transactional(readOnly = true)
+    public List<EntrenadorDTO> findTopByTitulos(int limit) {
+        return entrenadorRepository.findTopByTitulos(PageRequest.of(0, limit)).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
-    public List<EntrenadorDTO> findEntrenadoresSinEquipo() {
-        return entrenadorRepository.findEntrenadoresSinEquipo().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<EntrenadorDTO> findEntrenadoresSinEquipo(String cursor, int size) {
+        return CursorPage.of(entrenadorRepository.findEntrenadoresSinEquipo(CursorPage.decode(cursor), CursorPage.pageable(size)),
+                size, Entrenador::getId, this::convertToDTO);
     }
 
-    public List<EntrenadorDTO> findEntrenadoresConEquipo() {
-        return entrenadorRepository.findEntrenadoresConEquipo().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<EntrenadorDTO> findEntrenadoresConEquipo(String cursor, int size) {
+        return CursorPage.of(entrenadorRepository.findEntrenadoresConEquipo(CursorPage.decode(cursor), CursorPage.pageable(size)),
+                size, Entrenador::getId, this::convertToDTO);
     }
 
     public EntrenadorDTO create(EntrenadorDTO entrenadorDTO) {
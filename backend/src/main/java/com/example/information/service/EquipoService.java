@@ -6,6 +6,7 @@ import com.example.information.entities.Liga;
 import com.example.information.exception.DuplicateResourceException;
 import com.example.information.exception.InvalidOperationException;
 import com.example.information.exception.ResourceNotFoundException;
+import com.example.information.model.CursorPage;
 import com.example.information.model.EquipoDTO;
 import com.example.information.repositories.EntrenadorRepository;
 import com.example.information.repositories.EquipoRepository;
@@ -14,9 +15,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -26,45 +24,48 @@ public class EquipoService {
     private final LigaRepository ligaRepository;
     private final EntrenadorRepository entrenadorRepository;
 
-    public List<EquipoDTO> findAll() {
-        return equipoRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<EquipoDTO> findAll(String cursor, int size) {
+        return CursorPage.of(equipoRepository.findPage(CursorPage.decode(cursor), CursorPage.pageable(size)),
+                size, Equipo::getId, this::convertToDTO);
     }
 
+    @Transactional(readOnly = true)
     public EquipoDTO findById(Long id) {
         Equipo equipo = equipoRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Equipo", "id", id));
         return convertToDTO(equipo);
     }
 
+    @Transactional(readOnly = true)
     public EquipoDTO findByNombre(String nombre) {
         Equipo equipo = equipoRepository.findByNombre(nombre)
                 .orElseThrow(() -> new ResourceNotFoundException("Equipo", "nombre", nombre));
         return convertToDTO(equipo);
     }
 
-    public List<EquipoDTO> findByLigaId(Long ligaId) {
+    @Transactional(readOnly = true)
+    public CursorPage<EquipoDTO> findByLigaId(Long ligaId, String cursor, int size) {
         if (!ligaRepository.existsById(ligaId)) {
             throw new ResourceNotFoundException("Liga", "id", ligaId);
         }
-        return equipoRepository.findByLigaId(ligaId).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return CursorPage.of(equipoRepository.findByLigaId(ligaId, CursorPage.decode(cursor), CursorPage.pageable(size)),
+                size, Equipo::getId, this::convertToDTO);
     }
 
-    public List<EquipoDTO> searchByNombre(String keyword) {
-        return equipoRepository.searchByNombre(keyword).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<EquipoDTO> searchByNombre(String keyword, String cursor, int size) {
+        return CursorPage.of(equipoRepository.searchByNombre(keyword, CursorPage.decode(cursor), CursorPage.pageable(size)),
+                size, Equipo::getId, this::convertToDTO);
     }
 
-    public List<EquipoDTO> findByPais(String pais) {
-        return equipoRepository.findByPais(pais).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<EquipoDTO> findByPais(String pais, String cursor, int size) {
+        return CursorPage.of(equipoRepository.findByPais(pais, CursorPage.decode(cursor), CursorPage.pageable(size)),
+                size, Equipo::getId, this::convertToDTO);
     }
 
+    @Transactional(readOnly = true)
     public EquipoDTO findByIdWithJugadores(Long id) {
         Equipo equipo = equipoRepository.findByIdWithJugadores(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Equipo", "id", id));
@@ -148,6 +149,7 @@ public class EquipoService {
         equipoRepository.deleteById(id);
     }
 
+    @Transactional(readOnly = true)
     public int getTotalGolesByEquipo(Long equipoId) {
         if (!equipoRepository.existsById(equipoId)) {
             throw new ResourceNotFoundException("Equipo", "id", equipoId);
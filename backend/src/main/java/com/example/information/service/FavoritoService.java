@@ -25,6 +25,7 @@ public class FavoritoService {
 
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
 
+    @Transactional(readOnly = true)
     public List<FavoritoDTO> getFavoritosByUsuario(Long usuarioId) {
         return favoritoRepository.findByUsuarioIdOrderByFechaCreacionDesc(usuarioId)
                 .stream()
@@ -32,6 +33,7 @@ public class FavoritoService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<FavoritoDTO> getFavoritosByUsuarioAndTipo(Long usuarioId, String tipo) {
         TipoFavorito tipoFavorito = TipoFavorito.valueOf(tipo.toUpperCase());
         return favoritoRepository.findByUsuarioIdAndTipoOrderByFechaCreacionDesc(usuarioId, tipoFavorito)
@@ -40,6 +42,7 @@ public class FavoritoService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public boolean isFavorito(Long usuarioId, String tipo, Long itemId) {
         TipoFavorito tipoFavorito = TipoFavorito.valueOf(tipo.toUpperCase());
         return favoritoRepository.existsByUsuarioIdAndTipoAndItemId(usuarioId, tipoFavorito, itemId);
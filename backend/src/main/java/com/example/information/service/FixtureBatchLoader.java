@@ -0,0 +1,186 @@
+package com.example.information.service;
+
+import com.example.information.model.apifootball.FixtureResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Agrupa las consultas de partidos por ID en peticiones /fixtures?ids= (estilo DataLoader).
+ *
+ * - Las consultas que llegan en {@code football.fixture-batch.window-ms} se envían juntas,
+ *   hasta {@link ApiFootballService#FIXTURE_IDS_LIMIT} IDs por petición (al llenarse el lote sale ya)
+ * - Un mismo ID pendiente o en vuelo se comparte entre quienes lo piden
+ * - Cada partido se guarda por separado en la caché "fixture" (caducidad según su estado)
+ *   y el lote completo se guarda en BD de una vez
+ * - El temporizador solo decide cuándo sale un lote; la petición se hace en batchSendExecutor
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FixtureBatchLoader {
+
+    private static final String FIXTURE_CACHE = "fixture";
+
+    private final ApiFootballService apiService;
+    private final FixtureCacheService fixtureCache;
+    private final CacheManager cacheManager;
+    private final ScheduledExecutorService batchScheduler;
+    private final ExecutorService batchSendExecutor;
+
+    @Value("${football.fixture-batch.window-ms:10}")
+    private long windowMs;
+
+    private final Object lock = new Object();
+
+    /** Lote en espera de envío */
+    private Map<Integer, CompletableFuture<FixtureResponse>> pending = new LinkedHashMap<>();
+
+    /** Partidos ya enviados cuya respuesta aún no ha llegado */
+    private final Map<Integer, CompletableFuture<FixtureResponse>> inFlight = new HashMap<>();
+
+    private ScheduledFuture<?> scheduledFlush;
+
+    /**
+     * Obtiene un partido por ID esperando a su lote.
+     * Devuelve una respuesta con un partido, o sin ninguno si la API no lo conoce.
+     */
+    public FixtureResponse getFixture(int fixtureId) {
+        try {
+            return load(fixtureId).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    /**
+     * Encola la consulta de un partido en el lote actual (o la responde de la caché "fixture")
+     */
+    public CompletableFuture<FixtureResponse> load(int fixtureId) {
+        Cache cache = cacheManager.getCache(FIXTURE_CACHE);
+        FixtureResponse cached = cache != null ? cache.get(fixtureId, FixtureResponse.class) : null;
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return reload(fixtureId);
+    }
+
+    /**
+     * Encola la consulta de un partido sin mirar la caché "fixture": para quien ya ha
+     * reservado la petición y necesita el estado actual de la API
+     */
+    public CompletableFuture<FixtureResponse> reload(int fixtureId) {
+        Map<Integer, CompletableFuture<FixtureResponse>> full = null;
+        CompletableFuture<FixtureResponse> future;
+        synchronized (lock) {
+            future = inFlight.get(fixtureId);
+            if (future == null) future = pending.get(fixtureId);
+            if (future != null) return future;
+
+            future = new CompletableFuture<>();
+            pending.put(fixtureId, future);
+            if (pending.size() >= ApiFootballService.FIXTURE_IDS_LIMIT) {
+                full = takePending();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = batchScheduler.schedule(this::flushPending, windowMs, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (full != null) {
+            Map<Integer, CompletableFuture<FixtureResponse>> batch = full;
+            batchSendExecutor.execute(() -> send(batch));
+        }
+        return future;
+    }
+
+    // ==================== ENVÍO ====================
+
+    private void flushPending() {
+        Map<Integer, CompletableFuture<FixtureResponse>> batch;
+        synchronized (lock) {
+            batch = takePending();
+        }
+        if (!batch.isEmpty()) batchSendExecutor.execute(() -> send(batch));
+    }
+
+    /**
+     * Saca el lote en espera y lo pasa a "en vuelo" (llamar con el cerrojo)
+     */
+    private Map<Integer, CompletableFuture<FixtureResponse>> takePending() {
+        Map<Integer, CompletableFuture<FixtureResponse>> batch = pending;
+        pending = new LinkedHashMap<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        inFlight.putAll(batch);
+        return batch;
+    }
+
+    private void send(Map<Integer, CompletableFuture<FixtureResponse>> batch) {
+        List<Integer> ids = new ArrayList<>(batch.keySet());
+        Map<Integer, FixtureResponse> results = new HashMap<>();
+        Exception failure = null;
+        try {
+            log.info("📡 Lote de {} partidos por ID", ids.size());
+            FixtureResponse response = apiService.getFixturesByIds(ids);
+
+            Map<Integer, FixtureResponse.FixtureData> byId = new HashMap<>();
+            if (response != null && response.getResponse() != null) {
+                for (FixtureResponse.FixtureData data : response.getResponse()) {
+                    if (data.getFixture() != null) byId.put(data.getFixture().getId(), data);
+                }
+                try {
+                    fixtureCache.saveFixtures(response);
+                } catch (Exception e) {
+                    log.warn("⚠️ No se pudo guardar el lote de partidos en BD: {}", e.getMessage());
+                }
+            }
+
+            Cache cache = cacheManager.getCache(FIXTURE_CACHE);
+            for (Integer id : ids) {
+                FixtureResponse single = single(byId.get(id));
+                if (cache != null && single.getResults() > 0) {
+                    cache.put(id, single);
+                }
+                results.put(id, single);
+            }
+        } catch (Exception e) {
+            failure = e;
+        } finally {
+            // Fuera de "en vuelo" antes de responder: quien pida después ya no comparte este lote
+            synchronized (lock) {
+                ids.forEach(inFlight::remove);
+            }
+        }
+
+        Exception error = failure;
+        batch.forEach((id, future) -> {
+            if (error != null) future.completeExceptionally(error);
+            else future.complete(results.get(id));
+        });
+    }
+
+    private static FixtureResponse single(FixtureResponse.FixtureData data) {
+        FixtureResponse response = new FixtureResponse();
+        response.setGet("fixtures");
+        response.setResponse(data != null ? List.of(data) : List.of());
+        response.setResults(data != null ? 1 : 0);
+        return response;
+    }
+}
@@ -0,0 +1,604 @@
+package com.example.information.service;
+
+import com.example.information.entities.cache.CachedFixture;
+import com.example.information.entities.cache.CachedFixtureDetail;
+import com.example.information.entities.cache.CachedFixtureSeason;
+import com.example.information.entities.cache.CachedFixtureTombstone;
+import com.example.information.model.FixtureChanges;
+import com.example.information.model.apifootball.ApiFootballResponse;
+import com.example.information.model.apifootball.FixtureEventsResponse;
+import com.example.information.model.apifootball.FixtureResponse;
+import com.example.information.model.apifootball.FixtureStatisticsResponse;
+import com.example.information.model.apifootball.FixtureStatus;
+import com.example.information.repositories.cache.CachedFixtureDetailRepository;
+import com.example.information.repositories.cache.CachedFixtureRepository;
+import com.example.information.repositories.cache.CachedFixtureSeasonRepository;
+import com.example.information.repositories.cache.CachedFixtureTombstoneRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio de caché persistente de partidos (fixtures).
+ *
+ * - Una fila por partido con columnas indexadas (liga/temporada, jornada, fecha, equipo, estado)
+ * - Los partidos finalizados se congelan: nunca se reescriben
+ * - Escrituras omitidas si el contenido no cambia (hash del JSON)
+ * - Cada escritura recibe una versión de cambio creciente para la sincronización delta
+ * - Eventos y estadísticas de partidos finalizados se guardan para siempre (inmutables)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class FixtureCacheService {
+
+    private final CachedFixtureRepository fixtureRepository;
+    private final CachedFixtureTombstoneRepository tombstoneRepository;
+    private final CachedFixtureDetailRepository detailRepository;
+    private final CachedFixtureSeasonRepository seasonRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher events;
+    private final FixtureChangeSequence changeSequence;
+
+    /** Tiempo que se conservan las marcas de borrado; clientes más antiguos recargan todo */
+    private static final long TOMBSTONE_RETENTION_MS = 7 * 24 * 60 * 60 * 1000L;
+
+    /**
+     * Partidos que han pasado a finalizados en un guardado (o que llegan ya finalizados).
+     * Se publica una vez por guardado, tras confirmar la transacción; los oyentes deben
+     * tolerar repeticiones.
+     */
+    public record FixturesFinished(List<CachedFixture> fixtures) {}
+
+    /**
+     * Partidos escritos en un guardado (nuevos o con contenido distinto), tal como llegaron de la API.
+     * Se publica tras confirmar la transacción.
+     */
+    public record FixturesSaved(List<FixtureResponse.FixtureData> fixtures) {}
+
+    // ==================== GUARDADO ====================
+
+    /**
+     * Guarda los partidos de una respuesta de la API.
+     * Los ya finalizados en BD se ignoran; el resto se inserta o actualiza en el sitio.
+     *
+     * @return número de filas escritas
+     */
+    public int saveFixtures(FixtureResponse response) {
+        // Sin resultados o con errores de la API no hay nada que guardar
+        if (!ApiFootballResponse.isSuccess(response)) return 0;
+
+        List<Integer> ids = response.getResponse().stream()
+            .filter(d -> d.getFixture() != null)
+            .map(d -> d.getFixture().getId())
+            .collect(Collectors.toList());
+        Map<Integer, CachedFixture> existing = fixtureRepository.findByApiIdIn(ids).stream()
+            .collect(Collectors.toMap(CachedFixture::getApiId, Function.identity(), (a, b) -> a));
+
+        int written = 0;
+        // Una versión para todo el guardado, reservada solo si se escribe algo
+        long changeSeq = -1;
+        List<CachedFixture> finished = new ArrayList<>();
+        List<FixtureResponse.FixtureData> saved = new ArrayList<>();
+        for (FixtureResponse.FixtureData data : response.getResponse()) {
+            if (data.getFixture() == null || data.getLeague() == null) continue;
+
+            if (data.getEvents() != null || data.getStatistics() != null) {
+                // La consulta por id trae eventos y estadísticas: si ya terminó, se guardan
+                if (FixtureStatus.isFinished(FixtureStatus.of(data))) {
+                    saveFinishedDetails(data.getFixture().getId(), data.getEvents(), data.getStatistics());
+                }
+            }
+
+            CachedFixture cached = existing.get(data.getFixture().getId());
+            if (cached != null && cached.isFinished()) {
+                continue; // Congelado
+            }
+
+            try {
+                String json = objectMapper.writeValueAsString(data);
+                String hash = FootballCacheService.contentHash(json);
+                if (cached != null && hash.equals(cached.getContentHash())) {
+                    continue;
+                }
+
+                if (cached == null) {
+                    cached = CachedFixture.builder()
+                        .apiId(data.getFixture().getId())
+                        .build();
+                }
+                LocalDate previousDate = cached.getMatchDate();
+                applyFields(cached, data);
+                cached.setRawJson(json);
+                cached.setContentHash(hash);
+                if (changeSeq < 0) changeSeq = changeSequence.reserve();
+                cached.setChangeSeq(changeSeq);
+                if (previousDate != null && !previousDate.equals(cached.getMatchDate())) {
+                    // Aplazado: desaparece del día en que estaba
+                    saveTombstone(cached, previousDate);
+                }
+                fixtureRepository.save(cached);
+                saved.add(data);
+                if (cached.isFinished()) {
+                    finished.add(cached);
+                }
+                written++;
+            } catch (JsonProcessingException e) {
+                log.error("Error serializando partido {}: {}", data.getFixture().getId(), e.getMessage());
+            }
+        }
+
+        if (written > 0) {
+            log.info("💾 {} partidos guardados en caché de BD ({} recibidos)", written, response.getResponse().size());
+        }
+        if (!saved.isEmpty()) {
+            events.publishEvent(new FixturesSaved(saved));
+        }
+        if (!finished.isEmpty()) {
+            events.publishEvent(new FixturesFinished(finished));
+        }
+        return written;
+    }
+
+    private void applyFields(CachedFixture cached, FixtureResponse.FixtureData data) {
+        long kickoff = data.getFixture().getTimestamp();
+        String status = FixtureStatus.of(data);
+
+        cached.setLeagueId(data.getLeague().getId());
+        cached.setSeason(data.getLeague().getSeason());
+        cached.setRound(data.getLeague().getRound());
+        cached.setKickoffAt(kickoff);
+        cached.setMatchDate(LocalDate.ofInstant(Instant.ofEpochSecond(kickoff), ZoneOffset.UTC));
+        cached.setStatusShort(status);
+        cached.setFinished(FixtureStatus.isFinished(status));
+
+        if (data.getTeams() != null) {
+            cached.setHomeTeamId(data.getTeams().getHome() != null ? data.getTeams().getHome().getId() : null);
+            cached.setAwayTeamId(data.getTeams().getAway() != null ? data.getTeams().getAway().getId() : null);
+        }
+        if (data.getGoals() != null) {
+            cached.setGoalsHome(data.getGoals().getHome());
+            cached.setGoalsAway(data.getGoals().getAway());
+        }
+    }
+
+    /**
+     * Marca una liga/temporada como descargada completa
+     */
+    public void markSeasonIngested(int leagueId, int season, int fixtureCount) {
+        if (seasonRepository.existsByLeagueIdAndSeason(leagueId, season)) return;
+        seasonRepository.save(CachedFixtureSeason.builder()
+            .leagueId(leagueId)
+            .season(season)
+            .fixtureCount(fixtureCount)
+            .build());
+    }
+
+    // ==================== CONSULTAS ====================
+
+    /**
+     * Verifica si una liga/temporada está descargada completa (no solo partidos sueltos)
+     */
+    @Transactional(readOnly = true)
+    public boolean isSeasonIngested(int leagueId, int season) {
+        return seasonRepository.existsByLeagueIdAndSeason(leagueId, season);
+    }
+
+    /**
+     * Ligas descargadas completas de entre las indicadas
+     */
+    @Transactional(readOnly = true)
+    public Set<Integer> getIngestedLeagues(Collection<Integer> leagueIds, int season) {
+        if (leagueIds.isEmpty()) return Set.of();
+        return seasonRepository.findBySeasonAndLeagueIdIn(season, leagueIds).stream()
+            .map(CachedFixtureSeason::getLeagueId)
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Verifica si hay partidos de una liga/temporada en caché
+     */
+    @Transactional(readOnly = true)
+    public boolean hasFixturesInCache(int leagueId, int season) {
+        return fixtureRepository.existsByLeagueIdAndSeason(leagueId, season);
+    }
+
+    /**
+     * Obtiene los partidos de una liga/temporada de la caché
+     */
+    @Transactional(readOnly = true)
+    public FixtureResponse getFixturesByLeagueFromCache(int leagueId, int season) {
+        List<CachedFixture> cached = fixtureRepository.findByLeagueIdAndSeasonOrderByKickoffAtAsc(leagueId, season);
+        if (cached.isEmpty()) {
+            log.info("📭 No hay partidos de liga {} season {} en caché de BD", leagueId, season);
+            return null;
+        }
+
+        log.info("📦 {} partidos de liga {} season {} recuperados de caché de BD", cached.size(), leagueId, season);
+        return convertToFixtureResponse(cached);
+    }
+
+    /**
+     * Obtiene los partidos de un equipo (local o visitante) en una temporada de la caché,
+     * de todas las competiciones
+     */
+    @Transactional(readOnly = true)
+    public FixtureResponse getFixturesByTeamFromCache(int teamId, int season) {
+        List<CachedFixture> cached = fixtureRepository.findByTeamAndSeason(teamId, season);
+        log.info("📦 {} partidos del equipo {} season {} recuperados de caché de BD", cached.size(), teamId, season);
+        return convertToFixtureResponse(cached);
+    }
+
+    /**
+     * Partidos de un día (UTC) de la caché, de todas las ligas
+     */
+    @Transactional(readOnly = true)
+    public List<FixtureResponse.FixtureData> getFixturesByDateFromCache(LocalDate date) {
+        return convertToFixtureResponse(fixtureRepository.findByMatchDateOrderByKickoffAtAsc(date)).getResponse();
+    }
+
+    /**
+     * Obtiene los partidos de una jornada de la caché
+     */
+    @Transactional(readOnly = true)
+    public FixtureResponse getFixturesByRoundFromCache(int leagueId, int season, String round) {
+        List<CachedFixture> cached = fixtureRepository.findByLeagueIdAndSeasonAndRoundOrderByKickoffAtAsc(leagueId, season, round);
+        log.info("📦 {} partidos de la jornada '{}' recuperados de caché de BD", cached.size(), round);
+        return convertToFixtureResponse(cached);
+    }
+
+    /**
+     * Obtiene los partidos jugados de la última jornada.
+     * Mismo criterio que ApiFootballService.getLatestRound, pero sobre la BD.
+     */
+    @Transactional(readOnly = true)
+    public FixtureResponse getLatestRoundFromCache(int leagueId, int season) {
+        Optional<CachedFixture> last = fixtureRepository
+            .findFirstByLeagueIdAndSeasonAndStatusShortInOrderByKickoffAtDesc(leagueId, season, FixtureStatus.PLAYED);
+        if (last.isEmpty() || last.get().getRound() == null) {
+            log.warn("No hay partidos finalizados de liga {} season {} en caché de BD", leagueId, season);
+            return convertToFixtureResponse(List.of());
+        }
+
+        String round = last.get().getRound();
+        List<CachedFixture> finished = fixtureRepository
+            .findByLeagueIdAndSeasonAndRoundOrderByKickoffAtAsc(leagueId, season, round).stream()
+            .filter(f -> FixtureStatus.isPlayed(f.getStatusShort()))
+            .collect(Collectors.toList());
+        log.info("📦 Última jornada '{}' de liga {}: {} partidos de caché de BD", round, leagueId, finished.size());
+        return convertToFixtureResponse(finished);
+    }
+
+    /**
+     * Obtiene un partido finalizado de la caché (los no finalizados pueden estar desactualizados)
+     */
+    @Transactional(readOnly = true)
+    public FixtureResponse getFinishedFixtureFromCache(int fixtureId) {
+        return fixtureRepository.findByApiId(fixtureId)
+            .filter(CachedFixture::isFinished)
+            .map(f -> convertToFixtureResponse(List.of(f)))
+            .orElse(null);
+    }
+
+    /**
+     * Partidos jugados (FT, AET, PEN) de una liga/temporada, sin deserializar el JSON
+     */
+    @Transactional(readOnly = true)
+    public List<CachedFixture> getPlayedFixtures(int leagueId, int season) {
+        return fixtureRepository.findByLeagueIdAndSeasonAndStatusShortIn(leagueId, season, FixtureStatus.PLAYED);
+    }
+
+    /**
+     * Partidos de todas las ligas que empiezan entre dos instantes (epoch en segundos)
+     */
+    @Transactional(readOnly = true)
+    public List<CachedFixture> getFixturesKickingOffBetween(long from, long to) {
+        return fixtureRepository.findByKickoffAtBetweenOrderByKickoffAtAsc(from, to);
+    }
+
+    /**
+     * Verifica si todos los partidos de una jornada están finalizados en BD
+     */
+    @Transactional(readOnly = true)
+    public boolean isRoundComplete(int leagueId, int season, String round) {
+        return !fixtureRepository.existsByLeagueIdAndSeasonAndRoundAndFinishedFalse(leagueId, season, round);
+    }
+
+    /**
+     * Inicio (epoch en segundos) del partido sin finalizar más antiguo que ya debería
+     * haber empezado, o null si no hay ninguno pendiente.
+     */
+    @Transactional(readOnly = true)
+    public Long getOldestPendingKickoff(int leagueId, int season, long now) {
+        return fixtureRepository
+            .findFirstByLeagueIdAndSeasonAndFinishedFalseAndKickoffAtLessThanEqualOrderByKickoffAtAsc(leagueId, season, now)
+            .map(CachedFixture::getKickoffAt)
+            .orElse(null);
+    }
+
+    /**
+     * IDs de los partidos sin finalizar que empezaban antes de {@code before} (epoch en segundos)
+     */
+    @Transactional(readOnly = true)
+    public List<Integer> getPendingFixtureIdsBefore(int leagueId, int season, long before) {
+        return fixtureRepository.findPendingApiIdsBefore(leagueId, season, before);
+    }
+
+    // ==================== EVENTOS Y ESTADÍSTICAS ====================
+
+    /**
+     * Eventos de un partido finalizado guardados en BD, o null si no están.
+     * Como no cambian, también se quedan en memoria.
+     */
+    @Cacheable(value = "finishedFixtureEvents", key = "#fixtureId", unless = "#result == null")
+    @Transactional(readOnly = true)
+    public FixtureEventsResponse getFinishedEventsFromCache(int fixtureId) {
+        String json = detailRepository.findByApiId(fixtureId).map(CachedFixtureDetail::getEventsJson).orElse(null);
+        List<FixtureEventsResponse.Event> events = readList(json, FixtureEventsResponse.Event.class, fixtureId);
+        if (events == null) return null;
+
+        log.info("📦 Eventos del partido finalizado {} recuperados de caché de BD", fixtureId);
+        FixtureEventsResponse response = new FixtureEventsResponse();
+        response.setGet("fixtures/events");
+        response.setResults(events.size());
+        response.setResponse(events);
+        return response;
+    }
+
+    /**
+     * Estadísticas de un partido finalizado guardadas en BD, o null si no están
+     */
+    @Cacheable(value = "finishedFixtureStatistics", key = "#fixtureId", unless = "#result == null")
+    @Transactional(readOnly = true)
+    public FixtureStatisticsResponse getFinishedStatisticsFromCache(int fixtureId) {
+        String json = detailRepository.findByApiId(fixtureId).map(CachedFixtureDetail::getStatisticsJson).orElse(null);
+        List<FixtureStatisticsResponse.TeamStatistics> statistics =
+            readList(json, FixtureStatisticsResponse.TeamStatistics.class, fixtureId);
+        if (statistics == null) return null;
+
+        log.info("📦 Estadísticas del partido finalizado {} recuperadas de caché de BD", fixtureId);
+        FixtureStatisticsResponse response = new FixtureStatisticsResponse();
+        response.setGet("fixtures/statistics");
+        response.setResults(statistics.size());
+        response.setResponse(statistics);
+        return response;
+    }
+
+    /**
+     * Guarda los eventos si el partido está finalizado en BD (si no, no se sabe si cambiarán)
+     */
+    public void saveFinishedEvents(int fixtureId, List<FixtureEventsResponse.Event> events) {
+        if (isFinishedInCache(fixtureId)) {
+            saveFinishedDetails(fixtureId, events, null);
+        }
+    }
+
+    /**
+     * Guarda las estadísticas si el partido está finalizado en BD
+     */
+    public void saveFinishedStatistics(int fixtureId, List<FixtureStatisticsResponse.TeamStatistics> statistics) {
+        if (isFinishedInCache(fixtureId)) {
+            saveFinishedDetails(fixtureId, null, statistics);
+        }
+    }
+
+    /**
+     * Verifica si un partido finalizado tiene guardados eventos y estadísticas
+     */
+    @Transactional(readOnly = true)
+    public boolean hasFinishedDetails(int fixtureId) {
+        return detailRepository.findByApiId(fixtureId)
+            .map(d -> d.getEventsJson() != null && d.getStatisticsJson() != null)
+            .orElse(false);
+    }
+
+    private boolean isFinishedInCache(int fixtureId) {
+        return fixtureRepository.findByApiId(fixtureId).map(CachedFixture::isFinished).orElse(false);
+    }
+
+    /**
+     * Escribe cada parte una sola vez. Las listas vacías no se guardan: la API a veces
+     * tarda en publicar las estadísticas tras el final y se volverán a pedir.
+     */
+    private void saveFinishedDetails(int fixtureId, List<FixtureEventsResponse.Event> events,
+                                     List<FixtureStatisticsResponse.TeamStatistics> statistics) {
+        boolean hasEvents = events != null && !events.isEmpty();
+        boolean hasStatistics = statistics != null && !statistics.isEmpty();
+        if (!hasEvents && !hasStatistics) return;
+
+        CachedFixtureDetail detail = detailRepository.findByApiId(fixtureId)
+            .orElseGet(() -> CachedFixtureDetail.builder().apiId(fixtureId).build());
+        try {
+            boolean changed = false;
+            if (hasEvents && detail.getEventsJson() == null) {
+                detail.setEventsJson(objectMapper.writeValueAsString(events));
+                changed = true;
+            }
+            if (hasStatistics && detail.getStatisticsJson() == null) {
+                detail.setStatisticsJson(objectMapper.writeValueAsString(statistics));
+                changed = true;
+            }
+            if (changed) {
+                detailRepository.save(detail);
+                log.info("💾 Eventos/estadísticas del partido finalizado {} guardados en caché de BD", fixtureId);
+            }
+        } catch (JsonProcessingException e) {
+            log.error("Error serializando detalle del partido {}: {}", fixtureId, e.getMessage());
+        }
+    }
+
+    private <T> List<T> readList(String json, Class<T> type, int fixtureId) {
+        if (json == null) return null;
+        try {
+            JavaType listType = objectMapper.getTypeFactory().constructCollectionType(List.class, type);
+            return objectMapper.readValue(json, listType);
+        } catch (JsonProcessingException e) {
+            log.error("Error deserializando detalle del partido {}: {}", fixtureId, e.getMessage());
+            return null;
+        }
+    }
+
+    // ==================== SINCRONIZACIÓN DELTA ====================
+
+    /**
+     * Indica si un cliente con esa versión debe recargar el ámbito completo:
+     * primera carga, versión posterior a la actual (BD reiniciada) o tan antigua
+     * que sus marcas de borrado ya se purgaron.
+     * Las versiones se basan en milisegundos, así que también indican cuándo se asignaron.
+     */
+    @Transactional(readOnly = true)
+    public boolean needsFullResync(long since) {
+        return since <= 0
+            || since > changeSequence.current()
+            || since < System.currentTimeMillis() - TOMBSTONE_RETENTION_MS;
+    }
+
+    /**
+     * Cambios de los partidos de una liga/temporada desde una versión
+     */
+    @Transactional(readOnly = true)
+    public FixtureChanges getChangesByLeague(int leagueId, int season, long since) {
+        long version = safeVersion(since);
+        if (needsFullResync(since)) {
+            return fullResync(since, version, fixtureRepository.findByLeagueIdAndSeasonOrderByKickoffAtAsc(leagueId, season));
+        }
+        return changes(since, version,
+            fixtureRepository.findByLeagueIdAndSeasonAndChangeSeqGreaterThanOrderByKickoffAtAsc(leagueId, season, since),
+            tombstoneRepository.findByLeagueIdAndSeasonAndChangeSeqGreaterThan(leagueId, season, since));
+    }
+
+    /**
+     * Cambios de los partidos de un día (UTC) desde una versión
+     */
+    @Transactional(readOnly = true)
+    public FixtureChanges getChangesByDate(LocalDate date, long since) {
+        long version = safeVersion(since);
+        if (needsFullResync(since)) {
+            return fullResync(since, version, fixtureRepository.findByMatchDateOrderByKickoffAtAsc(date));
+        }
+        return changes(since, version,
+            fixtureRepository.findByMatchDateAndChangeSeqGreaterThanOrderByKickoffAtAsc(date, since),
+            tombstoneRepository.findByMatchDateAndChangeSeqGreaterThan(date, since));
+    }
+
+    /**
+     * Cambios de los partidos de un equipo en una temporada desde una versión
+     */
+    @Transactional(readOnly = true)
+    public FixtureChanges getChangesByTeam(int teamId, int season, long since) {
+        long version = safeVersion(since);
+        if (needsFullResync(since)) {
+            return fullResync(since, version, fixtureRepository.findByTeamAndSeason(teamId, season));
+        }
+        return changes(since, version,
+            fixtureRepository.findByTeamAndSeasonChangedSince(teamId, season, since),
+            tombstoneRepository.findByTeamAndSeasonChangedSince(teamId, season, since));
+    }
+
+    /**
+     * Purga las marcas de borrado fuera del periodo de retención
+     */
+    @Scheduled(fixedDelay = 6 * 60 * 60 * 1000L, initialDelay = 60 * 1000L)
+    public void purgeTombstones() {
+        int deleted = tombstoneRepository.deleteOlderThan(System.currentTimeMillis() - TOMBSTONE_RETENTION_MS);
+        if (deleted > 0) {
+            log.info("🧹 {} marcas de borrado de partidos purgadas", deleted);
+        }
+    }
+
+    private FixtureChanges changes(long since, long version, List<CachedFixture> changed, List<CachedFixtureTombstone> tombstones) {
+        // Un partido que sale y vuelve a entrar en el ámbito solo cuenta como cambio
+        Set<Integer> present = changed.stream().map(CachedFixture::getApiId).collect(Collectors.toSet());
+        List<Integer> removed = tombstones.stream()
+            .map(CachedFixtureTombstone::getApiId)
+            .filter(id -> !present.contains(id))
+            .distinct()
+            .collect(Collectors.toList());
+
+        log.info("📦 {} partidos cambiados y {} eliminados desde la versión {}", changed.size(), removed.size(), since);
+        return FixtureChanges.builder()
+            .since(since)
+            .version(version)
+            .changed(convertToFixtureResponse(changed).getResponse())
+            .removed(removed)
+            .build();
+    }
+
+    private FixtureChanges fullResync(long since, long version, List<CachedFixture> all) {
+        log.info("📦 Recarga completa de {} partidos (versión del cliente {})", all.size(), since);
+        return FixtureChanges.builder()
+            .since(since)
+            .version(version)
+            .fullResync(true)
+            .changed(convertToFixtureResponse(all).getResponse())
+            .removed(List.of())
+            .build();
+    }
+
+    /**
+     * Versión que se devuelve al cliente: la más alta con todos los cambios hasta ella ya
+     * confirmados (ver FixtureChangeSequence). Se lee antes de consultar, así que lo
+     * devuelto incluye al menos todo hasta ella; lo posterior puede repetirse en
+     * la siguiente petición, lo que es inocuo.
+     */
+    private long safeVersion(long since) {
+        return Math.max(changeSequence.watermark(), Math.max(since, 0));
+    }
+
+    private void saveTombstone(CachedFixture fixture, LocalDate previousDate) {
+        tombstoneRepository.save(CachedFixtureTombstone.builder()
+            .apiId(fixture.getApiId())
+            .leagueId(fixture.getLeagueId())
+            .season(fixture.getSeason())
+            .matchDate(previousDate)
+            .homeTeamId(fixture.getHomeTeamId())
+            .awayTeamId(fixture.getAwayTeamId())
+            .changeSeq(fixture.getChangeSeq())
+            .build());
+    }
+
+    // ==================== CONVERSIÓN ====================
+
+    FixtureResponse convertToFixtureResponse(List<CachedFixture> cached) {
+        List<FixtureResponse.FixtureData> data = cached.stream()
+            .map(this::convertToFixtureData)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+
+        FixtureResponse response = new FixtureResponse();
+        response.setGet("fixtures");
+        response.setResults(data.size());
+        response.setResponse(data);
+        return response;
+    }
+
+    private FixtureResponse.FixtureData convertToFixtureData(CachedFixture cached) {
+        try {
+            return objectMapper.readValue(cached.getRawJson(), FixtureResponse.FixtureData.class);
+        } catch (JsonProcessingException e) {
+            log.error("Error deserializando partido {}: {}", cached.getApiId(), e.getMessage());
+            return null;
+        }
+    }
+}
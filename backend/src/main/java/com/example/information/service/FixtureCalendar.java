@@ -0,0 +1,214 @@
+package com.example.information.service;
+
+import com.example.information.model.apifootball.FixtureResponse;
+import com.example.information.model.apifootball.FixtureStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Calendario en memoria de partidos de todas las ligas, particionado por día UTC.
+ *
+ * - Cada día se carga de la BD la primera vez que se consulta
+ * - Se mantiene al día con los {@link FixtureCacheService.FixturesSaved} de cualquier guardado
+ *   (sincronización de ligas, sondeo en vivo, consulta por fecha...)
+ * - Un día en otra zona horaria abarca dos días UTC: se combinan y se filtra por hora de inicio
+ * - El día completo (todas las ligas) se pide a la API como mucho una vez al día; los días
+ *   ya cerrados, una sola vez
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FixtureCalendar {
+
+    /** Intervalo mínimo entre descargas del día completo */
+    private static final long DAY_FETCH_INTERVAL_MS = 24 * 60 * 60 * 1000L;
+
+    /** Margen tras el final de un día UTC para darlo por cerrado (partidos de última hora y prórrogas) */
+    private static final long DAY_CLOSE_MARGIN_MS = 12 * 60 * 60 * 1000L;
+
+    /** Días sin consultar que se conservan en memoria */
+    private static final long DAY_IDLE_MS = 48 * 60 * 60 * 1000L;
+
+    private final FixtureCacheService fixtureCache;
+
+    private final Map<LocalDate, Day> days = new ConcurrentHashMap<>();
+
+    /** Día UTC en el que está cada partido de los días cargados (para moverlo si se aplaza) */
+    private final Map<Integer, LocalDate> dayByFixture = new ConcurrentHashMap<>();
+
+    /** Última descarga del día completo desde la API (epoch en ms) */
+    private final Map<LocalDate, Long> dayFetches = new ConcurrentHashMap<>();
+
+    private static final Comparator<FixtureResponse.FixtureData> BY_KICKOFF =
+        Comparator.comparingLong((FixtureResponse.FixtureData f) -> f.getFixture().getTimestamp())
+            .thenComparing(f -> f.getFixture().getId());
+
+    /**
+     * Partidos de un día UTC por ID de partido
+     */
+    private static final class Day {
+        private final Map<Integer, FixtureResponse.FixtureData> fixtures = new HashMap<>();
+        private volatile long lastReadAt = System.currentTimeMillis();
+
+        synchronized void put(FixtureResponse.FixtureData data) {
+            fixtures.put(data.getFixture().getId(), data);
+        }
+
+        synchronized void remove(Integer fixtureId) {
+            fixtures.remove(fixtureId);
+        }
+
+        synchronized List<FixtureResponse.FixtureData> snapshot() {
+            lastReadAt = System.currentTimeMillis();
+            return new ArrayList<>(fixtures.values());
+        }
+    }
+
+    // ==================== CONSULTAS ====================
+
+    /**
+     * Partidos de un día en la zona indicada, ordenados por hora de inicio
+     *
+     * @param leagues  ligas a incluir (vacío = todas)
+     * @param statuses estados cortos a incluir (vacío = todos)
+     */
+    public FixtureResponse getFixtures(LocalDate date, ZoneId zone, Set<Integer> leagues, Set<String> statuses) {
+        long from = date.atStartOfDay(zone).toEpochSecond();
+        long to = date.plusDays(1).atStartOfDay(zone).toEpochSecond();
+
+        List<FixtureResponse.FixtureData> fixtures = utcDays(date, zone).stream()
+            .flatMap(day -> day(day).snapshot().stream())
+            .filter(f -> f.getFixture().getTimestamp() >= from && f.getFixture().getTimestamp() < to)
+            .filter(f -> leagues.isEmpty() || (f.getLeague() != null && leagues.contains(f.getLeague().getId())))
+            .filter(f -> statuses.isEmpty() || statuses.contains(FixtureStatus.of(f)))
+            .sorted(BY_KICKOFF)
+            .collect(Collectors.toList());
+
+        log.info("📦 {} partidos del {} ({}) servidos del calendario en memoria", fixtures.size(), date, zone);
+        FixtureResponse response = new FixtureResponse();
+        response.setGet("fixtures");
+        response.setResults(fixtures.size());
+        response.setResponse(fixtures);
+        return response;
+    }
+
+    /**
+     * Días UTC que abarca un día en la zona indicada (uno o dos)
+     */
+    public List<LocalDate> utcDays(LocalDate date, ZoneId zone) {
+        LocalDate first = LocalDate.ofInstant(date.atStartOfDay(zone).toInstant(), ZoneOffset.UTC);
+        LocalDate last = LocalDate.ofInstant(date.plusDays(1).atStartOfDay(zone).toInstant().minusSeconds(1), ZoneOffset.UTC);
+        return first.equals(last) ? List.of(first) : List.of(first, last);
+    }
+
+    // ==================== DESCARGA DEL DÍA COMPLETO ====================
+
+    /**
+     * Indica si hay que pedir a la API el día UTC completo: nunca descargado,
+     * o descargado hace más de un día y sin cerrar todavía en aquel momento
+     */
+    public boolean needsFetch(LocalDate utcDay) {
+        Long fetchedAt = dayFetches.get(utcDay);
+        if (fetchedAt == null) return true;
+        if (fetchedAt > closeOf(utcDay)) return false; // Ya estaba cerrado: no va a cambiar
+        return System.currentTimeMillis() - fetchedAt >= DAY_FETCH_INTERVAL_MS;
+    }
+
+    /**
+     * Registra la descarga del día completo (sus partidos llegan por el guardado)
+     */
+    public void markFetched(LocalDate utcDay) {
+        dayFetches.put(utcDay, System.currentTimeMillis());
+    }
+
+    // ==================== ACTUALIZACIÓN ====================
+
+    /**
+     * Aplica los partidos guardados a los días cargados
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFixturesSaved(FixtureCacheService.FixturesSaved event) {
+        for (FixtureResponse.FixtureData data : event.fixtures()) {
+            if (data.getFixture() == null) continue;
+            Integer id = data.getFixture().getId();
+            LocalDate day = LocalDate.ofInstant(Instant.ofEpochSecond(data.getFixture().getTimestamp()), ZoneOffset.UTC);
+
+            LocalDate previous = dayByFixture.get(id);
+            if (previous != null && !previous.equals(day)) {
+                // Aplazado: sale del día en que estaba
+                Day old = days.get(previous);
+                if (old != null) old.remove(id);
+                dayByFixture.remove(id);
+            }
+
+            Day target = days.get(day);
+            if (target != null) {
+                target.put(data);
+                dayByFixture.put(id, day);
+            }
+        }
+    }
+
+    /**
+     * Libera los días que nadie ha consultado recientemente
+     */
+    @Scheduled(fixedDelay = 60 * 60 * 1000L, initialDelay = 60 * 60 * 1000L)
+    public void evictIdleDays() {
+        long now = System.currentTimeMillis();
+        Set<LocalDate> idle = new HashSet<>();
+        days.forEach((date, day) -> {
+            if (now - day.lastReadAt > DAY_IDLE_MS) idle.add(date);
+        });
+        if (idle.isEmpty()) return;
+
+        idle.forEach(days::remove);
+        dayByFixture.values().removeIf(idle::contains);
+        log.info("🧹 {} días del calendario liberados de memoria", idle.size());
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private Day day(LocalDate utcDay) {
+        Day day = days.get(utcDay);
+        if (day != null) return day;
+
+        synchronized (days) {
+            day = days.get(utcDay);
+            if (day != null) return day;
+
+            // Se registra antes de leer la BD para no perder guardados concurrentes
+            Day loaded = new Day();
+            days.put(utcDay, loaded);
+            for (FixtureResponse.FixtureData data : fixtureCache.getFixturesByDateFromCache(utcDay)) {
+                Integer id = data.getFixture().getId();
+                if (dayByFixture.putIfAbsent(id, utcDay) == null) {
+                    loaded.put(data);
+                }
+            }
+            log.info("📦 Día {} cargado en el calendario ({} partidos de BD)", utcDay, loaded.fixtures.size());
+            return loaded;
+        }
+    }
+
+    private long closeOf(LocalDate utcDay) {
+        return utcDay.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli() + DAY_CLOSE_MARGIN_MS;
+    }
+}
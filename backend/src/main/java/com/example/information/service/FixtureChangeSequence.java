@@ -0,0 +1,149 @@
+package com.example.information.service;
+
+import com.example.information.entities.cache.FixtureChangeLease;
+import com.example.information.repositories.cache.CachedFixtureRepository;
+import com.example.information.repositories.cache.CachedFixtureTombstoneRepository;
+import com.example.information.repositories.cache.FixtureChangeCounterRepository;
+import com.example.information.repositories.cache.FixtureChangeLeaseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Versiones de cambio de los partidos para la sincronización delta, válidas con
+ * varias instancias y con transacciones largas.
+ *
+ * - Cada transacción que escribe partidos reserva una versión en la BD: el contador de una
+ *   fila avanza con un UPDATE (bloqueo de fila), así que es mayor que todas las anteriores de
+ *   cualquier instancia y, mientras el reloj avance, igual al instante actual en milisegundos
+ * - La reserva deja una marca en curso (fixture_change_leases), confirmada aparte, que se
+ *   borra cuando la transacción que escribe termina, confirme o no
+ * - La versión que se anuncia a los clientes no llega a la más baja en curso: todo cambio
+ *   con versión menor o igual que la anunciada ya está confirmado, tarde lo que tarde
+ * - Las marcas de una instancia caída (su transacción ya se deshizo) se ignoran pasado LEASE_MAX_MS
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FixtureChangeSequence {
+
+    private static final int COUNTER_ID = 1;
+
+    /** Una marca más antigua es de una instancia caída: ninguna escritura de partidos dura tanto */
+    private static final long LEASE_MAX_MS = 15 * 60 * 1000L;
+
+    private final FixtureChangeCounterRepository counterRepository;
+    private final FixtureChangeLeaseRepository leaseRepository;
+    private final CachedFixtureRepository fixtureRepository;
+    private final CachedFixtureTombstoneRepository tombstoneRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private volatile boolean initialized;
+
+    /**
+     * Reserva una versión para los cambios de la transacción actual. La marca en curso se
+     * quita al terminar la transacción (o enseguida si no hay ninguna activa, cuando cada
+     * guardado se confirma por sí solo).
+     */
+    public long reserve() {
+        if (!initialized) initialize();
+        FixtureChangeLease lease = requiresNew().execute(status -> {
+            if (counterRepository.advance(COUNTER_ID, System.currentTimeMillis()) == 0) {
+                throw new IllegalStateException("Contador de versiones sin inicializar");
+            }
+            return leaseRepository.save(FixtureChangeLease.builder()
+                .seq(counterRepository.findLastSeq(COUNTER_ID))
+                .build());
+        });
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    release(lease);
+                }
+            });
+        } else {
+            release(lease);
+        }
+        return lease.getSeq();
+    }
+
+    /**
+     * Última versión reservada, confirmada o no
+     */
+    public long current() {
+        if (!initialized) initialize();
+        return Optional.ofNullable(counterRepository.findLastSeq(COUNTER_ID)).orElse(0L);
+    }
+
+    /**
+     * Versión hasta la que todos los cambios están confirmados.
+     * El contador se lee antes que las marcas: una reserva posterior a esa lectura tiene
+     * una versión mayor, y una anterior ya tiene su marca (se confirman juntas).
+     */
+    public long watermark() {
+        long reserved = current();
+        Long inFlight = leaseRepository.findMinSeqReservedAfter(LocalDateTime.now().minus(Duration.ofMillis(LEASE_MAX_MS)));
+        return inFlight != null ? Math.min(reserved, inFlight - 1) : reserved;
+    }
+
+    /**
+     * Crea el contador si no existe, a partir de la última versión ya guardada en la BD
+     */
+    private synchronized void initialize() {
+        if (initialized) return;
+        if (counterRepository.existsById(COUNTER_ID)) {
+            initialized = true;
+            return;
+        }
+        long fixtures = Optional.ofNullable(fixtureRepository.findMaxChangeSeq()).orElse(0L);
+        long tombstones = Optional.ofNullable(tombstoneRepository.findMaxChangeSeq()).orElse(0L);
+        try {
+            requiresNew().executeWithoutResult(status -> counterRepository.insert(COUNTER_ID, Math.max(fixtures, tombstones)));
+            log.info("🔢 Contador de versiones de partidos inicializado en {}", Math.max(fixtures, tombstones));
+        } catch (DataIntegrityViolationException e) {
+            // Otra instancia lo ha creado a la vez
+            log.debug("Contador de versiones ya creado por otra instancia");
+        }
+        initialized = true;
+    }
+
+    /**
+     * Elimina las marcas abandonadas por instancias caídas
+     */
+    @Scheduled(fixedDelay = 60 * 60 * 1000L, initialDelay = 5 * 60 * 1000L)
+    public void purgeAbandonedLeases() {
+        Integer deleted = requiresNew().execute(status ->
+            leaseRepository.deleteOlderThan(LocalDateTime.now().minus(Duration.ofMillis(LEASE_MAX_MS))));
+        if (deleted != null && deleted > 0) {
+            log.warn("⚠️ {} versiones de partidos reservadas por instancias caídas eliminadas", deleted);
+        }
+    }
+
+    private void release(FixtureChangeLease lease) {
+        try {
+            requiresNew().executeWithoutResult(status -> leaseRepository.deleteById(lease.getId()));
+        } catch (RuntimeException e) {
+            // Se ignorará pasado LEASE_MAX_MS; hasta entonces la versión anunciada no avanza
+            log.error("❌ No se pudo liberar la versión de partidos {}: {}", lease.getSeq(), e.getMessage());
+        }
+    }
+
+    private TransactionTemplate requiresNew() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.information.service;
+
+import com.example.information.model.FixtureDetail;
+import com.example.information.model.apifootball.FixtureEventsResponse;
+import com.example.information.model.apifootball.FixtureResponse;
+import com.example.information.model.apifootball.FixtureStatisticsResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Detalle completo de un partido (datos, eventos y estadísticas) en una sola respuesta.
+ *
+ * - Partido, eventos y estadísticas se piden a la vez (de la BD si el partido está finalizado)
+ * - El partido por id ({@code /fixtures?id=}) ya trae eventos y estadísticas: si llegan con él
+ *   se usan esos, y las otras dos peticiones solo terminan de rellenar la caché
+ * - Tiempo máximo compartido: lo que no llegue se omite (partial=true) y la petición
+ *   sigue en segundo plano, rellenando la caché para la próxima vez
+ * - Lo que falla también se omite y se indica (partial=true, failed)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FixtureDetailService {
+
+    private final CachedFootballApiService cachedApiService;
+    private final ExecutorService detailExecutor;
+
+    @Value("${football.fixture-detail.budget-ms:3000}")
+    private long budgetMs;
+
+    public FixtureDetail getFixtureDetail(int fixtureId) {
+        long start = System.currentTimeMillis();
+        log.info("🔍 Detalle completo del partido {}...", fixtureId);
+
+        // 1. Las tres partes a la vez (el partido, de la API, puede traer ya las otras dos)
+        CompletableFuture<FixtureResponse.FixtureData> fixtureFuture = CompletableFuture.supplyAsync(
+            () -> first(cachedApiService.getFixtureById(fixtureId)), detailExecutor);
+        CompletableFuture<List<FixtureEventsResponse.Event>> eventsFuture = CompletableFuture.supplyAsync(
+            () -> events(cachedApiService.getFixtureEvents(fixtureId)), detailExecutor);
+        CompletableFuture<List<FixtureStatisticsResponse.TeamStatistics>> statisticsFuture = CompletableFuture.supplyAsync(
+            () -> statistics(cachedApiService.getFixtureStatistics(fixtureId)), detailExecutor);
+
+        // 2. Recoger lo que llegue dentro del tiempo máximo; eventos y estadísticas del propio
+        //    partido si vienen con él
+        long deadline = start + budgetMs;
+        List<String> timedOut = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+        FixtureResponse.FixtureData fixture = await(fixtureFuture, deadline, "fixture", timedOut, failed);
+        List<FixtureEventsResponse.Event> events = fixture != null && fixture.getEvents() != null
+            ? fixture.getEvents()
+            : await(eventsFuture, deadline, "events", timedOut, failed);
+        List<FixtureStatisticsResponse.TeamStatistics> statistics = fixture != null && fixture.getStatistics() != null
+            ? fixture.getStatistics()
+            : await(statisticsFuture, deadline, "statistics", timedOut, failed);
+
+        boolean combined = fixture != null && fixture.getEvents() != null && fixture.getStatistics() != null;
+        boolean partial = !timedOut.isEmpty() || !failed.isEmpty();
+
+        long tookMs = System.currentTimeMillis() - start;
+        if (!partial) {
+            log.info("✅ Detalle del partido {} en {} ms{}", fixtureId, tookMs, combined ? " (con el propio partido)" : "");
+        } else {
+            log.warn("⚠️ Detalle del partido {} parcial, sin respuesta de {} y con error en {} ({} ms)",
+                    fixtureId, timedOut, failed, tookMs);
+        }
+
+        return FixtureDetail.builder()
+            .fixture(fixture)
+            .events(events)
+            .statistics(statistics)
+            .partial(partial)
+            .timedOut(timedOut)
+            .failed(failed)
+            .combined(combined)
+            .tookMs(tookMs)
+            .build();
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private FixtureResponse.FixtureData first(FixtureResponse response) {
+        if (response == null || response.getResponse() == null || response.getResponse().isEmpty()) return null;
+        return response.getResponse().get(0);
+    }
+
+    private List<FixtureEventsResponse.Event> events(FixtureEventsResponse response) {
+        return response != null ? response.getResponse() : null;
+    }
+
+    private List<FixtureStatisticsResponse.TeamStatistics> statistics(FixtureStatisticsResponse response) {
+        return response != null ? response.getResponse() : null;
+    }
+
+    /**
+     * Espera a una parte hasta el tiempo máximo; null si no llega a tiempo (se anota en
+     * timedOut) o falla (se anota en failed)
+     */
+    private <T> T await(CompletableFuture<T> future, long deadline, String part, List<String> timedOut, List<String> failed) {
+        try {
+            return future.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timedOut.add(part);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            timedOut.add(part);
+            return null;
+        } catch (Exception e) {
+            log.error("❌ Error obteniendo {} del partido: {}", part, e.getMessage());
+            failed.add(part);
+            return null;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.information.service;
 
+import com.example.information.config.TrigramSearchInitializer;
 import com.example.information.entities.cache.*;
 import com.example.information.model.apifootball.*;
 import com.example.information.repositories.cache.*;
@@ -7,12 +8,35 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -35,44 +59,70 @@ public class FootballCacheService {
     private final CachedPlayerRepository playerRepository;
     private final CachedStandingsRepository standingsRepository;
     private final CachedSquadRepository squadRepository;
+    private final CachedPlayerStatisticsRepository playerStatisticsRepository;
+    private final CachedFixtureRepository fixtureRepository;
+    private final CachedTeamLeaguesRepository teamLeaguesRepository;
+    private final NameSearchIndex nameIndex;
+    private final TrigramSearchInitializer trigramSearch;
+    private final PlatformTransactionManager transactionManager;
+
+    /** Máximo de resultados de una búsqueda por nombre */
+    private static final int SEARCH_LIMIT = 50;
+    private static final Pageable SEARCH_PAGE = PageRequest.of(0, SEARCH_LIMIT);
+
+    /** Intentos de guardar una lista que choca con otra escritura simultánea */
+    private static final int SAVE_ATTEMPTS = 3;
+
+    /** Tamaño de página al cargar el índice de nombres */
+    private static final int NAME_INDEX_PAGE_SIZE = 5000;
+
+    /** Antigüedad máxima de las competiciones de un equipo */
+    private static final int TEAM_LEAGUES_MAX_AGE_DAYS = 7;
     private final ObjectMapper objectMapper;
 
     // ==================== LIGAS ====================
 
     /**
-     * Guarda ligas en la caché de base de datos
+     * Guarda ligas en la caché de base de datos (las ya cacheadas se omiten).
+     * En una transacción propia que se repite si otra petición inserta las mismas ligas a la vez.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void saveLeagues(LeagueResponse response) {
-        if (response == null || response.getResponse() == null) return;
+        if (!isStorable(response, "ligas")) return;
         
         log.info("💾 Guardando {} ligas en caché de BD", response.getResponse().size());
         
-        for (LeagueResponse.LeagueData data : response.getResponse()) {
-            try {
-                if (!leagueRepository.existsByApiId(data.getLeague().getId())) {
-                    CachedLeague cached = CachedLeague.builder()
-                        .apiId(data.getLeague().getId())
-                        .name(data.getLeague().getName())
-                        .type(data.getLeague().getType())
-                        .logo(data.getLeague().getLogo())
-                        .countryName(data.getCountry().getName())
-                        .countryCode(data.getCountry().getCode())
-                        .countryFlag(data.getCountry().getFlag())
-                        .currentSeason(getCurrentSeason(data.getSeasons()))
-                        .rawJson(objectMapper.writeValueAsString(data))
-                        .build();
-                    leagueRepository.save(cached);
-                }
-            } catch (JsonProcessingException e) {
-                log.error("Error serializando liga {}: {}", data.getLeague().getName(), e.getMessage());
+        saveInNewTransaction("ligas", () -> response.getResponse().forEach(this::saveLeague));
+        log.info("✅ Ligas guardadas en caché de BD");
+    }
+
+    private void saveLeague(LeagueResponse.LeagueData data) {
+        try {
+            if (!leagueRepository.existsByApiId(data.getLeague().getId())) {
+                CachedLeague cached = CachedLeague.builder()
+                    .apiId(data.getLeague().getId())
+                    .name(data.getLeague().getName())
+                    .type(data.getLeague().getType())
+                    .logo(data.getLeague().getLogo())
+                    .countryName(data.getCountry().getName())
+                    .countryCode(data.getCountry().getCode())
+                    .countryFlag(data.getCountry().getFlag())
+                    .currentSeason(getCurrentSeason(data.getSeasons()))
+                    .rawJson(objectMapper.writeValueAsString(data))
+                    .build();
+                leagueRepository.save(cached);
+                nameIndex.put(NameSearchIndex.EntityType.LEAGUE, cached.getApiId(), cached.getName(),
+                        cached.getCountryName(), cached.getLogo());
             }
+        } catch (JsonProcessingException e) {
+            log.error("Error serializando liga {}: {}", data.getLeague().getName(), e.getMessage());
         }
-        log.info("✅ Ligas guardadas en caché de BD");
     }
 
     /**
      * Obtiene todas las ligas de la caché
      */
+    @Transactional(readOnly = true)
     public LeagueResponse getLeaguesFromCache() {
         List<CachedLeague> cached = leagueRepository.findAll();
         if (cached.isEmpty()) {
@@ -87,6 +137,7 @@ public class FootballCacheService {
     /**
      * Obtiene una liga por ID de la caché
      */
+    @Transactional(readOnly = true)
     public LeagueResponse getLeagueByIdFromCache(int apiId) {
         Optional<CachedLeague> cached = leagueRepository.findByApiId(apiId);
         if (cached.isEmpty()) {
@@ -101,6 +152,7 @@ public class FootballCacheService {
     /**
      * Obtiene ligas por país de la caché
      */
+    @Transactional(readOnly = true)
     public LeagueResponse getLeaguesByCountryFromCache(String country) {
         List<CachedLeague> cached = leagueRepository.findByCountryNameIgnoreCase(country);
         if (cached.isEmpty()) {
@@ -115,6 +167,7 @@ public class FootballCacheService {
     /**
      * Verifica si hay ligas en caché
      */
+    @Transactional(readOnly = true)
     public boolean hasLeaguesInCache() {
         return leagueRepository.count() > 0;
     }
@@ -122,66 +175,71 @@ public class FootballCacheService {
     // ==================== EQUIPOS ====================
 
     /**
-     * Guarda equipos en la caché de base de datos
+     * Guarda equipos en la caché de base de datos.
+     * En una transacción propia que se repite si otra petición inserta los mismos equipos a la vez.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void saveTeams(TeamResponse response, Integer leagueId, Integer season) {
-        if (response == null || response.getResponse() == null) return;
+        if (!isStorable(response, "equipos")) return;
         
         log.info("💾 Guardando {} equipos en caché de BD (liga={}, season={})", 
                 response.getResponse().size(), leagueId, season);
         
-        for (TeamResponse.TeamData data : response.getResponse()) {
-            try {
-                // Buscar si ya existe para esta liga/temporada
-                Optional<CachedTeam> existing = teamRepository.findFirstByApiId(data.getTeam().getId());
-                
-                CachedTeam cached;
-                if (existing.isPresent() && existing.get().getLeagueId() != null 
-                    && existing.get().getLeagueId().equals(leagueId) 
-                    && existing.get().getSeason() != null 
-                    && existing.get().getSeason().equals(season)) {
-                    // Actualizar existente
-                    cached = existing.get();
-                } else {
-                    // Crear nuevo
-                    cached = new CachedTeam();
-                }
-                
-                cached.setApiId(data.getTeam().getId());
-                cached.setName(data.getTeam().getName());
-                cached.setCode(data.getTeam().getCode());
-                cached.setCountry(data.getTeam().getCountry());
-                cached.setFounded(data.getTeam().getFounded());
-                cached.setNational(data.getTeam().isNational());
-                cached.setLogo(data.getTeam().getLogo());
-                cached.setLeagueId(leagueId);
-                cached.setSeason(season);
-                cached.setRawJson(objectMapper.writeValueAsString(data));
-                
-                if (data.getVenue() != null) {
-                    cached.setVenueId(data.getVenue().getId());
-                    cached.setVenueName(data.getVenue().getName());
-                    cached.setVenueAddress(data.getVenue().getAddress());
-                    cached.setVenueCity(data.getVenue().getCity());
-                    cached.setVenueCapacity(data.getVenue().getCapacity());
-                    cached.setVenueSurface(data.getVenue().getSurface());
-                    cached.setVenueImage(data.getVenue().getImage());
-                }
-                
-                teamRepository.save(cached);
-            } catch (JsonProcessingException e) {
-                log.error("Error serializando equipo {}: {}", data.getTeam().getName(), e.getMessage());
+        saveInNewTransaction("equipos", () -> {
+            for (TeamResponse.TeamData data : response.getResponse()) {
+                saveLeagueTeam(data, leagueId, season);
             }
-        }
+        });
         log.info("✅ Equipos guardados en caché de BD");
     }
 
+    private void saveLeagueTeam(TeamResponse.TeamData data, Integer leagueId, Integer season) {
+        try {
+            // Actualizar si ya existe para esta liga/temporada, si no crear nuevo
+            CachedTeam cached = teamRepository
+                .findByNaturalKey(CachedTeam.keyOf(data.getTeam().getId(), leagueId, season))
+                .orElseGet(CachedTeam::new);
+            
+            cached.setApiId(data.getTeam().getId());
+            cached.setName(data.getTeam().getName());
+            cached.setCode(data.getTeam().getCode());
+            cached.setCountry(data.getTeam().getCountry());
+            cached.setFounded(data.getTeam().getFounded());
+            cached.setNational(data.getTeam().isNational());
+            cached.setLogo(data.getTeam().getLogo());
+            cached.setLeagueId(leagueId);
+            cached.setSeason(season);
+            cached.setRawJson(objectMapper.writeValueAsString(data));
+            
+            if (data.getVenue() != null) {
+                cached.setVenueId(data.getVenue().getId());
+                cached.setVenueName(data.getVenue().getName());
+                cached.setVenueAddress(data.getVenue().getAddress());
+                cached.setVenueCity(data.getVenue().getCity());
+                cached.setVenueCapacity(data.getVenue().getCapacity());
+                cached.setVenueSurface(data.getVenue().getSurface());
+                cached.setVenueImage(data.getVenue().getImage());
+            }
+            
+            teamRepository.save(cached);
+            nameIndex.put(NameSearchIndex.EntityType.TEAM, cached.getApiId(), cached.getName(),
+                    cached.getCountry(), cached.getLogo());
+        } catch (JsonProcessingException e) {
+            log.error("Error serializando equipo {}: {}", data.getTeam().getName(), e.getMessage());
+        }
+    }
+
     /**
-     * Guarda un equipo individual (de búsqueda)
+     * Guarda un equipo individual (de búsqueda) si no está ya cacheado.
+     * Si otra petición lo inserta a la vez, la repetición lo encuentra y no hace nada.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void saveTeam(TeamResponse.TeamData data) {
         if (data == null) return;
-        
+        saveInNewTransaction("equipo " + data.getTeam().getId(), () -> saveSearchedTeam(data));
+    }
+
+    private void saveSearchedTeam(TeamResponse.TeamData data) {
         try {
             if (!teamRepository.existsByApiId(data.getTeam().getId())) {
                 CachedTeam cached = CachedTeam.builder()
@@ -206,6 +264,8 @@ public class FootballCacheService {
                 }
                 
                 teamRepository.save(cached);
+                nameIndex.put(NameSearchIndex.EntityType.TEAM, cached.getApiId(), cached.getName(),
+                        cached.getCountry(), cached.getLogo());
                 log.info("💾 Equipo {} guardado en caché de BD", data.getTeam().getName());
             }
         } catch (JsonProcessingException e) {
@@ -216,6 +276,7 @@ public class FootballCacheService {
     /**
      * Obtiene equipos por liga y temporada de la caché
      */
+    @Transactional(readOnly = true)
     public TeamResponse getTeamsByLeagueFromCache(int leagueId, int season) {
         List<CachedTeam> cached = teamRepository.findByLeagueIdAndSeason(leagueId, season);
         if (cached.isEmpty()) {
@@ -230,6 +291,7 @@ public class FootballCacheService {
     /**
      * Obtiene un equipo por ID de la caché
      */
+    @Transactional(readOnly = true)
     public TeamResponse getTeamByIdFromCache(int apiId) {
         Optional<CachedTeam> cached = teamRepository.findFirstByApiId(apiId);
         if (cached.isEmpty()) {
@@ -242,10 +304,21 @@ public class FootballCacheService {
     }
 
     /**
-     * Busca equipos por nombre en la caché
+     * Busca equipos por nombre en la caché.
+     * Usa el índice de nombres en memoria (sin acentos, ordenado por relevancia).
+     * Si está desactivado o cargándose: búsqueda trigram en PostgreSQL o LIKE (H2).
      */
+    @Transactional(readOnly = true)
     public TeamResponse searchTeamsFromCache(String name) {
-        List<CachedTeam> cached = teamRepository.searchByName(name);
+        List<CachedTeam> cached;
+        if (nameIndex.isReady()) {
+            List<Integer> ids = searchIndexIds(name, NameSearchIndex.EntityType.TEAM);
+            cached = ids.isEmpty() ? List.of() : orderByIds(teamRepository.findByApiIdIn(ids), ids, CachedTeam::getApiId);
+        } else if (trigramSearch.isAvailable()) {
+            cached = teamRepository.fuzzySearchByName(name, containsPattern(name), SEARCH_LIMIT);
+        } else {
+            cached = teamRepository.searchByName(containsPattern(name), SEARCH_PAGE);
+        }
         if (cached.isEmpty()) {
             log.info("📭 No hay equipos con nombre '{}' en caché de BD", name);
             return null;
@@ -258,6 +331,7 @@ public class FootballCacheService {
     /**
      * Verifica si hay equipos para una liga/temporada en caché
      */
+    @Transactional(readOnly = true)
     public boolean hasTeamsInCache(int leagueId, int season) {
         return teamRepository.existsByLeagueIdAndSeason(leagueId, season);
     }
@@ -265,52 +339,118 @@ public class FootballCacheService {
     // ==================== JUGADORES ====================
 
     /**
-     * Guarda jugadores en la caché de base de datos
+     * Guarda jugadores en la caché de base de datos.
+     * La lista entera en una transacción propia: o se guarda completa o no se guarda nada.
+     * Si choca con otra petición que inserta los mismos jugadores a la vez, se repite la
+     * lista completa (en la repetición esas filas ya existen y se actualizan).
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void savePlayers(PlayerResponse response, Integer teamId, Integer leagueId, Integer season, String searchKey) {
-        if (response == null || response.getResponse() == null) return;
+        if (!isStorable(response, "jugadores")) return;
         
         log.info("💾 Guardando {} jugadores en caché de BD", response.getResponse().size());
         
-        for (PlayerResponse.PlayerData data : response.getResponse()) {
-            try {
-                savePlayer(data, teamId, leagueId, season, searchKey);
-            } catch (Exception e) {
-                log.error("Error guardando jugador {}: {}", data.getPlayer().getName(), e.getMessage());
+        saveAll(response, teamId, leagueId, season, searchKey, teamId != null);
+        log.info("✅ Jugadores guardados en caché de BD");
+    }
+
+    /**
+     * Guarda una página de la lista de jugadores de un equipo sin contarla todavía como
+     * plantilla: una lista a medias se serviría como completa. Cuando han llegado todas
+     * las páginas se marca con {@link #markTeamListed}.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void savePlayersPage(PlayerResponse response, int teamId, int season) {
+        if (!isStorable(response, "jugadores")) return;
+        
+        log.info("💾 Guardando página {} de jugadores del equipo {} en caché de BD",
+                response.getPaging() != null ? response.getPaging().getCurrent() : 1, teamId);
+        saveAll(response, teamId, null, season, null, false);
+    }
+
+    /**
+     * Marca como plantilla del equipo los jugadores de una lista guardada por páginas,
+     * una vez guardadas todas
+     */
+    public void markTeamListed(int teamId, int season, Collection<Integer> apiIds) {
+        if (apiIds.isEmpty()) return;
+        int updated = playerRepository.markTeamListed(teamId, season, apiIds);
+        log.info("✅ Plantilla del equipo {} season {} completa en caché de BD ({} jugadores)", teamId, season, updated);
+    }
+
+    private void saveAll(PlayerResponse response, Integer teamId, Integer leagueId, Integer season, String searchKey, boolean listed) {
+        saveInNewTransaction(response.getResponse().size() + " jugadores", () -> {
+            for (PlayerResponse.PlayerData data : response.getResponse()) {
+                savePlayer(data, teamId, leagueId, season, searchKey, listed);
             }
+        });
+    }
+
+    /**
+     * Guarda las estadísticas de una clasificación de jugadores (goleadores, asistentes...).
+     * Solo en las estadísticas normalizadas: en la tabla de jugadores dejaría una plantilla
+     * parcial (uno o dos jugadores por equipo) que se serviría como la plantilla completa.
+     */
+    public void saveRankingStatistics(PlayerResponse response, Integer season) {
+        if (!isStorable(response, "clasificación de jugadores")) return;
+        
+        for (PlayerResponse.PlayerData data : response.getResponse()) {
+            if (data == null || data.getPlayer() == null) continue;
+            savePlayerStatistics(data, season);
         }
-        log.info("✅ Jugadores guardados en caché de BD");
+        log.info("💾 Estadísticas de {} jugadores de clasificación guardadas en caché de BD", response.getResponse().size());
     }
 
     /**
-     * Guarda un jugador individual
+     * Guarda un jugador individual.
+     * Upsert sobre la clave natural (apiId, temporada, equipo): una fila por temporada
+     * y equipo, actualizando la existente si ya estaba cacheada.
+     *
+     * @param teamId equipo cuya lista de jugadores se guarda, o null si el jugador viene
+     *               de una búsqueda o consulta suelta (no cuenta para la plantilla)
      */
     public void savePlayer(PlayerResponse.PlayerData data, Integer teamId, Integer leagueId, Integer season, String searchKey) {
-        if (data == null) return;
+        savePlayer(data, teamId, leagueId, season, searchKey, teamId != null);
+    }
+
+    private void savePlayer(PlayerResponse.PlayerData data, Integer teamId, Integer leagueId, Integer season, String searchKey,
+                            boolean listed) {
+        if (data == null || data.getPlayer() == null) return;
         
         try {
-            // No duplicar si ya existe para esta temporada
-            if (playerRepository.existsByApiId(data.getPlayer().getId())) {
-                return;
-            }
+            PlayerResponse.Statistics stats = data.getStatistics() != null && !data.getStatistics().isEmpty()
+                ? data.getStatistics().get(0) : null;
+            
+            // El equipo y la temporada de las estadísticas mandan sobre los parámetros
+            Integer resolvedTeamId = stats != null && stats.getTeam() != null ? Integer.valueOf(stats.getTeam().getId()) : teamId;
+            Integer resolvedSeason = season != null ? season : parseSeason(stats);
+            
+            CachedPlayer cached = playerRepository
+                .findByNaturalKey(CachedPlayer.keyOf(data.getPlayer().getId(), resolvedSeason, resolvedTeamId))
+                .orElseGet(CachedPlayer::new);
             
-            CachedPlayer cached = CachedPlayer.builder()
-                .apiId(data.getPlayer().getId())
-                .name(data.getPlayer().getName())
-                .firstname(data.getPlayer().getFirstname())
-                .lastname(data.getPlayer().getLastname())
-                .age(data.getPlayer().getAge())
-                .nationality(data.getPlayer().getNationality())
-                .height(data.getPlayer().getHeight())
-                .weight(data.getPlayer().getWeight())
-                .photo(data.getPlayer().getPhoto())
-                .injured(data.getPlayer().isInjured())
-                .teamId(teamId)
-                .leagueId(leagueId)
-                .season(season)
-                .searchKey(searchKey)
-                .rawJson(objectMapper.writeValueAsString(data))
-                .build();
+            cached.setApiId(data.getPlayer().getId());
+            cached.setName(data.getPlayer().getName());
+            cached.setFirstname(data.getPlayer().getFirstname());
+            cached.setLastname(data.getPlayer().getLastname());
+            cached.setAge(data.getPlayer().getAge());
+            cached.setNationality(data.getPlayer().getNationality());
+            cached.setHeight(data.getPlayer().getHeight());
+            cached.setWeight(data.getPlayer().getWeight());
+            cached.setPhoto(data.getPlayer().getPhoto());
+            cached.setInjured(data.getPlayer().isInjured());
+            cached.setTeamId(resolvedTeamId);
+            cached.setSeason(resolvedSeason);
+            if (listed && teamId.equals(resolvedTeamId)) {
+                cached.setTeamListed(true);
+            }
+            if (leagueId != null) {
+                cached.setLeagueId(leagueId);
+            }
+            if (searchKey != null) {
+                cached.setSearchKey(searchKey);
+            }
+            cached.setRawJson(objectMapper.writeValueAsString(data));
             
             if (data.getPlayer().getBirth() != null) {
                 cached.setBirthDate(data.getPlayer().getBirth().getDate());
@@ -319,10 +459,8 @@ public class FootballCacheService {
             }
             
             // Extraer datos del equipo/liga de las estadísticas
-            if (data.getStatistics() != null && !data.getStatistics().isEmpty()) {
-                PlayerResponse.Statistics stats = data.getStatistics().get(0);
+            if (stats != null) {
                 if (stats.getTeam() != null) {
-                    cached.setTeamId(stats.getTeam().getId());
                     cached.setTeamName(stats.getTeam().getName());
                     cached.setTeamLogo(stats.getTeam().getLogo());
                 }
@@ -336,17 +474,88 @@ public class FootballCacheService {
             }
             
             playerRepository.save(cached);
-            log.debug("💾 Jugador {} guardado en caché de BD", data.getPlayer().getName());
+            savePlayerStatistics(data, resolvedSeason);
+            nameIndex.put(NameSearchIndex.EntityType.PLAYER, cached.getApiId(), cached.getName(),
+                    cached.getTeamName(), cached.getPhoto());
+            log.debug("💾 Jugador {} (season {}, equipo {}) guardado en caché de BD", 
+                    data.getPlayer().getName(), resolvedSeason, resolvedTeamId);
         } catch (JsonProcessingException e) {
             log.error("Error serializando jugador {}: {}", data.getPlayer().getName(), e.getMessage());
         }
     }
 
+    /**
+     * Normaliza todas las estadísticas del jugador (una fila por equipo/competición/temporada)
+     */
+    private void savePlayerStatistics(PlayerResponse.PlayerData data, Integer season) {
+        if (data.getStatistics() == null) return;
+        
+        for (PlayerResponse.Statistics stats : data.getStatistics()) {
+            if (stats.getTeam() == null || stats.getLeague() == null) continue;
+            
+            Integer statsSeason = parseSeason(stats) != null ? parseSeason(stats) : season;
+            if (statsSeason == null) continue;
+            
+            CachedPlayerStatistics row = playerStatisticsRepository
+                .findByPlayerApiIdAndTeamIdAndLeagueIdAndSeason(
+                    data.getPlayer().getId(), stats.getTeam().getId(), stats.getLeague().getId(), statsSeason)
+                .orElseGet(CachedPlayerStatistics::new);
+            
+            row.setPlayerApiId(data.getPlayer().getId());
+            row.setPlayerName(data.getPlayer().getName());
+            row.setPlayerPhoto(data.getPlayer().getPhoto());
+            row.setTeamId(stats.getTeam().getId());
+            row.setTeamName(stats.getTeam().getName());
+            row.setTeamLogo(stats.getTeam().getLogo());
+            row.setLeagueId(stats.getLeague().getId());
+            row.setLeagueName(stats.getLeague().getName());
+            row.setSeason(statsSeason);
+            
+            PlayerResponse.Games games = stats.getGames();
+            row.setPosition(games != null ? games.getPosition() : null);
+            row.setRating(games != null ? games.getRating() : null);
+            row.setAppearances(games != null ? games.getAppearances() : null);
+            row.setLineups(games != null ? games.getLineups() : null);
+            row.setMinutes(games != null ? games.getMinutes() : null);
+            
+            PlayerResponse.Goals goals = stats.getGoals();
+            row.setGoals(goals != null ? zeroIfNull(goals.getTotal()) : 0);
+            row.setAssists(goals != null ? zeroIfNull(goals.getAssists()) : 0);
+            
+            PlayerResponse.Cards cards = stats.getCards();
+            row.setYellowCards(cards != null ? zeroIfNull(cards.getYellow()) : 0);
+            row.setYellowRedCards(cards != null ? zeroIfNull(cards.getYellowred()) : 0);
+            row.setRedCards(cards != null ? zeroIfNull(cards.getRed()) : 0);
+            
+            playerStatisticsRepository.save(row);
+        }
+    }
+
+    private int zeroIfNull(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    /**
+     * Busca un jugador por su clave natural (apiId, temporada, equipo)
+     */
+    /**
+     * Extrae la temporada de las estadísticas del jugador (viene como texto en la API)
+     */
+    private Integer parseSeason(PlayerResponse.Statistics stats) {
+        if (stats == null || stats.getLeague() == null || stats.getLeague().getSeason() == null) return null;
+        try {
+            return Integer.valueOf(stats.getLeague().getSeason());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     /**
      * Obtiene jugadores por equipo y temporada de la caché
      */
+    @Transactional(readOnly = true)
     public PlayerResponse getPlayersByTeamFromCache(int teamId, int season) {
-        List<CachedPlayer> cached = playerRepository.findByTeamIdAndSeason(teamId, season);
+        List<CachedPlayer> cached = playerRepository.findByTeamIdAndSeasonAndTeamListedTrue(teamId, season);
         if (cached.isEmpty()) {
             log.info("📭 No hay jugadores para equipo {} season {} en caché de BD", teamId, season);
             return null;
@@ -359,14 +568,12 @@ public class FootballCacheService {
     /**
      * Obtiene un jugador por ID de la caché
      */
+    @Transactional(readOnly = true)
     public PlayerResponse getPlayerByIdFromCache(int apiId, int season) {
-        Optional<CachedPlayer> cached = playerRepository.findByApiIdAndSeason(apiId, season);
+        // Solo la temporada pedida: otra temporada devolvería datos incorrectos
+        Optional<CachedPlayer> cached = playerRepository.findFirstByApiIdAndSeasonOrderByUpdatedAtDesc(apiId, season);
         if (cached.isEmpty()) {
-            // Intentar buscar sin temporada
-            cached = playerRepository.findFirstByApiId(apiId);
-        }
-        if (cached.isEmpty()) {
-            log.info("📭 Jugador {} no encontrado en caché de BD", apiId);
+            log.info("📭 Jugador {} season {} no encontrado en caché de BD", apiId, season);
             return null;
         }
         
@@ -377,11 +584,28 @@ public class FootballCacheService {
     /**
      * Busca jugadores por nombre en la caché
      */
+    @Transactional(readOnly = true)
     public PlayerResponse searchPlayersFromCache(String name, int leagueId, int season) {
-        List<CachedPlayer> cached = playerRepository.searchByNameAndLeague(name, leagueId, season);
-        if (cached.isEmpty()) {
-            // Buscar sin filtro de liga
-            cached = playerRepository.searchByName(name);
+        List<CachedPlayer> cached;
+        if (nameIndex.isReady()) {
+            List<Integer> ids = searchIndexIds(name, NameSearchIndex.EntityType.PLAYER);
+            List<CachedPlayer> all = ids.isEmpty() ? List.of() : playerRepository.findByApiIdIn(ids);
+            List<CachedPlayer> inLeague = all.stream()
+                .filter(p -> Integer.valueOf(leagueId).equals(p.getLeagueId()) && Integer.valueOf(season).equals(p.getSeason()))
+                .collect(Collectors.toList());
+            // Si no hay en la liga pedida, sin filtro de liga
+            cached = orderByIds(inLeague.isEmpty() ? all : inLeague, ids, CachedPlayer::getApiId);
+        } else if (trigramSearch.isAvailable()) {
+            cached = playerRepository.fuzzySearchByNameAndLeague(name, containsPattern(name), leagueId, season, SEARCH_LIMIT);
+            if (cached.isEmpty()) {
+                cached = playerRepository.fuzzySearchByName(name, containsPattern(name), SEARCH_LIMIT);
+            }
+        } else {
+            cached = playerRepository.searchByNameAndLeague(containsPattern(name), leagueId, season, SEARCH_PAGE);
+            if (cached.isEmpty()) {
+                // Buscar sin filtro de liga
+                cached = playerRepository.searchByName(containsPattern(name), SEARCH_PAGE);
+            }
         }
         if (cached.isEmpty()) {
             log.info("📭 No hay jugadores con nombre '{}' en caché de BD", name);
@@ -392,24 +616,162 @@ public class FootballCacheService {
         return convertToPlayerResponse(cached);
     }
 
+    // ==================== ÍNDICE DE NOMBRES ====================
+
+    /**
+     * Autocompletado de ligas, equipos y jugadores desde el índice en memoria
+     */
+    public List<NameSearchIndex.Hit> autocomplete(String prefix, int limit) {
+        return nameIndex.autocomplete(prefix, EnumSet.allOf(NameSearchIndex.EntityType.class), limit);
+    }
+
+    /**
+     * Busca nombres de un tipo (liga, equipo o jugador) para la búsqueda federada.
+     * Usa el índice en memoria si está listo; si no, la BD (trigram o LIKE).
+     */
+    @Transactional(readOnly = true)
+    public List<NameSearchIndex.Hit> searchNames(NameSearchIndex.EntityType type, String query, int limit) {
+        if (nameIndex.isReady()) {
+            return nameIndex.search(query, EnumSet.of(type), limit);
+        }
+
+        boolean fuzzy = trigramSearch.isAvailable();
+        List<NameSearchIndex.Hit> hits = switch (type) {
+            case LEAGUE -> (fuzzy ? leagueRepository.fuzzySearchByNameOrCountry(query, containsPattern(query), SEARCH_LIMIT) : leagueRepository.searchByNameOrCountry(containsPattern(query), SEARCH_PAGE))
+                .stream().map(l -> toHit(type, l.getApiId(), l.getName(), l.getCountryName(), l.getLogo(), query)).toList();
+            case TEAM -> (fuzzy ? teamRepository.fuzzySearchByName(query, containsPattern(query), SEARCH_LIMIT) : teamRepository.searchByName(containsPattern(query), SEARCH_PAGE))
+                .stream().map(t -> toHit(type, t.getApiId(), t.getName(), t.getCountry(), t.getLogo(), query)).toList();
+            case PLAYER -> (fuzzy ? playerRepository.fuzzySearchByName(query, containsPattern(query), SEARCH_LIMIT) : playerRepository.searchByName(containsPattern(query), SEARCH_PAGE))
+                .stream().map(p -> toHit(type, p.getApiId(), p.getName(), p.getTeamName(), p.getPhoto(), query)).toList();
+        };
+
+        // Una entrada por apiId (la BD puede tener varias temporadas)
+        Map<Integer, NameSearchIndex.Hit> unique = new LinkedHashMap<>();
+        for (NameSearchIndex.Hit hit : hits) {
+            unique.merge(hit.apiId(), hit, (a, b) -> a.score() >= b.score() ? a : b);
+        }
+        return unique.values().stream()
+            .sorted(Comparator.comparingDouble(NameSearchIndex.Hit::score).reversed())
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    private NameSearchIndex.Hit toHit(NameSearchIndex.EntityType type, int apiId, String name, String detail, String image, String query) {
+        double score = NameSearchIndex.score(NameSearchIndex.fold(name), NameSearchIndex.fold(query));
+        return new NameSearchIndex.Hit(type, apiId, name, detail, image, score);
+    }
+
+    /**
+     * Carga el índice de nombres desde la BD al arrancar (por páginas y sin rawJson).
+     * Después se mantiene al día de forma incremental en cada guardado.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUpNameIndex() {
+        if (!nameIndex.isEnabled()) {
+            log.info("🔎 Índice de nombres en memoria desactivado, búsquedas contra la BD");
+            return;
+        }
+        long start = System.currentTimeMillis();
+        loadNameEntries(NameSearchIndex.EntityType.LEAGUE, leagueRepository::findNameEntries);
+        loadNameEntries(NameSearchIndex.EntityType.TEAM, teamRepository::findNameEntries);
+        loadNameEntries(NameSearchIndex.EntityType.PLAYER, playerRepository::findNameEntries);
+        nameIndex.markReady();
+        log.info("🔎 Índice de nombres cargado en {} ms", System.currentTimeMillis() - start);
+    }
+
+    private void loadNameEntries(NameSearchIndex.EntityType type, Function<Pageable, Page<NameEntry>> loader) {
+        Page<NameEntry> page = loader.apply(PageRequest.of(0, NAME_INDEX_PAGE_SIZE));
+        while (true) {
+            for (NameEntry entry : page.getContent()) {
+                nameIndex.put(type, entry.getApiId(), entry.getName(), entry.getDetail(), entry.getImage());
+            }
+            if (!page.hasNext()) break;
+            page = loader.apply(page.nextPageable());
+        }
+    }
+
+    private List<Integer> searchIndexIds(String name, NameSearchIndex.EntityType type) {
+        return nameIndex.search(name, EnumSet.of(type), SEARCH_LIMIT).stream()
+            .map(NameSearchIndex.Hit::apiId)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Ordena las filas según el ranking del índice, dejando una fila por apiId
+     */
+    private <T> List<T> orderByIds(List<T> rows, List<Integer> ids, Function<T, Integer> apiId) {
+        Map<Integer, T> byId = new LinkedHashMap<>();
+        for (T row : rows) {
+            byId.putIfAbsent(apiId.apply(row), row);
+        }
+        return ids.stream()
+            .map(byId::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    // ==================== ESTADÍSTICAS DE JUGADORES ====================
+
+    /**
+     * Obtiene una clasificación de jugadores (goles, asistencias, tarjetas o rojas) de la caché.
+     * Devuelve null si la competición no tiene estadísticas de todos sus equipos cacheados,
+     * porque una clasificación parcial sería incorrecta.
+     */
+    @Transactional(readOnly = true)
+    public PlayerResponse getPlayerRankingFromCache(PlayerRanking ranking, int leagueId, int season, int limit) {
+        long teams = teamRepository.countByLeagueIdAndSeason(leagueId, season);
+        long teamsWithStats = playerStatisticsRepository.countTeamsWithStatistics(leagueId, season);
+        if (teams == 0 || teamsWithStats < teams) {
+            log.info("📭 Estadísticas incompletas para liga {} season {} ({}/{} equipos)", 
+                    leagueId, season, teamsWithStats, teams);
+            return null;
+        }
+        
+        PageRequest page = PageRequest.of(0, limit);
+        List<CachedPlayerStatistics> rows = switch (ranking) {
+            case GOALS -> playerStatisticsRepository.findTopScorers(leagueId, season, page);
+            case ASSISTS -> playerStatisticsRepository.findTopAssists(leagueId, season, page);
+            case CARDS -> playerStatisticsRepository.findTopCards(leagueId, season, page);
+            case RED_CARDS -> playerStatisticsRepository.findTopRedCards(leagueId, season, page);
+        };
+        
+        log.info("📦 Clasificación {} liga {} season {} resuelta en BD ({} jugadores)", 
+                ranking, leagueId, season, rows.size());
+        return convertStatisticsToPlayerResponse(rows);
+    }
+
+    /**
+     * Tipos de clasificación de jugadores disponibles en local
+     */
+    public enum PlayerRanking { GOALS, ASSISTS, CARDS, RED_CARDS }
+
     // ==================== CLASIFICACIONES ====================
 
     /**
      * Guarda clasificación en la caché
      */
     public void saveStandings(StandingsResponse response, int leagueId, int season) {
-        if (response == null) return;
+        if (!isStorable(response, "clasificación")) return;
         
         try {
-            // Eliminar clasificación anterior si existe
-            standingsRepository.deleteByLeagueIdAndSeason(leagueId, season);
+            String json = objectMapper.writeValueAsString(response);
+            String hash = contentHash(json);
+            
+            // Reemplazo en el sitio sobre la clave (liga, temporada): la fila nunca desaparece
+            CachedStandings cached = standingsRepository.findByLeagueIdAndSeason(leagueId, season)
+                .orElseGet(() -> CachedStandings.builder()
+                    .leagueId(leagueId)
+                    .season(season)
+                    .build());
             
-            CachedStandings cached = CachedStandings.builder()
-                .leagueId(leagueId)
-                .season(season)
-                .rawJson(objectMapper.writeValueAsString(response))
-                .build();
+            if (hash.equals(cached.getContentHash())) {
+                log.debug("Clasificación liga {} season {} sin cambios, se omite la escritura", leagueId, season);
+                return;
+            }
             
+            cached.setRawJson(json);
+            cached.setContentHash(hash);
             standingsRepository.save(cached);
             log.info("💾 Clasificación liga {} season {} guardada en caché de BD", leagueId, season);
         } catch (JsonProcessingException e) {
@@ -420,6 +782,7 @@ public class FootballCacheService {
     /**
      * Obtiene clasificación de la caché
      */
+    @Transactional(readOnly = true)
     public StandingsResponse getStandingsFromCache(int leagueId, int season) {
         Optional<CachedStandings> cached = standingsRepository.findByLeagueIdAndSeason(leagueId, season);
         if (cached.isEmpty()) {
@@ -442,17 +805,25 @@ public class FootballCacheService {
      * Guarda plantilla en la caché
      */
     public void saveSquad(SquadResponse response, int teamId) {
-        if (response == null) return;
+        if (!isStorable(response, "plantilla")) return;
         
         try {
-            // Eliminar plantilla anterior si existe
-            squadRepository.deleteByTeamId(teamId);
+            String json = objectMapper.writeValueAsString(response);
+            String hash = contentHash(json);
+            
+            // Reemplazo en el sitio sobre la clave (equipo): la fila nunca desaparece
+            CachedSquad cached = squadRepository.findByTeamId(teamId)
+                .orElseGet(() -> CachedSquad.builder()
+                    .teamId(teamId)
+                    .build());
             
-            CachedSquad cached = CachedSquad.builder()
-                .teamId(teamId)
-                .rawJson(objectMapper.writeValueAsString(response))
-                .build();
+            if (hash.equals(cached.getContentHash())) {
+                log.debug("Plantilla equipo {} sin cambios, se omite la escritura", teamId);
+                return;
+            }
             
+            cached.setRawJson(json);
+            cached.setContentHash(hash);
             squadRepository.save(cached);
             log.info("💾 Plantilla equipo {} guardada en caché de BD", teamId);
         } catch (JsonProcessingException e) {
@@ -463,6 +834,7 @@ public class FootballCacheService {
     /**
      * Obtiene plantilla de la caché
      */
+    @Transactional(readOnly = true)
     public SquadResponse getSquadFromCache(int teamId) {
         Optional<CachedSquad> cached = squadRepository.findByTeamId(teamId);
         if (cached.isEmpty()) {
@@ -479,6 +851,50 @@ public class FootballCacheService {
         }
     }
 
+    // ==================== COMPETICIONES DE EQUIPOS ====================
+
+    /**
+     * Guarda las competiciones de un equipo en una temporada
+     */
+    public void saveTeamLeagues(LeagueResponse response, int teamId, int season) {
+        if (!isStorable(response, "competiciones del equipo")) return;
+        
+        try {
+            CachedTeamLeagues cached = teamLeaguesRepository.findByTeamIdAndSeason(teamId, season)
+                .orElseGet(() -> CachedTeamLeagues.builder()
+                    .teamId(teamId)
+                    .season(season)
+                    .build());
+            cached.setRawJson(objectMapper.writeValueAsString(response));
+            cached.setFetchedAt(LocalDateTime.now());
+            teamLeaguesRepository.save(cached);
+            log.info("💾 Competiciones del equipo {} season {} guardadas en caché de BD", teamId, season);
+        } catch (JsonProcessingException e) {
+            log.error("Error serializando competiciones del equipo: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Obtiene las competiciones de un equipo de la caché, o null si no están
+     * o tienen más de TEAM_LEAGUES_MAX_AGE_DAYS días (un equipo puede entrar en una copa)
+     */
+    @Transactional(readOnly = true)
+    public LeagueResponse getTeamLeaguesFromCache(int teamId, int season) {
+        Optional<CachedTeamLeagues> cached = teamLeaguesRepository.findByTeamIdAndSeason(teamId, season);
+        if (cached.isEmpty() || cached.get().getFetchedAt().isBefore(LocalDateTime.now().minusDays(TEAM_LEAGUES_MAX_AGE_DAYS))) {
+            log.info("📭 No hay competiciones del equipo {} season {} en caché de BD", teamId, season);
+            return null;
+        }
+        
+        try {
+            log.info("📦 Competiciones del equipo {} season {} recuperadas de caché de BD", teamId, season);
+            return objectMapper.readValue(cached.get().getRawJson(), LeagueResponse.class);
+        } catch (JsonProcessingException e) {
+            log.error("Error deserializando competiciones del equipo: {}", e.getMessage());
+            return null;
+        }
+    }
+
     // ==================== MÉTODOS DE CONVERSIÓN ====================
 
     private LeagueResponse convertToLeagueResponse(List<CachedLeague> cached) {
@@ -650,6 +1066,73 @@ public class FootballCacheService {
         return data;
     }
 
+    private PlayerResponse convertStatisticsToPlayerResponse(List<CachedPlayerStatistics> rows) {
+        PlayerResponse response = new PlayerResponse();
+        response.setResults(rows.size());
+        response.setResponse(rows.stream()
+            .map(this::convertStatisticsToPlayerData)
+            .collect(Collectors.toList()));
+        return response;
+    }
+
+    private PlayerResponse.PlayerData convertStatisticsToPlayerData(CachedPlayerStatistics row) {
+        PlayerResponse.PlayerData data = new PlayerResponse.PlayerData();
+        
+        PlayerResponse.Player player = new PlayerResponse.Player();
+        player.setId(row.getPlayerApiId());
+        player.setName(row.getPlayerName());
+        player.setPhoto(row.getPlayerPhoto());
+        data.setPlayer(player);
+        
+        PlayerResponse.Statistics stats = new PlayerResponse.Statistics();
+        
+        PlayerResponse.StatTeam team = new PlayerResponse.StatTeam();
+        team.setId(row.getTeamId());
+        team.setName(row.getTeamName());
+        team.setLogo(row.getTeamLogo());
+        stats.setTeam(team);
+        
+        PlayerResponse.StatLeague league = new PlayerResponse.StatLeague();
+        league.setId(row.getLeagueId());
+        league.setName(row.getLeagueName());
+        league.setSeason(String.valueOf(row.getSeason()));
+        stats.setLeague(league);
+        
+        PlayerResponse.Games games = new PlayerResponse.Games();
+        games.setAppearances(row.getAppearances());
+        games.setLineups(row.getLineups());
+        games.setMinutes(row.getMinutes());
+        games.setPosition(row.getPosition());
+        games.setRating(row.getRating());
+        stats.setGames(games);
+        
+        PlayerResponse.Goals goals = new PlayerResponse.Goals();
+        goals.setTotal(row.getGoals());
+        goals.setAssists(row.getAssists());
+        stats.setGoals(goals);
+        
+        PlayerResponse.Cards cards = new PlayerResponse.Cards();
+        cards.setYellow(row.getYellowCards());
+        cards.setYellowred(row.getYellowRedCards());
+        cards.setRed(row.getRedCards());
+        stats.setCards(cards);
+        
+        data.setStatistics(List.of(stats));
+        return data;
+    }
+
+    /**
+     * Calcula el hash SHA-256 (hex) de un JSON para detectar contenido sin cambios
+     */
+    static String contentHash(String json) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(json.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
     private Integer getCurrentSeason(List<LeagueResponse.Season> seasons) {
         if (seasons == null || seasons.isEmpty()) return null;
         
@@ -665,15 +1148,81 @@ public class FootballCacheService {
     /**
      * Obtiene estadísticas de la caché
      */
+    @Transactional(readOnly = true)
     public CacheStats getCacheStats() {
         return new CacheStats(
             leagueRepository.count(),
             teamRepository.count(),
             playerRepository.count(),
             standingsRepository.count(),
-            squadRepository.count()
+            squadRepository.count(),
+            playerStatisticsRepository.count(),
+            fixtureRepository.count()
         );
     }
 
-    public record CacheStats(long leagues, long teams, long players, long standings, long squads) {}
+    /**
+     * Elimina filas duplicadas de todas las tablas de caché (tarea puntual).
+     * Conserva la fila más reciente de cada clave natural para que las
+     * restricciones únicas puedan crearse sobre datos ya existentes.
+     */
+    public Map<String, Integer> deduplicate() {
+        Map<String, Integer> removed = new LinkedHashMap<>();
+        removed.put("leagues", leagueRepository.deleteDuplicates());
+        removed.put("teams", teamRepository.deleteDuplicates());
+        removed.put("players", playerRepository.deleteDuplicates());
+        removed.put("standings", standingsRepository.deleteDuplicates());
+        removed.put("squads", squadRepository.deleteDuplicates());
+        removed.put("playerStatistics", playerStatisticsRepository.deleteDuplicates());
+        removed.put("fixtures", fixtureRepository.deleteDuplicates());
+        log.info("🧹 Duplicados eliminados de la caché de BD: {}", removed);
+        return removed;
+    }
+
+    public record CacheStats(long leagues, long teams, long players, long standings, long squads, long playerStatistics, long fixtures) {}
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    /**
+     * Patrón LIKE "contiene" para las búsquedas por nombre: en minúsculas y con los
+     * comodines escapados con "!" (ESCAPE '!' en las consultas), así "%" o "_" buscan
+     * ese carácter y no toda la tabla
+     */
+    static String containsPattern(String search) {
+        String escaped = search.toLowerCase(Locale.ROOT)
+            .replace("!", "!!")
+            .replace("%", "!%")
+            .replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+
+    /**
+     * Ejecuta un guardado en una transacción propia: o se guarda completo o no se guarda nada.
+     * Si choca con otra petición que inserta las mismas filas a la vez (clave natural única),
+     * se repite entero; en la repetición esas filas ya existen y se actualizan o se omiten.
+     */
+    private void saveInNewTransaction(String what, Runnable save) {
+        TransactionTemplate unit = new TransactionTemplate(transactionManager);
+        unit.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                unit.executeWithoutResult(status -> save.run());
+                return;
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= SAVE_ATTEMPTS) throw e;
+                log.debug("Conflicto guardando {} (intento {}), se repite: {}", what, attempt, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Solo se guardan respuestas con resultados y sin errores: una vacía o con
+     * errores (límite de peticiones, clave...) pisaría datos buenos o se quedaría para siempre
+     */
+    private boolean isStorable(ApiFootballResponse response, String what) {
+        if (ApiFootballResponse.isSuccess(response)) return true;
+        log.warn("⚠️ No se guarda {} en caché de BD: respuesta {}", what,
+                response == null ? "nula" : ApiFootballResponse.classify(response).name().toLowerCase(Locale.ROOT));
+        return false;
+    }
 }
@@ -0,0 +1,143 @@
+package com.example.information.service;
+
+import com.example.information.model.SearchResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Búsqueda federada de ligas, equipos y jugadores.
+ *
+ * - Consulta las tres fuentes locales en paralelo (índice en memoria o BD)
+ * - Cada fuente tiene su propio límite de resultados
+ * - Con un tiempo máximo: si una fuente tarda, se devuelve lo que haya (partial=true)
+ * - Solo se llama a la API externa si los resultados locales no son suficientes
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FootballSearchService {
+
+    /** Por debajo de este número de resultados locales se consulta la API */
+    private static final int MIN_LOCAL_HITS = 3;
+
+    /** La búsqueda de equipos de la API requiere mínimo 3 caracteres */
+    private static final int UPSTREAM_MIN_LENGTH = 3;
+
+    private final FootballCacheService cacheService;
+    private final CachedFootballApiService cachedApiService;
+    private final ExecutorService searchExecutor;
+
+    @Value("${football.search.budget-ms:300}")
+    private long budgetMs;
+
+    @Value("${football.search.upstream-budget-ms:2500}")
+    private long upstreamBudgetMs;
+
+    /**
+     * Busca en ligas, equipos y jugadores a la vez
+     *
+     * @param query texto a buscar (sin acentos ni mayúsculas)
+     * @param limitPerType máximo de resultados de cada tipo
+     */
+    public SearchResponse search(String query, int limitPerType) {
+        long start = System.currentTimeMillis();
+        log.info("🔍 Búsqueda federada '{}'...", query);
+
+        // 1. Lanzar las tres fuentes locales en paralelo
+        Map<NameSearchIndex.EntityType, CompletableFuture<List<NameSearchIndex.Hit>>> futures =
+            new EnumMap<>(NameSearchIndex.EntityType.class);
+        for (NameSearchIndex.EntityType type : NameSearchIndex.EntityType.values()) {
+            futures.put(type, CompletableFuture.supplyAsync(
+                () -> cacheService.searchNames(type, query, limitPerType), searchExecutor));
+        }
+
+        // 2. Recoger lo que llegue dentro del tiempo máximo
+        long deadline = start + budgetMs;
+        Map<NameSearchIndex.EntityType, List<NameSearchIndex.Hit>> hits = new EnumMap<>(NameSearchIndex.EntityType.class);
+        List<String> timedOut = new ArrayList<>();
+        futures.forEach((type, future) -> {
+            List<NameSearchIndex.Hit> result = await(future, deadline - System.currentTimeMillis(), type.name());
+            if (result == null) {
+                timedOut.add(type.name());
+            } else {
+                hits.put(type, result);
+            }
+        });
+
+        // 3. Pocos resultados locales: completar equipos desde la API
+        boolean upstream = false;
+        int localHits = hits.values().stream().mapToInt(List::size).sum();
+        if (timedOut.isEmpty() && localHits < MIN_LOCAL_HITS && query.length() >= UPSTREAM_MIN_LENGTH) {
+            upstream = true;
+            List<NameSearchIndex.Hit> teams = searchTeamsUpstream(query, limitPerType);
+            if (teams != null) {
+                hits.put(NameSearchIndex.EntityType.TEAM, teams);
+            }
+        }
+
+        List<NameSearchIndex.Hit> merged = hits.values().stream()
+            .flatMap(List::stream)
+            .sorted(Comparator.comparingDouble(NameSearchIndex.Hit::score).reversed())
+            .toList();
+
+        long tookMs = System.currentTimeMillis() - start;
+        if (timedOut.isEmpty()) {
+            log.info("✅ Búsqueda federada '{}': {} resultados en {} ms", query, merged.size(), tookMs);
+        } else {
+            log.warn("⚠️ Búsqueda federada '{}' parcial, sin respuesta de {} ({} ms)", query, timedOut, tookMs);
+        }
+
+        return SearchResponse.builder()
+            .query(query)
+            .results(merged)
+            .total(merged.size())
+            .partial(!timedOut.isEmpty())
+            .timedOut(timedOut)
+            .upstream(upstream)
+            .tookMs(tookMs)
+            .build();
+    }
+
+    /**
+     * Busca equipos en la API (que los guarda en caché) y repite la búsqueda local.
+     * Si la API tarda más del tiempo máximo, la petición sigue en segundo plano
+     * y rellenará la caché para la próxima búsqueda.
+     */
+    private List<NameSearchIndex.Hit> searchTeamsUpstream(String query, int limit) {
+        log.info("📡 Pocos resultados locales para '{}', buscando equipos en API...", query);
+        CompletableFuture<List<NameSearchIndex.Hit>> future = CompletableFuture.supplyAsync(() -> {
+            cachedApiService.searchTeams(query);
+            return cacheService.searchNames(NameSearchIndex.EntityType.TEAM, query, limit);
+        }, searchExecutor);
+        return await(future, upstreamBudgetMs, "API");
+    }
+
+    /**
+     * Espera a una fuente como mucho {@code timeoutMs}; null si no llega a tiempo o falla
+     */
+    private List<NameSearchIndex.Hit> await(CompletableFuture<List<NameSearchIndex.Hit>> future, long timeoutMs, String source) {
+        try {
+            return future.get(Math.max(0, timeoutMs), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            log.error("❌ Error en la fuente {} de la búsqueda federada: {}", source, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -5,10 +5,12 @@ import com.example.information.entities.Jugador;
 import com.example.information.exception.DuplicateResourceException;
 import com.example.information.exception.InvalidOperationException;
 import com.example.information.exception.ResourceNotFoundException;
+import com.example.information.model.CursorPage;
 import com.example.information.model.JugadorDTO;
 import com.example.information.repositories.EquipoRepository;
 import com.example.information.repositories.JugadorRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,59 +25,62 @@ public class JugadorService {
     private final JugadorRepository jugadorRepository;
     private final EquipoRepository equipoRepository;
 
-    public List<JugadorDTO> findAll() {
-        return jugadorRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<JugadorDTO> findAll(String cursor, int size) {
+        return CursorPage.of(jugadorRepository.findPage(CursorPage.decode(cursor), CursorPage.pageable(size)),
+                size, Jugador::getId, this::convertToDTO);
     }
 
+    @Transactional(readOnly = true)
     public JugadorDTO findById(Long id) {
         Jugador jugador = jugadorRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Jugador", "id", id));
         return convertToDTO(jugador);
     }
 
-    public List<JugadorDTO> findByEquipoId(Long equipoId) {
+    @Transactional(readOnly = true)
+    public CursorPage<JugadorDTO> findByEquipoId(Long equipoId, String cursor, int size) {
         if (!equipoRepository.existsById(equipoId)) {
             throw new ResourceNotFoundException("Equipo", "id", equipoId);
         }
-        return jugadorRepository.findByEquipoId(equipoId).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return CursorPage.of(jugadorRepository.findByEquipoId(equipoId, CursorPage.decode(cursor), CursorPage.pageable(size)),
+                size, Jugador::getId, this::convertToDTO);
     }
 
-    public List<JugadorDTO> findByPosicion(String posicion) {
-        return jugadorRepository.findByPosicion(posicion).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<JugadorDTO> findByPosicion(String posicion, String cursor, int size) {
+        return CursorPage.of(jugadorRepository.findByPosicion(posicion, CursorPage.decode(cursor), CursorPage.pageable(size)),
+                size, Jugador::getId, this::convertToDTO);
     }
 
-    public List<JugadorDTO> findByNacionalidad(String nacionalidad) {
-        return jugadorRepository.findByNacionalidad(nacionalidad).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<JugadorDTO> findByNacionalidad(String nacionalidad, String cursor, int size) {
+        return CursorPage.of(jugadorRepository.findByNacionalidad(nacionalidad, CursorPage.decode(cursor), CursorPage.pageable(size)),
+                size, Jugador::getId, this::convertToDTO);
     }
 
-    public List<JugadorDTO> searchByNombre(String keyword) {
-        return jugadorRepository.searchByNombre(keyword).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<JugadorDTO> searchByNombre(String keyword, String cursor, int size) {
+        return CursorPage.of(jugadorRepository.searchByNombre(keyword, CursorPage.decode(cursor), CursorPage.pageable(size)),
+                size, Jugador::getId, this::convertToDTO);
     }
 
-    public List<JugadorDTO> findByLigaId(Long ligaId) {
-        return jugadorRepository.findByLigaId(ligaId).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<JugadorDTO> findByLigaId(Long ligaId, String cursor, int size) {
+        return CursorPage.of(jugadorRepository.findByLigaId(ligaId, CursorPage.decode(cursor), CursorPage.pageable(size)),
+                size, Jugador::getId, this::convertToDTO);
     }
 
-    public List<JugadorDTO> findTopGoleadores() {
-        return jugadorRepository.findTopGoleadores().stream()
+    @Transactional(readOnly = true)
+    public List<JugadorDTO> findTopGoleadores(int limit) {
+        return jugadorRepository.findTopGoleadores(PageRequest.of(0, limit)).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
-    public List<JugadorDTO> findTopGoleadoresByLiga(Long ligaId) {
-        return jugadorRepository.findTopGoleadoresByLiga(ligaId).stream()
+    @Transactional(readOnly = true)
+    public List<JugadorDTO> findTopGoleadoresByLiga(Long ligaId, int limit) {
+        return jugadorRepository.findTopGoleadoresByLiga(ligaId, PageRequest.of(0, limit)).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
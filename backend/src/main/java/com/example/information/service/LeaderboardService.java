@@ -0,0 +1,394 @@
+package com.example.information.service;
+
+import com.example.information.entities.cache.CachedFixture;
+import com.example.information.model.apifootball.FixtureEventsResponse;
+import com.example.information.model.apifootball.FixtureResponse;
+import com.example.information.model.apifootball.FixtureStatus;
+import com.example.information.model.apifootball.PlayerResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Clasificaciones de jugadores (goles, asistencias, amarillas y rojas) actualizadas con los eventos.
+ *
+ * - Base: la clasificación de la API (/players/top*), que cuenta los partidos ya terminados.
+ *   Un partido está en la base si estaba finalizado al pedirla (en BD o visto finalizar);
+ *   sus eventos no se vuelven a sumar
+ * - Encima, la aportación de cada partido no cubierto calculada de sus eventos (en vivo o
+ *   guardados al finalizar). La aportación de un partido se sustituye entera en cada
+ *   actualización, así que un gol anulado por el VAR desaparece en la siguiente
+ * - Solo se clasifican los jugadores de la base (los 20 primeros de la API): de los demás
+ *   no se conoce el total, solo lo que suman después. Entran al conciliar si la API los incluye
+ * - Árbol ordenado por total: servir los k primeros cuesta O(k)
+ * - Conciliación periódica con la API (correcciones y partidos que la API contó más tarde)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LeaderboardService {
+
+    /** Clasificaciones sin lecturas en este tiempo se descartan y dejan de conciliarse */
+    private static final long IDLE_EVICT_MS = 24 * 60 * 60 * 1000L;
+
+    /** Eventos recientes que se guardan para aplicarlos a clasificaciones montadas después */
+    private static final long RECENT_EVENTS_MS = 3 * 24 * 60 * 60 * 1000L;
+
+    private final ApiFootballService apiService;
+    private final FixtureCacheService fixtureCache;
+    private final ObjectMapper objectMapper;
+
+    /** Clasificaciones por clave "RANKING:liga:temporada" */
+    private final Map<String, Leaderboard> boards = new ConcurrentHashMap<>();
+
+    /** Últimos eventos conocidos por partido */
+    private final Map<Integer, FixtureEvents> recentEvents = new ConcurrentHashMap<>();
+
+    private record FixtureEvents(int leagueId, int season, List<FixtureEventsResponse.Event> events, boolean finished, long seenAt) {}
+
+    private record Entry(int playerId, int count, String name) {}
+
+    private static final Comparator<Entry> RANK_ORDER = Comparator.comparingInt(Entry::count).reversed()
+        .thenComparing(Entry::name, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparingInt(Entry::playerId);
+
+    /**
+     * Los k primeros de una clasificación montada, o null si no está montada
+     */
+    public PlayerResponse getTop(FootballCacheService.PlayerRanking ranking, int leagueId, int season, int limit) {
+        Leaderboard board = boards.get(key(ranking, leagueId, season));
+        return board != null ? board.top(limit) : null;
+    }
+
+    /**
+     * Pide la clasificación a la API y monta (o vuelve a conciliar) la tabla con ella como base.
+     *
+     * @return la respuesta de la API (para guardarla en BD)
+     */
+    public PlayerResponse load(FootballCacheService.PlayerRanking ranking, int leagueId, int season) {
+        PlayerResponse upstream = switch (ranking) {
+            case GOALS -> apiService.getTopScorers(leagueId, season);
+            case ASSISTS -> apiService.getTopAssists(leagueId, season);
+            case CARDS -> apiService.getTopYellowCards(leagueId, season);
+            case RED_CARDS -> apiService.getTopRedCards(leagueId, season);
+        };
+        if (upstream == null || upstream.getResponse() == null) return upstream;
+
+        // Partidos ya finalizados al pedir la base: la API ya los cuenta
+        Set<Integer> covered = new HashSet<>();
+        fixtureCache.getPlayedFixtures(leagueId, season).forEach(f -> covered.add(f.getApiId()));
+        recentEvents.forEach((fixtureId, events) -> {
+            if (events.finished() && events.leagueId() == leagueId && events.season() == season) {
+                covered.add(fixtureId);
+            }
+        });
+
+        Leaderboard board = new Leaderboard(ranking, leagueId, season, upstream, covered);
+        Leaderboard previous = boards.put(key(ranking, leagueId, season), board);
+        if (previous != null) {
+            board.lastReadAt = previous.lastReadAt;
+        }
+        recentEvents.forEach((fixtureId, events) -> {
+            if (events.leagueId() == leagueId && events.season() == season) {
+                board.replace(fixtureId, events.events());
+            }
+        });
+        log.info("✅ Clasificación {} liga {} season {} montada ({} jugadores)", ranking, leagueId, season, board.totals.size());
+        return upstream;
+    }
+
+    /**
+     * Aplica los eventos de los partidos en vivo que han cambiado
+     */
+    @EventListener
+    public void onLiveFixturesChanged(LiveFixturesPoller.LiveFixturesChanged event) {
+        Set<Integer> touched = new HashSet<>(event.added());
+        touched.addAll(event.changed());
+        for (FixtureResponse.FixtureData data : event.snapshot().response().getResponse()) {
+            if (data.getFixture() == null || data.getLeague() == null || data.getEvents() == null
+                    || !touched.contains(data.getFixture().getId())) {
+                continue;
+            }
+            apply(data.getFixture().getId(), data.getLeague().getId(), data.getLeague().getSeason(),
+                    data.getEvents(), FixtureStatus.isFinished(FixtureStatus.of(data)));
+        }
+    }
+
+    /**
+     * Al finalizar un partido se usan sus eventos definitivos, si están guardados
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFixturesFinished(FixtureCacheService.FixturesFinished event) {
+        for (CachedFixture fixture : event.fixtures()) {
+            if (!isTracked(fixture.getLeagueId(), fixture.getSeason())) continue;
+            FixtureEventsResponse stored = fixtureCache.getFinishedEventsFromCache(fixture.getApiId());
+            if (stored != null && stored.getResponse() != null) {
+                apply(fixture.getApiId(), fixture.getLeagueId(), fixture.getSeason(), stored.getResponse(), true);
+            }
+        }
+    }
+
+    /**
+     * Concilia con la API las clasificaciones que se siguen consultando y descarta el resto
+     */
+    @Scheduled(fixedDelayString = "${football.leaderboards.reconcile-interval-ms:43200000}",
+               initialDelayString = "${football.leaderboards.reconcile-interval-ms:43200000}")
+    public void reconcile() {
+        long now = System.currentTimeMillis();
+        recentEvents.values().removeIf(e -> now - e.seenAt() > RECENT_EVENTS_MS);
+        if (!apiService.isConfigured()) return;
+
+        for (Leaderboard board : List.copyOf(boards.values())) {
+            if (now - board.lastReadAt > IDLE_EVICT_MS) {
+                boards.remove(key(board.ranking, board.leagueId, board.season));
+                log.info("🧹 Clasificación {} liga {} descartada por inactividad", board.ranking, board.leagueId);
+                continue;
+            }
+            try {
+                load(board.ranking, board.leagueId, board.season);
+                log.info("🔄 Clasificación {} liga {} conciliada con la API", board.ranking, board.leagueId);
+            } catch (Exception e) {
+                log.warn("⚠️ No se pudo conciliar la clasificación {} liga {}: {}", board.ranking, board.leagueId, e.getMessage());
+            }
+        }
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private void apply(int fixtureId, int leagueId, int season, List<FixtureEventsResponse.Event> events, boolean finished) {
+        recentEvents.put(fixtureId, new FixtureEvents(leagueId, season, events, finished, System.currentTimeMillis()));
+        for (FootballCacheService.PlayerRanking ranking : FootballCacheService.PlayerRanking.values()) {
+            Leaderboard board = boards.get(key(ranking, leagueId, season));
+            if (board != null && board.replace(fixtureId, events)) {
+                log.debug("Clasificación {} liga {} actualizada con el partido {}", ranking, leagueId, fixtureId);
+            }
+        }
+    }
+
+    private boolean isTracked(int leagueId, int season) {
+        for (FootballCacheService.PlayerRanking ranking : FootballCacheService.PlayerRanking.values()) {
+            if (boards.containsKey(key(ranking, leagueId, season))) return true;
+        }
+        return false;
+    }
+
+    private static String key(FootballCacheService.PlayerRanking ranking, int leagueId, int season) {
+        return ranking + ":" + leagueId + ":" + season;
+    }
+
+    /**
+     * Cuenta lo que aporta cada jugador en los eventos de un partido.
+     * Los goles en propia puerta y los penaltis fallados no cuentan, y cada gol anulado
+     * por el VAR se descarta junto con su asistencia. El VAR anula el último gol del mismo
+     * jugador hasta su minuto (la revisión suele llegar uno o dos minutos después).
+     */
+    private static Map<Integer, Integer> count(FootballCacheService.PlayerRanking ranking,
+                                               List<FixtureEventsResponse.Event> events) {
+        Set<FixtureEventsResponse.Event> cancelled = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (FixtureEventsResponse.Event e : events) {
+            if ("Var".equalsIgnoreCase(e.getType()) && e.getDetail() != null && e.getPlayer() != null
+                    && e.getDetail().toLowerCase().startsWith("goal")
+                    && !e.getDetail().toLowerCase().contains("confirmed")) {
+                FixtureEventsResponse.Event goal = cancelledGoal(events, e, cancelled);
+                if (goal != null) cancelled.add(goal);
+            }
+        }
+
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (FixtureEventsResponse.Event e : events) {
+            String detail = e.getDetail() != null ? e.getDetail().toLowerCase() : "";
+            FixtureEventsResponse.Player player = null;
+            if ("Goal".equalsIgnoreCase(e.getType())) {
+                if (detail.equals("own goal") || detail.equals("missed penalty") || cancelled.contains(e)) continue;
+                player = switch (ranking) {
+                    case GOALS -> e.getPlayer();
+                    case ASSISTS -> e.getAssist();
+                    default -> null;
+                };
+            } else if ("Card".equalsIgnoreCase(e.getType())) {
+                player = switch (ranking) {
+                    case CARDS -> detail.equals("yellow card") ? e.getPlayer() : null;
+                    case RED_CARDS -> detail.equals("red card") ? e.getPlayer() : null;
+                    default -> null;
+                };
+            }
+            if (player != null && player.getId() != null) {
+                counts.merge(player.getId(), 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Último gol del jugador del evento VAR, no anulado ya, con minuto no posterior al del VAR
+     */
+    private static FixtureEventsResponse.Event cancelledGoal(List<FixtureEventsResponse.Event> events,
+                                                             FixtureEventsResponse.Event var,
+                                                             Set<FixtureEventsResponse.Event> cancelled) {
+        int varMinute = minuteOf(var);
+        FixtureEventsResponse.Event latest = null;
+        for (FixtureEventsResponse.Event e : events) {
+            if (!"Goal".equalsIgnoreCase(e.getType()) || e.getPlayer() == null || cancelled.contains(e)
+                    || !Objects.equals(e.getPlayer().getId(), var.getPlayer().getId())
+                    || minuteOf(e) > varMinute) {
+                continue;
+            }
+            if (latest == null || minuteOf(e) >= minuteOf(latest)) latest = e;
+        }
+        return latest;
+    }
+
+    private static int minuteOf(FixtureEventsResponse.Event e) {
+        if (e.getTime() == null || e.getTime().getElapsed() == null) return Integer.MAX_VALUE;
+        return e.getTime().getElapsed() + (e.getTime().getExtra() != null ? e.getTime().getExtra() : 0);
+    }
+
+    // ==================== CLASIFICACIÓN ====================
+
+    private final class Leaderboard {
+        final FootballCacheService.PlayerRanking ranking;
+        final int leagueId;
+        final int season;
+        /** Partidos ya contados en la base (finalizados al pedirla) */
+        final Set<Integer> covered;
+        /** Datos de cada jugador de la base */
+        final Map<Integer, PlayerResponse.PlayerData> players = new HashMap<>();
+        final Map<Integer, Integer> baseline = new HashMap<>();
+        final Map<Integer, Map<Integer, Integer>> contributions = new HashMap<>();
+        final Map<Integer, Integer> totals = new HashMap<>();
+        final TreeSet<Entry> ranked = new TreeSet<>(RANK_ORDER);
+        volatile long lastReadAt = System.currentTimeMillis();
+        PlayerResponse rendered;
+        int renderedLimit;
+
+        Leaderboard(FootballCacheService.PlayerRanking ranking, int leagueId, int season, PlayerResponse upstream,
+                    Set<Integer> covered) {
+            this.ranking = ranking;
+            this.leagueId = leagueId;
+            this.season = season;
+            this.covered = covered;
+            for (PlayerResponse.PlayerData data : upstream.getResponse()) {
+                if (data.getPlayer() == null) continue;
+                int playerId = data.getPlayer().getId();
+                players.put(playerId, data);
+                baseline.put(playerId, valueOf(statisticsOf(data)));
+                setTotal(playerId, baseline.get(playerId));
+            }
+        }
+
+        /**
+         * Sustituye la aportación de un partido; false si ya estaba en la base o no cambia
+         */
+        synchronized boolean replace(int fixtureId, List<FixtureEventsResponse.Event> events) {
+            if (covered.contains(fixtureId)) return false;
+
+            Map<Integer, Integer> counts = count(ranking, events);
+            counts.keySet().retainAll(baseline.keySet());
+            Map<Integer, Integer> previous = contributions.getOrDefault(fixtureId, Map.of());
+            if (previous.equals(counts)) return false;
+
+            contributions.put(fixtureId, counts);
+            Set<Integer> affected = new HashSet<>(previous.keySet());
+            affected.addAll(counts.keySet());
+            for (int playerId : affected) {
+                int delta = counts.getOrDefault(playerId, 0) - previous.getOrDefault(playerId, 0);
+                setTotal(playerId, totals.getOrDefault(playerId, 0) + delta);
+            }
+            rendered = null;
+            return true;
+        }
+
+        synchronized PlayerResponse top(int limit) {
+            lastReadAt = System.currentTimeMillis();
+            if (rendered != null && renderedLimit == limit) return rendered;
+
+            List<PlayerResponse.PlayerData> top = new ArrayList<>();
+            Iterator<Entry> it = ranked.iterator();
+            while (it.hasNext() && top.size() < limit) {
+                Entry entry = it.next();
+                // Copia: la respuesta se comparte y no debe tocar los datos de la base
+                PlayerResponse.PlayerData copy = objectMapper.convertValue(players.get(entry.playerId()), PlayerResponse.PlayerData.class);
+                PlayerResponse.Statistics statistics = statisticsOf(copy);
+                if (statistics != null) setValue(statistics, entry.count());
+                top.add(copy);
+            }
+
+            PlayerResponse response = new PlayerResponse();
+            response.setGet("players/" + ranking.name().toLowerCase());
+            response.setResults(top.size());
+            response.setResponse(top);
+            rendered = response;
+            renderedLimit = limit;
+            return response;
+        }
+
+        private void setTotal(int playerId, int count) {
+            Integer old = totals.get(playerId);
+            String name = nameOf(playerId);
+            if (old != null) ranked.remove(new Entry(playerId, old, name));
+            totals.put(playerId, Math.max(count, 0));
+            ranked.add(new Entry(playerId, Math.max(count, 0), name));
+        }
+
+        private String nameOf(int playerId) {
+            PlayerResponse.PlayerData data = players.get(playerId);
+            return data != null && data.getPlayer() != null ? data.getPlayer().getName() : null;
+        }
+
+        /**
+         * Estadísticas de la competición de la clasificación (la API puede devolver varias)
+         */
+        private PlayerResponse.Statistics statisticsOf(PlayerResponse.PlayerData data) {
+            if (data.getStatistics() == null || data.getStatistics().isEmpty()) return null;
+            return data.getStatistics().stream()
+                .filter(s -> s.getLeague() != null && s.getLeague().getId() == leagueId)
+                .findFirst()
+                .orElse(data.getStatistics().get(0));
+        }
+
+        private int valueOf(PlayerResponse.Statistics statistics) {
+            if (statistics == null) return 0;
+            Integer value = switch (ranking) {
+                case GOALS -> statistics.getGoals() != null ? statistics.getGoals().getTotal() : null;
+                case ASSISTS -> statistics.getGoals() != null ? statistics.getGoals().getAssists() : null;
+                case CARDS -> statistics.getCards() != null ? statistics.getCards().getYellow() : null;
+                case RED_CARDS -> statistics.getCards() != null ? statistics.getCards().getRed() : null;
+            };
+            return value != null ? value : 0;
+        }
+
+        private void setValue(PlayerResponse.Statistics statistics, int value) {
+            switch (ranking) {
+                case GOALS, ASSISTS -> {
+                    if (statistics.getGoals() == null) statistics.setGoals(new PlayerResponse.Goals());
+                    if (ranking == FootballCacheService.PlayerRanking.GOALS) statistics.getGoals().setTotal(value);
+                    else statistics.getGoals().setAssists(value);
+                }
+                case CARDS, RED_CARDS -> {
+                    if (statistics.getCards() == null) statistics.setCards(new PlayerResponse.Cards());
+                    if (ranking == FootballCacheService.PlayerRanking.CARDS) statistics.getCards().setYellow(value);
+                    else statistics.getCards().setRed(value);
+                }
+            }
+        }
+    }
+}
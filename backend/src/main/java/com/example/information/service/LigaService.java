@@ -3,15 +3,13 @@ package com.example.information.service;
 import com.example.information.entities.Liga;
 import com.example.information.exception.DuplicateResourceException;
 import com.example.information.exception.ResourceNotFoundException;
+import com.example.information.model.CursorPage;
 import com.example.information.model.LigaDTO;
 import com.example.information.repositories.LigaRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -19,36 +17,39 @@ public class LigaService {
 
     private final LigaRepository ligaRepository;
 
-    public List<LigaDTO> findAll() {
-        return ligaRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<LigaDTO> findAll(String cursor, int size) {
+        return CursorPage.of(ligaRepository.findPage(CursorPage.decode(cursor), CursorPage.pageable(size)),
+                size, Liga::getId, this::convertToDTO);
     }
 
+    @Transactional(readOnly = true)
     public LigaDTO findById(Long id) {
         Liga liga = ligaRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Liga", "id", id));
         return convertToDTO(liga);
     }
 
+    @Transactional(readOnly = true)
     public LigaDTO findByNombre(String nombre) {
         Liga liga = ligaRepository.findByNombre(nombre)
                 .orElseThrow(() -> new ResourceNotFoundException("Liga", "nombre", nombre));
         return convertToDTO(liga);
     }
 
-    public List<LigaDTO> findByPais(String pais) {
-        return ligaRepository.findByPais(pais).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<LigaDTO> findByPais(String pais, String cursor, int size) {
+        return CursorPage.of(ligaRepository.findByPais(pais, CursorPage.decode(cursor), CursorPage.pageable(size)),
+                size, Liga::getId, this::convertToDTO);
     }
 
-    public List<LigaDTO> searchByNombre(String keyword) {
-        return ligaRepository.searchByNombre(keyword).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<LigaDTO> searchByNombre(String keyword, String cursor, int size) {
+        return CursorPage.of(ligaRepository.searchByNombre(keyword, CursorPage.decode(cursor), CursorPage.pageable(size)),
+                size, Liga::getId, this::convertToDTO);
     }
 
+    @Transactional(readOnly = true)
     public LigaDTO findByIdWithEquipos(Long id) {
         Liga liga = ligaRepository.findByIdWithEquipos(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Liga", "id", id));
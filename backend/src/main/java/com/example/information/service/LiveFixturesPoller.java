@@ -0,0 +1,309 @@
+package com.example.information.service;
+
+import com.example.information.model.apifootball.FixtureResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/**
+ * Sondeo centralizado de partidos en vivo.
+ *
+ * Una sola tarea pide /fixtures?live=all cada {@code football.live.poll-interval-ms} y publica
+ * una instantánea inmutable que leen todas las peticiones sin coste de API. Cada sondeo se
+ * compara con el anterior: solo se guardan en BD los partidos que cambian y se publica un
+ * {@link LiveFixturesChanged} con las diferencias, ya fuera del cerrojo y en orden de versión.
+ * Los que desaparecen de la lista (terminados) se piden por ID para guardar su resultado final.
+ *
+ * Con el límite de 100 peticiones/día, el sondeo se pausa si nadie ha leído la instantánea
+ * en {@code football.live.idle-timeout-ms}; la siguiente lectura la refresca al momento.
+ * Además no gasta más de {@code football.live.daily-requests} peticiones al día (UTC): el
+ * intervalo real es el mayor entre {@code football.live.poll-interval-ms} y el resto del día
+ * repartido entre las peticiones que quedan. Sin presupuesto se sirve la última instantánea.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LiveFixturesPoller {
+
+    private final ApiFootballService apiService;
+    private final FixtureCacheService fixtureCache;
+    private final ApplicationEventPublisher events;
+
+    @Value("${football.live.poll-interval-ms:60000}")
+    private long pollIntervalMs;
+
+    @Value("${football.live.idle-timeout-ms:300000}")
+    private long idleTimeoutMs;
+
+    @Value("${football.live.daily-requests:40}")
+    private int dailyRequests;
+
+    private final Object refreshLock = new Object();
+    private final Object publishLock = new Object();
+
+    /** Cambios calculados bajo el cerrojo de refresco, pendientes de publicar en orden */
+    private final Queue<LiveFixturesChanged> unpublished = new ConcurrentLinkedQueue<>();
+
+    private volatile LiveSnapshot snapshot;
+    private volatile long lastReadAt;
+
+    /** Peticiones gastadas en el día (UTC), con el cerrojo de refresco */
+    private volatile LocalDate budgetDay;
+    private volatile int spent;
+
+    /**
+     * Instantánea de partidos en vivo. La respuesta no debe modificarse: se comparte entre peticiones.
+     */
+    public record LiveSnapshot(FixtureResponse response, Instant fetchedAt, long version) {
+
+        /** Antigüedad de la instantánea en segundos */
+        public long ageSeconds() {
+            return Duration.between(fetchedAt, Instant.now()).toSeconds();
+        }
+    }
+
+    /**
+     * Evento publicado cuando un sondeo detecta cambios respecto al anterior
+     */
+    public record LiveFixturesChanged(LiveSnapshot snapshot, Set<Integer> added, Set<Integer> changed, Set<Integer> removed) {}
+
+    /**
+     * Devuelve la instantánea actual. Solo llama a la API si aún no hay ninguna
+     * o si el sondeo estaba pausado por inactividad.
+     */
+    public LiveSnapshot getSnapshot() {
+        lastReadAt = System.currentTimeMillis();
+        LiveSnapshot current = snapshot;
+        if (current != null && !isStale(current)) {
+            return current;
+        }
+        return refreshIfStale();
+    }
+
+    /**
+     * Instantánea actual sin refrescar ni contar como lectura (null si aún no hay ninguna)
+     */
+    public LiveSnapshot currentSnapshot() {
+        return snapshot;
+    }
+
+    @Scheduled(fixedDelayString = "${football.live.poll-interval-ms:60000}",
+               initialDelayString = "${football.live.poll-interval-ms:60000}")
+    public void poll() {
+        if (!apiService.isConfigured() || System.currentTimeMillis() - lastReadAt > idleTimeoutMs) {
+            return;
+        }
+        LiveSnapshot current = snapshot;
+        if (current != null && ageMs(current) < effectiveIntervalMs()) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("⚠️ Error sondeando partidos en vivo, se mantiene la instantánea anterior: {}", e.getMessage());
+        }
+    }
+
+    private boolean isStale(LiveSnapshot current) {
+        return ageMs(current) > effectiveIntervalMs() * 2;
+    }
+
+    private static long ageMs(LiveSnapshot current) {
+        return Duration.between(current.fetchedAt(), Instant.now()).toMillis();
+    }
+
+    /**
+     * Intervalo entre peticiones: el configurado o, si no llega el presupuesto, el resto
+     * del día repartido entre las peticiones que quedan (sin ninguna, hasta medianoche UTC)
+     */
+    private long effectiveIntervalMs() {
+        Instant now = Instant.now();
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        long msLeftToday = Duration.between(now, today.plusDays(1).atStartOfDay(ZoneOffset.UTC)).toMillis();
+        int remaining = today.equals(budgetDay) ? dailyRequests - spent : dailyRequests;
+        if (remaining <= 0) return msLeftToday;
+        return Math.max(pollIntervalMs, msLeftToday / remaining);
+    }
+
+    /**
+     * Reserva una petición del presupuesto del día (llamar con el cerrojo de refresco)
+     */
+    private boolean spend() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        if (!today.equals(budgetDay)) {
+            budgetDay = today;
+            spent = 0;
+        }
+        if (spent >= dailyRequests) return false;
+        spent++;
+        return true;
+    }
+
+    /**
+     * Refresca bajo el cerrojo solo si nadie lo ha hecho mientras se esperaba
+     */
+    private LiveSnapshot refreshIfStale() {
+        LiveSnapshot next;
+        synchronized (refreshLock) {
+            LiveSnapshot current = snapshot;
+            if (current != null && !isStale(current)) {
+                return current;
+            }
+            next = fetch();
+        }
+        publishPending();
+        return next;
+    }
+
+    private LiveSnapshot refresh() {
+        LiveSnapshot next;
+        synchronized (refreshLock) {
+            next = fetch();
+        }
+        publishPending();
+        return next;
+    }
+
+    /**
+     * Pide la instantánea y encola los cambios (llamar con el cerrojo de refresco)
+     */
+    private LiveSnapshot fetch() {
+        if (!spend()) {
+            log.warn("⚠️ Presupuesto diario de partidos en vivo agotado ({} peticiones): se sirve la última instantánea", dailyRequests);
+            return snapshot != null ? snapshot : emptySnapshot();
+        }
+        FixtureResponse fresh = apiService.getLiveFixtures();
+        List<FixtureResponse.FixtureData> fixtures = fresh != null && fresh.getResponse() != null
+            ? List.copyOf(fresh.getResponse())
+            : List.of();
+
+        LiveSnapshot previous = snapshot;
+        Map<Integer, String> before = previous != null ? fingerprints(previous.response().getResponse()) : Map.of();
+        Map<Integer, String> after = fingerprints(fixtures);
+
+        Set<Integer> added = new HashSet<>(after.keySet());
+        added.removeAll(before.keySet());
+        Set<Integer> removed = new HashSet<>(before.keySet());
+        removed.removeAll(after.keySet());
+        Set<Integer> changed = after.entrySet().stream()
+            .filter(e -> before.containsKey(e.getKey()) && !Objects.equals(before.get(e.getKey()), e.getValue()))
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toSet());
+
+        FixtureResponse response = new FixtureResponse();
+        response.setGet("fixtures");
+        response.setResults(fixtures.size());
+        response.setResponse(fixtures);
+        LiveSnapshot next = new LiveSnapshot(response, Instant.now(), previous != null ? previous.version() + 1 : 1);
+        snapshot = next;
+
+        if (!added.isEmpty() || !changed.isEmpty() || !removed.isEmpty()) {
+            log.info("📡 Partidos en vivo: {} ({} nuevos, {} cambiados, {} terminados)",
+                    fixtures.size(), added.size(), changed.size(), removed.size());
+            saveChanged(fixtures, added, changed);
+            saveFinished(removed);
+            unpublished.add(new LiveFixturesChanged(next, added, changed, removed));
+        }
+        return next;
+    }
+
+    /**
+     * Publica los cambios pendientes fuera del cerrojo de refresco: un oyente lento no
+     * retrasa el siguiente sondeo. Se publican en el orden en que se encolaron (por versión).
+     */
+    private void publishPending() {
+        synchronized (publishLock) {
+            LiveFixturesChanged event;
+            while ((event = unpublished.poll()) != null) {
+                events.publishEvent(event);
+            }
+        }
+    }
+
+    private static LiveSnapshot emptySnapshot() {
+        FixtureResponse response = new FixtureResponse();
+        response.setGet("fixtures");
+        response.setResponse(List.of());
+        return new LiveSnapshot(response, Instant.now(), 0);
+    }
+
+    /**
+     * Guarda en BD solo los partidos nuevos o con cambios
+     */
+    private void saveChanged(List<FixtureResponse.FixtureData> fixtures, Set<Integer> added, Set<Integer> changed) {
+        List<FixtureResponse.FixtureData> dirty = fixtures.stream()
+            .filter(f -> f.getFixture() != null)
+            .filter(f -> added.contains(f.getFixture().getId()) || changed.contains(f.getFixture().getId()))
+            .collect(Collectors.toList());
+        if (dirty.isEmpty()) return;
+
+        FixtureResponse toSave = new FixtureResponse();
+        toSave.setResponse(dirty);
+        try {
+            fixtureCache.saveFixtures(toSave);
+        } catch (Exception e) {
+            log.warn("⚠️ No se pudieron guardar partidos en vivo en BD: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Pide por ID (en bloques de FIXTURE_IDS_LIMIT, con cargo al presupuesto del día) los
+     * partidos que han salido de la lista en vivo y los guarda: el sondeo no vuelve a verlos
+     * y en BD se quedarían con el último estado en juego (llamar con el cerrojo de refresco)
+     */
+    private void saveFinished(Set<Integer> removed) {
+        List<Integer> ids = List.copyOf(removed);
+        for (int i = 0; i < ids.size(); i += ApiFootballService.FIXTURE_IDS_LIMIT) {
+            List<Integer> chunk = ids.subList(i, Math.min(i + ApiFootballService.FIXTURE_IDS_LIMIT, ids.size()));
+            if (!spend()) {
+                log.warn("⚠️ Sin presupuesto para guardar el resultado de {} partidos terminados: llegará con la siguiente sincronización",
+                        ids.size() - i);
+                return;
+            }
+            try {
+                FixtureResponse finished = apiService.getFixturesByIds(chunk);
+                if (finished != null && finished.getResponse() != null && !finished.getResponse().isEmpty()) {
+                    fixtureCache.saveFixtures(finished);
+                }
+            } catch (Exception e) {
+                log.warn("⚠️ No se pudieron guardar en BD los partidos terminados {}: {}", chunk, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Huella de cada partido: estado, minuto, marcador y número de eventos
+     */
+    private Map<Integer, String> fingerprints(List<FixtureResponse.FixtureData> fixtures) {
+        Map<Integer, String> result = new HashMap<>();
+        for (FixtureResponse.FixtureData f : fixtures) {
+            if (f.getFixture() == null) continue;
+            FixtureResponse.Status status = f.getFixture().getStatus();
+            FixtureResponse.Goals goals = f.getGoals();
+            result.put(f.getFixture().getId(), String.join("|",
+                status != null ? String.valueOf(status.getShortStatus()) : "",
+                status != null ? String.valueOf(status.getElapsed()) : "",
+                goals != null ? String.valueOf(goals.getHome()) : "",
+                goals != null ? String.valueOf(goals.getAway()) : "",
+                f.getEvents() != null ? String.valueOf(f.getEvents().size()) : "0"));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,335 @@
+package com.example.information.service;
+
+import com.example.information.model.apifootball.FixtureResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Difusión de partidos en vivo por Server-Sent Events.
+ *
+ * - Al conectar se envía la instantánea completa (evento "snapshot")
+ * - Después solo los partidos que cambian (evento "delta"), a partir de los
+ *   {@link LiveFixturesPoller.LiveFixturesChanged} del sondeo centralizado
+ * - Filtros opcionales por liga o por partido
+ * - Reanudación con Last-Event-ID (versión de la instantánea) desde un histórico corto
+ * - Latido periódico para mantener viva la conexión
+ *
+ * SseEmitter usa peticiones asíncronas del servlet: una conexión en espera no ocupa hilo.
+ * El oyente del sondeo solo encola: cada cliente tiene su propia cola acotada que se vacía
+ * en {@code liveStreamExecutor}, y un cliente cuya cola se llena (lento o medio cerrado) se
+ * desconecta sin frenar a los demás. Cada cliente recibe versiones estrictamente crecientes.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LiveStreamService {
+
+    /** Tiempo máximo de una conexión; el navegador (EventSource) reconecta solo */
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;
+
+    /** Deltas recientes que se conservan para reanudar con Last-Event-ID */
+    private static final int HISTORY_SIZE = 64;
+
+    /** Eventos pendientes de envío por cliente; si se llena, el cliente se desconecta */
+    private static final int QUEUE_SIZE = 32;
+
+    /** Reintento sugerido al cliente tras un corte */
+    private static final long RETRY_MS = 5000L;
+
+    private final LiveFixturesPoller livePoller;
+    private final Executor liveStreamExecutor;
+
+    /**
+     * Protege el histórico, el registro de clientes y su versión: el oyente y las nuevas
+     * suscripciones se ordenan con él, así ningún delta se pierde ni llega antes que la instantánea
+     */
+    private final Object guard = new Object();
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final Deque<LiveDelta> history = new ArrayDeque<>();
+
+    /** Liga de cada partido en vivo de la última instantánea (para filtrar los terminados) */
+    private Map<Integer, Integer> leagueByFixture = Map.of();
+    private long leaguesVersion;
+
+    /**
+     * Cambios de una versión de la instantánea
+     */
+    public record LiveDelta(long version, List<FixtureResponse.FixtureData> fixtures, Set<Integer> removed) {}
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Set<Integer> leagues;
+        private final Set<Integer> fixtures;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(QUEUE_SIZE);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        /** Última versión encolada (con el guard) */
+        private long version;
+
+        private Subscriber(SseEmitter emitter, Set<Integer> leagues, Set<Integer> fixtures) {
+            this.emitter = emitter;
+            this.leagues = leagues;
+            this.fixtures = fixtures;
+        }
+
+        boolean accepts(Integer fixtureId, Integer leagueId) {
+            return (fixtures.isEmpty() || fixtures.contains(fixtureId))
+                && (leagues.isEmpty() || (leagueId != null && leagues.contains(leagueId)));
+        }
+    }
+
+    /**
+     * Abre un stream filtrado por ligas y/o partidos (vacío = todos)
+     *
+     * @param lastEventId versión recibida por última vez (cabecera Last-Event-ID), o null
+     */
+    public SseEmitter subscribe(Set<Integer> leagues, Set<Integer> fixtures, String lastEventId) {
+        SseEmitter emitter = createEmitter();
+        Subscriber subscriber = new Subscriber(emitter,
+            leagues != null ? Set.copyOf(leagues) : Set.of(),
+            fixtures != null ? Set.copyOf(fixtures) : Set.of());
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        // Puede refrescar (y publicar) si la instantánea estaba caducada: fuera del guard
+        LiveFixturesPoller.LiveSnapshot fetched = livePoller.getSnapshot();
+
+        synchronized (guard) {
+            // Registrar y leer la instantánea bajo el mismo guard que el oyente: los deltas
+            // anteriores ya están en ella y los posteriores llegan después, en orden
+            subscribers.add(subscriber);
+            LiveFixturesPoller.LiveSnapshot snapshot = newest(fetched, livePoller.currentSnapshot());
+            rememberLeagues(snapshot);
+
+            List<LiveDelta> missed = missedSince(lastEventId, snapshot.version());
+            if (missed != null) {
+                log.debug("Stream en vivo reanudado desde la versión {} ({} deltas)", lastEventId, missed.size());
+                // La instantánea puede ir por delante del histórico (su evento aún no se ha
+                // publicado): se continúa desde el último delta reenviado, no desde ella
+                subscriber.version = Long.parseLong(lastEventId.trim());
+                missed.forEach(delta -> {
+                    subscriber.version = delta.version();
+                    enqueue(subscriber, deltaEvent(filter(delta, subscriber, leagueByFixture)));
+                });
+            } else {
+                subscriber.version = snapshot.version();
+                enqueue(subscriber, snapshotEvent(subscriber, snapshot));
+            }
+        }
+
+        log.info("📡 Nuevo stream en vivo ({} conexiones, ligas={}, partidos={})",
+                subscribers.size(), subscriber.leagues, subscriber.fixtures);
+        return emitter;
+    }
+
+    /**
+     * Reenvía los cambios del sondeo a los clientes interesados.
+     * Solo encola: el envío lo hace {@code liveStreamExecutor}.
+     */
+    @EventListener
+    public void onLiveFixturesChanged(LiveFixturesPoller.LiveFixturesChanged event) {
+        Set<Integer> touched = new HashSet<>(event.added());
+        touched.addAll(event.changed());
+        List<FixtureResponse.FixtureData> fixtures = event.snapshot().response().getResponse().stream()
+            .filter(f -> f.getFixture() != null && touched.contains(f.getFixture().getId()))
+            .collect(Collectors.toList());
+        LiveDelta delta = new LiveDelta(event.snapshot().version(), fixtures, Set.copyOf(event.removed()));
+
+        synchronized (guard) {
+            Map<Integer, Integer> previousLeagues = leagueByFixture;
+            rememberLeagues(event.snapshot());
+
+            if (history.isEmpty() || history.peekLast().version() < delta.version()) {
+                history.addLast(delta);
+                while (history.size() > HISTORY_SIZE) history.removeFirst();
+            }
+
+            for (Subscriber subscriber : subscribers) {
+                // Ya cubierto por la instantánea o el histórico que recibió al conectar
+                if (delta.version() <= subscriber.version) continue;
+                subscriber.version = delta.version();
+                enqueue(subscriber, deltaEvent(filter(delta, subscriber, previousLeagues)));
+            }
+        }
+    }
+
+    /**
+     * Latido: comentario SSE para que proxies y navegador no corten la conexión.
+     * No cuenta como lectura: una pestaña abierta sin nadie mirando no mantiene el sondeo
+     * (cada reconexión de EventSource, como mucho cada EMITTER_TIMEOUT_MS, sí lo reactiva).
+     */
+    @Scheduled(fixedDelay = 20000)
+    public void heartbeat() {
+        if (subscribers.isEmpty()) return;
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, SseEmitter.event().comment("ping"));
+        }
+    }
+
+    public int getConnectionCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Crea la conexión de un cliente (punto de extensión para pruebas)
+     */
+    SseEmitter createEmitter() {
+        return new SseEmitter(EMITTER_TIMEOUT_MS);
+    }
+
+    // ==================== ENVÍO ====================
+
+    /**
+     * Encola un evento para un cliente y arranca su envío si no está en marcha.
+     * Con la cola llena el cliente no da abasto: se desconecta (EventSource reconectará).
+     */
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (event == null) return;
+        if (!subscriber.queue.offer(event)) {
+            log.warn("⚠️ Cliente del stream en vivo demasiado lento, se desconecta");
+            drop(subscriber);
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) return;
+        try {
+            liveStreamExecutor.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.draining.set(false);
+        }
+    }
+
+    /**
+     * Vacía la cola de un cliente en orden; nunca hay dos envíos a la vez al mismo cliente
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscriber.queue.poll()) != null) {
+                try {
+                    subscriber.emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    drop(subscriber);
+                    subscriber.queue.clear();
+                    return;
+                }
+            }
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // Lo encolado justo después de vaciar la cola
+        if (!subscriber.queue.isEmpty()) scheduleDrain(subscriber);
+    }
+
+    private void drop(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.emitter.completeWithError(new IOException("Cliente desconectado"));
+        }
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    /**
+     * Deltas posteriores a la versión del cliente, o null si hay que mandar la instantánea completa
+     * (llamar con el guard)
+     */
+    private List<LiveDelta> missedSince(String lastEventId, long currentVersion) {
+        if (lastEventId == null || lastEventId.isBlank()) return null;
+        long lastVersion;
+        try {
+            lastVersion = Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (lastVersion > currentVersion) return null; // El servidor se reinició
+        if (lastVersion < currentVersion && (history.isEmpty() || history.peekFirst().version() > lastVersion + 1)) {
+            return null; // Demasiado antiguo para el histórico
+        }
+        return history.stream()
+            .filter(d -> d.version() > lastVersion)
+            .collect(Collectors.toList());
+    }
+
+    private LiveDelta filter(LiveDelta delta, Subscriber subscriber, Map<Integer, Integer> previousLeagues) {
+        if (subscriber.leagues.isEmpty() && subscriber.fixtures.isEmpty()) return delta;
+
+        List<FixtureResponse.FixtureData> fixtures = delta.fixtures().stream()
+            .filter(f -> subscriber.accepts(f.getFixture().getId(), f.getLeague() != null ? f.getLeague().getId() : null))
+            .collect(Collectors.toList());
+        Set<Integer> removed = delta.removed().stream()
+            .filter(id -> subscriber.accepts(id, previousLeagues.get(id)))
+            .collect(Collectors.toSet());
+        return new LiveDelta(delta.version(), fixtures, removed);
+    }
+
+    private SseEmitter.SseEventBuilder snapshotEvent(Subscriber subscriber, LiveFixturesPoller.LiveSnapshot snapshot) {
+        List<FixtureResponse.FixtureData> fixtures = snapshot.response().getResponse().stream()
+            .filter(f -> f.getFixture() != null)
+            .filter(f -> subscriber.accepts(f.getFixture().getId(), f.getLeague() != null ? f.getLeague().getId() : null))
+            .collect(Collectors.toList());
+        return SseEmitter.event()
+            .id(String.valueOf(snapshot.version()))
+            .name("snapshot")
+            .reconnectTime(RETRY_MS)
+            .data(new LiveDelta(snapshot.version(), fixtures, Set.of()), MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * Evento de un delta, o null si no trae nada para el cliente
+     */
+    private static SseEmitter.SseEventBuilder deltaEvent(LiveDelta delta) {
+        if (delta.fixtures().isEmpty() && delta.removed().isEmpty()) return null;
+        return SseEmitter.event()
+            .id(String.valueOf(delta.version()))
+            .name("delta")
+            .data(delta, MediaType.APPLICATION_JSON);
+    }
+
+    private static LiveFixturesPoller.LiveSnapshot newest(LiveFixturesPoller.LiveSnapshot a, LiveFixturesPoller.LiveSnapshot b) {
+        if (b == null) return a;
+        return a == null || b.version() > a.version() ? b : a;
+    }
+
+    /**
+     * Recuerda la liga de cada partido de la instantánea más reciente vista (llamar con el guard)
+     */
+    private void rememberLeagues(LiveFixturesPoller.LiveSnapshot snapshot) {
+        if (snapshot.version() < leaguesVersion) return;
+        Map<Integer, Integer> leagues = new HashMap<>();
+        for (FixtureResponse.FixtureData f : snapshot.response().getResponse()) {
+            if (f.getFixture() != null && f.getLeague() != null) {
+                leagues.put(f.getFixture().getId(), f.getLeague().getId());
+            }
+        }
+        leagueByFixture = leagues;
+        leaguesVersion = snapshot.version();
+    }
+}
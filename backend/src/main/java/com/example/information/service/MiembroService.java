@@ -4,15 +4,13 @@ import com.example.information.entities.Entrenador;
 import com.example.information.entities.Jugador;
 import com.example.information.entities.Miembro;
 import com.example.information.exception.ResourceNotFoundException;
+import com.example.information.model.CursorPage;
 import com.example.information.model.MiembroDTO;
 import com.example.information.repositories.MiembroRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -20,54 +18,57 @@ public class MiembroService {
 
     private final MiembroRepository miembroRepository;
 
-    public List<MiembroDTO> findAll() {
-        return miembroRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<MiembroDTO> findAll(String cursor, int size) {
+        return CursorPage.of(miembroRepository.findPage(CursorPage.decode(cursor), CursorPage.pageable(size)),
+                size, Miembro::getId, this::convertToDTO);
     }
 
+    @Transactional(readOnly = true)
     public MiembroDTO findById(Long id) {
         Miembro miembro = miembroRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Miembro", "id", id));
         return convertToDTO(miembro);
     }
 
+    @Transactional(readOnly = true)
     public MiembroDTO findByNombre(String nombre) {
         Miembro miembro = miembroRepository.findByNombre(nombre)
                 .orElseThrow(() -> new ResourceNotFoundException("Miembro", "nombre", nombre));
         return convertToDTO(miembro);
     }
 
-    public List<MiembroDTO> findByNacionalidad(String nacionalidad) {
-        return miembroRepository.findByNacionalidad(nacionalidad).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<MiembroDTO> findByNacionalidad(String nacionalidad, String cursor, int size) {
+        return CursorPage.of(miembroRepository.findByNacionalidad(nacionalidad, CursorPage.decode(cursor), CursorPage.pageable(size)),
+                size, Miembro::getId, this::convertToDTO);
     }
 
-    public List<MiembroDTO> searchByNombre(String keyword) {
-        return miembroRepository.searchByNombre(keyword).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<MiembroDTO> searchByNombre(String keyword, String cursor, int size) {
+        return CursorPage.of(miembroRepository.searchByNombre(keyword, CursorPage.decode(cursor), CursorPage.pageable(size)),
+                size, Miembro::getId, this::convertToDTO);
     }
 
-    public List<MiembroDTO> findByRangoFechaNacimiento(int anioInicio, int anioFin) {
-        return miembroRepository.findByRangoFechaNacimiento(anioInicio, anioFin).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<MiembroDTO> findByRangoFechaNacimiento(int anioInicio, int anioFin, String cursor, int size) {
+        return CursorPage.of(miembroRepository.findByRangoFechaNacimiento(anioInicio, anioFin, CursorPage.decode(cursor), CursorPage.pageable(size)),
+                size, Miembro::getId, this::convertToDTO);
     }
 
-    public List<MiembroDTO> findJugadores() {
-        return miembroRepository.findByTipo(Jugador.class).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<MiembroDTO> findJugadores(String cursor, int size) {
+        return CursorPage.of(miembroRepository.findByTipo(Jugador.class, CursorPage.decode(cursor), CursorPage.pageable(size)),
+                size, Miembro::getId, this::convertToDTO);
     }
 
-    public List<MiembroDTO> findEntrenadores() {
-        return miembroRepository.findByTipo(Entrenador.class).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<MiembroDTO> findEntrenadores(String cursor, int size) {
+        return CursorPage.of(miembroRepository.findByTipo(Entrenador.class, CursorPage.decode(cursor), CursorPage.pageable(size)),
+                size, Miembro::getId, this::convertToDTO);
     }
 
+    @Transactional(readOnly = true)
     public long countByNacionalidad(String nacionalidad) {
         return miembroRepository.countByNacionalidad(nacionalidad);
     }
@@ -0,0 +1,221 @@
+package com.example.information.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * Índice en memoria de nombres de ligas, equipos y jugadores cacheados.
+ *
+ * - Normaliza acentos y mayúsculas ("Atlético" y "atletico" son lo mismo)
+ * - Trigramas para búsquedas "contiene" sin recorrer la tabla
+ * - Árbol ordenado de palabras para autocompletado por prefijo
+ * - Se actualiza de forma incremental desde FootballCacheService al guardar
+ *
+ * Se puede desactivar con {@code football.search.memory-index.enabled=false}
+ * en despliegues con poca memoria; entonces se usan los índices trigram de la BD.
+ */
+@Component
+@Slf4j
+public class NameSearchIndex {
+
+    private static final int GRAM = 3;
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALNUM = Pattern.compile("[^a-z0-9]+");
+
+    public enum EntityType { LEAGUE, TEAM, PLAYER }
+
+    /**
+     * Resultado de búsqueda con su puntuación de relevancia
+     */
+    public record Hit(EntityType type, int apiId, String name, String detail, String image, double score) {}
+
+    private record Doc(EntityType type, int apiId, String name, String folded, String detail, String image) {}
+
+    /** Documentos por clave "TIPO:apiId" */
+    private final Map<String, Doc> docs = new ConcurrentHashMap<>();
+
+    /** Trigrama -> claves de documento */
+    private final Map<String, Set<String>> grams = new ConcurrentHashMap<>();
+
+    /** Palabra normalizada -> claves de documento (ordenado para prefijos) */
+    private final ConcurrentSkipListMap<String, Set<String>> words = new ConcurrentSkipListMap<>();
+
+    @Value("${football.search.memory-index.enabled:true}")
+    private boolean enabled;
+
+    private volatile boolean ready;
+
+    /**
+     * Añade o actualiza un documento del índice
+     */
+    public synchronized void put(EntityType type, int apiId, String name, String detail, String image) {
+        if (!enabled || name == null || name.isBlank()) return;
+
+        String key = type + ":" + apiId;
+        String folded = fold(name);
+        Doc previous = docs.get(key);
+        if (previous != null) {
+            if (previous.folded().equals(folded)) {
+                docs.put(key, new Doc(type, apiId, name, folded, detail, image));
+                return;
+            }
+            unlink(key, previous.folded());
+        }
+
+        docs.put(key, new Doc(type, apiId, name, folded, detail, image));
+        for (String gram : gramsOf(folded)) {
+            grams.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+        for (String word : wordsOf(folded)) {
+            words.computeIfAbsent(word, w -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+    }
+
+    /**
+     * Busca documentos cuyo nombre contiene el texto (sin acentos ni mayúsculas),
+     * ordenados por relevancia. Con menos de 3 caracteres se usa autocompletado.
+     */
+    public List<Hit> search(String query, Set<EntityType> types, int limit) {
+        String q = fold(query);
+        if (q.isEmpty()) return List.of();
+        if (q.length() < GRAM) return autocomplete(query, types, limit);
+
+        // Candidatos: la lista de trigramas más corta acota la búsqueda
+        Set<String> smallest = null;
+        for (String gram : gramsOf(q)) {
+            Set<String> posting = grams.get(gram);
+            if (posting == null) return List.of();
+            if (smallest == null || posting.size() < smallest.size()) smallest = posting;
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        for (String key : smallest) {
+            Doc doc = docs.get(key);
+            if (doc == null || !types.contains(doc.type()) || !doc.folded().contains(q)) continue;
+            hits.add(toHit(doc, score(doc.folded(), q)));
+        }
+        return top(hits, limit);
+    }
+
+    /**
+     * Autocompletado: documentos con alguna palabra que empieza por el prefijo
+     */
+    public List<Hit> autocomplete(String prefix, Set<EntityType> types, int limit) {
+        String p = fold(prefix);
+        if (p.isEmpty()) return List.of();
+
+        // Si hay varias palabras, la última es el prefijo y el resto debe estar contenido
+        int lastSpace = p.lastIndexOf(' ');
+        String head = lastSpace > 0 ? p.substring(0, lastSpace) : "";
+        String tail = p.substring(lastSpace + 1);
+
+        Set<String> seen = new HashSet<>();
+        List<Hit> hits = new ArrayList<>();
+        for (Set<String> keys : words.subMap(tail, true, tail + Character.MAX_VALUE, false).values()) {
+            for (String key : keys) {
+                if (!seen.add(key)) continue;
+                Doc doc = docs.get(key);
+                if (doc == null || !types.contains(doc.type()) || !doc.folded().contains(head)) continue;
+                hits.add(toHit(doc, score(doc.folded(), p)));
+            }
+        }
+        return top(hits, limit);
+    }
+
+    /**
+     * Normaliza un texto: sin acentos, minúsculas y solo letras/dígitos separados por espacio
+     */
+    public static String fold(String text) {
+        if (text == null) return "";
+        String noMarks = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return NON_ALNUM.matcher(noMarks.toLowerCase()).replaceAll(" ").trim();
+    }
+
+    /**
+     * Relevancia: nombre exacto > empieza por > alguna palabra empieza por > contiene > parecido.
+     * A igualdad, los nombres más cortos (más parecidos a la consulta) primero.
+     * Ambos textos deben venir normalizados con {@link #fold(String)}.
+     */
+    public static double score(String folded, String q) {
+        double base;
+        if (folded.equals(q)) base = 100;
+        else if (folded.startsWith(q)) base = 80;
+        else if (folded.contains(" " + q)) base = 60;
+        else if (folded.contains(q)) base = 40;
+        else base = 20;
+        return base - Math.min(20, Math.abs(folded.length() - q.length()) * 0.1);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        ready = true;
+        log.info("🔎 Índice de nombres listo ({} documentos, {} trigramas)", docs.size(), grams.size());
+    }
+
+    public int size() {
+        return docs.size();
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private void unlink(String key, String folded) {
+        for (String gram : gramsOf(folded)) {
+            Set<String> posting = grams.get(gram);
+            if (posting != null) {
+                posting.remove(key);
+                if (posting.isEmpty()) grams.remove(gram);
+            }
+        }
+        for (String word : wordsOf(folded)) {
+            Set<String> posting = words.get(word);
+            if (posting != null) {
+                posting.remove(key);
+                if (posting.isEmpty()) words.remove(word);
+            }
+        }
+    }
+
+    private Hit toHit(Doc doc, double score) {
+        return new Hit(doc.type(), doc.apiId(), doc.name(), doc.detail(), doc.image(), score);
+    }
+
+    private List<Hit> top(List<Hit> hits, int limit) {
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed().thenComparing(Hit::name));
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    private static Set<String> gramsOf(String folded) {
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i + GRAM <= folded.length(); i++) {
+            result.add(folded.substring(i, i + GRAM));
+        }
+        return result;
+    }
+
+    private static Set<String> wordsOf(String folded) {
+        Set<String> result = new HashSet<>();
+        for (String word : folded.split(" ")) {
+            if (!word.isEmpty()) result.add(word);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,278 @@
+package com.example.information.service;
+
+import com.example.information.entities.cache.CachedFixture;
+import com.example.information.model.apifootball.FixtureResponse;
+import com.example.information.model.apifootball.FixtureStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Precarga de los datos de los días de partido, antes de que lleguen los picos.
+ *
+ * Cada {@code football.prefetch.interval-ms} se leen de la BD los partidos de las ligas
+ * descargadas completas que empiezan pronto o que deberían haber terminado, y se piden
+ * a la API, por orden de prioridad:
+ *
+ * 1. Al final de un partido: el partido por ID, que trae eventos y estadísticas
+ *    (se guardan para siempre y actualizan clasificaciones y goleadores en memoria);
+ *    varios partidos van en una misma petición
+ * 2. Al terminar el último partido de una jornada: la clasificación de la API
+ * 3. Antes del inicio: clasificación, equipos y plantillas que no estén ya en caché
+ *
+ * Solo se gasta de un presupuesto diario propio ({@code football.prefetch.daily-budget})
+ * dentro del límite de 100 peticiones/día; lo que no cabe se deja para las peticiones normales.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PrefetchPlanner {
+
+    /** Duración aproximada de un partido con descanso: desde aquí se espera el final */
+    private static final long FULL_TIME_AFTER_SECONDS = 115 * 60L;
+
+    /** Hasta cuándo se sigue esperando el final (prórrogas, retrasos, interrupciones) */
+    private static final long FULL_TIME_WINDOW_SECONDS = 4 * 60 * 60L;
+
+    /** Intentos de recoger un partido terminado y espera entre ellos */
+    private static final int FULL_TIME_MAX_ATTEMPTS = 3;
+    private static final long FULL_TIME_RETRY_MS = 10 * 60 * 1000L;
+
+    /** Tiempo que se recuerdan las tareas hechas */
+    private static final long DONE_RETENTION_MS = 2 * 24 * 60 * 60 * 1000L;
+
+    private final ApiFootballService apiService;
+    private final FixtureBatchLoader fixtureBatchLoader;
+    private final CachedFootballApiService cachedApiService;
+    private final FixtureCacheService fixtureCache;
+    private final FootballCacheService cacheService;
+    private final StandingsEngine standingsEngine;
+
+    @Value("${football.prefetch.enabled:true}")
+    private boolean enabled;
+
+    @Value("${football.prefetch.daily-budget:20}")
+    private int dailyBudget;
+
+    @Value("${football.prefetch.kickoff-lead-minutes:45}")
+    private long kickoffLeadMinutes;
+
+    /** Tareas hechas por clave (epoch en ms) */
+    private final Map<String, Long> done = new ConcurrentHashMap<>();
+
+    /** Intentos de recoger el final de cada partido */
+    private final Map<Integer, Attempts> fullTimeAttempts = new ConcurrentHashMap<>();
+
+    private LocalDate budgetDay;
+    private int spent;
+
+    private record Attempts(int count, long lastAt) {}
+
+    @Scheduled(fixedDelayString = "${football.prefetch.interval-ms:300000}", initialDelay = 2 * 60 * 1000L)
+    public synchronized void plan() {
+        if (!enabled || !apiService.isConfigured()) return;
+
+        long now = Instant.now().getEpochSecond();
+        List<CachedFixture> window = fixtureCache
+            .getFixturesKickingOffBetween(now - FULL_TIME_WINDOW_SECONDS, now + kickoffLeadMinutes * 60)
+            .stream()
+            .filter(this::isFollowed)
+            .collect(Collectors.toList());
+        if (window.isEmpty()) return;
+
+        try {
+            Set<String> rounds = collectFullTime(window, now);
+            refreshCompletedRounds(window, rounds);
+            warmUpKickoffs(window, now);
+        } catch (Exception e) {
+            log.warn("⚠️ Error en la precarga de partidos: {}", e.getMessage());
+        }
+        purge();
+    }
+
+    // ==================== TAREAS ====================
+
+    /**
+     * Pide por ID los partidos que deberían haber terminado y aún no están
+     * finalizados (o lo están sin eventos/estadísticas). Van agrupados en
+     * peticiones de hasta FIXTURE_IDS_LIMIT partidos.
+     *
+     * @return jornadas ("liga:temporada:jornada") con algún partido recién finalizado
+     */
+    private Set<String> collectFullTime(List<CachedFixture> window, long now) {
+        List<CachedFixture> candidates = new ArrayList<>();
+        for (CachedFixture fixture : window) {
+            if (fixture.getKickoffAt() > now - FULL_TIME_AFTER_SECONDS) continue;
+            if (fixture.isFinished() && fixtureCache.hasFinishedDetails(fixture.getApiId())) continue;
+            if (!retryDue(fixture.getApiId())) continue;
+            // Una petición por cada lote que se empieza; sin presupuesto no se cuenta el intento
+            if (candidates.size() % ApiFootballService.FIXTURE_IDS_LIMIT == 0 && !spend()) break;
+            candidates.add(fixture);
+        }
+        if (candidates.isEmpty()) return Set.of();
+
+        log.info("📡 Precarga del final de {} partidos", candidates.size());
+        Map<CachedFixture, CompletableFuture<FixtureResponse>> loads = new LinkedHashMap<>();
+        for (CachedFixture fixture : candidates) {
+            // Sin pasar por la caché en memoria: el presupuesto ya está gastado en pedirlo
+            loads.put(fixture, fixtureBatchLoader.reload(fixture.getApiId()));
+            recordAttempt(fixture.getApiId());
+        }
+
+        Set<String> rounds = new LinkedHashSet<>();
+        loads.forEach((fixture, load) -> {
+            try {
+                FixtureResponse response = load.join();
+                boolean finished = response.getResponse().stream()
+                    .anyMatch(d -> FixtureStatus.isFinished(FixtureStatus.of(d)));
+                if (finished && !fixture.isFinished() && fixture.getRound() != null) {
+                    rounds.add(roundKey(fixture));
+                }
+            } catch (Exception e) {
+                log.warn("⚠️ No se pudo precargar el partido {}: {}", fixture.getApiId(), e.getMessage());
+            }
+        });
+        return rounds;
+    }
+
+    /**
+     * Al terminar el último partido de una jornada, concilia la clasificación con la API
+     */
+    private void refreshCompletedRounds(List<CachedFixture> window, Set<String> rounds) {
+        Map<String, CachedFixture> byRound = new HashMap<>();
+        window.stream()
+            .filter(f -> f.getRound() != null)
+            .forEach(f -> byRound.putIfAbsent(roundKey(f), f));
+
+        for (String round : rounds) {
+            CachedFixture fixture = byRound.get(round);
+            if (fixture == null || done.containsKey("round:" + round)) continue;
+            if (!fixtureCache.isRoundComplete(fixture.getLeagueId(), fixture.getSeason(), fixture.getRound())) continue;
+            if (!spend()) return;
+
+            log.info("📡 Jornada '{}' de liga {} terminada: precarga de la clasificación", fixture.getRound(), fixture.getLeagueId());
+            try {
+                cachedApiService.refreshStandings(fixture.getLeagueId(), fixture.getSeason());
+                markDone("round:" + round);
+            } catch (Exception e) {
+                log.warn("⚠️ No se pudo precargar la clasificación de liga {}: {}", fixture.getLeagueId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Antes del inicio: clasificación, equipos y plantillas que aún no estén en caché
+     */
+    private void warmUpKickoffs(List<CachedFixture> window, long now) {
+        for (CachedFixture fixture : window) {
+            if (fixture.getKickoffAt() <= now || fixture.isFinished()) continue;
+
+            int leagueId = fixture.getLeagueId();
+            int season = fixture.getSeason();
+            warmUp("standings:" + leagueId + ":" + season,
+                () -> standingsEngine.getStandings(leagueId, season) != null
+                    || cacheService.getStandingsFromCache(leagueId, season) != null,
+                () -> cachedApiService.getStandings(leagueId, season));
+
+            for (Integer teamId : new Integer[] { fixture.getHomeTeamId(), fixture.getAwayTeamId() }) {
+                if (teamId == null) continue;
+                warmUp("team:" + teamId,
+                    () -> cacheService.getTeamByIdFromCache(teamId) != null,
+                    () -> cachedApiService.getTeamById(teamId));
+                warmUp("squad:" + teamId,
+                    () -> cacheService.getSquadFromCache(teamId) != null,
+                    () -> cachedApiService.getTeamSquad(teamId));
+            }
+        }
+    }
+
+    private void warmUp(String key, BooleanSupplier cached, Runnable fetch) {
+        if (done.containsKey(key)) return;
+        if (cached.getAsBoolean()) {
+            markDone(key);
+            return;
+        }
+        if (!spend()) return;
+
+        log.info("📡 Precarga antes del inicio: {}", key);
+        try {
+            fetch.run();
+            markDone(key);
+        } catch (Exception e) {
+            log.warn("⚠️ No se pudo precargar {}: {}", key, e.getMessage());
+        }
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    /**
+     * Solo se precargan las ligas que se siguen (descargadas completas);
+     * el calendario por fecha también guarda partidos de todo el mundo
+     */
+    private boolean isFollowed(CachedFixture fixture) {
+        return fixture.getLeagueId() != null && fixture.getSeason() != null
+            && fixtureCache.isSeasonIngested(fixture.getLeagueId(), fixture.getSeason());
+    }
+
+    private boolean retryDue(int fixtureId) {
+        Attempts attempts = fullTimeAttempts.get(fixtureId);
+        return attempts == null || (attempts.count() < FULL_TIME_MAX_ATTEMPTS
+            && System.currentTimeMillis() - attempts.lastAt() >= FULL_TIME_RETRY_MS);
+    }
+
+    /**
+     * Cuenta un intento de recoger el final (solo de los partidos que se piden de verdad)
+     */
+    private void recordAttempt(int fixtureId) {
+        fullTimeAttempts.merge(fixtureId, new Attempts(1, System.currentTimeMillis()),
+            (previous, next) -> new Attempts(previous.count() + 1, next.lastAt()));
+    }
+
+    /**
+     * Reserva una petición del presupuesto del día (UTC)
+     */
+    private boolean spend() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        if (!today.equals(budgetDay)) {
+            budgetDay = today;
+            spent = 0;
+        }
+        if (spent >= dailyBudget) {
+            log.debug("Presupuesto de precarga agotado ({} peticiones)", dailyBudget);
+            return false;
+        }
+        spent++;
+        return true;
+    }
+
+    private void markDone(String key) {
+        done.put(key, System.currentTimeMillis());
+    }
+
+    private void purge() {
+        long cutoff = System.currentTimeMillis() - DONE_RETENTION_MS;
+        done.values().removeIf(at -> at < cutoff);
+        fullTimeAttempts.values().removeIf(a -> a.lastAt() < cutoff);
+    }
+
+    private static String roundKey(CachedFixture fixture) {
+        return fixture.getLeagueId() + ":" + fixture.getSeason() + ":" + fixture.getRound();
+    }
+}
@@ -0,0 +1,534 @@
+package com.example.information.service;
+
+import com.example.information.entities.cache.SeasonBootstrapJob;
+import com.example.information.entities.cache.SeasonBootstrapTask;
+import com.example.information.model.BootstrapProgress;
+import com.example.information.model.apifootball.PlayerResponse;
+import com.example.information.model.apifootball.SquadResponse;
+import com.example.information.model.apifootball.TeamResponse;
+import com.example.information.repositories.cache.SeasonBootstrapJobRepository;
+import com.example.information.repositories.cache.SeasonBootstrapTaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+/**
+ * Carga completa de una liga/temporada lanzada por un administrador, para que los
+ * primeros usuarios no paguen las peticiones en frío.
+ *
+ * - Grafo de dependencias: equipos → plantilla y primera página de jugadores de cada
+ *   equipo → resto de páginas; partidos → clasificación
+ * - Cada tarea es una petición; se ejecutan en paralelo hasta la concurrencia del trabajo
+ *   (como mucho el tamaño de bootstrapExecutor) y sin pasar de su presupuesto de peticiones
+ * - Lo que ya está en la caché de BD no se vuelve a pedir ni gasta presupuesto: cada tarea
+ *   gasta las peticiones que envía de verdad
+ * - Una tarea fallida se reintenta tras una espera creciente (RETRY_BACKOFF_MS, el doble cada vez)
+ * - Un solo trabajo activo por liga/temporada (restricción única en BD)
+ * - Cada instancia reanuda los trabajos en marcha, pero una tarea solo la ejecuta quien la
+ *   reclama en BD (UPDATE con comprobación de filas, con plazo TASK_LEASE_MS por si la
+ *   instancia cae), y cada petición se reserva en BD del presupuesto antes de enviarla
+ * - Las tareas son el punto de control en BD: al completarse una se crean sus hijas en la
+ *   misma transacción, y al arrancar se reanudan los trabajos que estaban en marcha
+ * - Sin presupuesto el trabajo queda en pausa; al volver a lanzarlo continúa donde se quedó
+ * - Las páginas de jugadores de un equipo no cuentan como su plantilla hasta que han llegado
+ *   todas: un trabajo en pausa o con fallos no deja plantillas a medias servidas como completas
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SeasonBootstrapService {
+
+    /** Intentos de cada tarea antes de darla por fallida */
+    private static final int MAX_ATTEMPTS = 3;
+
+    /** Tamaño de bootstrapExecutor: límite absoluto de peticiones en paralelo */
+    private static final int MAX_CONCURRENCY = 4;
+
+    /** Espera antes del primer reintento de una tarea fallida (se dobla en cada intento) */
+    private static final long RETRY_BACKOFF_MS = 30_000L;
+
+    /** Plazo del reclamo de una tarea: si la instancia cae, otra la puede reclamar pasado este tiempo */
+    private static final long TASK_LEASE_MS = 5 * 60_000L;
+
+    private final SeasonBootstrapJobRepository jobRepository;
+    private final SeasonBootstrapTaskRepository taskRepository;
+    private final ApiFootballService apiService;
+    private final CachedFootballApiService cachedApiService;
+    private final FootballCacheService cacheService;
+    private final FixtureCacheService fixtureCache;
+    private final ExecutorService bootstrapExecutor;
+    private final ExecutorService bootstrapJobExecutor;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${football.bootstrap.max-requests:60}")
+    private int defaultMaxRequests;
+
+    @Value("${football.bootstrap.concurrency:3}")
+    private int defaultConcurrency;
+
+    /** Trabajos en cola o en marcha en este proceso */
+    private final Set<Long> scheduled = ConcurrentHashMap.newKeySet();
+
+    /** Identifica a esta instancia en los reclamos de tareas */
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /**
+     * Resultado de una tarea, aplicado a la BD por el hilo coordinador
+     */
+    private record Outcome(SeasonBootstrapTask task, int requests, List<SeasonBootstrapTask> children, String error) {}
+
+    // ==================== API PÚBLICA ====================
+
+    /**
+     * Lanza la carga de una liga/temporada, o reanuda la última si quedó en pausa o con fallos
+     * (con el presupuesto indicado de peticiones adicionales)
+     */
+    public synchronized BootstrapProgress start(int leagueId, int season, Integer concurrency, Integer maxRequests) {
+        int parallel = Math.max(1, Math.min(concurrency != null ? concurrency : defaultConcurrency, MAX_CONCURRENCY));
+        int budget = Math.max(1, maxRequests != null ? maxRequests : defaultMaxRequests);
+
+        SeasonBootstrapJob job = jobRepository.findFirstByLeagueIdAndSeasonOrderByIdDesc(leagueId, season)
+            .filter(j -> j.getStatus() != SeasonBootstrapJob.Status.COMPLETED)
+            .orElse(null);
+
+        if (job == null) {
+            try {
+                job = createJob(leagueId, season, parallel, budget);
+                log.info("🚀 Carga de liga {} temporada {} creada (trabajo {})", leagueId, season, job.getId());
+            } catch (DataIntegrityViolationException e) {
+                // Otra instancia acaba de crear el trabajo activo: se usa ese
+                job = jobRepository.findFirstByLeagueIdAndSeasonOrderByIdDesc(leagueId, season).orElseThrow(() -> e);
+                log.info("ℹ️ Carga de liga {} temporada {} ya creada por otra petición (trabajo {})", leagueId, season, job.getId());
+            }
+        } else if (job.getStatus() != SeasonBootstrapJob.Status.RUNNING) {
+            job = resumeJob(job, parallel, budget);
+            log.info("🔄 Carga de liga {} temporada {} reanudada (trabajo {})", leagueId, season, job.getId());
+        }
+
+        schedule(job.getId());
+        return getProgress(job.getId());
+    }
+
+    /**
+     * Progreso de un trabajo, o null si no existe
+     */
+    public BootstrapProgress getProgress(long jobId) {
+        return jobRepository.findById(jobId).map(this::toProgress).orElse(null);
+    }
+
+    /**
+     * Progreso de los trabajos más recientes
+     */
+    public List<BootstrapProgress> getRecentJobs() {
+        return jobRepository.findTop20ByOrderByIdDesc().stream()
+            .map(this::toProgress)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Reanuda tras un reinicio los trabajos que estaban en marcha
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeRunningJobs() {
+        for (SeasonBootstrapJob job : jobRepository.findByStatus(SeasonBootstrapJob.Status.RUNNING)) {
+            log.info("🔄 Reanudando carga de liga {} temporada {} tras reinicio (trabajo {})",
+                    job.getLeagueId(), job.getSeason(), job.getId());
+            schedule(job.getId());
+        }
+    }
+
+    // ==================== EJECUCIÓN ====================
+
+    private void schedule(long jobId) {
+        if (!scheduled.add(jobId)) return;
+        bootstrapJobExecutor.submit(() -> {
+            try {
+                run(jobId);
+            } catch (Exception e) {
+                log.error("❌ Error en la carga de temporada (trabajo {}): {}", jobId, e.getMessage(), e);
+                finish(jobId, SeasonBootstrapJob.Status.FAILED, e.getMessage());
+            } finally {
+                scheduled.remove(jobId);
+            }
+        });
+    }
+
+    /**
+     * Bucle coordinador: mantiene hasta {@code concurrency} tareas en vuelo, dentro del
+     * presupuesto, y aplica cada resultado según llega. Si otra instancia tiene reclamadas
+     * las tareas que quedan, le deja el trabajo a ella.
+     */
+    private void run(long jobId) throws InterruptedException {
+        CompletionService<Outcome> completion = new ExecutorCompletionService<>(bootstrapExecutor);
+        Set<Long> inFlight = new HashSet<>();
+
+        while (true) {
+            SeasonBootstrapJob job = jobRepository.findById(jobId).orElseThrow();
+            if (job.getStatus() != SeasonBootstrapJob.Status.RUNNING && inFlight.isEmpty()) return;
+
+            LocalDateTime retryAt = null;
+            boolean exhausted = false;
+            boolean claimedElsewhere = false;
+            if (inFlight.size() < job.getConcurrency()) {
+                LocalDateTime now = LocalDateTime.now();
+                for (SeasonBootstrapTask task : taskRepository.findByJobIdAndStatusOrderByIdAsc(jobId, SeasonBootstrapTask.Status.PENDING)) {
+                    if (inFlight.size() >= job.getConcurrency()) break;
+                    if (inFlight.contains(task.getId())) continue;
+                    if (task.getNextAttemptAt() != null && task.getNextAttemptAt().isAfter(now)) {
+                        if (retryAt == null || task.getNextAttemptAt().isBefore(retryAt)) retryAt = task.getNextAttemptAt();
+                        continue;
+                    }
+                    if (!claim(task)) {
+                        claimedElsewhere = true;
+                        continue;
+                    }
+                    // Cada tarea en vuelo tiene reservada una petición
+                    if (!reserveRequest(jobId, task)) {
+                        exhausted = true;
+                        break;
+                    }
+                    inFlight.add(task.getId());
+                    completion.submit(() -> execute(job.getLeagueId(), job.getSeason(), task));
+                }
+            }
+            if (inFlight.isEmpty()) {
+                if (claimedElsewhere) {
+                    log.info("ℹ️ Las tareas pendientes del trabajo {} las tiene otra instancia", jobId);
+                    return;
+                }
+                if (retryAt == null || exhausted || job.getRequestsUsed() >= job.getMaxRequests()) break;
+                // Solo quedan reintentos en espera
+                Thread.sleep(Math.max(0, Duration.between(LocalDateTime.now(), retryAt).toMillis()));
+                continue;
+            }
+
+            Outcome outcome;
+            try {
+                outcome = completion.take().get();
+            } catch (ExecutionException e) {
+                // execute() captura sus errores: no debería ocurrir
+                throw new IllegalStateException(e.getCause());
+            }
+            inFlight.remove(outcome.task().getId());
+            record(jobId, outcome);
+        }
+
+        SeasonBootstrapJob job = jobRepository.findById(jobId).orElseThrow();
+        long pending = taskRepository.findByJobIdAndStatusOrderByIdAsc(jobId, SeasonBootstrapTask.Status.PENDING).size();
+        long failed = taskRepository.findByJobIdAndStatusOrderByIdAsc(jobId, SeasonBootstrapTask.Status.FAILED).size();
+        if (pending > 0) {
+            finish(jobId, SeasonBootstrapJob.Status.PAUSED,
+                "Presupuesto de " + job.getMaxRequests() + " peticiones agotado con " + pending + " tareas pendientes");
+        } else if (failed > 0) {
+            finish(jobId, SeasonBootstrapJob.Status.FAILED, failed + " tareas fallidas tras " + MAX_ATTEMPTS + " intentos");
+        } else {
+            finish(jobId, SeasonBootstrapJob.Status.COMPLETED, null);
+        }
+    }
+
+    /**
+     * Ejecuta una tarea (en bootstrapExecutor). Nunca lanza excepción.
+     * Las peticiones gastadas son las que ha enviado este hilo durante la tarea, también si falla.
+     */
+    private Outcome execute(int leagueId, int season, SeasonBootstrapTask task) {
+        int before = apiService.requestsSentByCurrentThread();
+        try {
+            List<SeasonBootstrapTask> children = switch (task.getType()) {
+                case TEAMS -> loadTeams(leagueId, season, task);
+                case SQUAD -> loadSquad(task);
+                case PLAYERS -> loadPlayersPage(season, task);
+                case FIXTURES -> loadFixtures(leagueId, season, task);
+                case STANDINGS -> loadStandings(leagueId, season);
+            };
+            return new Outcome(task, apiService.requestsSentByCurrentThread() - before, children, null);
+        } catch (Exception e) {
+            log.warn("⚠️ Tarea {} {} (equipo {}, página {}) fallida: {}",
+                    task.getId(), task.getType(), task.getTeamId(), task.getPage(), e.getMessage());
+            return new Outcome(task, apiService.requestsSentByCurrentThread() - before, List.of(), e.getMessage());
+        }
+    }
+
+    private List<SeasonBootstrapTask> loadTeams(int leagueId, int season, SeasonBootstrapTask task) {
+        TeamResponse teams = cacheService.getTeamsByLeagueFromCache(leagueId, season);
+        if (teams == null || teams.getResponse() == null || teams.getResponse().isEmpty()) {
+            teams = apiService.getTeamsByLeague(leagueId, season);
+            if (teams != null && teams.getResponse() != null) {
+                cacheService.saveTeams(teams, leagueId, season);
+            }
+        }
+
+        List<SeasonBootstrapTask> children = new ArrayList<>();
+        if (teams != null && teams.getResponse() != null) {
+            for (TeamResponse.TeamData data : teams.getResponse()) {
+                if (data.getTeam() == null) continue;
+                children.add(newTask(task.getJobId(), SeasonBootstrapTask.Type.SQUAD, data.getTeam().getId(), 1));
+                children.add(newTask(task.getJobId(), SeasonBootstrapTask.Type.PLAYERS, data.getTeam().getId(), 1));
+            }
+        }
+        return children;
+    }
+
+    private List<SeasonBootstrapTask> loadSquad(SeasonBootstrapTask task) {
+        if (cacheService.getSquadFromCache(task.getTeamId()) == null) {
+            SquadResponse squad = apiService.getTeamSquad(task.getTeamId());
+            cacheService.saveSquad(squad, task.getTeamId());
+        }
+        return List.of();
+    }
+
+    /**
+     * Los jugadores se piden siempre: en caché puede haber solo una parte de la plantilla.
+     * La página se guarda sin contar como plantilla; sus jugadores quedan en la tarea para
+     * marcar la plantilla completa cuando terminen todas las páginas del equipo.
+     */
+    private List<SeasonBootstrapTask> loadPlayersPage(int season, SeasonBootstrapTask task) {
+        PlayerResponse players = apiService.getPlayersByTeam(task.getTeamId(), season, task.getPage());
+        cacheService.savePlayersPage(players, task.getTeamId(), season);
+        task.setPlayerIds(players == null || players.getResponse() == null ? "" : players.getResponse().stream()
+            .filter(data -> data.getPlayer() != null)
+            .map(data -> String.valueOf(data.getPlayer().getId()))
+            .collect(Collectors.joining(",")));
+
+        List<SeasonBootstrapTask> children = new ArrayList<>();
+        if (task.getPage() == 1 && players != null && players.getPaging() != null) {
+            for (int page = 2; page <= players.getPaging().getTotal(); page++) {
+                children.add(newTask(task.getJobId(), SeasonBootstrapTask.Type.PLAYERS, task.getTeamId(), page));
+            }
+        }
+        return children;
+    }
+
+    private List<SeasonBootstrapTask> loadFixtures(int leagueId, int season, SeasonBootstrapTask task) {
+        if (!fixtureCache.isSeasonIngested(leagueId, season)) {
+            cachedApiService.getFixturesByLeague(leagueId, season);
+        }
+        return List.of(newTask(task.getJobId(), SeasonBootstrapTask.Type.STANDINGS, 0, 1));
+    }
+
+    /**
+     * Tras los partidos, para que la clasificación se pueda calcular a partir de ellos
+     * (si se calcula en local o ya está en BD, no se pide)
+     */
+    private List<SeasonBootstrapTask> loadStandings(int leagueId, int season) {
+        cachedApiService.getStandings(leagueId, season);
+        return List.of();
+    }
+
+    // ==================== PUNTOS DE CONTROL ====================
+
+    /**
+     * Reclama la tarea para esta instancia; false si la tiene otra
+     */
+    private boolean claim(SeasonBootstrapTask task) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = new TransactionTemplate(transactionManager).execute(status -> taskRepository.claim(
+            task.getId(), instanceId, now.plus(Duration.ofMillis(TASK_LEASE_MS)), now, SeasonBootstrapTask.Status.PENDING));
+        return claimed != null && claimed == 1;
+    }
+
+    /**
+     * Reserva en BD una petición del presupuesto para la tarea ya reclamada;
+     * si no queda presupuesto, suelta la tarea
+     */
+    private boolean reserveRequest(long jobId, SeasonBootstrapTask task) {
+        Boolean reserved = new TransactionTemplate(transactionManager).execute(status -> {
+            if (jobRepository.reserveRequest(jobId) == 1) return true;
+            taskRepository.release(task.getId(), instanceId);
+            return false;
+        });
+        return Boolean.TRUE.equals(reserved);
+    }
+
+    /**
+     * Aplica el resultado de una tarea: estado, tareas hijas y peticiones gastadas, en una transacción.
+     * Si el reclamo caducó y otra instancia tiene ya la tarea, solo se cuentan las peticiones.
+     */
+    private void record(long jobId, Outcome outcome) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            // La petición reservada al reclamarla ya está contada
+            jobRepository.addRequests(jobId, outcome.requests() - 1);
+
+            SeasonBootstrapTask task = taskRepository.findById(outcome.task().getId()).orElseThrow();
+            if (!instanceId.equals(task.getClaimedBy()) || task.getStatus() != SeasonBootstrapTask.Status.PENDING) {
+                log.warn("⚠️ La tarea {} del trabajo {} ya no es de esta instancia: se descarta su resultado",
+                        task.getId(), jobId);
+                return;
+            }
+            task.setClaimedBy(null);
+            task.setClaimedUntil(null);
+            task.setAttempts(task.getAttempts() + 1);
+            if (outcome.error() == null) {
+                task.setStatus(SeasonBootstrapTask.Status.DONE);
+                task.setError(null);
+                task.setNextAttemptAt(null);
+                task.setPlayerIds(outcome.task().getPlayerIds());
+                for (SeasonBootstrapTask child : outcome.children()) {
+                    if (!taskRepository.existsByJobIdAndTypeAndTeamIdAndPage(
+                            child.getJobId(), child.getType(), child.getTeamId(), child.getPage())) {
+                        taskRepository.save(child);
+                    }
+                }
+                if (task.getType() == SeasonBootstrapTask.Type.PLAYERS) {
+                    taskRepository.saveAndFlush(task);
+                    markSquadIfComplete(jobRepository.findById(jobId).orElseThrow(), task.getTeamId());
+                }
+            } else {
+                task.setStatus(task.getAttempts() >= MAX_ATTEMPTS
+                    ? SeasonBootstrapTask.Status.FAILED
+                    : SeasonBootstrapTask.Status.PENDING);
+                task.setError(truncate(outcome.error()));
+                task.setNextAttemptAt(LocalDateTime.now().plus(
+                    Duration.ofMillis(RETRY_BACKOFF_MS << Math.min(task.getAttempts() - 1, 10))));
+            }
+            taskRepository.save(task);
+        });
+    }
+
+    /**
+     * Si ya han terminado todas las páginas de jugadores del equipo (las hijas de la primera
+     * se crean en la misma transacción que la completa), marca la plantilla como completa
+     */
+    private void markSquadIfComplete(SeasonBootstrapJob job, int teamId) {
+        List<SeasonBootstrapTask> pages = taskRepository.findByJobIdAndTypeAndTeamId(
+            job.getId(), SeasonBootstrapTask.Type.PLAYERS, teamId);
+        if (pages.stream().anyMatch(page -> page.getStatus() != SeasonBootstrapTask.Status.DONE)) return;
+
+        Set<Integer> playerIds = new HashSet<>();
+        for (SeasonBootstrapTask page : pages) {
+            if (page.getPlayerIds() == null || page.getPlayerIds().isBlank()) continue;
+            for (String id : page.getPlayerIds().split(",")) {
+                playerIds.add(Integer.valueOf(id));
+            }
+        }
+        cacheService.markTeamListed(teamId, job.getSeason(), playerIds);
+    }
+
+    private SeasonBootstrapJob createJob(int leagueId, int season, int concurrency, int maxRequests) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            SeasonBootstrapJob job = jobRepository.save(SeasonBootstrapJob.builder()
+                .leagueId(leagueId)
+                .season(season)
+                .activeKey(leagueId + ":" + season)
+                .status(SeasonBootstrapJob.Status.RUNNING)
+                .concurrency(concurrency)
+                .maxRequests(maxRequests)
+                .requestsUsed(0)
+                .startedAt(LocalDateTime.now())
+                .build());
+            taskRepository.save(newTask(job.getId(), SeasonBootstrapTask.Type.TEAMS, 0, 1));
+            taskRepository.save(newTask(job.getId(), SeasonBootstrapTask.Type.FIXTURES, 0, 1));
+            return job;
+        });
+    }
+
+    /**
+     * Continúa un trabajo en pausa o con fallos: más presupuesto y las fallidas otra vez pendientes
+     */
+    private SeasonBootstrapJob resumeJob(SeasonBootstrapJob paused, int concurrency, int additionalRequests) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            // Releída en la transacción: las peticiones gastadas las actualizan otras instancias
+            SeasonBootstrapJob job = jobRepository.findById(paused.getId()).orElseThrow();
+            for (SeasonBootstrapTask task : taskRepository.findByJobIdAndStatusOrderByIdAsc(job.getId(), SeasonBootstrapTask.Status.FAILED)) {
+                task.setStatus(SeasonBootstrapTask.Status.PENDING);
+                task.setAttempts(0);
+                task.setNextAttemptAt(null);
+                taskRepository.save(task);
+            }
+            job.setStatus(SeasonBootstrapJob.Status.RUNNING);
+            job.setActiveKey(job.getLeagueId() + ":" + job.getSeason());
+            job.setConcurrency(concurrency);
+            job.setMaxRequests(job.getRequestsUsed() + additionalRequests);
+            job.setMessage(null);
+            job.setFinishedAt(null);
+            return jobRepository.save(job);
+        });
+    }
+
+    private void finish(long jobId, SeasonBootstrapJob.Status status, String message) {
+        jobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(status);
+            if (status == SeasonBootstrapJob.Status.COMPLETED) {
+                // Libera la liga/temporada para un trabajo nuevo
+                job.setActiveKey(null);
+            }
+            job.setMessage(truncate(message));
+            job.setFinishedAt(LocalDateTime.now());
+            jobRepository.save(job);
+            log.info("✅ Carga de liga {} temporada {} terminada: {} ({} peticiones){}", job.getLeagueId(), job.getSeason(),
+                    status, job.getRequestsUsed(), message != null ? " - " + message : "");
+        });
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private BootstrapProgress toProgress(SeasonBootstrapJob job) {
+        Map<String, Map<String, Long>> tasks = new TreeMap<>();
+        long done = 0, pending = 0, failed = 0;
+        for (Object[] row : taskRepository.countByTypeAndStatus(job.getId())) {
+            SeasonBootstrapTask.Type type = (SeasonBootstrapTask.Type) row[0];
+            SeasonBootstrapTask.Status status = (SeasonBootstrapTask.Status) row[1];
+            long count = (Long) row[2];
+            tasks.computeIfAbsent(type.name(), k -> new TreeMap<>()).put(status.name(), count);
+            switch (status) {
+                case DONE -> done += count;
+                case PENDING -> pending += count;
+                case FAILED -> failed += count;
+            }
+        }
+
+        return BootstrapProgress.builder()
+            .jobId(job.getId())
+            .leagueId(job.getLeagueId())
+            .season(job.getSeason())
+            .status(job.getStatus().name())
+            .message(job.getMessage())
+            .concurrency(job.getConcurrency())
+            .maxRequests(job.getMaxRequests())
+            .requestsUsed(job.getRequestsUsed())
+            .totalTasks(done + pending + failed)
+            .doneTasks(done)
+            .pendingTasks(pending)
+            .failedTasks(failed)
+            .tasks(tasks)
+            .startedAt(job.getStartedAt())
+            .finishedAt(job.getFinishedAt())
+            .build();
+    }
+
+    private static SeasonBootstrapTask newTask(long jobId, SeasonBootstrapTask.Type type, int teamId, int page) {
+        return SeasonBootstrapTask.builder()
+            .jobId(jobId)
+            .type(type)
+            .teamId(teamId)
+            .page(page)
+            .status(SeasonBootstrapTask.Status.PENDING)
+            .attempts(0)
+            .build();
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > 500 ? message.substring(0, 500) : message;
+    }
+}
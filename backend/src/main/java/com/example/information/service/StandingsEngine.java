@@ -0,0 +1,514 @@
+package com.example.information.service;
+
+import com.example.information.entities.cache.CachedFixture;
+import com.example.information.model.apifootball.FixtureStatus;
+import com.example.information.model.apifootball.StandingsResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Motor de clasificaciones calculadas a partir de los partidos finalizados.
+ *
+ * - Cada tabla se monta una vez con los partidos jugados de la BD y la lista de
+ *   equipos de la clasificación de la API
+ * - Después se actualiza en memoria con cada partido que finaliza (sin llamar a la API)
+ * - Criterios de desempate configurables por liga:
+ *   {@code football.standings.tie-breakers.<leagueId>=HEAD_TO_HEAD_POINTS,GOAL_DIFF,...}
+ * - La clasificación de la API solo se usa para conciliar. Si a la BD le faltan partidos
+ *   de un equipo, se muestra su fila de la API hasta que lleguen; la diferencia de puntos
+ *   con los partidos que cuenta la API (los primeros por fecha) es un ajuste (sanciones)
+ * - Desempates de enfrentamiento directo recursivos: si separan a parte de los empatados,
+ *   se vuelven a aplicar solo entre los que siguen empatados (normas de LaLiga o Serie A)
+ *
+ * Solo tablas de grupo único (ligas); las competiciones con grupos siguen usando la API.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StandingsEngine {
+
+    private static final String TIE_BREAKERS_PROPERTY = "football.standings.tie-breakers.";
+    private static final String DEFAULT_TIE_BREAKERS = "GOAL_DIFF,GOALS_FOR,WINS";
+    private static final int FORM_LENGTH = 5;
+
+    /**
+     * Criterios de desempate a igualdad de puntos, en el orden configurado
+     */
+    public enum TieBreaker {
+        GOAL_DIFF, GOALS_FOR, WINS, AWAY_GOALS_FOR,
+        HEAD_TO_HEAD_POINTS, HEAD_TO_HEAD_GOAL_DIFF, HEAD_TO_HEAD_GOALS_FOR
+    }
+
+    private final FixtureCacheService fixtureCache;
+    private final Environment environment;
+
+    /** Tablas por clave "liga:temporada" */
+    private final Map<String, LeagueTable> tables = new ConcurrentHashMap<>();
+
+    private record Result(int fixtureId, long kickoffAt, int homeId, int awayId, int homeGoals, int awayGoals) {}
+
+    /**
+     * Clasificación calculada, o null si la tabla no está montada
+     */
+    public StandingsResponse getStandings(int leagueId, int season) {
+        LeagueTable table = tables.get(key(leagueId, season));
+        return table != null ? table.render() : null;
+    }
+
+    /**
+     * Monta (o vuelve a conciliar) la tabla de una liga con los partidos jugados de la BD
+     * y la clasificación de la API.
+     *
+     * @return la clasificación calculada, o null si no se puede usar (grupos, o equipos que no están en la tabla)
+     */
+    public StandingsResponse load(int leagueId, int season, StandingsResponse upstream) {
+        StandingsResponse.League league = firstLeague(upstream);
+        if (league == null || league.getStandings() == null || league.getStandings().size() != 1) {
+            log.info("Clasificación liga {} season {} sin grupo único: se usa la de la API", leagueId, season);
+            tables.remove(key(leagueId, season));
+            return null;
+        }
+
+        LeagueTable table = new LeagueTable(league, tieBreakers(leagueId));
+        for (CachedFixture fixture : fixtureCache.getPlayedFixtures(leagueId, season)) {
+            Result result = toResult(fixture);
+            if (result != null) table.apply(result);
+        }
+
+        if (!table.reconcile(league.getStandings().get(0))) {
+            log.warn("⚠️ Equipos de liga {} season {} fuera de la tabla: se usa la clasificación de la API", leagueId, season);
+            tables.remove(key(leagueId, season));
+            return null;
+        }
+
+        tables.put(key(leagueId, season), table);
+        log.info("✅ Clasificación liga {} season {} calculada desde {} partidos", leagueId, season, table.results.size());
+        return table.render();
+    }
+
+    /**
+     * Aplica los partidos recién finalizados a las tablas montadas
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFixturesFinished(FixtureCacheService.FixturesFinished event) {
+        for (CachedFixture fixture : event.fixtures()) {
+            LeagueTable table = tables.get(key(fixture.getLeagueId(), fixture.getSeason()));
+            Result result = toResult(fixture);
+            if (table != null && result != null && table.apply(result)) {
+                log.info("🔄 Clasificación liga {} actualizada con el partido {} ({}-{})",
+                        fixture.getLeagueId(), fixture.getApiId(), result.homeGoals(), result.awayGoals());
+            }
+        }
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private static String key(Integer leagueId, Integer season) {
+        return leagueId + ":" + season;
+    }
+
+    private static Result toResult(CachedFixture fixture) {
+        if (!FixtureStatus.isPlayed(fixture.getStatusShort())
+                || fixture.getHomeTeamId() == null || fixture.getAwayTeamId() == null
+                || fixture.getGoalsHome() == null || fixture.getGoalsAway() == null) {
+            return null;
+        }
+        return new Result(fixture.getApiId(), fixture.getKickoffAt(), fixture.getHomeTeamId(), fixture.getAwayTeamId(),
+                fixture.getGoalsHome(), fixture.getGoalsAway());
+    }
+
+    private static StandingsResponse.League firstLeague(StandingsResponse response) {
+        if (response == null || response.getResponse() == null || response.getResponse().isEmpty()) return null;
+        return response.getResponse().get(0).getLeague();
+    }
+
+    private List<TieBreaker> tieBreakers(int leagueId) {
+        String configured = environment.getProperty(TIE_BREAKERS_PROPERTY + leagueId,
+                environment.getProperty(TIE_BREAKERS_PROPERTY + "default", DEFAULT_TIE_BREAKERS));
+        List<TieBreaker> result = new ArrayList<>();
+        for (String name : configured.split(",")) {
+            try {
+                result.add(TieBreaker.valueOf(name.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                log.warn("⚠️ Criterio de desempate desconocido '{}' para liga {}, se ignora", name, leagueId);
+            }
+        }
+        return result;
+    }
+
+    // ==================== TABLA ====================
+
+    /**
+     * Contadores de un equipo en un ámbito (total, local o visitante)
+     */
+    private static final class Counters {
+        int played, win, draw, lose, goalsFor, against;
+
+        void add(int scored, int conceded) {
+            played++;
+            goalsFor += scored;
+            against += conceded;
+            if (scored > conceded) win++;
+            else if (scored == conceded) draw++;
+            else lose++;
+        }
+
+        int points() {
+            return win * 3 + draw;
+        }
+
+        static Counters from(StandingsResponse.MatchStats stats) {
+            Counters counters = new Counters();
+            if (stats == null) return counters;
+            counters.played = stats.getPlayed();
+            counters.win = stats.getWin();
+            counters.draw = stats.getDraw();
+            counters.lose = stats.getLose();
+            if (stats.getGoals() != null) {
+                counters.goalsFor = stats.getGoals().getGoalsFor();
+                counters.against = stats.getGoals().getAgainst();
+            }
+            return counters;
+        }
+
+        StandingsResponse.MatchStats toMatchStats() {
+            StandingsResponse.MatchStats stats = new StandingsResponse.MatchStats();
+            stats.setPlayed(played);
+            stats.setWin(win);
+            stats.setDraw(draw);
+            stats.setLose(lose);
+            StandingsResponse.GoalsStats goals = new StandingsResponse.GoalsStats();
+            goals.setGoalsFor(goalsFor);
+            goals.setAgainst(against);
+            stats.setGoals(goals);
+            return stats;
+        }
+    }
+
+    /**
+     * Fila de la API de un equipo con más partidos que la BD
+     */
+    private record Lagging(int points, Counters all, Counters home, Counters away) {}
+
+    private static final class TeamRow {
+        final StandingsResponse.Team team;
+        final String group;
+        final Counters all = new Counters();
+        final Counters home = new Counters();
+        final Counters away = new Counters();
+        /** Diferencia de puntos con la API en los mismos partidos (sanciones) */
+        int adjustment;
+        int previousRank;
+        /** Fila de la API mientras a la BD le faltan partidos del equipo (null si no) */
+        Lagging lagging;
+
+        TeamRow(StandingsResponse.Team team, String group, int previousRank) {
+            this.team = team;
+            this.group = group;
+            this.previousRank = previousRank;
+        }
+
+        Counters shownAll() {
+            return lagging != null ? lagging.all() : all;
+        }
+
+        Counters shownHome() {
+            return lagging != null ? lagging.home() : home;
+        }
+
+        Counters shownAway() {
+            return lagging != null ? lagging.away() : away;
+        }
+
+        int points() {
+            return lagging != null ? lagging.points() : all.points() + adjustment;
+        }
+
+        int goalDiff() {
+            return shownAll().goalsFor - shownAll().against;
+        }
+    }
+
+    private static final class LeagueTable {
+        final StandingsResponse.League header;
+        final List<TieBreaker> tieBreakers;
+        final Map<Integer, TeamRow> rows = new LinkedHashMap<>();
+        final Map<Integer, Result> results = new HashMap<>();
+        /** Descripción de cada puesto (zonas de Champions, descenso...) según la API */
+        final Map<Integer, String> descriptions = new HashMap<>();
+        StandingsResponse rendered;
+
+        LeagueTable(StandingsResponse.League upstream, List<TieBreaker> tieBreakers) {
+            this.tieBreakers = tieBreakers;
+            this.header = new StandingsResponse.League();
+            header.setId(upstream.getId());
+            header.setName(upstream.getName());
+            header.setCountry(upstream.getCountry());
+            header.setLogo(upstream.getLogo());
+            header.setFlag(upstream.getFlag());
+            header.setSeason(upstream.getSeason());
+            for (StandingsResponse.Standing standing : upstream.getStandings().get(0)) {
+                if (standing.getTeam() == null) continue;
+                rows.put(standing.getTeam().getId(), new TeamRow(standing.getTeam(), standing.getGroup(), standing.getRank()));
+                descriptions.put(standing.getRank(), standing.getDescription());
+            }
+        }
+
+        /**
+         * Aplica un resultado; false si ya estaba aplicado o los equipos no son de la liga
+         */
+        synchronized boolean apply(Result result) {
+            TeamRow homeRow = rows.get(result.homeId());
+            TeamRow awayRow = rows.get(result.awayId());
+            if (homeRow == null || awayRow == null || results.putIfAbsent(result.fixtureId(), result) != null) {
+                return false;
+            }
+            homeRow.all.add(result.homeGoals(), result.awayGoals());
+            homeRow.home.add(result.homeGoals(), result.awayGoals());
+            awayRow.all.add(result.awayGoals(), result.homeGoals());
+            awayRow.away.add(result.awayGoals(), result.homeGoals());
+            catchUp(homeRow);
+            catchUp(awayRow);
+            rendered = null;
+            return true;
+        }
+
+        /**
+         * Compara con la clasificación de la API. A un equipo con menos partidos en BD se le
+         * muestra la fila de la API hasta que lleguen; con los mismos o más, la diferencia de
+         * puntos en los partidos que cuenta la API se guarda como ajuste.
+         *
+         * @return false si algún equipo de la API no está en la tabla
+         */
+        synchronized boolean reconcile(List<StandingsResponse.Standing> upstream) {
+            for (StandingsResponse.Standing standing : upstream) {
+                if (standing.getTeam() == null || standing.getAll() == null) continue;
+                TeamRow row = rows.get(standing.getTeam().getId());
+                if (row == null) return false;
+                int played = standing.getAll().getPlayed();
+                if (row.all.played < played) {
+                    row.lagging = new Lagging(standing.getPoints(), Counters.from(standing.getAll()),
+                        Counters.from(standing.getHome()), Counters.from(standing.getAway()));
+                    log.info("A {} le faltan {} partidos en BD: se muestra su fila de la API",
+                            row.team.getName(), played - row.all.played);
+                } else {
+                    settle(row, played, standing.getPoints());
+                }
+            }
+            rendered = null;
+            return true;
+        }
+
+        /**
+         * Un equipo que tenía partidos pendientes en BD vuelve a calcularse al tenerlos todos
+         */
+        private void catchUp(TeamRow row) {
+            if (row.lagging != null && row.all.played >= row.lagging.all().played) {
+                settle(row, row.lagging.all().played, row.lagging.points());
+                row.lagging = null;
+            }
+        }
+
+        /**
+         * Ajuste de puntos: lo que da la API menos lo que suman los primeros {@code played}
+         * partidos del equipo en BD (los que la API ya cuenta si va por detrás)
+         */
+        private void settle(TeamRow row, int played, int upstreamPoints) {
+            int teamId = row.team.getId();
+            int points = results.values().stream()
+                .filter(r -> r.homeId() == teamId || r.awayId() == teamId)
+                .sorted(Comparator.comparingLong(Result::kickoffAt))
+                .limit(played)
+                .mapToInt(r -> {
+                    int scored = r.homeId() == teamId ? r.homeGoals() : r.awayGoals();
+                    int conceded = r.homeId() == teamId ? r.awayGoals() : r.homeGoals();
+                    return scored > conceded ? 3 : scored == conceded ? 1 : 0;
+                })
+                .sum();
+            row.adjustment = upstreamPoints - points;
+            if (row.adjustment != 0) {
+                log.info("Ajuste de {} puntos para {} según la clasificación de la API",
+                        row.adjustment, row.team.getName());
+            }
+        }
+
+        synchronized StandingsResponse render() {
+            if (rendered != null) return rendered;
+
+            List<TeamRow> ordered = rank();
+            String update = OffsetDateTime.now(ZoneOffset.UTC).toString();
+            List<StandingsResponse.Standing> standings = new ArrayList<>();
+            for (int i = 0; i < ordered.size(); i++) {
+                TeamRow row = ordered.get(i);
+                int rank = i + 1;
+                StandingsResponse.Standing standing = new StandingsResponse.Standing();
+                standing.setRank(rank);
+                standing.setTeam(row.team);
+                standing.setPoints(row.points());
+                standing.setGoalsDiff(row.goalDiff());
+                standing.setGroup(row.group);
+                standing.setForm(form(row.team.getId()));
+                standing.setStatus(rank < row.previousRank ? "up" : rank > row.previousRank ? "down" : "same");
+                standing.setDescription(descriptions.get(rank));
+                standing.setAll(row.shownAll().toMatchStats());
+                standing.setHome(row.shownHome().toMatchStats());
+                standing.setAway(row.shownAway().toMatchStats());
+                standing.setUpdate(update);
+                standings.add(standing);
+            }
+
+            StandingsResponse.League league = new StandingsResponse.League();
+            league.setId(header.getId());
+            league.setName(header.getName());
+            league.setCountry(header.getCountry());
+            league.setLogo(header.getLogo());
+            league.setFlag(header.getFlag());
+            league.setSeason(header.getSeason());
+            league.setStandings(List.of(standings));
+
+            StandingsResponse.StandingsData data = new StandingsResponse.StandingsData();
+            data.setLeague(league);
+            StandingsResponse response = new StandingsResponse();
+            response.setGet("standings");
+            response.setResults(1);
+            response.setResponse(List.of(data));
+            rendered = response;
+            return response;
+        }
+
+        /**
+         * Orden: puntos y, dentro de cada grupo empatado, los criterios de la liga
+         */
+        private List<TeamRow> rank() {
+            Map<Integer, List<TeamRow>> byPoints = rows.values().stream()
+                .collect(Collectors.groupingBy(TeamRow::points));
+            List<Integer> points = new ArrayList<>(byPoints.keySet());
+            points.sort(Comparator.reverseOrder());
+
+            List<TeamRow> ordered = new ArrayList<>();
+            for (int p : points) {
+                ordered.addAll(breakTie(byPoints.get(p), 0));
+            }
+            return ordered;
+        }
+
+        /**
+         * Ordena un grupo empatado desde el criterio {@code from}.
+         * Los criterios de enfrentamiento directo seguidos forman un bloque que se calcula solo
+         * entre los empatados: si separa el grupo, se vuelve a aplicar dentro de cada subgrupo
+         * aún empatado (con sus partidos entre sí); si no separa a nadie, se pasa al siguiente
+         * criterio. Al final, por nombre.
+         */
+        private List<TeamRow> breakTie(List<TeamRow> tied, int from) {
+            List<TeamRow> sorted = new ArrayList<>(tied);
+            if (sorted.size() < 2) return sorted;
+            if (from >= tieBreakers.size()) {
+                sorted.sort(Comparator.comparing((TeamRow r) -> r.team.getName(), Comparator.nullsLast(Comparator.naturalOrder())));
+                return sorted;
+            }
+
+            boolean headToHead = isHeadToHead(tieBreakers.get(from));
+            int to = from + 1;
+            while (headToHead && to < tieBreakers.size() && isHeadToHead(tieBreakers.get(to))) to++;
+            Comparator<TeamRow> comparator = comparator(tieBreakers.subList(from, to),
+                headToHead ? headToHead(sorted) : Map.of());
+            sorted.sort(comparator);
+
+            List<List<TeamRow>> groups = new ArrayList<>();
+            for (TeamRow row : sorted) {
+                List<TeamRow> last = groups.isEmpty() ? null : groups.get(groups.size() - 1);
+                if (last != null && comparator.compare(last.get(0), row) == 0) last.add(row);
+                else groups.add(new ArrayList<>(List.of(row)));
+            }
+            if (groups.size() == 1) return breakTie(sorted, to);
+
+            List<TeamRow> ordered = new ArrayList<>();
+            for (List<TeamRow> group : groups) {
+                ordered.addAll(breakTie(group, headToHead ? from : to));
+            }
+            return ordered;
+        }
+
+        private static boolean isHeadToHead(TieBreaker tieBreaker) {
+            return tieBreaker == TieBreaker.HEAD_TO_HEAD_POINTS
+                || tieBreaker == TieBreaker.HEAD_TO_HEAD_GOAL_DIFF
+                || tieBreaker == TieBreaker.HEAD_TO_HEAD_GOALS_FOR;
+        }
+
+        private static Comparator<TeamRow> comparator(List<TieBreaker> criteria, Map<Integer, Counters> headToHead) {
+            Comparator<TeamRow> comparator = (a, b) -> 0;
+            for (TieBreaker tieBreaker : criteria) {
+                comparator = comparator.thenComparing(switch (tieBreaker) {
+                    case GOAL_DIFF -> Comparator.comparingInt((TeamRow r) -> r.goalDiff()).reversed();
+                    case GOALS_FOR -> Comparator.comparingInt((TeamRow r) -> r.shownAll().goalsFor).reversed();
+                    case WINS -> Comparator.comparingInt((TeamRow r) -> r.shownAll().win).reversed();
+                    case AWAY_GOALS_FOR -> Comparator.comparingInt((TeamRow r) -> r.shownAway().goalsFor).reversed();
+                    case HEAD_TO_HEAD_POINTS ->
+                        Comparator.comparingInt((TeamRow r) -> headToHead.get(r.team.getId()).points()).reversed();
+                    case HEAD_TO_HEAD_GOAL_DIFF -> Comparator.comparingInt((TeamRow r) -> {
+                        Counters h = headToHead.get(r.team.getId());
+                        return h.goalsFor - h.against;
+                    }).reversed();
+                    case HEAD_TO_HEAD_GOALS_FOR ->
+                        Comparator.comparingInt((TeamRow r) -> headToHead.get(r.team.getId()).goalsFor).reversed();
+                });
+            }
+            return comparator;
+        }
+
+        /**
+         * Mini-liga entre los equipos empatados (solo sus partidos entre sí)
+         */
+        private Map<Integer, Counters> headToHead(List<TeamRow> tied) {
+            Set<Integer> ids = new HashSet<>();
+            Map<Integer, Counters> counters = new HashMap<>();
+            for (TeamRow row : tied) {
+                ids.add(row.team.getId());
+                counters.put(row.team.getId(), new Counters());
+            }
+            for (Result result : results.values()) {
+                if (ids.contains(result.homeId()) && ids.contains(result.awayId())) {
+                    counters.get(result.homeId()).add(result.homeGoals(), result.awayGoals());
+                    counters.get(result.awayId()).add(result.awayGoals(), result.homeGoals());
+                }
+            }
+            return counters;
+        }
+
+        /**
+         * Últimos resultados del equipo (W/D/L), del más antiguo al más reciente
+         */
+        private String form(int teamId) {
+            List<Result> played = results.values().stream()
+                .filter(r -> r.homeId() == teamId || r.awayId() == teamId)
+                .sorted(Comparator.comparingLong(Result::kickoffAt).reversed())
+                .limit(FORM_LENGTH)
+                .collect(Collectors.toCollection(ArrayList::new));
+            StringBuilder form = new StringBuilder();
+            for (int i = played.size() - 1; i >= 0; i--) {
+                Result r = played.get(i);
+                int scored = r.homeId() == teamId ? r.homeGoals() : r.awayGoals();
+                int conceded = r.homeId() == teamId ? r.awayGoals() : r.homeGoals();
+                form.append(scored > conceded ? 'W' : scored == conceded ? 'D' : 'L');
+            }
+            return form.toString();
+        }
+    }
+}
@@ -1,14 +1,30 @@
 package com.example.information.web;
 
+import com.example.information.model.BootstrapProgress;
+import com.example.information.model.FixtureDetail;
 import com.example.information.model.apifootball.*;
 import com.example.information.service.CachedFootballApiService;
+import com.example.information.service.FixtureDetailService;
+import com.example.information.service.FootballSearchService;
+import com.example.information.service.LiveFixturesPoller;
+import com.example.information.service.LiveStreamService;
+import com.example.information.service.NameSearchIndex;
+import com.example.information.service.SeasonBootstrapService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.DateTimeException;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Controller para exponer los endpoints de API-Football
@@ -27,6 +43,10 @@ import java.util.Map;
 public class ApiFootballController {
 
     private final CachedFootballApiService cachedApiService;
+    private final FootballSearchService searchService;
+    private final LiveStreamService liveStreamService;
+    private final FixtureDetailService fixtureDetailService;
+    private final SeasonBootstrapService bootstrapService;
 
     /**
      * Endpoint de prueba simple (sin dependencias)
@@ -151,6 +171,40 @@ public class ApiFootballController {
         return ResponseEntity.ok(cachedApiService.searchTeams(name.trim()));
     }
 
+    /**
+     * Búsqueda unificada de ligas, equipos y jugadores, ordenada por relevancia.
+     * No necesita liga: consulta las fuentes locales en paralelo y solo llama
+     * a la API externa si no hay suficientes resultados.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "5") int limit) {
+        log.info("GET /api/football/search?q={}&limit={}", q, limit);
+        
+        if (q == null || q.trim().length() < 2) {
+            log.warn("Búsqueda rechazada: término muy corto ({})", q);
+            return ResponseEntity.badRequest().body(Map.of(
+                "error", "El término de búsqueda debe tener al menos 2 caracteres",
+                "results", new Object[0]
+            ));
+        }
+        
+        return ResponseEntity.ok(searchService.search(q.trim(), Math.max(1, Math.min(limit, 20))));
+    }
+
+    /**
+     * Autocompletado de ligas, equipos y jugadores (sin acentos ni mayúsculas).
+     * Se resuelve con el índice local de nombres, sin llamar a la API externa.
+     */
+    @GetMapping("/search/autocomplete")
+    public ResponseEntity<List<NameSearchIndex.Hit>> autocomplete(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        log.info("GET /api/football/search/autocomplete?q={}&limit={}", q, limit);
+        return ResponseEntity.ok(cachedApiService.autocomplete(q, Math.max(1, Math.min(limit, 50))));
+    }
+
     // ==================== JUGADORES ====================
 
     /**
@@ -223,6 +277,39 @@ public class ApiFootballController {
         return ResponseEntity.ok(cachedApiService.getTopScorers(league, season));
     }
 
+    /**
+     * Obtener máximos asistentes de una liga
+     */
+    @GetMapping("/players/topassists")
+    public ResponseEntity<PlayerResponse> getTopAssists(
+            @RequestParam int league,
+            @RequestParam(defaultValue = "2024") int season) {
+        log.info("GET /api/football/players/topassists?league={}&season={}", league, season);
+        return ResponseEntity.ok(cachedApiService.getTopAssists(league, season));
+    }
+
+    /**
+     * Obtener jugadores con más tarjetas de una liga
+     */
+    @GetMapping("/players/topcards")
+    public ResponseEntity<PlayerResponse> getTopCards(
+            @RequestParam int league,
+            @RequestParam(defaultValue = "2024") int season) {
+        log.info("GET /api/football/players/topcards?league={}&season={}", league, season);
+        return ResponseEntity.ok(cachedApiService.getTopCards(league, season));
+    }
+
+    /**
+     * Obtener jugadores con más tarjetas rojas de una liga
+     */
+    @GetMapping("/players/topredcards")
+    public ResponseEntity<PlayerResponse> getTopRedCards(
+            @RequestParam int league,
+            @RequestParam(defaultValue = "2024") int season) {
+        log.info("GET /api/football/players/topredcards?league={}&season={}", league, season);
+        return ResponseEntity.ok(cachedApiService.getTopRedCards(league, season));
+    }
+
     // ==================== PARTIDOS ====================
 
     /**
@@ -238,20 +325,58 @@ public class ApiFootballController {
 
     /**
      * Obtener partidos en vivo
+     * Se sirven de la instantánea del sondeo centralizado; la cabecera Age indica
+     * los segundos desde que se pidió a la API.
      */
     @GetMapping("/fixtures/live")
     public ResponseEntity<FixtureResponse> getLiveFixtures() {
         log.info("GET /api/football/fixtures/live");
-        return ResponseEntity.ok(cachedApiService.getLiveFixtures());
+        LiveFixturesPoller.LiveSnapshot snapshot = cachedApiService.getLiveFixtures();
+        return ResponseEntity.ok()
+            .header(HttpHeaders.AGE, String.valueOf(snapshot.ageSeconds()))
+            .header("X-Snapshot-Version", String.valueOf(snapshot.version()))
+            .body(snapshot.response());
+    }
+
+    /**
+     * Stream (SSE) de partidos en vivo: instantánea al conectar y después solo los cambios.
+     * Filtros opcionales ?league=140&league=39 y/o ?fixture=123; al reconectar el navegador
+     * envía Last-Event-ID y se reanuda desde esa versión.
+     */
+    @GetMapping(value = "/fixtures/live/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLiveFixtures(
+            @RequestParam(required = false) Set<Integer> league,
+            @RequestParam(required = false) Set<Integer> fixture,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        log.info("GET /api/football/fixtures/live/stream - league={}, fixture={}", league, fixture);
+        return liveStreamService.subscribe(league, fixture, lastEventId);
     }
 
     /**
-     * Obtener partidos por fecha
+     * Obtener partidos por fecha, de todas las ligas.
+     * timezone: zona del día pedido (p. ej. Europe/Madrid o +02:00; por defecto UTC).
+     * Filtros opcionales: league (varias) y status (códigos cortos o LIVE, SCHEDULED, FINISHED, PLAYED).
      */
     @GetMapping("/fixtures/date/{date}")
-    public ResponseEntity<FixtureResponse> getFixturesByDate(@PathVariable String date) {
-        log.info("GET /api/football/fixtures/date/{}", date);
-        return ResponseEntity.ok(cachedApiService.getFixturesByDate(date));
+    public ResponseEntity<?> getFixturesByDate(
+            @PathVariable String date,
+            @RequestParam(defaultValue = "UTC") String timezone,
+            @RequestParam(required = false) Set<Integer> league,
+            @RequestParam(required = false) Set<String> status) {
+        log.info("GET /api/football/fixtures/date/{}?timezone={}&league={}&status={}", date, timezone, league, status);
+
+        LocalDate day;
+        ZoneId zone;
+        try {
+            day = LocalDate.parse(date);
+            zone = ZoneId.of(timezone);
+        } catch (DateTimeException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "error", "Fecha (YYYY-MM-DD) o zona horaria no válida: " + date + ", " + timezone
+            ));
+        }
+        return ResponseEntity.ok(cachedApiService.getFixturesByDate(day, zone,
+            league != null ? league : Set.of(), status != null ? status : Set.of()));
     }
 
     /**
@@ -265,6 +390,42 @@ public class ApiFootballController {
         return ResponseEntity.ok(cachedApiService.getFixturesByTeam(teamId, season));
     }
 
+    /**
+     * Sincronización delta: partidos cambiados desde una versión, con los IDs de los
+     * que ya no pertenecen al ámbito. Ámbito: ?league= (y season), ?date=YYYY-MM-DD o ?team= (y season).
+     * Con since=0 (o una versión demasiado antigua) se devuelve el ámbito completo con fullResync=true.
+     */
+    @GetMapping("/fixtures/changes")
+    public ResponseEntity<?> getFixtureChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(required = false) Integer league,
+            @RequestParam(required = false) String date,
+            @RequestParam(required = false) Integer team,
+            @RequestParam(defaultValue = "2024") int season) {
+        log.info("GET /api/football/fixtures/changes?since={}&league={}&date={}&team={}&season={}", since, league, date, team, season);
+
+        int scopes = (league != null ? 1 : 0) + (date != null ? 1 : 0) + (team != null ? 1 : 0);
+        if (scopes != 1) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "error", "Indica exactamente un ámbito: league, date o team"
+            ));
+        }
+
+        if (league != null) {
+            return ResponseEntity.ok(cachedApiService.getFixtureChangesByLeague(league, season, since));
+        }
+        if (team != null) {
+            return ResponseEntity.ok(cachedApiService.getFixtureChangesByTeam(team, season, since));
+        }
+        try {
+            return ResponseEntity.ok(cachedApiService.getFixtureChangesByDate(LocalDate.parse(date), since));
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "error", "Fecha no válida (formato YYYY-MM-DD): " + date
+            ));
+        }
+    }
+
     /**
      * Obtener la última jornada completada de una liga
      * Devuelve los partidos más recientes finalizados
@@ -343,6 +504,16 @@ public class ApiFootballController {
         return ResponseEntity.ok(cachedApiService.getFixtureStatistics(id));
     }
 
+    /**
+     * Obtener el detalle completo de un partido (datos, eventos y estadísticas) en una
+     * sola respuesta. Si alguna parte no llega a tiempo se devuelve el resto con partial=true.
+     */
+    @GetMapping("/fixture/{id}/full")
+    public ResponseEntity<FixtureDetail> getFixtureDetail(@PathVariable int id) {
+        log.info("GET /api/football/fixture/{}/full", id);
+        return ResponseEntity.ok(fixtureDetailService.getFixtureDetail(id));
+    }
+
     // ==================== MÉTODOS AUXILIARES ====================
 
     /**
@@ -373,11 +544,72 @@ public class ApiFootballController {
             "players", stats.players(),
             "standings", stats.standings(),
             "squads", stats.squads(),
-            "total", stats.leagues() + stats.teams() + stats.players() + stats.standings() + stats.squads(),
+            "playerStatistics", stats.playerStatistics(),
+            "fixtures", stats.fixtures(),
+            "total", stats.leagues() + stats.teams() + stats.players() + stats.standings() + stats.squads()
+                    + stats.playerStatistics() + stats.fixtures(),
             "message", "Datos cacheados en base de datos (persistentes)"
         ));
     }
 
+    /**
+     * Eliminar filas duplicadas de la caché persistente (tarea puntual)
+     * Necesario antes de que se puedan crear las restricciones únicas en datos antiguos.
+     * Solo administradores (ROLE_ADMIN, ver SecurityConfig).
+     */
+    @PostMapping("/cache/deduplicate")
+    public ResponseEntity<Map<String, Object>> deduplicateCache() {
+        log.info("POST /api/football/cache/deduplicate");
+        try {
+            Map<String, Integer> removed = cachedApiService.deduplicateCache();
+            return ResponseEntity.ok(Map.of(
+                "success", true,
+                "removed", removed
+            ));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body(Map.of(
+                "success", false,
+                "error", e.getMessage()
+            ));
+        }
+    }
+
+    /**
+     * Cargar una liga/temporada completa en la caché (equipos, plantillas, jugadores,
+     * partidos y clasificación) en segundo plano. Si la última carga quedó en pausa
+     * o con fallos, se reanuda con maxRequests peticiones más.
+     * Solo administradores (ROLE_ADMIN, ver SecurityConfig).
+     */
+    @PostMapping("/cache/bootstrap")
+    public ResponseEntity<BootstrapProgress> bootstrapSeason(
+            @RequestParam int league,
+            @RequestParam(defaultValue = "2024") int season,
+            @RequestParam(required = false) Integer concurrency,
+            @RequestParam(required = false) Integer maxRequests) {
+        log.info("POST /api/football/cache/bootstrap?league={}&season={}&concurrency={}&maxRequests={}",
+                league, season, concurrency, maxRequests);
+        return ResponseEntity.accepted().body(bootstrapService.start(league, season, concurrency, maxRequests));
+    }
+
+    /**
+     * Progreso de las cargas de temporada más recientes
+     */
+    @GetMapping("/cache/bootstrap")
+    public ResponseEntity<List<BootstrapProgress>> getBootstrapJobs() {
+        log.info("GET /api/football/cache/bootstrap");
+        return ResponseEntity.ok(bootstrapService.getRecentJobs());
+    }
+
+    /**
+     * Progreso de una carga de temporada
+     */
+    @GetMapping("/cache/bootstrap/{jobId}")
+    public ResponseEntity<BootstrapProgress> getBootstrapProgress(@PathVariable long jobId) {
+        log.info("GET /api/football/cache/bootstrap/{}", jobId);
+        BootstrapProgress progress = bootstrapService.getProgress(jobId);
+        return progress != null ? ResponseEntity.ok(progress) : ResponseEntity.notFound().build();
+    }
+
     /**
      * Forzar actualización de ligas desde la API (ignora caché)
      * Útil para actualizar datos cuando cambien en la API
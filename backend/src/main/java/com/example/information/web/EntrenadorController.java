@@ -1,5 +1,6 @@
 package com.example.information.web;
 
+import com.example.information.model.CursorPage;
 import com.example.information.model.EntrenadorDTO;
 import com.example.information.service.EntrenadorService;
 import jakarta.validation.Valid;
@@ -19,8 +20,10 @@ public class EntrenadorController {
     private final EntrenadorService entrenadorService;
 
     @GetMapping
-    public ResponseEntity<List<EntrenadorDTO>> getAllEntrenadores() {
-        List<EntrenadorDTO> entrenadores = entrenadorService.findAll();
+    public ResponseEntity<CursorPage<EntrenadorDTO>> getAllEntrenadores(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<EntrenadorDTO> entrenadores = entrenadorService.findAll(cursor, CursorPage.clampSize(size));
         return ResponseEntity.ok(entrenadores);
     }
 
@@ -37,38 +40,52 @@ public class EntrenadorController {
     }
 
     @GetMapping("/nacionalidad/{nacionalidad}")
-    public ResponseEntity<List<EntrenadorDTO>> getEntrenadoresByNacionalidad(@PathVariable String nacionalidad) {
-        List<EntrenadorDTO> entrenadores = entrenadorService.findByNacionalidad(nacionalidad);
+    public ResponseEntity<CursorPage<EntrenadorDTO>> getEntrenadoresByNacionalidad(
+            @PathVariable String nacionalidad,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<EntrenadorDTO> entrenadores = entrenadorService.findByNacionalidad(nacionalidad, cursor, CursorPage.clampSize(size));
         return ResponseEntity.ok(entrenadores);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<EntrenadorDTO>> searchEntrenadores(@RequestParam String keyword) {
-        List<EntrenadorDTO> entrenadores = entrenadorService.searchByNombre(keyword);
+    public ResponseEntity<CursorPage<EntrenadorDTO>> searchEntrenadores(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<EntrenadorDTO> entrenadores = entrenadorService.searchByNombre(keyword, cursor, CursorPage.clampSize(size));
         return ResponseEntity.ok(entrenadores);
     }
 
     @GetMapping("/experiencia")
-    public ResponseEntity<List<EntrenadorDTO>> getEntrenadoresByExperiencia(@RequestParam int minAnios) {
-        List<EntrenadorDTO> entrenadores = entrenadorService.findByMinExperiencia(minAnios);
+    public ResponseEntity<CursorPage<EntrenadorDTO>> getEntrenadoresByExperiencia(
+            @RequestParam int minAnios,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<EntrenadorDTO> entrenadores = entrenadorService.findByMinExperiencia(minAnios, cursor, CursorPage.clampSize(size));
         return ResponseEntity.ok(entrenadores);
     }
 
     @GetMapping("/top-titulos")
-    public ResponseEntity<List<EntrenadorDTO>> getTopEntrenadoresByTitulos() {
-        List<EntrenadorDTO> entrenadores = entrenadorService.findTopByTitulos();
+    public ResponseEntity<List<EntrenadorDTO>> getTopEntrenadoresByTitulos(
+            @RequestParam(defaultValue = "10") int limit) {
+        List<EntrenadorDTO> entrenadores = entrenadorService.findTopByTitulos(CursorPage.clampSize(limit));
         return ResponseEntity.ok(entrenadores);
     }
 
     @GetMapping("/sin-equipo")
-    public ResponseEntity<List<EntrenadorDTO>> getEntrenadoresSinEquipo() {
-        List<EntrenadorDTO> entrenadores = entrenadorService.findEntrenadoresSinEquipo();
+    public ResponseEntity<CursorPage<EntrenadorDTO>> getEntrenadoresSinEquipo(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<EntrenadorDTO> entrenadores = entrenadorService.findEntrenadoresSinEquipo(cursor, CursorPage.clampSize(size));
         return ResponseEntity.ok(entrenadores);
     }
 
     @GetMapping("/con-equipo")
-    public ResponseEntity<List<EntrenadorDTO>> getEntrenadoresConEquipo() {
-        List<EntrenadorDTO> entrenadores = entrenadorService.findEntrenadoresConEquipo();
+    public ResponseEntity<CursorPage<EntrenadorDTO>> getEntrenadoresConEquipo(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<EntrenadorDTO> entrenadores = entrenadorService.findEntrenadoresConEquipo(cursor, CursorPage.clampSize(size));
         return ResponseEntity.ok(entrenadores);
     }
 
@@ -1,5 +1,6 @@
 package com.example.information.web;
 
+import com.example.information.model.CursorPage;
 import com.example.information.model.EquipoDTO;
 import com.example.information.service.EquipoService;
 import jakarta.validation.Valid;
@@ -8,8 +9,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/equipos")
 @RequiredArgsConstructor
@@ -19,8 +18,10 @@ public class EquipoController {
     private final EquipoService equipoService;
 
     @GetMapping
-    public ResponseEntity<List<EquipoDTO>> getAllEquipos() {
-        List<EquipoDTO> equipos = equipoService.findAll();
+    public ResponseEntity<CursorPage<EquipoDTO>> getAllEquipos(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<EquipoDTO> equipos = equipoService.findAll(cursor, CursorPage.clampSize(size));
         return ResponseEntity.ok(equipos);
     }
 
@@ -37,20 +38,29 @@ public class EquipoController {
     }
 
     @GetMapping("/liga/{ligaId}")
-    public ResponseEntity<List<EquipoDTO>> getEquiposByLiga(@PathVariable Long ligaId) {
-        List<EquipoDTO> equipos = equipoService.findByLigaId(ligaId);
+    public ResponseEntity<CursorPage<EquipoDTO>> getEquiposByLiga(
+            @PathVariable Long ligaId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<EquipoDTO> equipos = equipoService.findByLigaId(ligaId, cursor, CursorPage.clampSize(size));
         return ResponseEntity.ok(equipos);
     }
 
     @GetMapping("/pais/{pais}")
-    public ResponseEntity<List<EquipoDTO>> getEquiposByPais(@PathVariable String pais) {
-        List<EquipoDTO> equipos = equipoService.findByPais(pais);
+    public ResponseEntity<CursorPage<EquipoDTO>> getEquiposByPais(
+            @PathVariable String pais,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<EquipoDTO> equipos = equipoService.findByPais(pais, cursor, CursorPage.clampSize(size));
         return ResponseEntity.ok(equipos);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<EquipoDTO>> searchEquipos(@RequestParam String keyword) {
-        List<EquipoDTO> equipos = equipoService.searchByNombre(keyword);
+    public ResponseEntity<CursorPage<EquipoDTO>> searchEquipos(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<EquipoDTO> equipos = equipoService.searchByNombre(keyword, cursor, CursorPage.clampSize(size));
         return ResponseEntity.ok(equipos);
     }
 
@@ -1,5 +1,6 @@
 package com.example.information.web;
 
+import com.example.information.model.CursorPage;
 import com.example.information.model.JugadorDTO;
 import com.example.information.service.JugadorService;
 import jakarta.validation.Valid;
@@ -19,8 +20,10 @@ public class JugadorController {
     private final JugadorService jugadorService;
 
     @GetMapping
-    public ResponseEntity<List<JugadorDTO>> getAllJugadores() {
-        List<JugadorDTO> jugadores = jugadorService.findAll();
+    public ResponseEntity<CursorPage<JugadorDTO>> getAllJugadores(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<JugadorDTO> jugadores = jugadorService.findAll(cursor, CursorPage.clampSize(size));
         return ResponseEntity.ok(jugadores);
     }
 
@@ -31,44 +34,62 @@ public class JugadorController {
     }
 
     @GetMapping("/equipo/{equipoId}")
-    public ResponseEntity<List<JugadorDTO>> getJugadoresByEquipo(@PathVariable Long equipoId) {
-        List<JugadorDTO> jugadores = jugadorService.findByEquipoId(equipoId);
+    public ResponseEntity<CursorPage<JugadorDTO>> getJugadoresByEquipo(
+            @PathVariable Long equipoId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<JugadorDTO> jugadores = jugadorService.findByEquipoId(equipoId, cursor, CursorPage.clampSize(size));
         return ResponseEntity.ok(jugadores);
     }
 
     @GetMapping("/liga/{ligaId}")
-    public ResponseEntity<List<JugadorDTO>> getJugadoresByLiga(@PathVariable Long ligaId) {
-        List<JugadorDTO> jugadores = jugadorService.findByLigaId(ligaId);
+    public ResponseEntity<CursorPage<JugadorDTO>> getJugadoresByLiga(
+            @PathVariable Long ligaId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<JugadorDTO> jugadores = jugadorService.findByLigaId(ligaId, cursor, CursorPage.clampSize(size));
         return ResponseEntity.ok(jugadores);
     }
 
     @GetMapping("/posicion/{posicion}")
-    public ResponseEntity<List<JugadorDTO>> getJugadoresByPosicion(@PathVariable String posicion) {
-        List<JugadorDTO> jugadores = jugadorService.findByPosicion(posicion);
+    public ResponseEntity<CursorPage<JugadorDTO>> getJugadoresByPosicion(
+            @PathVariable String posicion,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<JugadorDTO> jugadores = jugadorService.findByPosicion(posicion, cursor, CursorPage.clampSize(size));
         return ResponseEntity.ok(jugadores);
     }
 
     @GetMapping("/nacionalidad/{nacionalidad}")
-    public ResponseEntity<List<JugadorDTO>> getJugadoresByNacionalidad(@PathVariable String nacionalidad) {
-        List<JugadorDTO> jugadores = jugadorService.findByNacionalidad(nacionalidad);
+    public ResponseEntity<CursorPage<JugadorDTO>> getJugadoresByNacionalidad(
+            @PathVariable String nacionalidad,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<JugadorDTO> jugadores = jugadorService.findByNacionalidad(nacionalidad, cursor, CursorPage.clampSize(size));
         return ResponseEntity.ok(jugadores);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<JugadorDTO>> searchJugadores(@RequestParam String keyword) {
-        List<JugadorDTO> jugadores = jugadorService.searchByNombre(keyword);
+    public ResponseEntity<CursorPage<JugadorDTO>> searchJugadores(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<JugadorDTO> jugadores = jugadorService.searchByNombre(keyword, cursor, CursorPage.clampSize(size));
         return ResponseEntity.ok(jugadores);
     }
 
     @GetMapping("/goleadores")
-    public ResponseEntity<List<JugadorDTO>> getTopGoleadores() {
-        List<JugadorDTO> goleadores = jugadorService.findTopGoleadores();
+    public ResponseEntity<List<JugadorDTO>> getTopGoleadores(
+            @RequestParam(defaultValue = "10") int limit) {
+        List<JugadorDTO> goleadores = jugadorService.findTopGoleadores(CursorPage.clampSize(limit));
         return ResponseEntity.ok(goleadores);
     }
 
     @GetMapping("/goleadores/liga/{ligaId}")
-    public ResponseEntity<List<JugadorDTO>> getTopGoleadoresByLiga(@PathVariable Long ligaId) {
-        List<JugadorDTO> goleadores = jugadorService.findTopGoleadoresByLiga(ligaId);
+    public ResponseEntity<List<JugadorDTO>> getTopGoleadoresByLiga(
+            @PathVariable Long ligaId,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<JugadorDTO> goleadores = jugadorService.findTopGoleadoresByLiga(ligaId, CursorPage.clampSize(limit));
         return ResponseEntity.ok(goleadores);
     }
 
@@ -1,5 +1,6 @@
 package com.example.information.web;
 
+import com.example.information.model.CursorPage;
 import com.example.information.model.LigaDTO;
 import com.example.information.service.LigaService;
 import jakarta.validation.Valid;
@@ -8,8 +9,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/ligas")
 @RequiredArgsConstructor
@@ -19,8 +18,10 @@ public class LigaController {
     private final LigaService ligaService;
 
     @GetMapping
-    public ResponseEntity<List<LigaDTO>> getAllLigas() {
-        List<LigaDTO> ligas = ligaService.findAll();
+    public ResponseEntity<CursorPage<LigaDTO>> getAllLigas(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<LigaDTO> ligas = ligaService.findAll(cursor, CursorPage.clampSize(size));
         return ResponseEntity.ok(ligas);
     }
 
@@ -37,14 +38,20 @@ public class LigaController {
     }
 
     @GetMapping("/pais/{pais}")
-    public ResponseEntity<List<LigaDTO>> getLigasByPais(@PathVariable String pais) {
-        List<LigaDTO> ligas = ligaService.findByPais(pais);
+    public ResponseEntity<CursorPage<LigaDTO>> getLigasByPais(
+            @PathVariable String pais,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<LigaDTO> ligas = ligaService.findByPais(pais, cursor, CursorPage.clampSize(size));
         return ResponseEntity.ok(ligas);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<LigaDTO>> searchLigas(@RequestParam String keyword) {
-        List<LigaDTO> ligas = ligaService.searchByNombre(keyword);
+    public ResponseEntity<CursorPage<LigaDTO>> searchLigas(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<LigaDTO> ligas = ligaService.searchByNombre(keyword, cursor, CursorPage.clampSize(size));
         return ResponseEntity.ok(ligas);
     }
 
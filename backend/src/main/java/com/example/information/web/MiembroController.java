@@ -1,5 +1,6 @@
 package com.example.information.web;
 
+import com.example.information.model.CursorPage;
 import com.example.information.model.MiembroDTO;
 import com.example.information.service.MiembroService;
 import lombok.RequiredArgsConstructor;
@@ -7,8 +8,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/miembros")
 @RequiredArgsConstructor
@@ -17,8 +16,10 @@ public class MiembroController {
     private final MiembroService miembroService;
 
     @GetMapping
-    public ResponseEntity<List<MiembroDTO>> getAllMiembros() {
-        List<MiembroDTO> miembros = miembroService.findAll();
+    public ResponseEntity<CursorPage<MiembroDTO>> getAllMiembros(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<MiembroDTO> miembros = miembroService.findAll(cursor, CursorPage.clampSize(size));
         return ResponseEntity.ok(miembros);
     }
 
@@ -35,34 +36,46 @@ public class MiembroController {
     }
 
     @GetMapping("/nacionalidad/{nacionalidad}")
-    public ResponseEntity<List<MiembroDTO>> getMiembrosByNacionalidad(@PathVariable String nacionalidad) {
-        List<MiembroDTO> miembros = miembroService.findByNacionalidad(nacionalidad);
+    public ResponseEntity<CursorPage<MiembroDTO>> getMiembrosByNacionalidad(
+            @PathVariable String nacionalidad,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<MiembroDTO> miembros = miembroService.findByNacionalidad(nacionalidad, cursor, CursorPage.clampSize(size));
         return ResponseEntity.ok(miembros);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<MiembroDTO>> searchMiembrosByNombre(@RequestParam String keyword) {
-        List<MiembroDTO> miembros = miembroService.searchByNombre(keyword);
+    public ResponseEntity<CursorPage<MiembroDTO>> searchMiembrosByNombre(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<MiembroDTO> miembros = miembroService.searchByNombre(keyword, cursor, CursorPage.clampSize(size));
         return ResponseEntity.ok(miembros);
     }
 
     @GetMapping("/rango-fecha")
-    public ResponseEntity<List<MiembroDTO>> getMiembrosByRangoFecha(
+    public ResponseEntity<CursorPage<MiembroDTO>> getMiembrosByRangoFecha(
             @RequestParam int anioInicio,
-            @RequestParam int anioFin) {
-        List<MiembroDTO> miembros = miembroService.findByRangoFechaNacimiento(anioInicio, anioFin);
+            @RequestParam int anioFin,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<MiembroDTO> miembros = miembroService.findByRangoFechaNacimiento(anioInicio, anioFin, cursor, CursorPage.clampSize(size));
         return ResponseEntity.ok(miembros);
     }
 
     @GetMapping("/jugadores")
-    public ResponseEntity<List<MiembroDTO>> getJugadores() {
-        List<MiembroDTO> jugadores = miembroService.findJugadores();
+    public ResponseEntity<CursorPage<MiembroDTO>> getJugadores(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<MiembroDTO> jugadores = miembroService.findJugadores(cursor, CursorPage.clampSize(size));
         return ResponseEntity.ok(jugadores);
     }
 
     @GetMapping("/entrenadores")
-    public ResponseEntity<List<MiembroDTO>> getEntrenadores() {
-        List<MiembroDTO> entrenadores = miembroService.findEntrenadores();
+    public ResponseEntity<CursorPage<MiembroDTO>> getEntrenadores(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<MiembroDTO> entrenadores = miembroService.findEntrenadores(cursor, CursorPage.clampSize(size));
         return ResponseEntity.ok(entrenadores);
     }
 
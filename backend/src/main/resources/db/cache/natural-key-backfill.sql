@@ -0,0 +1,25 @@
+-- Relleno de las claves naturales sin nulos de jugadores y equipos de la caché.
+-- Hibernate (ddl-auto=update) añadió la columna vacía en las filas existentes; la
+-- restricción única antigua (con columnas que admiten NULL) no evitaba los duplicados,
+-- así que antes de rellenar se quitan, conservando la fila más reciente de cada clave.
+-- Lo ejecuta CacheSchemaBackfill al arrancar. Todas las sentencias son idempotentes.
+
+DELETE FROM cached_players WHERE natural_key IS NULL AND id NOT IN (
+    SELECT MAX(id) FROM cached_players GROUP BY api_id, season, team_id);
+UPDATE cached_players
+    SET natural_key = CAST(api_id AS VARCHAR(11))
+        || ':' || COALESCE(CAST(season AS VARCHAR(11)), '-')
+        || ':' || COALESCE(CAST(team_id AS VARCHAR(11)), '-')
+    WHERE natural_key IS NULL;
+ALTER TABLE cached_players ALTER COLUMN natural_key SET NOT NULL;
+ALTER TABLE cached_players DROP CONSTRAINT IF EXISTS uk_cached_player_api_season_team;
+
+DELETE FROM cached_teams WHERE natural_key IS NULL AND id NOT IN (
+    SELECT MAX(id) FROM cached_teams GROUP BY api_id, league_id, season);
+UPDATE cached_teams
+    SET natural_key = CAST(api_id AS VARCHAR(11))
+        || ':' || COALESCE(CAST(league_id AS VARCHAR(11)), '-')
+        || ':' || COALESCE(CAST(season AS VARCHAR(11)), '-')
+    WHERE natural_key IS NULL;
+ALTER TABLE cached_teams ALTER COLUMN natural_key SET NOT NULL;
+ALTER TABLE cached_teams DROP CONSTRAINT IF EXISTS uk_cached_team_api_league_season;
@@ -0,0 +1,13 @@
+-- Relleno de las columnas de versión (bloqueo optimista) de la caché.
+-- Hibernate (ddl-auto=update) añadió la columna sin valor en las filas existentes;
+-- con version NULL la fila se trataría como nueva y el incremento fallaría.
+-- Lo ejecuta CacheSchemaBackfill al arrancar. Todas las sentencias son idempotentes.
+
+UPDATE cached_standings SET version = 0 WHERE version IS NULL;
+ALTER TABLE cached_standings ALTER COLUMN version SET DEFAULT 0;
+
+UPDATE cached_squads SET version = 0 WHERE version IS NULL;
+ALTER TABLE cached_squads ALTER COLUMN version SET DEFAULT 0;
+
+-- La restricción única (liga, temporada) ya crea su índice
+DROP INDEX IF EXISTS idx_cached_standings_league_season;
@@ -0,0 +1,17 @@
+-- Índices trigram para las búsquedas por nombre de la caché (solo PostgreSQL).
+-- Lo ejecuta TrigramSearchInitializer al arrancar, después de que Hibernate
+-- haya creado las tablas. Todas las sentencias son idempotentes.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_cached_player_name_trgm
+    ON cached_players USING gin (lower(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_cached_team_name_trgm
+    ON cached_teams USING gin (lower(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_cached_league_name_trgm
+    ON cached_leagues USING gin (lower(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_cached_league_country_trgm
+    ON cached_leagues USING gin (lower(country_name) gin_trgm_ops);
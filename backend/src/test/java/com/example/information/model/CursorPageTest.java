@@ -0,0 +1,120 @@
+package com.example.information.model;
+
+import com.example.information.exception.BadRequestException;
+import com.example.information.exception.ErrorResponse;
+import com.example.information.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+class CursorPageTest {
+
+    // ==================== CURSOR ====================
+
+    @Test
+    void nextCursorDecodesToTheLastReturnedId() {
+        CursorPage<String> page = CursorPage.of(rows(1, 4), 3, id -> id, id -> "fila " + id);
+
+        assertThat(page.getNextCursor()).isNotBlank();
+        assertThat(CursorPage.decode(page.getNextCursor())).isEqualTo(3L);
+    }
+
+    @Test
+    void cursorRoundTripsLargeIds() {
+        long id = Long.MAX_VALUE - 1;
+        CursorPage<Long> page = CursorPage.of(List.of(id, id + 1), 1, row -> row, row -> row);
+
+        assertThat(CursorPage.decode(page.getNextCursor())).isEqualTo(id);
+    }
+
+    @Test
+    void missingCursorStartsFromTheBeginning() {
+        assertThat(CursorPage.decode(null)).isZero();
+        assertThat(CursorPage.decode("")).isZero();
+        assertThat(CursorPage.decode("  ")).isZero();
+    }
+
+    // ==================== SIGUIENTE PÁGINA ====================
+
+    @Test
+    void extraRowSignalsNextPageAndIsNotReturned() {
+        CursorPage<Long> page = CursorPage.of(rows(11, 14), 3, id -> id, id -> id);
+
+        assertThat(page.getItems()).containsExactly(11L, 12L, 13L);
+        assertThat(page.getSize()).isEqualTo(3);
+        assertThat(page.getNextCursor()).isNotNull();
+    }
+
+    @Test
+    void exactlyFullPageHasNoNextCursor() {
+        CursorPage<Long> page = CursorPage.of(rows(11, 13), 3, id -> id, id -> id);
+
+        assertThat(page.getItems()).containsExactly(11L, 12L, 13L);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void emptyPageHasNoNextCursor() {
+        CursorPage<Long> page = CursorPage.of(List.<Long>of(), 3, id -> id, id -> id);
+
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.getSize()).isZero();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void pageableAsksForOneRowMoreThanTheSize() {
+        assertThat(CursorPage.pageable(50).getPageSize()).isEqualTo(51);
+        assertThat(CursorPage.pageable(50).getOffset()).isZero();
+    }
+
+    @Test
+    void requestedSizeIsClamped() {
+        assertThat(CursorPage.clampSize(null)).isEqualTo(CursorPage.DEFAULT_SIZE);
+        assertThat(CursorPage.clampSize(0)).isEqualTo(1);
+        assertThat(CursorPage.clampSize(-5)).isEqualTo(1);
+        assertThat(CursorPage.clampSize(10_000)).isEqualTo(CursorPage.MAX_SIZE);
+    }
+
+    // ==================== CURSOR NO VÁLIDO ====================
+
+    @Test
+    void cursorThatIsNotBase64IsRejected() {
+        assertThatThrownBy(() -> CursorPage.decode("%%%"))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessageContaining("%%%");
+    }
+
+    @Test
+    void cursorThatIsNotAnIdIsRejected() {
+        // Base64 válido de "abc"
+        assertThatThrownBy(() -> CursorPage.decode("YWJj")).isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void invalidCursorIsAnsweredWith400() {
+        BadRequestException ex = catchThrowableOfType(() -> CursorPage.decode("%%%"), BadRequestException.class);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/ligas");
+
+        ResponseEntity<ErrorResponse> response = new GlobalExceptionHandler().handleBadRequestException(ex, request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getStatus()).isEqualTo(400);
+        assertThat(response.getBody().getPath()).isEqualTo("/api/ligas");
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private static List<Long> rows(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().toList();
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.information.service;
+
+import com.example.information.exception.UpstreamApiException;
+import com.example.information.model.apifootball.PlayerResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ApiFootballServiceTest {
+
+    private static final int TEAM_ID = 529;
+    private static final int SEASON = 2024;
+
+    private RestTemplate restTemplate;
+    private ExecutorService pagingExecutor;
+    private ApiFootballService service;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = mock(RestTemplate.class);
+        pagingExecutor = Executors.newFixedThreadPool(3);
+        service = new ApiFootballService(restTemplate, pagingExecutor);
+        ReflectionTestUtils.setField(service, "apiKey", "clave-de-prueba");
+        ReflectionTestUtils.setField(service, "baseUrl", "https://api.test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        pagingExecutor.shutdownNow();
+    }
+
+    // ==================== PÁGINAS ====================
+
+    @Test
+    void pagesArrivingOutOfOrderAreMergedInPageOrderWithoutDuplicates() {
+        CountDownLatch thirdDone = new CountDownLatch(1);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(PlayerResponse.class)))
+            .thenAnswer(inv -> {
+                int page = pageOf(inv.getArgument(0));
+                if (page == 2) {
+                    // La página 2 llega después de la 3
+                    thirdDone.await(5, TimeUnit.SECONDS);
+                }
+                PlayerResponse response = switch (page) {
+                    case 1 -> page(3, 1, 2);
+                    case 2 -> page(3, 2, 3);
+                    default -> page(3, 4);
+                };
+                if (page == 3) thirdDone.countDown();
+                return ResponseEntity.ok(response);
+            });
+
+        PlayerResponse players = service.getPlayersByTeam(TEAM_ID, SEASON);
+
+        assertThat(players.getResponse()).extracting(d -> d.getPlayer().getId()).containsExactly(1, 2, 3, 4);
+        assertThat(players.getResults()).isEqualTo(4);
+        assertThat(players.isPartial()).isFalse();
+    }
+
+    @Test
+    void upstreamErrorOnALaterPageKeepsItsType() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(PlayerResponse.class)))
+            .thenAnswer(inv -> {
+                if (pageOf(inv.getArgument(0)) == 2) {
+                    PlayerResponse limited = new PlayerResponse();
+                    limited.setErrors(Map.of("requests", "You have reached the request limit for the day"));
+                    return ResponseEntity.ok(limited);
+                }
+                return ResponseEntity.ok(page(2, 1));
+            });
+
+        assertThatThrownBy(() -> service.getPlayersByTeam(TEAM_ID, SEASON))
+            .isInstanceOf(UpstreamApiException.class)
+            .hasMessageContaining("request limit");
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private static int pageOf(String url) {
+        return Integer.parseInt(url.substring(url.indexOf("page=") + "page=".length()).split("&")[0]);
+    }
+
+    private static PlayerResponse page(int totalPages, int... playerIds) {
+        List<PlayerResponse.PlayerData> data = Arrays.stream(playerIds).mapToObj(id -> {
+            PlayerResponse.Player player = new PlayerResponse.Player();
+            player.setId(id);
+            player.setName("Jugador " + id);
+            PlayerResponse.PlayerData playerData = new PlayerResponse.PlayerData();
+            playerData.setPlayer(player);
+            return playerData;
+        }).toList();
+        PlayerResponse.Paging paging = new PlayerResponse.Paging();
+        paging.setTotal(totalPages);
+        PlayerResponse response = new PlayerResponse();
+        response.setPaging(paging);
+        response.setResponse(data);
+        response.setResults(data.size());
+        return response;
+    }
+}
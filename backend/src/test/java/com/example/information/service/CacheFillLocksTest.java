@@ -0,0 +1,121 @@
+package com.example.information.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheFillLocksTest {
+
+    private final CacheFillLocks locks = new CacheFillLocks();
+    private final ExecutorService pool = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void concurrentFillsOfOneKeyCallUpstreamOnce() throws Exception {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        AtomicReference<String> cache = new AtomicReference<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                return locks.withLock("squad:1", () -> {
+                    if (cache.get() != null) return cache.get();
+                    upstreamCalls.incrementAndGet();
+                    sleep(100);
+                    cache.set("plantilla");
+                    return cache.get();
+                });
+            }));
+        }
+        start.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("plantilla");
+        }
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    void differentKeysDoNotWaitForEachOther() throws Exception {
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch releaseSlow = new CountDownLatch(1);
+        Future<?> slow = pool.submit(() -> locks.withLock("team:1", () -> {
+            slowStarted.countDown();
+            await(releaseSlow);
+            return null;
+        }));
+        assertThat(slowStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Future<String> other = pool.submit(() -> locks.withLock("team:2", () -> "ok"));
+        assertThat(other.get(1, TimeUnit.SECONDS)).isEqualTo("ok");
+
+        releaseSlow.countDown();
+        slow.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void nestedFillsInOppositeOrderDoNotDeadlock() throws Exception {
+        CountDownLatch bothOuterHeld = new CountDownLatch(2);
+        Future<String> first = pool.submit(() -> locks.withLock("fixtures:1", () -> {
+            bothOuterHeld.countDown();
+            await(bothOuterHeld);
+            return locks.withLock("fixtures:2", () -> "a");
+        }));
+        Future<String> second = pool.submit(() -> locks.withLock("fixtures:2", () -> {
+            bothOuterHeld.countDown();
+            await(bothOuterHeld);
+            return locks.withLock("fixtures:1", () -> "b");
+        }));
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("b");
+    }
+
+    @Test
+    void failedFillLetsTheNextCallerRetry() {
+        AtomicInteger calls = new AtomicInteger();
+        try {
+            locks.withLock("standings:1", () -> {
+                calls.incrementAndGet();
+                throw new IllegalStateException("límite de peticiones");
+            });
+        } catch (IllegalStateException expected) {
+            // El siguiente intento no debe quedarse esperando al relleno fallido
+        }
+
+        assertThat(locks.withLock("standings:1", () -> calls.incrementAndGet())).isEqualTo(2);
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
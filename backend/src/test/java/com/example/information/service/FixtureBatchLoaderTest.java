@@ -0,0 +1,167 @@
+package com.example.information.service;
+
+import com.example.information.exception.UpstreamApiException;
+import com.example.information.model.apifootball.FixtureResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FixtureBatchLoaderTest {
+
+    private ApiFootballService apiService;
+    private ScheduledExecutorService scheduler;
+    private ExecutorService sender;
+    private ConcurrentMapCacheManager cacheManager;
+    private FixtureBatchLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        apiService = mock(ApiFootballService.class);
+        scheduler = Executors.newScheduledThreadPool(1);
+        sender = Executors.newFixedThreadPool(4);
+        cacheManager = new ConcurrentMapCacheManager("fixture");
+        loader = new FixtureBatchLoader(apiService, mock(FixtureCacheService.class), cacheManager, scheduler, sender);
+        ReflectionTestUtils.setField(loader, "windowMs", 50L);
+        when(apiService.getFixturesByIds(anyCollection())).thenAnswer(inv -> fixtures(inv.getArgument(0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+        sender.shutdownNow();
+    }
+
+    @Test
+    void requestsInTheSameWindowShareOneCall() {
+        CompletableFuture<FixtureResponse> first = loader.load(1);
+        CompletableFuture<FixtureResponse> again = loader.load(1);
+        CompletableFuture<FixtureResponse> second = loader.load(2);
+
+        assertThat(again).isSameAs(first);
+        assertThat(idOf(first.join())).isEqualTo(1);
+        assertThat(idOf(second.join())).isEqualTo(2);
+        assertThat(requestedBatches()).containsExactly(List.of(1, 2));
+    }
+
+    @Test
+    void batchesAreSplitAtTheIdsLimit() {
+        List<CompletableFuture<FixtureResponse>> loads = IntStream.rangeClosed(1, 25)
+            .mapToObj(loader::load)
+            .collect(Collectors.toList());
+
+        for (int i = 0; i < loads.size(); i++) {
+            assertThat(idOf(loads.get(i).join())).isEqualTo(i + 1);
+        }
+        List<List<Integer>> batches = requestedBatches();
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(0)).hasSize(ApiFootballService.FIXTURE_IDS_LIMIT);
+        assertThat(batches.get(1)).containsExactly(21, 22, 23, 24, 25);
+    }
+
+    @Test
+    void slowUpstreamCallDoesNotHoldBackTheNextBatch() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(apiService.getFixturesByIds(anyCollection())).thenAnswer(inv -> {
+            Collection<Integer> ids = inv.getArgument(0);
+            if (ids.contains(1)) release.await(5, TimeUnit.SECONDS);
+            return fixtures(ids);
+        });
+
+        CompletableFuture<FixtureResponse> slow = loader.load(1);
+        Thread.sleep(100);
+        // El temporizador (un solo hilo) ya no está ocupado con la petición lenta
+        CompletableFuture<FixtureResponse> next = loader.load(2);
+
+        assertThat(idOf(next.get(2, TimeUnit.SECONDS))).isEqualTo(2);
+        assertThat(slow).isNotDone();
+        release.countDown();
+        assertThat(idOf(slow.join())).isEqualTo(1);
+    }
+
+    @Test
+    void failureReachesEveryWaiter() {
+        when(apiService.getFixturesByIds(anyCollection())).thenThrow(new UpstreamApiException("límite de peticiones"));
+
+        CompletableFuture<FixtureResponse> first = loader.load(1);
+        CompletableFuture<FixtureResponse> shared = loader.load(1);
+        CompletableFuture<FixtureResponse> other = loader.load(2);
+
+        for (CompletableFuture<FixtureResponse> future : List.of(first, shared, other)) {
+            assertThatThrownBy(future::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(UpstreamApiException.class);
+        }
+        assertThatThrownBy(() -> loader.getFixture(3)).isInstanceOf(UpstreamApiException.class);
+    }
+
+    @Test
+    void loadIsAnsweredFromCacheButReloadAlwaysAsks() {
+        loader.load(1).join();
+        loader.load(1).join();
+        verify(apiService, times(1)).getFixturesByIds(anyCollection());
+
+        loader.reload(1).join();
+        verify(apiService, times(2)).getFixturesByIds(anyCollection());
+    }
+
+    @Test
+    void unknownFixtureIsNotCached() {
+        when(apiService.getFixturesByIds(anyCollection())).thenReturn(fixtures(List.of()));
+
+        assertThat(loader.load(7).join().getResults()).isZero();
+        assertThat(cacheManager.getCache("fixture").get(7)).isNull();
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    @SuppressWarnings("unchecked")
+    private List<List<Integer>> requestedBatches() {
+        ArgumentCaptor<Collection<Integer>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(apiService, atLeastOnce()).getFixturesByIds(captor.capture());
+        return captor.getAllValues().stream().map(ArrayList::new).collect(Collectors.toList());
+    }
+
+    private static int idOf(FixtureResponse response) {
+        return response.getResponse().get(0).getFixture().getId();
+    }
+
+    private static FixtureResponse fixtures(Collection<Integer> ids) {
+        List<FixtureResponse.FixtureData> data = new ArrayList<>();
+        for (Integer id : ids) {
+            FixtureResponse.Fixture fixture = new FixtureResponse.Fixture();
+            fixture.setId(id);
+            FixtureResponse.FixtureData item = new FixtureResponse.FixtureData();
+            item.setFixture(fixture);
+            data.add(item);
+        }
+        FixtureResponse response = new FixtureResponse();
+        response.setResponse(data);
+        response.setResults(data.size());
+        return response;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.information.service;
+
+import com.example.information.entities.cache.FixtureChangeLease;
+import com.example.information.repositories.cache.CachedFixtureRepository;
+import com.example.information.repositories.cache.CachedFixtureTombstoneRepository;
+import com.example.information.repositories.cache.FixtureChangeCounterRepository;
+import com.example.information.repositories.cache.FixtureChangeLeaseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FixtureChangeSequenceTest {
+
+    private static final long LEASE_ID = 7L;
+
+    private FixtureChangeCounterRepository counterRepository;
+    private FixtureChangeLeaseRepository leaseRepository;
+    private CachedFixtureRepository fixtureRepository;
+    private CachedFixtureTombstoneRepository tombstoneRepository;
+    private FixtureChangeSequence sequence;
+
+    @BeforeEach
+    void setUp() {
+        counterRepository = mock(FixtureChangeCounterRepository.class);
+        leaseRepository = mock(FixtureChangeLeaseRepository.class);
+        fixtureRepository = mock(CachedFixtureRepository.class);
+        tombstoneRepository = mock(CachedFixtureTombstoneRepository.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        sequence = new FixtureChangeSequence(counterRepository, leaseRepository, fixtureRepository,
+            tombstoneRepository, transactionManager);
+
+        when(counterRepository.existsById(1)).thenReturn(true);
+        when(counterRepository.advance(eq(1), anyLong())).thenReturn(1);
+        when(leaseRepository.save(any())).thenAnswer(inv -> {
+            FixtureChangeLease lease = inv.getArgument(0);
+            lease.setId(LEASE_ID);
+            return lease;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    // ==================== VERSIÓN ANUNCIADA ====================
+
+    @Test
+    void watermarkIsTheCounterWhenNothingIsInFlight() {
+        when(counterRepository.findLastSeq(1)).thenReturn(1_000L);
+        when(leaseRepository.findMinSeqReservedAfter(any())).thenReturn(null);
+
+        assertThat(sequence.watermark()).isEqualTo(1_000L);
+    }
+
+    @Test
+    void watermarkStaysBelowTheLowestReservationStillInFlight() {
+        // 990 es de una transacción lenta aún sin confirmar; 995..1000 ya confirmadas
+        when(counterRepository.findLastSeq(1)).thenReturn(1_000L);
+        when(leaseRepository.findMinSeqReservedAfter(any())).thenReturn(990L);
+
+        assertThat(sequence.watermark()).isEqualTo(989L);
+    }
+
+    // ==================== RESERVA ====================
+
+    @Test
+    void reservationIsHeldUntilTheWritingTransactionCompletes() {
+        when(counterRepository.findLastSeq(1)).thenReturn(1_234L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertThat(sequence.reserve()).isEqualTo(1_234L);
+        verify(leaseRepository, never()).deleteById(any());
+
+        for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+            sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        verify(leaseRepository).deleteById(LEASE_ID);
+    }
+
+    @Test
+    void reservationOutsideATransactionIsReleasedRightAway() {
+        when(counterRepository.findLastSeq(1)).thenReturn(1_234L);
+
+        sequence.reserve();
+
+        verify(leaseRepository).deleteById(LEASE_ID);
+    }
+
+    @Test
+    void counterIsSeededFromTheVersionsAlreadyStored() {
+        when(counterRepository.existsById(1)).thenReturn(false);
+        when(fixtureRepository.findMaxChangeSeq()).thenReturn(500L);
+        when(tombstoneRepository.findMaxChangeSeq()).thenReturn(700L);
+        when(counterRepository.findLastSeq(1)).thenReturn(701L);
+
+        sequence.reserve();
+
+        verify(counterRepository).insert(1, 700L);
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.information.service;
+
+import com.example.information.exception.UpstreamApiException;
+import com.example.information.model.FixtureDetail;
+import com.example.information.model.apifootball.FixtureEventsResponse;
+import com.example.information.model.apifootball.FixtureResponse;
+import com.example.information.model.apifootball.FixtureStatisticsResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FixtureDetailServiceTest {
+
+    private static final int FIXTURE_ID = 100;
+
+    private CachedFootballApiService cachedApiService;
+    private ExecutorService detailExecutor;
+    private FixtureDetailService service;
+
+    @BeforeEach
+    void setUp() {
+        cachedApiService = mock(CachedFootballApiService.class);
+        detailExecutor = Executors.newFixedThreadPool(3);
+        service = new FixtureDetailService(cachedApiService, detailExecutor);
+        ReflectionTestUtils.setField(service, "budgetMs", 2_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        detailExecutor.shutdownNow();
+    }
+
+    @Test
+    void eventsAndStatisticsStartWithoutWaitingForTheFixture() {
+        CountDownLatch othersStarted = new CountDownLatch(2);
+        when(cachedApiService.getFixtureEvents(FIXTURE_ID)).thenAnswer(inv -> {
+            othersStarted.countDown();
+            return events(event("Goal"));
+        });
+        when(cachedApiService.getFixtureStatistics(FIXTURE_ID)).thenAnswer(inv -> {
+            othersStarted.countDown();
+            return statistics();
+        });
+        // El partido solo responde cuando ya se han pedido las otras dos partes
+        when(cachedApiService.getFixtureById(FIXTURE_ID)).thenAnswer(inv -> {
+            assertThat(othersStarted.await(1, TimeUnit.SECONDS)).isTrue();
+            return fixture(null, null);
+        });
+
+        FixtureDetail detail = service.getFixtureDetail(FIXTURE_ID);
+
+        assertThat(detail.isPartial()).isFalse();
+        assertThat(detail.getFixture()).isNotNull();
+        assertThat(detail.getEvents()).hasSize(1);
+        assertThat(detail.isCombined()).isFalse();
+    }
+
+    @Test
+    void eventsAndStatisticsOfTheFixtureItselfArePreferred() {
+        when(cachedApiService.getFixtureById(FIXTURE_ID))
+            .thenReturn(fixture(List.of(event("Goal"), event("Card")), List.of(new FixtureStatisticsResponse.TeamStatistics())));
+        when(cachedApiService.getFixtureEvents(FIXTURE_ID)).thenReturn(events(event("Goal")));
+        when(cachedApiService.getFixtureStatistics(FIXTURE_ID)).thenReturn(statistics());
+
+        FixtureDetail detail = service.getFixtureDetail(FIXTURE_ID);
+
+        assertThat(detail.isCombined()).isTrue();
+        assertThat(detail.getEvents()).hasSize(2);
+        assertThat(detail.getStatistics()).hasSize(1);
+    }
+
+    @Test
+    void failedPartIsReportedAsPartial() {
+        when(cachedApiService.getFixtureById(FIXTURE_ID)).thenReturn(fixture(null, null));
+        when(cachedApiService.getFixtureEvents(FIXTURE_ID)).thenReturn(events(event("Goal")));
+        when(cachedApiService.getFixtureStatistics(FIXTURE_ID))
+            .thenThrow(new UpstreamApiException("API-Football devolvió errores: límite de peticiones"));
+
+        FixtureDetail detail = service.getFixtureDetail(FIXTURE_ID);
+
+        assertThat(detail.isPartial()).isTrue();
+        assertThat(detail.getFailed()).containsExactly("statistics");
+        assertThat(detail.getTimedOut()).isEmpty();
+        assertThat(detail.getStatistics()).isNull();
+        assertThat(detail.getEvents()).hasSize(1);
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private static FixtureResponse fixture(List<FixtureEventsResponse.Event> events,
+                                           List<FixtureStatisticsResponse.TeamStatistics> statistics) {
+        FixtureResponse.Fixture fixture = new FixtureResponse.Fixture();
+        fixture.setId(FIXTURE_ID);
+        FixtureResponse.FixtureData data = new FixtureResponse.FixtureData();
+        data.setFixture(fixture);
+        data.setEvents(events);
+        data.setStatistics(statistics);
+        FixtureResponse response = new FixtureResponse();
+        response.setResponse(List.of(data));
+        return response;
+    }
+
+    private static FixtureEventsResponse events(FixtureEventsResponse.Event... events) {
+        FixtureEventsResponse response = new FixtureEventsResponse();
+        response.setResponse(List.of(events));
+        return response;
+    }
+
+    private static FixtureStatisticsResponse statistics() {
+        FixtureStatisticsResponse response = new FixtureStatisticsResponse();
+        response.setResponse(List.of());
+        return response;
+    }
+
+    private static FixtureEventsResponse.Event event(String type) {
+        FixtureEventsResponse.Event event = new FixtureEventsResponse.Event();
+        event.setType(type);
+        return event;
+    }
+}
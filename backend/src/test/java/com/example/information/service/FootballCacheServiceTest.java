@@ -0,0 +1,113 @@
+package com.example.information.service;
+
+import com.example.information.config.TrigramSearchInitializer;
+import com.example.information.entities.cache.CachedPlayer;
+import com.example.information.entities.cache.CachedTeam;
+import com.example.information.model.apifootball.PlayerResponse;
+import com.example.information.model.apifootball.TeamResponse;
+import com.example.information.repositories.cache.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FootballCacheServiceTest {
+
+    private static final int TEAM_ID = 529;
+    private static final int PLAYER_ID = 154;
+
+    private CachedTeamRepository teamRepository;
+    private CachedPlayerRepository playerRepository;
+    private PlatformTransactionManager transactionManager;
+    private FootballCacheService service;
+
+    @BeforeEach
+    void setUp() {
+        teamRepository = mock(CachedTeamRepository.class);
+        playerRepository = mock(CachedPlayerRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        service = new FootballCacheService(mock(CachedLeagueRepository.class), teamRepository, playerRepository,
+            mock(CachedStandingsRepository.class), mock(CachedSquadRepository.class),
+            mock(CachedPlayerStatisticsRepository.class), mock(CachedFixtureRepository.class),
+            mock(CachedTeamLeaguesRepository.class), mock(NameSearchIndex.class),
+            mock(TrigramSearchInitializer.class), transactionManager, new ObjectMapper());
+    }
+
+    // ==================== CLAVE NATURAL ====================
+
+    @Test
+    void naturalKeyHasNoNullsForRowsWithoutTeamOrSeason() {
+        assertThat(CachedPlayer.keyOf(PLAYER_ID, null, null)).isEqualTo("154:-:-");
+        assertThat(CachedPlayer.keyOf(PLAYER_ID, 2024, TEAM_ID)).isEqualTo("154:2024:529");
+        assertThat(CachedTeam.keyOf(TEAM_ID, null, null)).isEqualTo("529:-:-");
+    }
+
+    @Test
+    void playerWithoutTeamOrSeasonIsLookedUpByItsNaturalKey() {
+        when(playerRepository.findByNaturalKey("154:-:-")).thenReturn(Optional.empty());
+
+        service.savePlayer(player(), null, null, null, "messi");
+
+        verify(playerRepository).findByNaturalKey("154:-:-");
+        verify(playerRepository).save(any(CachedPlayer.class));
+    }
+
+    // ==================== BÚSQUEDAS ====================
+
+    @Test
+    void wildcardsInTheSearchAreMatchedLiterally() {
+        assertThat(FootballCacheService.containsPattern("Messi")).isEqualTo("%messi%");
+        assertThat(FootballCacheService.containsPattern("%")).isEqualTo("%!%%");
+        assertThat(FootballCacheService.containsPattern("a_b!")).isEqualTo("%a!_b!!%");
+    }
+
+    // ==================== INSERCIONES SIMULTÁNEAS ====================
+
+    @Test
+    void searchedTeamInsertedConcurrentlyIsNotInsertedTwice() {
+        // Primer intento: no estaba y la inserción choca con la de otra petición
+        when(teamRepository.existsByApiId(TEAM_ID)).thenReturn(false, true);
+        when(teamRepository.save(any(CachedTeam.class)))
+            .thenThrow(new DataIntegrityViolationException("uk_cached_team_natural_key"));
+
+        service.saveTeam(team());
+
+        verify(teamRepository, times(2)).existsByApiId(TEAM_ID);
+        verify(teamRepository, times(1)).save(any(CachedTeam.class));
+        verify(transactionManager, times(2)).getTransaction(any());
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private static TeamResponse.TeamData team() {
+        TeamResponse.Team team = new TeamResponse.Team();
+        team.setId(TEAM_ID);
+        team.setName("Barcelona");
+        TeamResponse.TeamData data = new TeamResponse.TeamData();
+        data.setTeam(team);
+        return data;
+    }
+
+    private static PlayerResponse.PlayerData player() {
+        PlayerResponse.Player player = new PlayerResponse.Player();
+        player.setId(PLAYER_ID);
+        player.setName("L. Messi");
+        PlayerResponse.PlayerData data = new PlayerResponse.PlayerData();
+        data.setPlayer(player);
+        data.setStatistics(List.of());
+        return data;
+    }
+}
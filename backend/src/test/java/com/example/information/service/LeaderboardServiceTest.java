@@ -0,0 +1,214 @@
+package com.example.information.service;
+
+import com.example.information.entities.cache.CachedFixture;
+import com.example.information.model.apifootball.FixtureEventsResponse;
+import com.example.information.model.apifootball.FixtureResponse;
+import com.example.information.model.apifootball.PlayerResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LeaderboardServiceTest {
+
+    private static final int LEAGUE_ID = 140;
+    private static final int SEASON = 2024;
+    private static final int FIXTURE_ID = 100;
+
+    private static final int PEDRI = 1;
+    private static final int LEWY = 2;
+    private static final int OUTSIDER = 3;
+
+    private ApiFootballService apiService;
+    private FixtureCacheService fixtureCache;
+    private LeaderboardService service;
+
+    @BeforeEach
+    void setUp() {
+        apiService = mock(ApiFootballService.class);
+        fixtureCache = mock(FixtureCacheService.class);
+        service = new LeaderboardService(apiService, fixtureCache, new ObjectMapper());
+        when(apiService.getTopScorers(LEAGUE_ID, SEASON)).thenReturn(topScorers(Map.of(PEDRI, 5, LEWY, 4)));
+        when(fixtureCache.getPlayedFixtures(LEAGUE_ID, SEASON)).thenReturn(List.of());
+    }
+
+    @Test
+    void varCancelledGoalsAndOwnGoalsAreNotCounted() {
+        load();
+
+        service.onLiveFixturesChanged(change("2H",
+            goal(PEDRI, 10, "Normal Goal"),
+            goal(PEDRI, 30, "Normal Goal"),
+            var(PEDRI, 31, "Goal cancelled"),
+            goal(LEWY, 50, "Own Goal"),
+            goal(PEDRI, 60, "Penalty"),
+            goal(LEWY, 70, "Missed Penalty")));
+
+        assertThat(totals()).containsExactly(Map.entry(PEDRI, 7), Map.entry(LEWY, 4));
+    }
+
+    @Test
+    void varCancellationAppliesOnlyToThatGoal() {
+        load();
+
+        service.onLiveFixturesChanged(change("2H",
+            goal(LEWY, 20, "Normal Goal"),
+            var(LEWY, 20, "Goal confirmed"),
+            goal(LEWY, 80, "Normal Goal"),
+            var(LEWY, 80, "Goal Disallowed - offside")));
+
+        assertThat(totals()).containsExactly(Map.entry(PEDRI, 5), Map.entry(LEWY, 5));
+    }
+
+    @Test
+    void goalRemovedByVarAfterwardsIsSubtracted() {
+        load();
+        service.onLiveFixturesChanged(change("2H", goal(LEWY, 20, "Normal Goal"), goal(LEWY, 40, "Normal Goal")));
+        assertThat(totals()).containsExactly(Map.entry(LEWY, 6), Map.entry(PEDRI, 5));
+
+        service.onLiveFixturesChanged(change("2H", goal(LEWY, 20, "Normal Goal"), goal(LEWY, 40, "Normal Goal"),
+            var(LEWY, 41, "Goal cancelled")));
+
+        // Empate: se ordena por nombre
+        assertThat(totals()).containsExactly(Map.entry(PEDRI, 5), Map.entry(LEWY, 5));
+    }
+
+    @Test
+    void fixtureFinishedBeforeBaselineIsNotCountedAgain() {
+        when(fixtureCache.getPlayedFixtures(LEAGUE_ID, SEASON))
+            .thenReturn(List.of(CachedFixture.builder().apiId(FIXTURE_ID).build()));
+        load();
+
+        service.onLiveFixturesChanged(change("FT", goal(LEWY, 10, "Normal Goal"), goal(LEWY, 20, "Normal Goal")));
+
+        assertThat(totals()).containsExactly(Map.entry(PEDRI, 5), Map.entry(LEWY, 4));
+    }
+
+    @Test
+    void fixtureSeenFinishingBeforeReconcileIsCoveredByTheNewBaseline() {
+        load();
+        service.onLiveFixturesChanged(change("FT", goal(LEWY, 10, "Normal Goal")));
+        assertThat(totals()).containsExactly(Map.entry(PEDRI, 5), Map.entry(LEWY, 5));
+
+        // La API ya cuenta el gol en la nueva base
+        when(apiService.getTopScorers(LEAGUE_ID, SEASON)).thenReturn(topScorers(Map.of(PEDRI, 5, LEWY, 5)));
+        load();
+
+        assertThat(totals()).containsExactly(Map.entry(PEDRI, 5), Map.entry(LEWY, 5));
+    }
+
+    @Test
+    void finalEventsReplaceLiveOnesInsteadOfAdding() {
+        load();
+        service.onLiveFixturesChanged(change("2H", goal(LEWY, 10, "Normal Goal"), goal(LEWY, 20, "Normal Goal")));
+
+        FixtureEventsResponse stored = new FixtureEventsResponse();
+        stored.setResponse(List.of(goal(LEWY, 10, "Normal Goal"), goal(LEWY, 20, "Normal Goal"),
+            var(LEWY, 21, "Goal cancelled")));
+        when(fixtureCache.getFinishedEventsFromCache(FIXTURE_ID)).thenReturn(stored);
+        service.onFixturesFinished(new FixtureCacheService.FixturesFinished(List.of(CachedFixture.builder()
+            .apiId(FIXTURE_ID).leagueId(LEAGUE_ID).season(SEASON).build())));
+
+        assertThat(totals()).containsExactly(Map.entry(PEDRI, 5), Map.entry(LEWY, 5));
+    }
+
+    @Test
+    void playersOutsideTheBaselineAreNotRanked() {
+        load();
+
+        service.onLiveFixturesChanged(change("2H", goal(OUTSIDER, 10, "Normal Goal"), goal(OUTSIDER, 20, "Normal Goal")));
+
+        assertThat(totals()).containsExactly(Map.entry(PEDRI, 5), Map.entry(LEWY, 4));
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private void load() {
+        service.load(FootballCacheService.PlayerRanking.GOALS, LEAGUE_ID, SEASON);
+    }
+
+    private Map<Integer, Integer> totals() {
+        PlayerResponse top = service.getTop(FootballCacheService.PlayerRanking.GOALS, LEAGUE_ID, SEASON, 20);
+        Map<Integer, Integer> totals = new LinkedHashMap<>();
+        for (PlayerResponse.PlayerData data : top.getResponse()) {
+            totals.put(data.getPlayer().getId(), data.getStatistics().get(0).getGoals().getTotal());
+        }
+        return totals;
+    }
+
+    private static PlayerResponse topScorers(Map<Integer, Integer> goals) {
+        List<PlayerResponse.PlayerData> response = new ArrayList<>();
+        goals.forEach((playerId, total) -> {
+            PlayerResponse.Player player = new PlayerResponse.Player();
+            player.setId(playerId);
+            player.setName("Jugador " + playerId);
+            PlayerResponse.StatLeague league = new PlayerResponse.StatLeague();
+            league.setId(LEAGUE_ID);
+            PlayerResponse.Goals playerGoals = new PlayerResponse.Goals();
+            playerGoals.setTotal(total);
+            PlayerResponse.Statistics statistics = new PlayerResponse.Statistics();
+            statistics.setLeague(league);
+            statistics.setGoals(playerGoals);
+            PlayerResponse.PlayerData data = new PlayerResponse.PlayerData();
+            data.setPlayer(player);
+            data.setStatistics(List.of(statistics));
+            response.add(data);
+        });
+        PlayerResponse upstream = new PlayerResponse();
+        upstream.setResponse(response);
+        upstream.setResults(response.size());
+        return upstream;
+    }
+
+    private static LiveFixturesPoller.LiveFixturesChanged change(String status, FixtureEventsResponse.Event... events) {
+        FixtureResponse.Status fixtureStatus = new FixtureResponse.Status();
+        fixtureStatus.setShortStatus(status);
+        FixtureResponse.Fixture fixture = new FixtureResponse.Fixture();
+        fixture.setId(FIXTURE_ID);
+        fixture.setTimestamp(Instant.now().getEpochSecond());
+        fixture.setStatus(fixtureStatus);
+        FixtureResponse.League league = new FixtureResponse.League();
+        league.setId(LEAGUE_ID);
+        league.setSeason(SEASON);
+        FixtureResponse.FixtureData data = new FixtureResponse.FixtureData();
+        data.setFixture(fixture);
+        data.setLeague(league);
+        data.setEvents(List.of(events));
+        FixtureResponse response = new FixtureResponse();
+        response.setResponse(List.of(data));
+        LiveFixturesPoller.LiveSnapshot snapshot = new LiveFixturesPoller.LiveSnapshot(response, Instant.now(), 1);
+        return new LiveFixturesPoller.LiveFixturesChanged(snapshot, Set.of(), Set.of(FIXTURE_ID), Set.of());
+    }
+
+    private static FixtureEventsResponse.Event goal(int playerId, int minute, String detail) {
+        return event("Goal", playerId, minute, detail);
+    }
+
+    private static FixtureEventsResponse.Event var(int playerId, int minute, String detail) {
+        return event("Var", playerId, minute, detail);
+    }
+
+    private static FixtureEventsResponse.Event event(String type, int playerId, int minute, String detail) {
+        FixtureEventsResponse.Player player = new FixtureEventsResponse.Player();
+        player.setId(playerId);
+        player.setName("Jugador " + playerId);
+        FixtureEventsResponse.Time time = new FixtureEventsResponse.Time();
+        time.setElapsed(minute);
+        FixtureEventsResponse.Event event = new FixtureEventsResponse.Event();
+        event.setType(type);
+        event.setDetail(detail);
+        event.setPlayer(player);
+        event.setTime(time);
+        return event;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.information.service;
+
+import com.example.information.model.apifootball.FixtureResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LiveFixturesPollerTest {
+
+    private static final int PLAYING = 10;
+    private static final int FINISHING = 11;
+
+    private ApiFootballService apiService;
+    private FixtureCacheService fixtureCache;
+    private LiveFixturesPoller poller;
+
+    @BeforeEach
+    void setUp() {
+        apiService = mock(ApiFootballService.class);
+        fixtureCache = mock(FixtureCacheService.class);
+        poller = new LiveFixturesPoller(apiService, fixtureCache, mock(ApplicationEventPublisher.class));
+        ReflectionTestUtils.setField(poller, "pollIntervalMs", 0L);
+        ReflectionTestUtils.setField(poller, "idleTimeoutMs", 60_000L);
+        ReflectionTestUtils.setField(poller, "dailyRequests", 1_000_000_000);
+        when(apiService.isConfigured()).thenReturn(true);
+    }
+
+    @Test
+    void fixtureLeavingTheLiveListIsFetchedByIdAndSavedWithItsFinalStatus() {
+        FixtureResponse.FixtureData finished = fixture(FINISHING, "FT", 2, 1);
+        when(apiService.getLiveFixtures())
+            .thenReturn(response(fixture(PLAYING, "1H", 0, 0), fixture(FINISHING, "2H", 2, 1)))
+            .thenReturn(response(fixture(PLAYING, "1H", 0, 0)));
+        when(apiService.getFixturesByIds(List.of(FINISHING))).thenReturn(response(finished));
+
+        poller.getSnapshot();
+        poller.poll();
+
+        verify(apiService).getFixturesByIds(List.of(FINISHING));
+        ArgumentCaptor<FixtureResponse> saved = ArgumentCaptor.forClass(FixtureResponse.class);
+        verify(fixtureCache, times(2)).saveFixtures(saved.capture());
+        assertThat(saved.getValue().getResponse()).containsExactly(finished);
+        assertThat(poller.currentSnapshot().response().getResponse())
+            .extracting(f -> f.getFixture().getId()).containsExactly(PLAYING);
+    }
+
+    @Test
+    void finishedFixturesWaitForTheNextSyncWhenTheDailyBudgetIsSpent() {
+        ReflectionTestUtils.setField(poller, "dailyRequests", 2);
+        when(apiService.getLiveFixtures())
+            .thenReturn(response(fixture(FINISHING, "2H", 2, 1)))
+            .thenReturn(response());
+
+        LiveFixturesPoller.LiveSnapshot first = poller.getSnapshot();
+        // Con una sola petición por delante, el siguiente sondeo sería mañana: se envejece la instantánea
+        ReflectionTestUtils.setField(poller, "snapshot", new LiveFixturesPoller.LiveSnapshot(
+            first.response(), Instant.now().minus(Duration.ofDays(1)), first.version()));
+        poller.poll();
+
+        verify(apiService, times(2)).getLiveFixtures();
+        verify(apiService, never()).getFixturesByIds(any());
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private static FixtureResponse response(FixtureResponse.FixtureData... fixtures) {
+        FixtureResponse response = new FixtureResponse();
+        response.setResponse(Arrays.asList(fixtures));
+        return response;
+    }
+
+    private static FixtureResponse.FixtureData fixture(int id, String status, int home, int away) {
+        FixtureResponse.Status fixtureStatus = new FixtureResponse.Status();
+        fixtureStatus.setShortStatus(status);
+        FixtureResponse.Fixture fixture = new FixtureResponse.Fixture();
+        fixture.setId(id);
+        fixture.setStatus(fixtureStatus);
+        FixtureResponse.Goals goals = new FixtureResponse.Goals();
+        goals.setHome(home);
+        goals.setAway(away);
+        FixtureResponse.FixtureData data = new FixtureResponse.FixtureData();
+        data.setFixture(fixture);
+        data.setGoals(goals);
+        return data;
+    }
+}
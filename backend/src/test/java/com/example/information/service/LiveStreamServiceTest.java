@@ -0,0 +1,226 @@
+package com.example.information.service;
+
+import com.example.information.model.apifootball.FixtureResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LiveStreamServiceTest {
+
+    private static final int FIXTURE_ID = 10;
+    private static final int LEAGUE_ID = 140;
+
+    private LiveFixturesPoller poller;
+    private final AtomicReference<LiveFixturesPoller.LiveSnapshot> current = new AtomicReference<>();
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private ExecutorService pool;
+    private volatile CountDownLatch blockNextEmitter;
+
+    @BeforeEach
+    void setUp() {
+        poller = mock(LiveFixturesPoller.class);
+        when(poller.currentSnapshot()).thenAnswer(inv -> current.get());
+        when(poller.getSnapshot()).thenAnswer(inv -> current.get());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) pool.shutdownNow();
+    }
+
+    @Test
+    void snapshotIsFollowedOnlyByNewerDeltas() {
+        LiveStreamService service = service(Runnable::run);
+        current.set(snapshot(2));
+
+        service.subscribe(null, null, null);
+        // El evento de la versión 2 se publica después de leer la instantánea (ya la incluye)
+        service.onLiveFixturesChanged(change(2));
+        service.onLiveFixturesChanged(change(3));
+
+        assertThat(emitters.get(0).events).containsExactly("snapshot:2", "delta:3");
+    }
+
+    @Test
+    void deltaPublishedWhileSubscribingIsNotLost() {
+        LiveStreamService service = service(Runnable::run);
+        current.set(snapshot(1));
+        // Un sondeo publica la versión 2 justo después de la lectura inicial
+        when(poller.getSnapshot()).thenAnswer(inv -> {
+            LiveFixturesPoller.LiveSnapshot read = current.get();
+            current.set(snapshot(2));
+            service.onLiveFixturesChanged(change(2));
+            return read;
+        });
+
+        service.subscribe(null, null, null);
+        service.onLiveFixturesChanged(change(3));
+
+        assertThat(emitters.get(0).events).containsExactly("snapshot:2", "delta:3");
+    }
+
+    @Test
+    void lastEventIdReplaysMissedDeltas() {
+        LiveStreamService service = service(Runnable::run);
+        for (int version = 1; version <= 3; version++) {
+            current.set(snapshot(version));
+            service.onLiveFixturesChanged(change(version));
+        }
+
+        service.subscribe(null, null, "1");
+        service.onLiveFixturesChanged(change(4));
+
+        assertThat(emitters.get(0).events).containsExactly("delta:2", "delta:3", "delta:4");
+    }
+
+    @Test
+    void replayContinuesWhenSnapshotIsAheadOfHistory() {
+        LiveStreamService service = service(Runnable::run);
+        for (int version = 1; version <= 2; version++) {
+            service.onLiveFixturesChanged(change(version));
+        }
+        // La versión 3 ya está en la instantánea pero su evento aún no se ha publicado
+        current.set(snapshot(3));
+
+        service.subscribe(null, null, "1");
+        service.onLiveFixturesChanged(change(3));
+
+        assertThat(emitters.get(0).events).containsExactly("delta:2", "delta:3");
+    }
+
+    @Test
+    void lastEventIdOlderThanHistoryGetsSnapshot() {
+        LiveStreamService service = service(Runnable::run);
+        for (int version = 5; version <= 6; version++) {
+            current.set(snapshot(version));
+            service.onLiveFixturesChanged(change(version));
+        }
+
+        service.subscribe(null, null, "2");
+
+        assertThat(emitters.get(0).events).containsExactly("snapshot:6");
+    }
+
+    @Test
+    void slowClientDoesNotDelayOthersAndIsDropped() throws Exception {
+        pool = Executors.newFixedThreadPool(2);
+        LiveStreamService service = service(pool);
+        current.set(snapshot(1));
+
+        CountDownLatch release = new CountDownLatch(1);
+        blockNextEmitter = release;
+        service.subscribe(null, null, null);
+        service.subscribe(null, null, null);
+        RecordingEmitter slow = emitters.get(0);
+        RecordingEmitter fast = emitters.get(1);
+        await(() -> slow.blocked);
+
+        // Cada sondeo llega al cliente rápido aunque el lento no avance; al llenarse su cola se desconecta
+        for (int version = 2; version <= 40; version++) {
+            long start = System.nanoTime();
+            service.onLiveFixturesChanged(change(version));
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(500);
+            String expected = "delta:" + version;
+            await(() -> fast.events.contains(expected));
+        }
+        assertThat(service.getConnectionCount()).isEqualTo(1);
+        assertThat(slow.events).isEmpty();
+        release.countDown();
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private LiveStreamService service(Executor executor) {
+        return new LiveStreamService(poller, executor) {
+            @Override
+            SseEmitter createEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitter.blockOn = blockNextEmitter;
+                blockNextEmitter = null;
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    private static LiveFixturesPoller.LiveSnapshot snapshot(long version) {
+        FixtureResponse.Fixture fixture = new FixtureResponse.Fixture();
+        fixture.setId(FIXTURE_ID);
+        FixtureResponse.League league = new FixtureResponse.League();
+        league.setId(LEAGUE_ID);
+        FixtureResponse.FixtureData data = new FixtureResponse.FixtureData();
+        data.setFixture(fixture);
+        data.setLeague(league);
+
+        FixtureResponse response = new FixtureResponse();
+        response.setResponse(List.of(data));
+        response.setResults(1);
+        return new LiveFixturesPoller.LiveSnapshot(response, Instant.now(), version);
+    }
+
+    private static LiveFixturesPoller.LiveFixturesChanged change(long version) {
+        return new LiveFixturesPoller.LiveFixturesChanged(snapshot(version), Set.of(), Set.of(FIXTURE_ID), Set.of());
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condición no cumplida a tiempo").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Conexión que registra "nombre:id" de cada evento enviado (y puede quedarse bloqueada)
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private static final Pattern HEADER = Pattern.compile("id:(\\d+)\\nevent:(\\w+)");
+
+        final List<String> events = new CopyOnWriteArrayList<>();
+        volatile CountDownLatch blockOn;
+        volatile boolean blocked;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (blockOn != null) {
+                blocked = true;
+                try {
+                    blockOn.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            String text = builder.build().stream()
+                .map(part -> String.valueOf(part.getData()))
+                .collect(Collectors.joining());
+            Matcher matcher = HEADER.matcher(text);
+            if (matcher.find()) {
+                events.add(matcher.group(2) + ":" + matcher.group(1));
+            }
+        }
+    }
+}
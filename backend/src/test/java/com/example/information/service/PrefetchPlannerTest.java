@@ -0,0 +1,117 @@
+package com.example.information.service;
+
+import com.example.information.entities.cache.CachedFixture;
+import com.example.information.model.apifootball.FixtureResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PrefetchPlannerTest {
+
+    private static final int LEAGUE_ID = 140;
+    private static final int SEASON = 2024;
+    private static final String ROUND = "Regular Season - 1";
+
+    private ApiFootballService apiService;
+    private FixtureBatchLoader loader;
+    private CachedFootballApiService cachedApiService;
+    private FixtureCacheService fixtureCache;
+    private PrefetchPlanner planner;
+
+    @BeforeEach
+    void setUp() {
+        apiService = mock(ApiFootballService.class);
+        loader = mock(FixtureBatchLoader.class);
+        cachedApiService = mock(CachedFootballApiService.class);
+        fixtureCache = mock(FixtureCacheService.class);
+        planner = new PrefetchPlanner(apiService, loader, cachedApiService, fixtureCache,
+            mock(FootballCacheService.class), mock(StandingsEngine.class));
+        ReflectionTestUtils.setField(planner, "enabled", true);
+        ReflectionTestUtils.setField(planner, "kickoffLeadMinutes", 45L);
+
+        when(apiService.isConfigured()).thenReturn(true);
+        when(fixtureCache.isSeasonIngested(LEAGUE_ID, SEASON)).thenReturn(true);
+        // La API devuelve cada partido pedido ya terminado
+        when(loader.reload(anyInt())).thenAnswer(inv -> CompletableFuture.completedFuture(fullTime(inv.getArgument(0))));
+    }
+
+    @Test
+    void attemptsAreNotSpentWithoutBudget() {
+        window(1);
+        ReflectionTestUtils.setField(planner, "dailyBudget", 0);
+        for (int i = 0; i < 5; i++) planner.plan();
+        verify(loader, never()).reload(anyInt());
+
+        // Con presupuesto el partido se pide: los pases sin presupuesto no contaron como intentos
+        ReflectionTestUtils.setField(planner, "dailyBudget", 20);
+        planner.plan();
+        verify(loader).reload(1);
+    }
+
+    @Test
+    void oneBudgetUnitPerBatchOfIds() {
+        window(ApiFootballService.FIXTURE_IDS_LIMIT + 1);
+        ReflectionTestUtils.setField(planner, "dailyBudget", 1);
+
+        planner.plan();
+
+        // Un lote completo con la única petición disponible; el resto espera al presupuesto
+        verify(loader, times(ApiFootballService.FIXTURE_IDS_LIMIT)).reload(anyInt());
+        verify(loader, never()).reload(ApiFootballService.FIXTURE_IDS_LIMIT + 1);
+        verify(loader, never()).load(anyInt());
+        // Sin presupuesto para la clasificación aunque la jornada haya terminado
+        verify(cachedApiService, never()).refreshStandings(anyInt(), anyInt());
+    }
+
+    @Test
+    void finishedRoundRefreshesTheStandingsOnce() {
+        window(2);
+        ReflectionTestUtils.setField(planner, "dailyBudget", 20);
+        when(fixtureCache.isRoundComplete(LEAGUE_ID, SEASON, ROUND)).thenReturn(true);
+
+        planner.plan();
+
+        verify(loader).reload(1);
+        verify(loader).reload(2);
+        verify(cachedApiService, times(1)).refreshStandings(LEAGUE_ID, SEASON);
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private void window(int fixtures) {
+        long kickoff = Instant.now().getEpochSecond() - 2 * 60 * 60L;
+        List<CachedFixture> window = IntStream.rangeClosed(1, fixtures)
+            .mapToObj(id -> CachedFixture.builder().apiId(id).leagueId(LEAGUE_ID).season(SEASON).round(ROUND)
+                .kickoffAt(kickoff).build())
+            .collect(Collectors.toList());
+        when(fixtureCache.getFixturesKickingOffBetween(anyLong(), anyLong())).thenReturn(window);
+    }
+
+    private static FixtureResponse fullTime(int fixtureId) {
+        FixtureResponse.Status status = new FixtureResponse.Status();
+        status.setShortStatus("FT");
+        FixtureResponse.Fixture fixture = new FixtureResponse.Fixture();
+        fixture.setId(fixtureId);
+        fixture.setStatus(status);
+        FixtureResponse.FixtureData data = new FixtureResponse.FixtureData();
+        data.setFixture(fixture);
+        FixtureResponse response = new FixtureResponse();
+        response.setResponse(List.of(data));
+        response.setResults(1);
+        return response;
+    }
+}
@@ -0,0 +1,263 @@
+package com.example.information.service;
+
+import com.example.information.entities.cache.CachedFixture;
+import com.example.information.model.apifootball.StandingsResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StandingsEngineTest {
+
+    private static final int LEAGUE_ID = 140;
+    private static final int SEASON = 2024;
+
+    private static final int A = 1;
+    private static final int B = 2;
+    private static final int C = 3;
+    private static final int D = 4;
+
+    private final List<CachedFixture> played = new ArrayList<>();
+    private MockEnvironment environment;
+    private StandingsEngine engine;
+    private int nextFixtureId = 1;
+
+    @BeforeEach
+    void setUp() {
+        FixtureCacheService fixtureCache = mock(FixtureCacheService.class);
+        when(fixtureCache.getPlayedFixtures(LEAGUE_ID, SEASON)).thenAnswer(inv -> List.copyOf(played));
+        environment = new MockEnvironment();
+        engine = new StandingsEngine(fixtureCache, environment);
+    }
+
+    // ==================== DESEMPATES ====================
+
+    @Test
+    void headToHeadIsReappliedWithinTheTeamsStillTied() {
+        environment.setProperty("football.standings.tie-breakers." + LEAGUE_ID,
+            "HEAD_TO_HEAD_POINTS,HEAD_TO_HEAD_GOAL_DIFF,GOAL_DIFF,GOALS_FOR");
+        threeWayTie();
+
+        // A gana la mini-liga de tres; B y C empatan en ella (puntos y diferencia), pero
+        // entre ellos dos B suma 4 puntos y C 1. C tiene mejor diferencia general.
+        assertThat(ranking(engine.load(LEAGUE_ID, SEASON, upstream()))).containsExactly(A, B, C, D);
+    }
+
+    @Test
+    void overallCriteriaApplyWhenHeadToHeadIsNotConfigured() {
+        environment.setProperty("football.standings.tie-breakers." + LEAGUE_ID, "GOAL_DIFF,GOALS_FOR");
+        threeWayTie();
+
+        // C +9; A y B +1, A con más goles
+        assertThat(ranking(engine.load(LEAGUE_ID, SEASON, upstream()))).containsExactly(C, A, B, D);
+    }
+
+    @Test
+    void headToHeadFallsThroughToOverallCriteriaWhenItSeparatesNoOne() {
+        environment.setProperty("football.standings.tie-breakers." + LEAGUE_ID, "HEAD_TO_HEAD_POINTS,GOAL_DIFF");
+        match(A, B, 1, 0);
+        match(B, C, 1, 0);
+        match(C, A, 3, 0);
+        match(D, A, 0, 0);
+        match(D, B, 0, 0);
+        match(D, C, 0, 0);
+
+        // Los tres con 4 puntos y 3 entre sí: decide la diferencia general (C +2, B 0, A -2)
+        assertThat(ranking(engine.load(LEAGUE_ID, SEASON, upstream()))).containsExactly(C, B, A, D);
+    }
+
+    // ==================== CONCILIACIÓN ====================
+
+    @Test
+    void sanctionWithTheSameMatchesIsKeptAsAdjustment() {
+        match(A, B, 2, 0);
+        match(C, D, 1, 1);
+        Map<Integer, Integer> points = computedPoints();
+        points.put(A, points.get(A) - 3);
+
+        StandingsResponse standings = engine.load(LEAGUE_ID, SEASON, upstream(points, playedCounts()));
+
+        assertThat(points(standings)).containsEntry(A, 0).containsEntry(B, 0);
+        match(A, C, 1, 0);
+        engine.onFixturesFinished(finished(last()));
+        assertThat(points(engine.getStandings(LEAGUE_ID, SEASON))).containsEntry(A, 3);
+    }
+
+    @Test
+    void missingMatchesShowTheUpstreamRowUntilTheyArrive() {
+        match(A, B, 2, 0);
+        match(C, D, 1, 1);
+        Map<Integer, Integer> points = computedPoints();
+        Map<Integer, Integer> counts = playedCounts();
+        // La API ya cuenta C-A 3-0, que aún no está en BD
+        points.merge(C, 3, Integer::sum);
+        counts.merge(C, 1, Integer::sum);
+        counts.merge(A, 1, Integer::sum);
+
+        StandingsResponse standings = engine.load(LEAGUE_ID, SEASON, upstream(points, counts));
+
+        assertThat(standings).isNotNull();
+        assertThat(points(standings)).containsEntry(C, 4).containsEntry(A, 3);
+        assertThat(playedOf(standings, C)).isEqualTo(2);
+        assertThat(ranking(standings).get(0)).isEqualTo(C);
+
+        match(C, A, 3, 0);
+        engine.onFixturesFinished(finished(last()));
+        StandingsResponse caughtUp = engine.getStandings(LEAGUE_ID, SEASON);
+        assertThat(points(caughtUp)).containsEntry(C, 4).containsEntry(A, 3);
+        assertThat(playedOf(caughtUp, C)).isEqualTo(2);
+
+        // Ya calculada en local: el siguiente partido suma sin ajuste
+        match(C, B, 1, 0);
+        engine.onFixturesFinished(finished(last()));
+        assertThat(points(engine.getStandings(LEAGUE_ID, SEASON))).containsEntry(C, 7);
+    }
+
+    @Test
+    void upstreamBehindTheDatabaseOnlyComparesTheMatchesItCounts() {
+        match(A, B, 2, 0);
+        match(C, D, 1, 1);
+        Map<Integer, Integer> points = computedPoints();
+        Map<Integer, Integer> counts = playedCounts();
+        match(B, A, 1, 0);
+
+        // La API aún no cuenta B-A: no hay ajuste, y el partido sí suma
+        StandingsResponse standings = engine.load(LEAGUE_ID, SEASON, upstream(points, counts));
+
+        assertThat(points(standings)).containsEntry(A, 3).containsEntry(B, 3);
+        assertThat(playedOf(standings, A)).isEqualTo(2);
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    /**
+     * A, B y C a 10 puntos; D con 4
+     */
+    private void threeWayTie() {
+        // Mini-liga: A 9, B 4, C 4; diferencia entre los tres: A +2, B -1, C -1
+        match(B, C, 1, 0);
+        match(C, B, 0, 0);
+        match(C, A, 1, 0);
+        match(A, C, 1, 0);
+        match(A, B, 1, 0);
+        match(B, A, 0, 1);
+        // Contra D: A 1 punto, B y C 6; C con mucha mejor diferencia general
+        match(A, D, 1, 1);
+        match(D, A, 1, 0);
+        match(B, D, 1, 0);
+        match(D, B, 0, 1);
+        match(C, D, 5, 0);
+        match(D, C, 0, 5);
+    }
+
+    private void match(int home, int away, int homeGoals, int awayGoals) {
+        int id = nextFixtureId++;
+        played.add(CachedFixture.builder()
+            .apiId(id)
+            .leagueId(LEAGUE_ID)
+            .season(SEASON)
+            .kickoffAt(1_700_000_000L + id * 86_400L)
+            .homeTeamId(home)
+            .awayTeamId(away)
+            .goalsHome(homeGoals)
+            .goalsAway(awayGoals)
+            .statusShort("FT")
+            .finished(true)
+            .build());
+    }
+
+    private CachedFixture last() {
+        return played.get(played.size() - 1);
+    }
+
+    private static FixtureCacheService.FixturesFinished finished(CachedFixture fixture) {
+        return new FixtureCacheService.FixturesFinished(List.of(fixture));
+    }
+
+    private Map<Integer, Integer> computedPoints() {
+        Map<Integer, Integer> points = new HashMap<>(Map.of(A, 0, B, 0, C, 0, D, 0));
+        for (CachedFixture f : played) {
+            int home = f.getGoalsHome() > f.getGoalsAway() ? 3 : f.getGoalsHome().equals(f.getGoalsAway()) ? 1 : 0;
+            int away = f.getGoalsAway() > f.getGoalsHome() ? 3 : f.getGoalsHome().equals(f.getGoalsAway()) ? 1 : 0;
+            points.merge(f.getHomeTeamId(), home, Integer::sum);
+            points.merge(f.getAwayTeamId(), away, Integer::sum);
+        }
+        return points;
+    }
+
+    private Map<Integer, Integer> playedCounts() {
+        Map<Integer, Integer> counts = new HashMap<>(Map.of(A, 0, B, 0, C, 0, D, 0));
+        for (CachedFixture f : played) {
+            counts.merge(f.getHomeTeamId(), 1, Integer::sum);
+            counts.merge(f.getAwayTeamId(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    private StandingsResponse upstream() {
+        return upstream(computedPoints(), playedCounts());
+    }
+
+    private static StandingsResponse upstream(Map<Integer, Integer> points, Map<Integer, Integer> counts) {
+        List<StandingsResponse.Standing> rows = new ArrayList<>();
+        for (int teamId : List.of(A, B, C, D)) {
+            rows.add(standing(teamId, rows.size() + 1, counts.get(teamId), points.get(teamId)));
+        }
+        StandingsResponse.League league = new StandingsResponse.League();
+        league.setId(LEAGUE_ID);
+        league.setSeason(SEASON);
+        league.setStandings(List.of(rows));
+        StandingsResponse.StandingsData data = new StandingsResponse.StandingsData();
+        data.setLeague(league);
+        StandingsResponse response = new StandingsResponse();
+        response.setResponse(List.of(data));
+        return response;
+    }
+
+    private static StandingsResponse.Standing standing(int teamId, int rank, int played, int points) {
+        StandingsResponse.Team team = new StandingsResponse.Team();
+        team.setId(teamId);
+        team.setName("Equipo " + teamId);
+        StandingsResponse.MatchStats all = new StandingsResponse.MatchStats();
+        all.setPlayed(played);
+        StandingsResponse.Standing standing = new StandingsResponse.Standing();
+        standing.setTeam(team);
+        standing.setRank(rank);
+        standing.setPoints(points);
+        standing.setAll(all);
+        return standing;
+    }
+
+    private static List<Integer> ranking(StandingsResponse standings) {
+        assertThat(standings).isNotNull();
+        return rows(standings).stream().map(s -> s.getTeam().getId()).toList();
+    }
+
+    private static Map<Integer, Integer> points(StandingsResponse standings) {
+        Map<Integer, Integer> points = new LinkedHashMap<>();
+        rows(standings).forEach(s -> points.put(s.getTeam().getId(), s.getPoints()));
+        return points;
+    }
+
+    private static int playedOf(StandingsResponse standings, int teamId) {
+        return rows(standings).stream()
+            .filter(s -> s.getTeam().getId() == teamId)
+            .findFirst()
+            .orElseThrow()
+            .getAll()
+            .getPlayed();
+    }
+
+    private static List<StandingsResponse.Standing> rows(StandingsResponse standings) {
+        return standings.getResponse().get(0).getLeague().getStandings().get(0);
+    }
+}
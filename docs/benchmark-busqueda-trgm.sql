@@ -0,0 +1,46 @@
+-- Benchmark de la búsqueda trigram sobre 1M de jugadores sintéticos.
+-- Se ejecuta a mano con psql contra una base de datos de pruebas:
+--   psql "$DATABASE_URL" -f docs/benchmark-busqueda-trgm.sql
+-- Trabaja sobre una tabla temporal, no toca cached_players.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE TEMP TABLE bench_players AS
+SELECT g AS id,
+       g AS api_id,
+       (ARRAY['Lionel','Cristiano','Kylian','Vinicius','Jude','Erling','Pedri','Antoine','Luka','Robert'])[1 + g % 10]
+           || ' ' || md5(g::text) AS name,
+       1 + g % 20 AS league_id,
+       2020 + g % 5 AS season
+FROM generate_series(1, 1000000) AS g;
+
+INSERT INTO bench_players VALUES (1000001, 1000001, 'Lionel Andrés Messi Cuccittini', 140, 2024);
+
+ANALYZE bench_players;
+
+\timing on
+
+-- Sin índice: recorrido secuencial (equivalente a la consulta LIKE original)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bench_players WHERE lower(name) LIKE '%messi%';
+
+CREATE INDEX bench_players_name_trgm ON bench_players USING gin (lower(name) gin_trgm_ops);
+ANALYZE bench_players;
+
+-- Con índice GIN: misma consulta que CachedPlayerRepository.fuzzySearchByName
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bench_players p
+WHERE lower(p.name) LIKE '%' || lower('messi') || '%'
+   OR lower('messi') <% lower(p.name)
+ORDER BY word_similarity(lower('messi'), lower(p.name)) DESC, similarity(lower(p.name), lower('messi')) DESC
+LIMIT 50;
+
+-- Con errata ("mesi"): solo la encuentra la similitud trigram
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bench_players p
+WHERE lower(p.name) LIKE '%' || lower('mesi') || '%'
+   OR lower('mesi') <% lower(p.name)
+ORDER BY word_similarity(lower('mesi'), lower(p.name)) DESC, similarity(lower(p.name), lower('mesi')) DESC
+LIMIT 50;
+
+DROP TABLE bench_players;